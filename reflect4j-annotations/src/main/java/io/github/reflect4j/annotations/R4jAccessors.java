@@ -0,0 +1,38 @@
+package io.github.reflect4j.annotations;
+
+import java.lang.annotation.*;
+
+/// # R4jAccessors
+///
+/// Asks the Reflect4j annotation processor to generate a reflection-free accessor companion for
+/// the annotated type.
+///
+/// The companion is a class named after the binary name of the type with a `$R4jAccessors`
+/// suffix, in the same package. It calls every non-private method and constructor and reads and
+/// writes every non-private, non-final field of the type with plain Java code, dispatching with a
+/// `switch` on the member signature. Reflect4j picks up the companion at runtime and routes
+/// invocations of these members through it instead of reflection or method handles.
+///
+///     - Only members declared by the annotated type itself are covered, not inherited ones.
+///     - Private members, final fields and constructors of abstract, enum and inner classes
+///       keep using the configured invocation engine.
+///     - The annotated type and its enclosing types must not be private.
+///
+/// **Example:**
+/// ```java
+/// @R4jAccessors
+/// public class Order {
+///
+///       String id;
+///
+///       public BigDecimal total(){ ... }
+///}
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface R4jAccessors {
+}
@@ -0,0 +1,101 @@
+package io.github.reflect4j.api.descriptor;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Objects;
+
+/// # AbstractAnnotationDescriptor
+///
+/// Skeletal [AnnotationDescriptor] over a present annotation whose attribute reads are served
+/// from a precompiled [AnnotationValues] table instead of the annotation proxy.
+///
+/// The table is built on the first attribute read; after that [#attribute(String, Class)] is a
+/// perfect-hash probe and an array load, and [#attributes()] returns the same cached map on
+/// every call. Subclasses implement the meta-annotation queries.
+///
+/// @param <T> the annotation type
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public abstract class AbstractAnnotationDescriptor<T extends Annotation> implements AnnotationDescriptor<T> {
+
+    private final T annotation;
+    private volatile AnnotationValues values;
+    private volatile String signature;
+
+    /// Creates a descriptor for the given annotation.
+    ///
+    /// @param annotation the described annotation; must not be `null`
+    /// @throws NullPointerException if the annotation is `null`
+    protected AbstractAnnotationDescriptor(T annotation) {
+        this.annotation = Objects.requireNonNull(annotation, "annotation must not be null");
+    }
+
+    /// Returns the attribute table of the annotation, reading it on first use.
+    ///
+    /// @return the attribute table; never `null`
+    protected final AnnotationValues values() {
+        AnnotationValues result = values;
+        if (result == null) {
+            values = result = AnnotationValues.of(annotation);
+        }
+        return result;
+    }
+
+    @Override
+    public Class<? extends Annotation> getAnnotationType() {
+        return annotation.annotationType();
+    }
+
+    @Override
+    public String getName() {
+        return annotation.annotationType().getSimpleName();
+    }
+
+    @Override
+    public String getSignature() {
+        String result = signature;
+        if (result == null) {
+            signature = result = annotation.toString();
+        }
+        return result;
+    }
+
+    @Override
+    public T unwrap() {
+        return annotation;
+    }
+
+    @Override
+    public <R> R attribute(String name, Class<R> type) {
+        Objects.requireNonNull(name, "name must not be null");
+        return values().get(name, type);
+    }
+
+    @Override
+    public <R> R attribute(String name, Class<R> type, R defaultValue) {
+        R value = attribute(name, type);
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public Map<String, Object> attributes() {
+        return values().asMap();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof AbstractAnnotationDescriptor<?> that
+                && getClass() == that.getClass() && annotation.equals(that.annotation));
+    }
+
+    @Override
+    public int hashCode() {
+        return annotation.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getSignature();
+    }
+}
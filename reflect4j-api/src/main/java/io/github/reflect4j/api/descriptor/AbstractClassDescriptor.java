@@ -0,0 +1,780 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.api.exception.InvalidSignatureException;
+import io.github.reflect4j.api.signature.SignatureIndex;
+import io.github.reflect4j.api.signature.SignatureParser;
+import io.github.reflect4j.commons.Params;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// # AbstractClassDescriptor
+///
+/// Skeletal [ClassDescriptor] over a present [Class] that materializes its members lazily.
+///
+/// Nothing is wrapped when the descriptor is created. Each member category — fields, methods,
+/// constructors, annotations, superclass and interfaces — is materialized independently, on
+/// the first call that needs it. Single-element lookups by name or by parameter types, such as
+/// [#getField(String)], [#getMethod(String, Class[])], [#getConstructor(Class[])] and
+/// [#getAnnotation(Class)], probe the class with [Class#getDeclaredField(String)] and friends
+/// and wrap only the member they find, so a lookup on a class with thousands of members costs
+/// a single descriptor. Lookups by signature need the full lists, through [#getSignatureIndex()].
+///
+/// [#getFields()], [#getMethods()] and [#getConstructors()] leave out the members excluded by
+/// `@R4jIgnore`, as recorded in the class's [IgnoreMask]; the filtered lists are derived once from
+/// the full lists of [#getAllFields()] and friends and cached next to them. Single-element
+/// lookups, by name, signature, parameter types or alias, never return an ignored member either:
+/// for classes with exclusions they test the member they found, and otherwise a single field
+/// read tells them there is nothing to test.
+///
+/// Lookups by name and by signature also resolve `@R4jAlias` aliases through [#getAliasTable()].
+/// Classes without aliases are detected from the raw members, without wrapping them, and then
+/// cost one extra field read per lookup.
+///
+/// Each member is wrapped at most once: probed members are remembered and reused when the
+/// corresponding list is built later, so the same member always yields the same descriptor.
+/// Methods and constructors looked up by parameter types are remembered by name next to the
+/// parameter types of the lookup, so a repeated lookup compares the given types in place and
+/// neither allocates a key nor calls [Class#getDeclaredMethod(String, Class[])] again.
+///
+/// Misses are answered without the [NoSuchFieldException] or [NoSuchMethodException] of the JDK
+/// from the second one on, since the members of a class never change, but never make the
+/// descriptor retain what callers ask for without bound. The first miss of a field or method
+/// name collects the declared field or method names of the class, so a name that is not declared
+/// is one hash probe and is not recorded. Misses of a declared method name or of the constructors
+/// by parameter types are recorded next to the hits, at most [#MAXIMUM_MISSED_PROBES] per name
+/// and only when the parameter types come from the class loader of the class or one of its
+/// parents, so the descriptor never holds another loader. Missing annotation signatures are
+/// recorded up to [#MAXIMUM_MISSES]. Misses past these limits go through the JDK again.
+///
+/// Subclasses supply the member descriptors through the `describe` factory methods and the
+/// empty descriptors returned for absent elements.
+///
+/// @param <T> the type represented by this descriptor
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public abstract class AbstractClassDescriptor<T> implements ClassDescriptor<T> {
+
+    /// Most missing annotation signatures remembered per descriptor.
+    static final int MAXIMUM_MISSES = 256;
+
+    /// Most misses by parameter types remembered per method name, and for the constructors.
+    static final int MAXIMUM_MISSED_PROBES = 8;
+
+    private static final ThreadLocal<SignatureParser> PARSER = ThreadLocal.withInitial(SignatureParser::new);
+
+    /// Outcome of a miss that is not recorded.
+    private static final Probe<?> MISS = new Probe<>(null, null);
+
+    private final Class<T> type;
+
+    private final Map<String, FieldDescriptor> describedFields = new ConcurrentHashMap<>();
+    private final Map<Method, MethodDescriptor> describedMethods = new ConcurrentHashMap<>();
+    private final Map<Constructor<?>, ConstructorDescriptor<T>> describedConstructors = new ConcurrentHashMap<>();
+    private final Map<Class<?>, AnnotationDescriptor<?>> describedAnnotations = new ConcurrentHashMap<>();
+    private final Map<String, Probes<MethodDescriptor>> probedMethods = new ConcurrentHashMap<>();
+    private final Probes<ConstructorDescriptor<T>> probedConstructors = new Probes<>();
+    private final Set<String> missingAnnotations = ConcurrentHashMap.newKeySet();
+
+    private volatile Set<String> fieldNames;
+    private volatile Set<String> methodNames;
+    private volatile List<FieldDescriptor> fields;
+    private volatile List<MethodDescriptor> methods;
+    private volatile List<ConstructorDescriptor<T>> constructors;
+    private volatile List<FieldDescriptor> includedFields;
+    private volatile List<MethodDescriptor> includedMethods;
+    private volatile List<ConstructorDescriptor<T>> includedConstructors;
+    private volatile List<AnnotationDescriptor<?>> annotations;
+    private volatile ClassDescriptor<?> superclass;
+    private volatile List<ClassDescriptor<?>> interfaces;
+    private volatile IgnoreMask ignoreMask;
+    private volatile AliasTable aliasTable;
+    private volatile SignatureIndex signatureIndex;
+    private volatile TypeHierarchy typeHierarchy;
+
+    /// Creates a descriptor for the given class without materializing any of its members.
+    ///
+    /// @param type the described class; must not be `null`
+    /// @throws NullPointerException if the type is `null`
+    protected AbstractClassDescriptor(Class<T> type) {
+        this.type = Objects.requireNonNull(type, "type must not be null");
+    }
+
+    /// Creates the descriptor of a field declared by this class.
+    ///
+    /// @param field the field; never `null`
+    ///
+    /// @return the field descriptor; never `null`
+    protected abstract FieldDescriptor describe(Field field);
+
+    /// Creates the descriptor of a method declared by this class.
+    ///
+    /// @param method the method; never `null`
+    ///
+    /// @return the method descriptor; never `null`
+    protected abstract MethodDescriptor describe(Method method);
+
+    /// Creates the descriptor of a constructor declared by this class.
+    ///
+    /// @param constructor the constructor; never `null`
+    ///
+    /// @return the constructor descriptor; never `null`
+    protected abstract ConstructorDescriptor<T> describe(Constructor<T> constructor);
+
+    /// Creates the descriptor of an annotation present on this class.
+    ///
+    /// @param <A>        the annotation type
+    /// @param annotation the annotation; never `null`
+    ///
+    /// @return the annotation descriptor; never `null`
+    protected abstract <A extends Annotation> AnnotationDescriptor<A> describe(A annotation);
+
+    /// Returns the descriptor of a related class, namely the superclass or an interface.
+    ///
+    /// Implementations typically delegate to a [DescriptorRegistry].
+    ///
+    /// @param type the related class; never `null`
+    ///
+    /// @return the class descriptor; never `null`
+    protected abstract ClassDescriptor<?> describe(Class<?> type);
+
+    /// Returns the empty field descriptor returned by lookups that find nothing.
+    ///
+    /// @return an empty field descriptor; never `null`
+    protected abstract FieldDescriptor emptyField();
+
+    /// Returns the empty method descriptor returned by lookups that find nothing.
+    ///
+    /// @return an empty method descriptor; never `null`
+    protected abstract MethodDescriptor emptyMethod();
+
+    /// Returns the empty constructor descriptor returned by lookups that find nothing.
+    ///
+    /// @return an empty constructor descriptor; never `null`
+    protected abstract ConstructorDescriptor<T> emptyConstructor();
+
+    /// Returns the empty annotation descriptor returned by lookups that find nothing.
+    ///
+    /// @param <A> the annotation type
+    ///
+    /// @return an empty annotation descriptor; never `null`
+    protected abstract <A extends Annotation> AnnotationDescriptor<A> emptyAnnotation();
+
+    /// Returns the empty class descriptor returned for a missing superclass.
+    ///
+    /// @return an empty class descriptor; never `null`
+    protected abstract ClassDescriptor<?> emptyClass();
+
+    @Override
+    public String getName() {
+        return type.getSimpleName();
+    }
+
+    @Override
+    public String getSignature() {
+        return type.getTypeName();
+    }
+
+    @Override
+    public Class<T> unwrap() {
+        return type;
+    }
+
+    @Override
+    public String getPackageName() {
+        return type.getPackageName();
+    }
+
+    @Override
+    public int getModifiers() {
+        return type.getModifiers();
+    }
+
+    @Override
+    public FieldDescriptor getField(String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        AliasTable aliases = getAliasTable();
+        FieldDescriptor field = aliases.isEmpty() ? null : included(aliases.field(name, true));
+        if (field == null) {
+            field = included(declaredField(name));
+        }
+        if (field == null && !aliases.isEmpty()) {
+            field = included(aliases.field(name, false));
+        }
+        return field != null ? field : emptyField();
+    }
+
+    private FieldDescriptor declaredField(String name) {
+        FieldDescriptor field = describedFields.get(name);
+        if (field != null || fields != null) {
+            return field;
+        }
+        Set<String> names = fieldNames;
+        if (names != null && !names.contains(name)) {
+            return null;
+        }
+        try {
+            return field(type.getDeclaredField(name));
+        } catch (NoSuchFieldException e) {
+            if (names == null) {
+                List<String> declared = new ArrayList<>();
+                for (Field f : type.getDeclaredFields()) {
+                    declared.add(f.getName());
+                }
+                fieldNames = Set.copyOf(declared);
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public List<FieldDescriptor> getFields() {
+        List<FieldDescriptor> result = includedFields;
+        if (result == null) {
+            includedFields = result = IgnoreMask.of(type).filter(getAllFields());
+        }
+        return result;
+    }
+
+    @Override
+    public List<FieldDescriptor> getAllFields() {
+        List<FieldDescriptor> result = fields;
+        if (result == null) {
+            Field[] declared = type.getDeclaredFields();
+            List<FieldDescriptor> list = new ArrayList<>(declared.length);
+            for (Field field : declared) {
+                list.add(field(field));
+            }
+            fields = result = List.copyOf(list);
+        }
+        return result;
+    }
+
+    private FieldDescriptor field(Field field) {
+        return describedFields.computeIfAbsent(field.getName(), name -> describe(field));
+    }
+
+    @Override
+    public MethodDescriptor getMethod(String signature) {
+        Objects.requireNonNull(signature, "signature must not be null");
+        AliasTable aliases = getAliasTable();
+        if (aliases.isEmpty()) {
+            MethodDescriptor method = included(getSignatureIndex().method(signature));
+            return method != null ? method : emptyMethod();
+        }
+        MethodDescriptor method = included(aliases.method(signature, true));
+        if (method == null) {
+            // a bare name can only be an alias; the index rejects it if it is not one
+            boolean bare = signature.indexOf('(') < 0;
+            method = included(bare ? aliases.method(signature, false) : getSignatureIndex().method(signature));
+            if (method == null) {
+                method = included(bare ? getSignatureIndex().method(signature) : aliases.method(signature, false));
+            }
+        }
+        return method != null ? method : emptyMethod();
+    }
+
+    @Override
+    public MethodDescriptor getMethod(String name, Class<?>... parameterTypes) {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(parameterTypes, "parameterTypes must not be null");
+        AliasTable aliases = getAliasTable();
+        MethodDescriptor method = aliases.isEmpty() ? null : included(aliases.method(name, true, parameterTypes));
+        if (method == null) {
+            method = included(declaredMethod(name, parameterTypes));
+        }
+        if (method == null && !aliases.isEmpty()) {
+            method = included(aliases.method(name, false, parameterTypes));
+        }
+        return method != null ? method : emptyMethod();
+    }
+
+    /// Looks a method up by parameter types in the same probes as [#getMethod(String, Class[])];
+    /// classes with aliases go through that method.
+    ///
+    /// An interned key is recognized by reference, and an equal one by its cached hash, so a
+    /// repeated lookup neither copies the key nor calls into the class.
+    @Override
+    public MethodDescriptor getMethod(String name, Params params) {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(params, "params must not be null");
+        if (!getAliasTable().isEmpty()) {
+            return getMethod(name, params.getTypes());
+        }
+        Probes<MethodDescriptor> probes = probedMethods.get(name);
+        Probe<?> probe = probes == null ? null : probes.find(params);
+        if (probe == null) {
+            probe = probeMethod(name, params, params.getTypes());
+        }
+        MethodDescriptor method = included((MethodDescriptor) probe.member());
+        return method != null ? method : emptyMethod();
+    }
+
+    private MethodDescriptor declaredMethod(String name, Class<?>[] parameterTypes) {
+        Probes<MethodDescriptor> probes = probedMethods.get(name);
+        Probe<?> probe = probes == null ? null : probes.find(parameterTypes);
+        if (probe == null) {
+            probe = probeMethod(name, null, parameterTypes);
+        }
+        return (MethodDescriptor) probe.member();
+    }
+
+    /// Looks a method up in the class and records the outcome under its name, unless it is a miss
+    /// that must not be kept: the name is not declared, or the types would pin another loader.
+    /// Without a key, one is copied from the types once the outcome is recorded.
+    private Probe<?> probeMethod(String name, Params params, Class<?>[] parameterTypes) {
+        Set<String> names = methodNames;
+        if (names != null && !names.contains(name)) {
+            return MISS;
+        }
+        MethodDescriptor found;
+        try {
+            found = method(type.getDeclaredMethod(name, parameterTypes));
+        } catch (NoSuchMethodException e) {
+            if (names == null) {
+                List<String> declared = new ArrayList<>();
+                for (Method m : type.getDeclaredMethods()) {
+                    declared.add(m.getName());
+                }
+                methodNames = names = Set.copyOf(declared);
+            }
+            if (!names.contains(name) || !retainable(parameterTypes)) {
+                return MISS;
+            }
+            found = null;
+        }
+        return probedMethods.computeIfAbsent(name, n -> new Probes<>())
+                .add(params != null ? params : Params.of(parameterTypes), found);
+    }
+
+    /// Returns whether a probe may keep the given types: each is a bootstrap class or comes from
+    /// the loader of this class or one of its parents, which this class already keeps alive.
+    private boolean retainable(Class<?>[] parameterTypes) {
+        ClassLoader own = type.getClassLoader();
+        for (Class<?> parameterType : parameterTypes) {
+            ClassLoader loader = parameterType.getClassLoader();
+            if (loader == null) {
+                continue;
+            }
+            ClassLoader ancestor = own;
+            while (ancestor != null && ancestor != loader) {
+                ancestor = ancestor.getParent();
+            }
+            if (ancestor == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List<MethodDescriptor> getMethods() {
+        List<MethodDescriptor> result = includedMethods;
+        if (result == null) {
+            includedMethods = result = IgnoreMask.of(type).filter(getAllMethods());
+        }
+        return result;
+    }
+
+    @Override
+    public List<MethodDescriptor> getAllMethods() {
+        List<MethodDescriptor> result = methods;
+        if (result == null) {
+            Method[] declared = type.getDeclaredMethods();
+            List<MethodDescriptor> list = new ArrayList<>(declared.length);
+            for (Method method : declared) {
+                list.add(method(method));
+            }
+            methods = result = List.copyOf(list);
+        }
+        return result;
+    }
+
+    private MethodDescriptor method(Method method) {
+        return describedMethods.computeIfAbsent(method, this::describe);
+    }
+
+    @Override
+    public ConstructorDescriptor<T> getConstructor(String signature) {
+        Objects.requireNonNull(signature, "signature must not be null");
+        AliasTable aliases = getAliasTable();
+        if (aliases.isEmpty()) {
+            ConstructorDescriptor<T> constructor = included(getSignatureIndex().constructor(signature));
+            return constructor != null ? constructor : emptyConstructor();
+        }
+        ConstructorDescriptor<T> constructor = included(aliases.constructor(signature, true));
+        if (constructor == null) {
+            // a bare name can only be an alias; the index rejects it if it is not one
+            boolean bare = signature.indexOf('(') < 0;
+            constructor = included(bare ? aliases.constructor(signature, false)
+                    : getSignatureIndex().constructor(signature));
+            if (constructor == null) {
+                constructor = included(bare ? getSignatureIndex().<T>constructor(signature)
+                        : aliases.constructor(signature, false));
+            }
+        }
+        return constructor != null ? constructor : emptyConstructor();
+    }
+
+    @Override
+    public ConstructorDescriptor<T> getConstructor(Class<?>... parameterTypes) {
+        Objects.requireNonNull(parameterTypes, "parameterTypes must not be null");
+        Probe<?> probe = probedConstructors.find(parameterTypes);
+        return constructorOrEmpty(probe != null ? probe : probeConstructor(Params.of(parameterTypes), parameterTypes));
+    }
+
+    /// Looks a constructor up by parameter types, in the same probes as [#getConstructor(Class[])].
+    ///
+    /// An interned key is recognized by reference, and an equal one by its cached hash, so a
+    /// repeated lookup neither copies the key nor scans the constructors.
+    @Override
+    public ConstructorDescriptor<T> getConstructor(Params params) {
+        Objects.requireNonNull(params, "params must not be null");
+        Probe<?> probe = probedConstructors.find(params);
+        return constructorOrEmpty(probe != null ? probe : probeConstructor(params, params.getTypes()));
+    }
+
+    /// Looks a constructor up in the class and records the outcome.
+    private Probe<?> probeConstructor(Params params, Class<?>[] parameterTypes) {
+        ConstructorDescriptor<T> found;
+        try {
+            found = constructor(type.getDeclaredConstructor(parameterTypes));
+        } catch (NoSuchMethodException e) {
+            if (!retainable(parameterTypes)) {
+                return MISS;
+            }
+            found = null;
+        }
+        return probedConstructors.add(params, found);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConstructorDescriptor<T> constructorOrEmpty(Probe<?> probe) {
+        ConstructorDescriptor<T> constructor = included((ConstructorDescriptor<T>) probe.member());
+        return constructor != null ? constructor : emptyConstructor();
+    }
+
+    @Override
+    public List<ConstructorDescriptor<T>> getConstructors() {
+        List<ConstructorDescriptor<T>> result = includedConstructors;
+        if (result == null) {
+            includedConstructors = result = IgnoreMask.of(type).filter(getAllConstructors());
+        }
+        return result;
+    }
+
+    @Override
+    public List<ConstructorDescriptor<T>> getAllConstructors() {
+        List<ConstructorDescriptor<T>> result = constructors;
+        if (result == null) {
+            Constructor<?>[] declared = type.getDeclaredConstructors();
+            List<ConstructorDescriptor<T>> list = new ArrayList<>(declared.length);
+            for (Constructor<?> constructor : declared) {
+                list.add(constructor(constructor));
+            }
+            constructors = result = List.copyOf(list);
+        }
+        return result;
+    }
+
+    /// Returns the member found by a single lookup, or `null` if it is excluded by `@R4jIgnore`.
+    private <D extends Descriptor<?>> D included(D member) {
+        IgnoreMask mask = ignoreMask;
+        if (mask == null) {
+            ignoreMask = mask = IgnoreMask.of(type);
+        }
+        return member == null || mask.isEmpty() || !mask.isIgnored((AnnotatedElement) member.unwrap()) ? member : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConstructorDescriptor<T> constructor(Constructor<?> constructor) {
+        return describedConstructors.computeIfAbsent(constructor, c -> describe((Constructor<T>) c));
+    }
+
+    /// Returns the signature index, built on first use and kept for the lifetime of this descriptor.
+    ///
+    /// Racing threads may each build an index; they are equivalent and the last one written is kept.
+    @Override
+    public SignatureIndex getSignatureIndex() {
+        SignatureIndex result = signatureIndex;
+        if (result == null) {
+            signatureIndex = result = SignatureIndex.of(this);
+        }
+        return result;
+    }
+
+    /// Returns the alias table, built on first use and kept for the lifetime of this descriptor, so
+    /// that classes without aliases pay a single field read per lookup.
+    ///
+    /// Racing threads may each build a table; they are equivalent and the last one written is kept.
+    @Override
+    public AliasTable getAliasTable() {
+        AliasTable result = aliasTable;
+        if (result == null) {
+            aliasTable = result = AliasTable.of(this);
+        }
+        return result;
+    }
+
+    @Override
+    public <A extends Annotation> AnnotationDescriptor<A> getAnnotation(Class<A> annotationType) {
+        Objects.requireNonNull(annotationType, "type must not be null");
+        @SuppressWarnings("unchecked")
+        AnnotationDescriptor<A> annotation = (AnnotationDescriptor<A>) describedAnnotations.get(annotationType);
+        if (annotation != null) {
+            return annotation;
+        }
+        if (annotations != null) {
+            return emptyAnnotation();
+        }
+        A present = type.getAnnotation(annotationType);
+        return present != null ? annotation(present) : emptyAnnotation();
+    }
+
+    @Override
+    public AnnotationDescriptor<?> getAnnotation(String signature) {
+        if (missingAnnotations.contains(Objects.requireNonNull(signature, "signature must not be null"))) {
+            return emptyAnnotation();
+        }
+        SignatureParser parser = annotationSignature(signature);
+        try {
+            for (AnnotationDescriptor<?> annotation : getAnnotations()) {
+                if (parser.matchesAnnotation(annotation.getAnnotationType())) {
+                    return annotation;
+                }
+            }
+            if (missingAnnotations.size() < MAXIMUM_MISSES) {
+                missingAnnotations.add(signature);
+            }
+            return emptyAnnotation();
+        } finally {
+            parser.clear();
+        }
+    }
+
+    @Override
+    public <A extends Annotation> boolean hasAnnotation(Class<A> annotationType) {
+        Objects.requireNonNull(annotationType, "type must not be null");
+        return type.isAnnotationPresent(annotationType);
+    }
+
+    @Override
+    public boolean hasAnnotation(String signature) {
+        SignatureParser parser = annotationSignature(signature);
+        try {
+            for (Annotation annotation : type.getAnnotations()) {
+                if (parser.matchesAnnotation(annotation.annotationType())) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            parser.clear();
+        }
+    }
+
+    @Override
+    public List<? extends AnnotationDescriptor<?>> getAnnotations() {
+        List<AnnotationDescriptor<?>> result = annotations;
+        if (result == null) {
+            Annotation[] present = type.getAnnotations();
+            List<AnnotationDescriptor<?>> list = new ArrayList<>(present.length);
+            for (Annotation annotation : present) {
+                list.add(annotation(annotation));
+            }
+            annotations = result = List.copyOf(list);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <A extends Annotation> AnnotationDescriptor<A> annotation(A annotation) {
+        return (AnnotationDescriptor<A>) describedAnnotations.computeIfAbsent(annotation.annotationType(),
+                annotationType -> describe(annotation));
+    }
+
+    private static SignatureParser annotationSignature(String signature) {
+        Objects.requireNonNull(signature, "signature must not be null");
+        SignatureParser parser = PARSER.get().parse(signature);
+        if (!parser.isAnnotation()) {
+            parser.clear();
+            throw new InvalidSignatureException("Annotation signature must start with '@': " + signature);
+        }
+        return parser;
+    }
+
+    @Override
+    public ClassDescriptor<?> getSuperclass() {
+        ClassDescriptor<?> result = superclass;
+        if (result == null) {
+            Class<?> parent = type.getSuperclass();
+            superclass = result = parent != null ? describe(parent) : emptyClass();
+        }
+        return result;
+    }
+
+    @Override
+    public List<? extends ClassDescriptor<?>> getInterfaces() {
+        List<ClassDescriptor<?>> result = interfaces;
+        if (result == null) {
+            Class<?>[] declared = type.getInterfaces();
+            List<ClassDescriptor<?>> list = new ArrayList<>(declared.length);
+            for (Class<?> iface : declared) {
+                list.add(describe(iface));
+            }
+            interfaces = result = List.copyOf(list);
+        }
+        return result;
+    }
+
+    /// Returns the type hierarchy, built on first use and kept for the lifetime of this descriptor.
+    ///
+    /// Racing threads may each build a hierarchy; they are equivalent and the last one written is kept.
+    @Override
+    public TypeHierarchy getTypeHierarchy() {
+        TypeHierarchy result = typeHierarchy;
+        if (result == null) {
+            typeHierarchy = result = TypeHierarchy.of(this);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isInterface() {
+        return type.isInterface();
+    }
+
+    @Override
+    public boolean isEnum() {
+        return type.isEnum();
+    }
+
+    @Override
+    public boolean isAnnotation() {
+        return type.isAnnotation();
+    }
+
+    @Override
+    public boolean isRecord() {
+        return type.isRecord();
+    }
+
+    @Override
+    public boolean isAbstract() {
+        return Modifier.isAbstract(type.getModifiers());
+    }
+
+    @Override
+    public boolean isFinal() {
+        return Modifier.isFinal(type.getModifiers());
+    }
+
+    @Override
+    public boolean isSealed() {
+        return type.isSealed();
+    }
+
+    @Override
+    public boolean isPublic() {
+        return Modifier.isPublic(type.getModifiers());
+    }
+
+    @Override
+    public boolean isProtected() {
+        return Modifier.isProtected(type.getModifiers());
+    }
+
+    @Override
+    public boolean isPrivate() {
+        return Modifier.isPrivate(type.getModifiers());
+    }
+
+    @Override
+    public boolean isPackagePrivate() {
+        return (type.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED | Modifier.PRIVATE)) == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof AbstractClassDescriptor<?> that
+                && getClass() == that.getClass() && type == that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return type.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getSignature();
+    }
+
+    /// Outcomes of the lookups by parameter types, for one method name or for the constructors.
+    ///
+    /// Entries are few, one per declared overload looked up plus at most [#MAXIMUM_MISSED_PROBES]
+    /// misses, so they are kept in a copy-on-write array that is scanned with
+    /// [Params#matches(Class[])] rather than hashed, which would need a key object.
+    private static final class Probes<D> {
+
+        private volatile Probe<?>[] probes = new Probe<?>[0];
+        private int misses;
+
+        /// Returns the outcome of an earlier lookup with the given types, or `null` if there was none.
+        Probe<?> find(Class<?>[] parameterTypes) {
+            for (Probe<?> probe : probes) {
+                if (probe.parameterTypes().matches(parameterTypes)) {
+                    return probe;
+                }
+            }
+            return null;
+        }
+
+        /// Returns the outcome of an earlier lookup with an equal key, or `null` if there was none.
+        Probe<?> find(Params parameterTypes) {
+            for (Probe<?> probe : probes) {
+                if (probe.parameterTypes() == parameterTypes || probe.parameterTypes().equals(parameterTypes)) {
+                    return probe;
+                }
+            }
+            return null;
+        }
+
+        /// Records the outcome of a lookup, keeping the first one recorded for the same types; a
+        /// miss past [#MAXIMUM_MISSED_PROBES] is returned without being recorded.
+        synchronized Probe<?> add(Params parameterTypes, D member) {
+            Probe<?>[] current = probes;
+            for (Probe<?> probe : current) {
+                if (probe.parameterTypes().equals(parameterTypes)) {
+                    return probe;
+                }
+            }
+            if (member == null) {
+                if (misses == MAXIMUM_MISSED_PROBES) {
+                    return MISS;
+                }
+                misses++;
+            }
+            Probe<?>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = new Probe<>(parameterTypes, member);
+            probes = next;
+            return next[current.length];
+        }
+    }
+
+    /// Outcome of a lookup by parameter types; the member is `null` if the lookup missed.
+    private record Probe<D>(Params parameterTypes, D member) {
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.reflect4j.api.descriptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+
+/// # AliasMap
+///
+/// Immutable alias-to-value map with one exact-case table and one case-folded table.
+///
+/// Case-sensitive aliases are answered by a plain hash probe. Case-insensitive aliases live in an
+/// open-addressed table hashed by a case-folding hash and compared with
+/// [String#equalsIgnoreCase(String)], so a lookup never allocates a lowercased copy of the name.
+/// The folded table is only probed when the exact table misses.
+///
+/// Whether two aliases may share a key is decided when the map is built, by the merge function
+/// of the [Builder]: it combines both values or throws. A case-sensitive alias that is also matched
+/// by a case-insensitive one is merged with it, so an exact hit already carries every candidate.
+///
+/// @param <V> the value type
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class AliasMap<V> {
+
+    private static final AliasMap<?> EMPTY = new AliasMap<>(Map.of(), new String[1], new Object[1], 0);
+
+    private final Map<String, V> exact;
+    private final String[] foldedKeys;
+    private final Object[] foldedValues;
+    private final int foldedCount;
+
+    private AliasMap(Map<String, V> exact, String[] foldedKeys, Object[] foldedValues, int foldedCount) {
+        this.exact = exact;
+        this.foldedKeys = foldedKeys;
+        this.foldedValues = foldedValues;
+        this.foldedCount = foldedCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> AliasMap<V> empty() {
+        return (AliasMap<V>) EMPTY;
+    }
+
+    boolean isEmpty() {
+        return foldedCount == 0 && exact.isEmpty();
+    }
+
+    /// Returns the value of an alias, or `null` if no alias matches.
+    @SuppressWarnings("unchecked")
+    V get(String alias) {
+        V value = exact.get(alias);
+        if (value != null || foldedCount == 0) {
+            return value;
+        }
+        int mask = foldedKeys.length - 1;
+        for (int i = foldedHash(alias) & mask; foldedKeys[i] != null; i = (i + 1) & mask) {
+            if (foldedKeys[i].equalsIgnoreCase(alias)) {
+                return (V) foldedValues[i];
+            }
+        }
+        return null;
+    }
+
+    /// Hash that is equal for strings that are equal ignoring case, without allocating.
+    private static int foldedHash(String s) {
+        int h = 0;
+        for (int i = 0; i < s.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /// Collects aliases and detects conflicts through a merge function.
+    static final class Builder<V> {
+
+        private final BinaryOperator<V> merge;
+        private final Map<String, V> exact = new HashMap<>();
+        private final Map<String, String> foldedNames = new HashMap<>();
+        private final Map<String, V> folded = new HashMap<>();
+
+        /// @param merge combines the values of two aliases with the same key, or throws if they conflict
+        Builder(BinaryOperator<V> merge) {
+            this.merge = merge;
+        }
+
+        Builder<V> put(String alias, boolean caseSensitive, V value) {
+            if (caseSensitive) {
+                exact.merge(alias, value, merge);
+            } else {
+                String key = fold(alias);
+                foldedNames.putIfAbsent(key, alias);
+                folded.merge(key, value, merge);
+            }
+            return this;
+        }
+
+        AliasMap<V> build() {
+            if (exact.isEmpty() && folded.isEmpty()) {
+                return empty();
+            }
+            for (String alias : List.copyOf(exact.keySet())) {
+                V value = folded.get(fold(alias));
+                if (value != null) {
+                    exact.merge(alias, value, merge);
+                }
+            }
+            int size = Integer.highestOneBit(Math.max(1, folded.size()) * 2 - 1) << 1;
+            String[] keys = new String[size];
+            Object[] values = new Object[size];
+            for (Map.Entry<String, V> entry : folded.entrySet()) {
+                String alias = foldedNames.get(entry.getKey());
+                int i = foldedHash(alias) & (size - 1);
+                while (keys[i] != null) {
+                    i = (i + 1) & (size - 1);
+                }
+                keys[i] = alias;
+                values[i] = entry.getValue();
+            }
+            return new AliasMap<>(Map.copyOf(exact), keys, values, folded.size());
+        }
+
+        private static String fold(String s) {
+            StringBuilder sb = new StringBuilder(s.length());
+            for (int i = 0; i < s.length(); i++) {
+                sb.append(Character.toLowerCase(Character.toUpperCase(s.charAt(i))));
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.annotations.R4jAlias;
+import io.github.reflect4j.api.exception.UnsupportedAliasOperationException;
+import io.github.reflect4j.api.index.IndexedElement;
+import io.github.reflect4j.api.index.IndexedType;
+import io.github.reflect4j.api.index.MetadataIndex;
+import io.github.reflect4j.api.signature.SignatureIndex;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.BinaryOperator;
+
+/// # AliasTable
+///
+/// Precomputed [R4jAlias] resolution table of one class.
+///
+/// The table holds the member descriptors of the [ClassDescriptor] it was built from, so it
+/// belongs to that descriptor: it is built once, on the first lookup (see
+/// [ClassDescriptor#getAliasTable()]), from the `META-INF/reflect4j/index`
+/// entry of the class when the metadata index has one, and from the `@R4jAlias` annotations of
+/// the declared members otherwise. Each member kind gets two [AliasMap]s, one for `primary`
+/// aliases, which are consulted before real names, and one for the others, which are consulted
+/// after them; each map holds an exact-case table and a case-folded table. A lookup is therefore
+/// one hash probe per precedence level, like a lookup by real name, and never lowercases or
+/// scans annotations.
+///
+/// Ambiguities are rejected while the table is built, with an [UnsupportedAliasOperationException]:
+///
+///     - two fields sharing an alias
+///     - two methods with the same parameter types sharing an alias
+///     - a primary alias equal to the real name of another field, or of another method with the
+///       same parameter types
+///
+/// Methods and constructors that share an alias form an overload set and are told apart by
+/// their parameter types. Classes without aliases share one empty table, and lookups on it return
+/// without probing.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class AliasTable {
+
+    private static final AliasTable EMPTY = new AliasTable(null, AliasMap.empty(), AliasMap.empty(),
+            AliasMap.empty(), AliasMap.empty(), AliasMap.empty(), AliasMap.empty());
+
+    private static final int FIELDS = 1;
+    private static final int METHODS = 1 << 1;
+    private static final int CONSTRUCTORS = 1 << 2;
+
+    /// Member kinds of each class whose raw members carry `@R4jAlias`; it holds no descriptors.
+    private static final ClassValue<Integer> ALIASED_KINDS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return (hasAlias(type.getDeclaredFields()) ? FIELDS : 0)
+                    | (hasAlias(type.getDeclaredMethods()) ? METHODS : 0)
+                    | (hasAlias(type.getDeclaredConstructors()) ? CONSTRUCTORS : 0);
+        }
+    };
+
+    private static final Map<MetadataIndex, TypeAliases> TYPE_ALIASES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final ClassDescriptor<?> type;
+    private final AliasMap<FieldDescriptor> primaryFields;
+    private final AliasMap<FieldDescriptor> secondaryFields;
+    private final AliasMap<List<MethodDescriptor>> primaryMethods;
+    private final AliasMap<List<MethodDescriptor>> secondaryMethods;
+    private final AliasMap<List<ConstructorDescriptor<?>>> primaryConstructors;
+    private final AliasMap<List<ConstructorDescriptor<?>>> secondaryConstructors;
+
+    private AliasTable(ClassDescriptor<?> type,
+                       AliasMap<FieldDescriptor> primaryFields, AliasMap<FieldDescriptor> secondaryFields,
+                       AliasMap<List<MethodDescriptor>> primaryMethods,
+                       AliasMap<List<MethodDescriptor>> secondaryMethods,
+                       AliasMap<List<ConstructorDescriptor<?>>> primaryConstructors,
+                       AliasMap<List<ConstructorDescriptor<?>>> secondaryConstructors) {
+        this.type = type;
+        this.primaryFields = primaryFields;
+        this.secondaryFields = secondaryFields;
+        this.primaryMethods = primaryMethods;
+        this.secondaryMethods = secondaryMethods;
+        this.primaryConstructors = primaryConstructors;
+        this.secondaryConstructors = secondaryConstructors;
+    }
+
+    /// Builds the alias table over the members of the given class descriptor.
+    ///
+    /// Building checks the raw members of the class, once per class, and, if it declares aliases,
+    /// walks its member descriptors; callers are expected to keep the result, as
+    /// [ClassDescriptor#getAliasTable()] implementations do. Empty descriptors and classes without
+    /// aliases get the shared empty table.
+    ///
+    /// @param type the class descriptor; must not be `null`
+    ///
+    /// @return the table; never `null`
+    /// @throws NullPointerException               if the type is `null`
+    /// @throws UnsupportedAliasOperationException if the aliases of the class are ambiguous
+    public static AliasTable of(ClassDescriptor<?> type) {
+        Objects.requireNonNull(type, "type must not be null");
+        Class<?> clazz = type.unwrap();
+        if (clazz == null) {
+            return EMPTY;
+        }
+        return build(type, clazz);
+    }
+
+    /// Returns whether the class declares no member aliases.
+    ///
+    /// @return `true` if every lookup on this table returns `null`
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /// Returns the field with the given alias.
+    ///
+    /// @param alias   the alias; must not be `null`
+    /// @param primary whether to look up primary or secondary aliases
+    ///
+    /// @return the field descriptor, or `null` if no field has this alias
+    /// @throws NullPointerException if the alias is `null`
+    public FieldDescriptor field(String alias, boolean primary) {
+        return (primary ? primaryFields : secondaryFields).get(Objects.requireNonNull(alias, "alias must not be null"));
+    }
+
+    /// Returns the method with the given alias and parameter types.
+    ///
+    /// @param alias          the alias; must not be `null`
+    /// @param primary        whether to look up primary or secondary aliases
+    /// @param parameterTypes the parameter types; must not be `null`
+    ///
+    /// @return the method descriptor, or `null` if no method matches
+    /// @throws NullPointerException if the alias or parameterTypes is `null`
+    public MethodDescriptor method(String alias, boolean primary, Class<?>[] parameterTypes) {
+        Objects.requireNonNull(parameterTypes, "parameterTypes must not be null");
+        List<MethodDescriptor> candidates = (primary ? primaryMethods : secondaryMethods)
+                .get(Objects.requireNonNull(alias, "alias must not be null"));
+        if (candidates != null) {
+            for (MethodDescriptor method : candidates) {
+                if (sameTypes(method.getParameterTypes(), parameterTypes)) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    /// Returns all methods with the given alias, in declaration order.
+    ///
+    /// @param alias   the alias; must not be `null`
+    /// @param primary whether to look up primary or secondary aliases
+    ///
+    /// @return an immutable, possibly empty list of overloads; never `null`
+    /// @throws NullPointerException if the alias is `null`
+    public List<MethodDescriptor> methods(String alias, boolean primary) {
+        List<MethodDescriptor> candidates = (primary ? primaryMethods : secondaryMethods)
+                .get(Objects.requireNonNull(alias, "alias must not be null"));
+        return candidates != null ? candidates : List.of();
+    }
+
+    /// Returns the method identified by a signature whose name is an alias.
+    ///
+    /// The signature is either the bare alias, which must then belong to a single method, or any
+    /// method signature accepted by [SignatureIndex#method(String)] with the alias in place of the
+    /// method name, e.g. `process(java.lang.String)` for an alias `process`.
+    ///
+    /// @param signature the aliased signature; must not be `null`
+    /// @param primary   whether to look up primary or secondary aliases
+    ///
+    /// @return the method descriptor, or `null` if no method matches
+    /// @throws NullPointerException                                        if the signature is `null`
+    /// @throws UnsupportedAliasOperationException                          if a bare alias names several overloads
+    /// @throws io.github.reflect4j.api.exception.InvalidSignatureException if the signature is malformed
+    public MethodDescriptor method(String signature, boolean primary) {
+        AliasMap<List<MethodDescriptor>> aliases = primary ? primaryMethods : secondaryMethods;
+        if (aliases.isEmpty()) {
+            Objects.requireNonNull(signature, "signature must not be null");
+            return null;
+        }
+        int open = signature.indexOf('(');
+        if (open < 0) {
+            return single(aliases.get(signature.strip()), signature);
+        }
+        int hash = signature.lastIndexOf('#', open);
+        List<MethodDescriptor> candidates = aliases.get(signature.substring(hash + 1, open).strip());
+        if (candidates == null) {
+            return null;
+        }
+        SignatureIndex signatures = type.getSignatureIndex();
+        String owner = signature.substring(0, hash + 1);
+        String parameters = signature.substring(open);
+        for (MethodDescriptor method : candidates) {
+            if (signatures.method(owner + method.getName() + parameters) == method) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /// Returns the constructor identified by a signature whose name is an alias.
+    ///
+    /// The signature is either the bare alias, which must then belong to a single constructor, or
+    /// the alias followed by a parameter list, e.g. `of(int)` or `of(I)V` for an alias `of`.
+    ///
+    /// @param <T>       the type of the class declaring the constructor
+    /// @param signature the aliased signature; must not be `null`
+    /// @param primary   whether to look up primary or secondary aliases
+    ///
+    /// @return the constructor descriptor, or `null` if no constructor matches
+    /// @throws NullPointerException                                        if the signature is `null`
+    /// @throws UnsupportedAliasOperationException                          if a bare alias names several constructors
+    /// @throws io.github.reflect4j.api.exception.InvalidSignatureException if the signature is malformed
+    @SuppressWarnings("unchecked")
+    public <T> ConstructorDescriptor<T> constructor(String signature, boolean primary) {
+        AliasMap<List<ConstructorDescriptor<?>>> aliases = primary ? primaryConstructors : secondaryConstructors;
+        if (aliases.isEmpty()) {
+            Objects.requireNonNull(signature, "signature must not be null");
+            return null;
+        }
+        int open = signature.indexOf('(');
+        if (open < 0) {
+            return (ConstructorDescriptor<T>) single(aliases.get(signature.strip()), signature);
+        }
+        List<ConstructorDescriptor<?>> candidates = aliases.get(signature.substring(0, open).strip());
+        if (candidates == null) {
+            return null;
+        }
+        ConstructorDescriptor<?> constructor = type.getSignatureIndex().constructor(signature.substring(open));
+        return candidates.contains(constructor) ? (ConstructorDescriptor<T>) constructor : null;
+    }
+
+    /// Returns the binary name of the indexed type declaring the given type alias, or `null`.
+    static String typeName(MetadataIndex index, String alias, boolean primary) {
+        TypeAliases aliases = TYPE_ALIASES.computeIfAbsent(index, TypeAliases::of);
+        return (primary ? aliases.primary : aliases.secondary).get(alias);
+    }
+
+    private static <D> D single(List<D> candidates, String alias) {
+        if (candidates == null) {
+            return null;
+        }
+        if (candidates.size() > 1) {
+            throw new UnsupportedAliasOperationException("Alias " + alias + " is shared by " + candidates.size()
+                    + " overloads; add parameter types to the signature");
+        }
+        return candidates.get(0);
+    }
+
+    private static AliasTable build(ClassDescriptor<?> type, Class<?> clazz) {
+        Collector collector = new Collector(type);
+        IndexedType indexed = MetadataIndex.of(clazz).type(clazz.getName());
+        if (indexed != null) {
+            SignatureIndex signatures = null;
+            for (IndexedElement member : indexed.members()) {
+                IndexedElement.Alias alias = member.alias();
+                if (alias == null) {
+                    continue;
+                }
+                if (signatures == null) {
+                    signatures = type.getSignatureIndex();
+                }
+                String signature = member.signature();
+                switch (member.kind()) {
+                    case FIELD -> collector.field(signatures.field(signature.substring(0, signature.indexOf(':'))),
+                            alias.names(), alias.primary(), alias.caseSensitive());
+                    case METHOD -> collector.method(signatures.method(signature),
+                            alias.names(), alias.primary(), alias.caseSensitive());
+                    case CONSTRUCTOR -> collector.constructor(signatures.constructor(signature),
+                            alias.names(), alias.primary(), alias.caseSensitive());
+                    default -> {
+                    }
+                }
+            }
+        } else {
+            int kinds = ALIASED_KINDS.get(clazz);
+            if ((kinds & FIELDS) != 0) {
+                for (FieldDescriptor field : type.getAllFields()) {
+                    R4jAlias alias = field.unwrap().getAnnotation(R4jAlias.class);
+                    if (alias != null) {
+                        collector.field(field, List.of(alias.value()), alias.primary(), alias.caseSensitive());
+                    }
+                }
+            }
+            if ((kinds & METHODS) != 0) {
+                for (MethodDescriptor method : type.getAllMethods()) {
+                    R4jAlias alias = method.unwrap().getAnnotation(R4jAlias.class);
+                    if (alias != null) {
+                        collector.method(method, List.of(alias.value()), alias.primary(), alias.caseSensitive());
+                    }
+                }
+            }
+            if ((kinds & CONSTRUCTORS) != 0) {
+                for (ConstructorDescriptor<?> constructor : type.getAllConstructors()) {
+                    R4jAlias alias = constructor.unwrap().getAnnotation(R4jAlias.class);
+                    if (alias != null) {
+                        collector.constructor(constructor, List.of(alias.value()), alias.primary(),
+                                alias.caseSensitive());
+                    }
+                }
+            }
+        }
+        return collector.isEmpty() ? EMPTY : collector.build(clazz);
+    }
+
+    /// Checks the raw members first, so classes without aliases never materialize their descriptors.
+    /// Runs once per class, through [#ALIASED_KINDS]: copying every member again for each new
+    /// descriptor would make its first single lookup as costly as listing all members.
+    private static boolean hasAlias(AccessibleObject[] members) {
+        for (AccessibleObject member : members) {
+            if (member.isAnnotationPresent(R4jAlias.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean sameTypes(List<Class<?>> types, Class<?>[] expected) {
+        if (types.size() != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (types.get(i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Gathers the aliases of one class and checks them for ambiguities.
+    private static final class Collector {
+
+        private final ClassDescriptor<?> type;
+        private final AliasMap.Builder<FieldDescriptor> primaryFields;
+        private final AliasMap.Builder<FieldDescriptor> secondaryFields;
+        private final AliasMap.Builder<List<MethodDescriptor>> primaryMethods;
+        private final AliasMap.Builder<List<MethodDescriptor>> secondaryMethods;
+        private final AliasMap.Builder<List<ConstructorDescriptor<?>>> primaryConstructors;
+        private final AliasMap.Builder<List<ConstructorDescriptor<?>>> secondaryConstructors;
+        private final List<PrimaryAlias> primaryAliases = new ArrayList<>();
+        private boolean empty = true;
+
+        Collector(ClassDescriptor<?> type) {
+            this.type = type;
+            BinaryOperator<FieldDescriptor> fields = (a, b) -> {
+                if (a.equals(b)) {
+                    return a;
+                }
+                throw ambiguous("fields " + a.getName() + " and " + b.getName());
+            };
+            BinaryOperator<List<MethodDescriptor>> methods = (a, b) -> {
+                List<MethodDescriptor> merged = new ArrayList<>(a);
+                for (MethodDescriptor method : b) {
+                    for (MethodDescriptor existing : a) {
+                        if (!existing.equals(method) && existing.getParameterTypes().equals(method.getParameterTypes())) {
+                            throw ambiguous("methods " + existing.getSignature() + " and " + method.getSignature());
+                        }
+                    }
+                    if (!merged.contains(method)) {
+                        merged.add(method);
+                    }
+                }
+                return List.copyOf(merged);
+            };
+            BinaryOperator<List<ConstructorDescriptor<?>>> constructors = (a, b) -> {
+                List<ConstructorDescriptor<?>> merged = new ArrayList<>(a);
+                for (ConstructorDescriptor<?> constructor : b) {
+                    if (!merged.contains(constructor)) {
+                        merged.add(constructor);
+                    }
+                }
+                return List.copyOf(merged);
+            };
+            this.primaryFields = new AliasMap.Builder<>(fields);
+            this.secondaryFields = new AliasMap.Builder<>(fields);
+            this.primaryMethods = new AliasMap.Builder<>(methods);
+            this.secondaryMethods = new AliasMap.Builder<>(methods);
+            this.primaryConstructors = new AliasMap.Builder<>(constructors);
+            this.secondaryConstructors = new AliasMap.Builder<>(constructors);
+        }
+
+        void field(FieldDescriptor field, List<String> names, boolean primary, boolean caseSensitive) {
+            if (field == null || field.unwrap() == null) {
+                return;
+            }
+            for (String name : names) {
+                (primary ? primaryFields : secondaryFields).put(name, caseSensitive, field);
+                if (primary) {
+                    primaryAliases.add(new PrimaryAlias(name, caseSensitive, field));
+                }
+                empty = false;
+            }
+        }
+
+        void method(MethodDescriptor method, List<String> names, boolean primary, boolean caseSensitive) {
+            if (method == null || method.unwrap() == null) {
+                return;
+            }
+            for (String name : names) {
+                (primary ? primaryMethods : secondaryMethods).put(name, caseSensitive, List.of(method));
+                if (primary) {
+                    primaryAliases.add(new PrimaryAlias(name, caseSensitive, method));
+                }
+                empty = false;
+            }
+        }
+
+        void constructor(ConstructorDescriptor<?> constructor, List<String> names, boolean primary,
+                         boolean caseSensitive) {
+            if (constructor == null || constructor.unwrap() == null) {
+                return;
+            }
+            for (String name : names) {
+                (primary ? primaryConstructors : secondaryConstructors).put(name, caseSensitive, List.of(constructor));
+                empty = false;
+            }
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+
+        AliasTable build(Class<?> clazz) {
+            for (PrimaryAlias alias : primaryAliases) {
+                String name = alias.name();
+                boolean caseSensitive = alias.caseSensitive();
+                if (alias.member() instanceof FieldDescriptor field) {
+                    for (Field other : clazz.getDeclaredFields()) {
+                        if (!other.equals(field.unwrap()) && nameMatches(other.getName(), name, caseSensitive)) {
+                            throw ambiguous("primary alias " + name + " of field " + field.getName()
+                                    + " and field " + other.getName());
+                        }
+                    }
+                } else if (alias.member() instanceof MethodDescriptor method) {
+                    for (Method other : clazz.getDeclaredMethods()) {
+                        if (!other.equals(method.unwrap()) && !other.isBridge()
+                                && nameMatches(other.getName(), name, caseSensitive)
+                                && sameTypes(method.getParameterTypes(), other.getParameterTypes())) {
+                            throw ambiguous("primary alias " + name + " of method " + method.getSignature()
+                                    + " and method " + other.getName());
+                        }
+                    }
+                }
+            }
+            return new AliasTable(type, primaryFields.build(), secondaryFields.build(),
+                    primaryMethods.build(), secondaryMethods.build(),
+                    primaryConstructors.build(), secondaryConstructors.build());
+        }
+
+        private UnsupportedAliasOperationException ambiguous(String detail) {
+            return new UnsupportedAliasOperationException("Ambiguous alias in " + type.getName() + ": " + detail);
+        }
+
+        private static boolean nameMatches(String name, String alias, boolean caseSensitive) {
+            return caseSensitive ? name.equals(alias) : name.equalsIgnoreCase(alias);
+        }
+    }
+
+    /// A primary field or method alias, kept to check it against the real names of the class.
+    private record PrimaryAlias(String name, boolean caseSensitive, Descriptor<?> member) {
+    }
+
+    /// Type aliases declared in one metadata index, by binary name.
+    private record TypeAliases(AliasMap<String> primary, AliasMap<String> secondary) {
+
+        static TypeAliases of(MetadataIndex index) {
+            BinaryOperator<String> merge = (a, b) -> {
+                if (a.equals(b)) {
+                    return a;
+                }
+                throw new UnsupportedAliasOperationException("Ambiguous type alias: " + a + " and " + b);
+            };
+            AliasMap.Builder<String> primary = new AliasMap.Builder<>(merge);
+            AliasMap.Builder<String> secondary = new AliasMap.Builder<>(merge);
+            for (IndexedType type : index.types()) {
+                IndexedElement.Alias alias = type.element().alias();
+                if (alias != null) {
+                    for (String name : alias.names()) {
+                        (alias.primary() ? primary : secondary).put(name, alias.caseSensitive(), type.name());
+                    }
+                }
+            }
+            return new TypeAliases(primary.build(), secondary.build());
+        }
+    }
+}
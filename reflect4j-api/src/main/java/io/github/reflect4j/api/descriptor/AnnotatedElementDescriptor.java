@@ -2,6 +2,8 @@ package io.github.reflect4j.api.descriptor;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 /// # AnnotatedElementDescriptor
 ///
@@ -54,6 +56,35 @@ public interface AnnotatedElementDescriptor<T> extends Descriptor<T> {
     /// @throws io.github.reflect4j.api.exception.InvalidSignatureException if the signature does not start with "@"
     AnnotationDescriptor<?> getAnnotation(String signature);
 
+    /// Returns the annotation of the specified type if present on this element.
+    ///
+    /// Like [#getAnnotation(Class)], but meant for probes that are expected to miss: the absence
+    /// is reported as an empty [Optional] rather than an empty descriptor.
+    ///
+    /// @param <A>  the annotation type
+    /// @param type the annotation class to look for; must not be `null`
+    ///
+    /// @return the annotation descriptor, or an empty [Optional] if the annotation is not present
+    /// @throws NullPointerException if the type is `null`
+    default <A extends Annotation> Optional<AnnotationDescriptor<A>> findAnnotation(Class<A> type) {
+        AnnotationDescriptor<A> annotation = getAnnotation(type);
+        return annotation.isPresent() ? Optional.of(annotation) : Optional.empty();
+    }
+
+    /// Returns the annotation matching the specified signature if present on this element.
+    ///
+    /// Like [#getAnnotation(String)], but reports the absence as an empty [Optional].
+    ///
+    /// @param signature the fully qualified annotation class name prefixed with '@'; must not be `null`
+    ///
+    /// @return the annotation descriptor, or an empty [Optional] if no annotation matches
+    /// @throws NullPointerException                                        if the signature is `null`
+    /// @throws io.github.reflect4j.api.exception.InvalidSignatureException if the signature does not start with "@"
+    default Optional<AnnotationDescriptor<?>> findAnnotation(String signature) {
+        AnnotationDescriptor<?> annotation = getAnnotation(signature);
+        return annotation.isPresent() ? Optional.of(annotation) : Optional.empty();
+    }
+
     /// Returns whether an annotation of the specified type is present on this element.
     ///
     /// @param <A>  the annotation type
@@ -92,4 +123,25 @@ public interface AnnotatedElementDescriptor<T> extends Descriptor<T> {
     ///
     /// @return an immutable list of [AnnotationDescriptor] instances, never `null`
     List<? extends AnnotationDescriptor<?>> getAnnotations();
+
+    /// Returns whether this element is annotated with the specified type, either directly or
+    /// through meta-annotations at any depth.
+    ///
+    /// For example, an element annotated with `@Endpoint`, where `@Endpoint` is annotated with
+    /// `@Component`, is annotated with `@Component`. Each check is a bit test per annotation
+    /// present on this element, backed by [MetaAnnotationIndex].
+    ///
+    /// @param annotationType the annotation class to check; must not be `null`
+    ///
+    /// @return `true` if the annotation is present directly or as a meta-annotation, `false` otherwise
+    /// @throws NullPointerException if the annotationType is `null`
+    default boolean isAnnotatedWith(Class<? extends Annotation> annotationType) {
+        Objects.requireNonNull(annotationType, "annotationType must not be null");
+        for (AnnotationDescriptor<?> annotation : getAnnotations()) {
+            if (MetaAnnotationIndex.isOrMetaAnnotated(annotation.getAnnotationType(), annotationType)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
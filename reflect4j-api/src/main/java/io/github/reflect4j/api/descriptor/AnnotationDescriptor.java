@@ -80,6 +80,20 @@ public interface AnnotationDescriptor<T extends Annotation> extends Descriptor<T
     /// @throws NullPointerException if the annotationType is `null`
     boolean hasMetaAnnotation(Class<? extends Annotation> annotationType);
 
+    /// Determines whether the annotation type is annotated with the specified meta-annotation
+    /// type at any depth.
+    ///
+    /// Unlike [#hasMetaAnnotation(Class)], this follows meta-annotations of meta-annotations,
+    /// using the precomputed closure of [MetaAnnotationIndex]; cycles are handled.
+    ///
+    /// @param annotationType the meta-annotation class to check; must not be `null`
+    ///
+    /// @return `true` if the meta-annotation is reachable from the annotation type, `false` otherwise
+    /// @throws NullPointerException if the annotationType is `null`
+    default boolean isMetaAnnotatedWith(Class<? extends Annotation> annotationType) {
+        return MetaAnnotationIndex.isMetaAnnotated(getAnnotationType(), annotationType);
+    }
+
     /// Determines whether the annotation type is annotated with an annotation
     /// matching the given fully-qualified signature.
     ///
@@ -0,0 +1,309 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.api.exception.ReflectionException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/// # AnnotationLayout
+///
+/// Compiled attribute table of one annotation type: every attribute gets a fixed slot, and
+/// attribute names map to slots through a perfect hash, so resolving a name is one hash
+/// computation, one array load and one `String.equals`.
+///
+/// A perfect hash is searched over a bounded number of seeds and table sizes. Names that no seed
+/// can separate, such as two names with the same [String#hashCode()] (`Aa` and `BB`), make the
+/// layout fall back to a linearly probed table, where a lookup may walk a few adjacent cells.
+///
+/// Default values from [Method#getDefaultValue()] are resolved when the layout is compiled and
+/// stored per slot. Layouts are compiled once per annotation type and shared through
+/// [#of(Class)]; the values of individual annotations are held by [AnnotationValues].
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class AnnotationLayout {
+
+    /// Seeds tried per table size before the table is doubled.
+    private static final int MAX_SEEDS = 64;
+    /// Number of times the table may be doubled before falling back to linear probing.
+    private static final int MAX_GROWTH = 3;
+
+    private static final ClassValue<AnnotationLayout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected AnnotationLayout computeValue(Class<?> type) {
+            return new AnnotationLayout(type.asSubclass(Annotation.class));
+        }
+    };
+
+    private final Class<? extends Annotation> annotationType;
+    private final String[] names;
+    private final Class<?>[] types;
+    private final Method[] accessors;
+    private final Object[] defaults;
+    private final Object[] defaultViews;
+    private final int[] table;
+    private final int seed;
+    private final boolean probing;
+    private final List<String> nameList;
+
+    private AnnotationLayout(Class<? extends Annotation> annotationType) {
+        this.annotationType = annotationType;
+        Method[] methods = annotationType.getDeclaredMethods();
+        int count = 0;
+        for (Method method : methods) {
+            if (isAttribute(method)) {
+                methods[count++] = method;
+            }
+        }
+        this.names = new String[count];
+        this.types = new Class<?>[count];
+        this.accessors = new Method[count];
+        this.defaults = new Object[count];
+        this.defaultViews = new Object[count];
+        for (int i = 0; i < count; i++) {
+            Method method = methods[i];
+            method.trySetAccessible();
+            names[i] = method.getName();
+            types[i] = method.getReturnType();
+            accessors[i] = method;
+            defaults[i] = method.getDefaultValue();
+            defaultViews[i] = view(defaults[i]);
+        }
+        this.nameList = List.of(names);
+
+        int base = Integer.highestOneBit(Math.max(1, count) * 2 - 1) << 1;
+        int[] slots = null;
+        int s = 0;
+        if (distinctHashes(names)) {
+            search:
+            for (int size = base; size <= base << MAX_GROWTH; size <<= 1) {
+                for (s = 0; s < MAX_SEEDS; s++) {
+                    if ((slots = tryPlace(names, size, s)) != null) {
+                        break search;
+                    }
+                }
+            }
+        }
+        this.probing = slots == null;
+        if (probing) {
+            s = 0;
+            slots = probe(names, base);
+        }
+        this.table = slots;
+        this.seed = s;
+    }
+
+    /// Returns the layout of the given annotation type, compiling it on first use.
+    ///
+    /// @param annotationType the annotation type; must not be `null`
+    ///
+    /// @return the shared layout; never `null`
+    /// @throws NullPointerException if the annotation type is `null`
+    /// @throws ClassCastException   if the type is not an annotation type
+    public static AnnotationLayout of(Class<? extends Annotation> annotationType) {
+        Objects.requireNonNull(annotationType, "annotationType must not be null");
+        if (!annotationType.isAnnotation()) {
+            throw new ClassCastException(annotationType.getName() + " is not an annotation type");
+        }
+        return LAYOUTS.get(annotationType);
+    }
+
+    /// Returns the annotation type of this layout.
+    ///
+    /// @return the annotation type; never `null`
+    public Class<? extends Annotation> annotationType() {
+        return annotationType;
+    }
+
+    /// Returns the number of attributes.
+    ///
+    /// @return the attribute count
+    public int size() {
+        return names.length;
+    }
+
+    /// Returns the slot of the named attribute.
+    ///
+    /// @param name the attribute name; must not be `null`
+    ///
+    /// @return the slot, or `-1` if the annotation type declares no such attribute
+    /// @throws NullPointerException if the name is `null`
+    public int slot(String name) {
+        int mask = table.length - 1;
+        int cell = mix(name.hashCode(), seed) & mask;
+        int slot = table[cell] - 1;
+        if (slot >= 0 && names[slot].equals(name)) {
+            return slot;
+        }
+        if (!probing) {
+            return -1;
+        }
+        while (slot >= 0) {
+            cell = (cell + 1) & mask;
+            slot = table[cell] - 1;
+            if (slot >= 0 && names[slot].equals(name)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /// Returns the attribute names in slot order.
+    ///
+    /// @return an immutable list of names; never `null`
+    public List<String> names() {
+        return nameList;
+    }
+
+    /// Returns the name of the attribute in the given slot.
+    ///
+    /// @param slot the slot
+    ///
+    /// @return the attribute name; never `null`
+    /// @throws IndexOutOfBoundsException if the slot is out of range
+    public String name(int slot) {
+        return names[slot];
+    }
+
+    /// Returns the declared type of the attribute in the given slot.
+    ///
+    /// @param slot the slot
+    ///
+    /// @return the attribute type, possibly primitive or an array type; never `null`
+    /// @throws IndexOutOfBoundsException if the slot is out of range
+    public Class<?> type(int slot) {
+        return types[slot];
+    }
+
+    /// Returns the default value of the attribute in the given slot, as stored in the class file.
+    ///
+    /// Array defaults are returned as unmodifiable list views, like all array values of [AnnotationValues].
+    ///
+    /// @param slot the slot
+    ///
+    /// @return the default value, or `null` if the attribute has none
+    /// @throws IndexOutOfBoundsException if the slot is out of range
+    public Object defaultValue(int slot) {
+        return defaultViews[slot];
+    }
+
+    /// Reads the raw attribute values of an annotation instance, in slot order.
+    Object[] read(Annotation annotation) {
+        Object[] values = new Object[names.length];
+        for (int i = 0; i < values.length; i++) {
+            try {
+                values[i] = accessors[i].invoke(annotation);
+            } catch (InvocationTargetException e) {
+                throw new ReflectionException("Cannot read attribute " + names[i] + " of " + annotationType.getName(),
+                        e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new ReflectionException("Cannot read attribute " + names[i] + " of " + annotationType.getName(), e);
+            }
+        }
+        return values;
+    }
+
+    /// Returns the raw default value of a slot; arrays are shared and must not be modified.
+    Object rawDefault(int slot) {
+        return defaults[slot];
+    }
+
+    /// Wraps an array in an unmodifiable list view; other values are returned as they are.
+    static Object view(Object value) {
+        if (value == null || !value.getClass().isArray()) {
+            return value;
+        }
+        return value instanceof Object[] array
+                ? Collections.unmodifiableList(Arrays.asList(array))
+                : new PrimitiveArrayView(value);
+    }
+
+    private static boolean isAttribute(Method method) {
+        return method.getParameterCount() == 0 && !method.isSynthetic()
+                && !Modifier.isStatic(method.getModifiers());
+    }
+
+    /// Places every name in a distinct cell of a table of the given size, storing slot + 1,
+    /// or returns `null` if two names collide under this seed.
+    private static int[] tryPlace(String[] names, int size, int seed) {
+        int[] table = new int[size];
+        for (int i = 0; i < names.length; i++) {
+            int cell = mix(names[i].hashCode(), seed) & (size - 1);
+            if (table[cell] != 0) {
+                return null;
+            }
+            table[cell] = i + 1;
+        }
+        return table;
+    }
+
+    /// Places every name in the first free cell at or after its hash, storing slot + 1. The table
+    /// is at least twice as large as the number of names, so every probe sequence ends in a free cell.
+    private static int[] probe(String[] names, int size) {
+        int[] table = new int[size];
+        for (int i = 0; i < names.length; i++) {
+            int cell = mix(names[i].hashCode(), 0) & (size - 1);
+            while (table[cell] != 0) {
+                cell = (cell + 1) & (size - 1);
+            }
+            table[cell] = i + 1;
+        }
+        return table;
+    }
+
+    /// Returns whether no two names share a hash code; otherwise no seed can separate them.
+    private static boolean distinctHashes(String[] names) {
+        int[] hashes = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            hashes[i] = names[i].hashCode();
+        }
+        Arrays.sort(hashes);
+        for (int i = 1; i < hashes.length; i++) {
+            if (hashes[i] == hashes[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int mix(int hash, int seed) {
+        int h = (hash ^ seed) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return "AnnotationLayout[@" + annotationType.getName() + nameList + "]";
+    }
+
+    /// Read-only list view of a primitive array; elements are boxed on access.
+    private static final class PrimitiveArrayView extends AbstractList<Object> implements RandomAccess {
+
+        private final Object array;
+        private final int length;
+
+        PrimitiveArrayView(Object array) {
+            this.array = array;
+            this.length = Array.getLength(array);
+        }
+
+        @Override
+        public Object get(int index) {
+            return Array.get(array, Objects.checkIndex(index, length));
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.reflect4j.api.descriptor;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/// # AnnotationValues
+///
+/// Flat, slot-addressed attribute values of one annotation, laid out by its [AnnotationLayout].
+///
+/// All values are read from the annotation once, when the table is created, so later reads
+/// never go through the annotation proxy: [#get(int)] is an array load and [#get(String)] adds
+/// one perfect-hash probe. Array-valued attributes are exposed as unmodifiable [java.util.List]
+/// views over a single private copy, which are shared by all readers instead of being cloned
+/// per read; asking for the array type itself returns a fresh copy.
+///
+/// Tables can also be built from explicit values, e.g. read from a class file, in which case
+/// the defaults of the layout fill the missing attributes.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class AnnotationValues {
+
+    private final AnnotationLayout layout;
+    private final Object[] raw;
+    private final Object[] values;
+    private volatile Map<String, Object> map;
+
+    private AnnotationValues(AnnotationLayout layout, Object[] raw) {
+        this.layout = layout;
+        this.raw = raw;
+        this.values = new Object[raw.length];
+        for (int i = 0; i < raw.length; i++) {
+            values[i] = AnnotationLayout.view(raw[i]);
+        }
+    }
+
+    /// Reads all attribute values of the given annotation.
+    ///
+    /// @param annotation the annotation; must not be `null`
+    ///
+    /// @return the attribute table; never `null`
+    /// @throws NullPointerException                                   if the annotation is `null`
+    /// @throws io.github.reflect4j.api.exception.ReflectionException if an attribute cannot be read
+    public static AnnotationValues of(Annotation annotation) {
+        Objects.requireNonNull(annotation, "annotation must not be null");
+        AnnotationLayout layout = AnnotationLayout.of(annotation.annotationType());
+        return new AnnotationValues(layout, layout.read(annotation));
+    }
+
+    /// Builds an attribute table from explicit values, filling missing attributes with their defaults.
+    ///
+    /// Array values are copied. Entries whose name is not an attribute of the layout are ignored.
+    ///
+    /// @param layout the annotation layout; must not be `null`
+    /// @param values the explicit attribute values by name; must not be `null`
+    ///
+    /// @return the attribute table; never `null`
+    /// @throws NullPointerException if the layout or values is `null`
+    public static AnnotationValues of(AnnotationLayout layout, Map<String, ?> values) {
+        Objects.requireNonNull(layout, "layout must not be null");
+        Objects.requireNonNull(values, "values must not be null");
+        Object[] raw = new Object[layout.size()];
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = layout.rawDefault(i);
+        }
+        values.forEach((name, value) -> {
+            int slot = layout.slot(name);
+            if (slot >= 0) {
+                raw[slot] = copy(value);
+            }
+        });
+        return new AnnotationValues(layout, raw);
+    }
+
+    /// Returns the layout of this table.
+    ///
+    /// @return the layout; never `null`
+    public AnnotationLayout layout() {
+        return layout;
+    }
+
+    /// Returns the value in the given slot, with arrays as unmodifiable list views.
+    ///
+    /// @param slot the slot, as returned by [AnnotationLayout#slot(String)]
+    ///
+    /// @return the value, or `null` if the attribute has neither a value nor a default
+    /// @throws IndexOutOfBoundsException if the slot is out of range
+    public Object get(int slot) {
+        return values[slot];
+    }
+
+    /// Returns the value of the named attribute, with arrays as unmodifiable list views.
+    ///
+    /// @param name the attribute name; must not be `null`
+    ///
+    /// @return the value, or `null` if there is no such attribute or it has no value
+    /// @throws NullPointerException if the name is `null`
+    public Object get(String name) {
+        int slot = layout.slot(name);
+        return slot < 0 ? null : values[slot];
+    }
+
+    /// Returns the value of the named attribute as the given type.
+    ///
+    /// Primitive types are answered with their wrappers, and array types with a fresh copy of the
+    /// array; any type the unmodifiable list view is an instance of, such as [java.util.List],
+    /// returns the shared view.
+    ///
+    /// @param <R>  the expected type
+    /// @param name the attribute name; must not be `null`
+    /// @param type the expected type; must not be `null`
+    ///
+    /// @return the value, or `null` if there is no such attribute or it has no value
+    /// @throws NullPointerException if the name or type is `null`
+    /// @throws ClassCastException   if the value is not of the expected type
+    @SuppressWarnings("unchecked")
+    public <R> R get(String name, Class<R> type) {
+        Objects.requireNonNull(type, "type must not be null");
+        int slot = layout.slot(name);
+        if (slot < 0 || raw[slot] == null) {
+            return null;
+        }
+        Object value = values[slot];
+        if (type.isInstance(value)) {
+            return (R) value;
+        }
+        if (type.isPrimitive()) {
+            return (R) MethodType.methodType(type).wrap().returnType().cast(value);
+        }
+        if (type.isInstance(raw[slot])) {
+            return (R) copy(raw[slot]);
+        }
+        throw new ClassCastException("Attribute " + name + " of @" + layout.annotationType().getName()
+                + " is " + raw[slot].getClass().getTypeName() + ", not " + type.getTypeName());
+    }
+
+    /// Returns all attributes as an immutable map in slot order, built once and cached.
+    ///
+    /// @return an immutable map from attribute name to value; never `null`
+    public Map<String, Object> asMap() {
+        Map<String, Object> result = map;
+        if (result == null) {
+            Map<String, Object> m = new LinkedHashMap<>(values.length * 2);
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    m.put(layout.name(i), values[i]);
+                }
+            }
+            map = result = Collections.unmodifiableMap(m);
+        }
+        return result;
+    }
+
+    private static Object copy(Object value) {
+        if (value == null || !value.getClass().isArray()) {
+            return value;
+        }
+        int length = Array.getLength(value);
+        Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+        System.arraycopy(value, 0, copy, 0, length);
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "@" + layout.annotationType().getName() + asMap();
+    }
+}
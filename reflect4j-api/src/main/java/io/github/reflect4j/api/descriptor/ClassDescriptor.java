@@ -1,6 +1,10 @@
 package io.github.reflect4j.api.descriptor;
 
+import io.github.reflect4j.api.signature.SignatureIndex;
+import io.github.reflect4j.commons.Params;
+
 import java.util.List;
+import java.util.Optional;
 
 /// # ClassDescriptor
 ///
@@ -16,6 +20,10 @@ import java.util.List;
 /// Bulk queries such as [#getFields()], [#getMethods()], and
 /// [#getConstructors()] always return immutable, possibly empty lists.
 ///
+/// Members excluded by `@R4jIgnore`, and all members of a class annotated with it, are left out
+/// of every query except [#getAllFields()], [#getAllMethods()] and [#getAllConstructors()]:
+/// single-element lookups do not find them, whether by name, signature, parameter types or alias.
+///
 /// @param <T> the type represented by this descriptor
 ///
 /// @author Aliabbos Ashurov
@@ -35,25 +43,61 @@ public interface ClassDescriptor<T> extends AnnotatedElementDescriptor<Class<T>>
 
     /// Returns the field with the given name if present.
     ///
+    /// The name may also be an `@R4jAlias` alias of the field: primary aliases are resolved
+    /// before real names and other aliases after them, as described in [AliasTable].
+    ///
     /// @param name the field name; must not be `null`
     ///
     /// @return an empty [FieldDescriptor] if not found; never `null`
     /// @throws NullPointerException if the name is `null`
     FieldDescriptor getField(String name);
 
+    /// Returns the field with the given name if present.
+    ///
+    /// Like [#getField(String)], but meant for probes that are expected to miss: the absence is
+    /// reported as an empty [Optional]. Misses are remembered per class, so repeating one costs a
+    /// hash probe and never raises an exception internally.
+    ///
+    /// @param name the field name; must not be `null`
+    ///
+    /// @return the field descriptor, or an empty [Optional] if not found
+    /// @throws NullPointerException if the name is `null`
+    default Optional<FieldDescriptor> findField(String name) {
+        FieldDescriptor field = getField(name);
+        return field.isPresent() ? Optional.of(field) : Optional.empty();
+    }
+
     /// Returns all fields declared in this class.
     ///
     /// The returned list is immutable. If no fields are present,
-    /// this method returns an empty list.
+    /// this method returns an empty list. Fields annotated with `@R4jIgnore`, and all
+    /// fields of a class annotated with it, are left out; see [#getAllFields()].
     ///
     /// @return an immutable list of field descriptors; never `null`
     List<FieldDescriptor> getFields();
 
+    /// Returns all fields declared in this class, including those excluded by `@R4jIgnore`.
+    ///
+    /// Meant for tooling that must see every member. Implementations that do not honour
+    /// `@R4jIgnore` return the same list as [#getFields()].
+    ///
+    /// @return an immutable list of field descriptors; never `null`
+    default List<FieldDescriptor> getAllFields() {
+        return getFields();
+    }
+
     /// Returns a method matching the given signature if present.
     ///
     /// A signature must uniquely identify a method, typically combining
     /// its name and parameter types in a JVM-style descriptor form.
     ///
+    /// Lookups are resolved through [#getSignatureIndex()], so after the first signature
+    /// lookup on a class each call is a single hash probe. Both the notation of
+    /// [Descriptor#getSignature()] and JVM descriptors such as `process(Ljava/lang/String;I)V`
+    /// are accepted, as described in [io.github.reflect4j.api.signature.SignatureParser].
+    /// The method name may also be an `@R4jAlias` alias, or the signature the bare alias of a
+    /// single method, as described in [AliasTable].
+    ///
     /// @param signature the method signature; must not be `null`
     ///
     /// @return an empty [MethodDescriptor] if not found; never `null`
@@ -61,8 +105,24 @@ public interface ClassDescriptor<T> extends AnnotatedElementDescriptor<Class<T>>
     /// @throws io.github.reflect4j.api.exception.InvalidSignatureException if the signature is not a valid JVM-style method descriptor
     MethodDescriptor getMethod(String signature);
 
+    /// Returns the method matching the given signature if present.
+    ///
+    /// Like [#getMethod(String)], but reports the absence as an empty [Optional].
+    ///
+    /// @param signature the method signature; must not be `null`
+    ///
+    /// @return the method descriptor, or an empty [Optional] if not found
+    /// @throws NullPointerException                                        if the signature is `null`
+    /// @throws io.github.reflect4j.api.exception.InvalidSignatureException if the signature is not a valid JVM-style method descriptor
+    default Optional<MethodDescriptor> findMethod(String signature) {
+        MethodDescriptor method = getMethod(signature);
+        return method.isPresent() ? Optional.of(method) : Optional.empty();
+    }
+
     /// Returns the method with the given name and parameter types if present.
     ///
+    /// The name may also be an `@R4jAlias` alias of the method.
+    ///
     /// @param name           the method name; must not be `null`
     /// @param parameterTypes the parameter types; must not be `null`
     ///
@@ -70,16 +130,101 @@ public interface ClassDescriptor<T> extends AnnotatedElementDescriptor<Class<T>>
     /// @throws NullPointerException if the name or parameterTypes is `null`
     MethodDescriptor getMethod(String name, Class<?>... parameterTypes);
 
+    /// Returns the method with the given name and parameter types if present.
+    ///
+    /// Like [#getMethod(String, Class...)], but reports the absence as an empty [Optional].
+    /// Misses are remembered per class, so repeating one never raises an exception internally.
+    ///
+    /// @param name           the method name; must not be `null`
+    /// @param parameterTypes the parameter types; must not be `null`
+    ///
+    /// @return the method descriptor, or an empty [Optional] if not found
+    /// @throws NullPointerException if the name or parameterTypes is `null`
+    default Optional<MethodDescriptor> findMethod(String name, Class<?>... parameterTypes) {
+        MethodDescriptor method = getMethod(name, parameterTypes);
+        return method.isPresent() ? Optional.of(method) : Optional.empty();
+    }
+
+    /// Returns the method with the given name and parameter types if present.
+    ///
+    /// Behaves like [#getMethod(String, Class...)], but takes the parameter types as a reusable
+    /// key: the overloads of the name are matched against it in place, so repeated lookups with
+    /// the same, ideally interned, [Params] neither copy nor allocate arrays.
+    ///
+    /// @param name   the method name; must not be `null`
+    /// @param params the parameter types; must not be `null`
+    ///
+    /// @return an empty [MethodDescriptor] if not found; never `null`
+    /// @throws NullPointerException if the name or params is `null`
+    default MethodDescriptor getMethod(String name, Params params) {
+        if (getAliasTable().isEmpty()) {
+            MethodDescriptor found = null;
+            for (MethodDescriptor method : getSignatureIndex().overloads(name)) {
+                if (params.matches(method.getParameterTypes()) && (found == null || found.isBridge())) {
+                    found = method;
+                }
+            }
+            if (found != null) {
+                return found;
+            }
+        }
+        return getMethod(name, params.getTypes());
+    }
+
+    /// Creates a dispatch site that chooses among the methods with the given name from the
+    /// runtime arguments of each call, with the default inline cache depth.
+    ///
+    /// Unlike [#getMethod(String, Class...)], which needs the exact parameter types, the site
+    /// resolves the most specific overload applicable to the argument values, following the
+    /// phases of the Java language, and caches the outcome per combination of argument classes.
+    /// See [DispatchSite].
+    ///
+    /// @param name the method name or alias; must not be `null`
+    ///
+    /// @return a new dispatch site; never `null`
+    /// @throws NullPointerException if the name is `null`
+    default DispatchSite newDispatchSite(String name) {
+        return DispatchSite.of(this, name);
+    }
+
+    /// Creates a dispatch site that chooses among the methods with the given name from the
+    /// runtime arguments of each call.
+    ///
+    /// @param name  the method name or alias; must not be `null`
+    /// @param depth the number of argument combinations kept in the site's inline cache before
+    ///              it falls back to a hash table
+    ///
+    /// @return a new dispatch site; never `null`
+    /// @throws NullPointerException     if the name is `null`
+    /// @throws IllegalArgumentException if the depth is negative
+    default DispatchSite newDispatchSite(String name, int depth) {
+        return DispatchSite.of(this, name, depth);
+    }
+
     /// Returns all methods declared in this class.
     ///
     /// The returned list is immutable. If no methods are present,
-    /// this method returns an empty list.
+    /// this method returns an empty list. Methods annotated with `@R4jIgnore`, and all
+    /// methods of a class annotated with it, are left out; see [#getAllMethods()].
     ///
     /// @return an immutable list of method descriptors; never `null`
     List<MethodDescriptor> getMethods();
 
+    /// Returns all methods declared in this class, including those excluded by `@R4jIgnore`.
+    ///
+    /// Meant for tooling that must see every member. Implementations that do not honour
+    /// `@R4jIgnore` return the same list as [#getMethods()].
+    ///
+    /// @return an immutable list of method descriptors; never `null`
+    default List<MethodDescriptor> getAllMethods() {
+        return getMethods();
+    }
+
     /// Returns a constructor matching the given signature if present.
     ///
+    /// Like [#getMethod(String)], lookups are resolved through [#getSignatureIndex()] and
+    /// [#getAliasTable()].
+    ///
     /// @param signature the constructor signature; must not be `null`
     ///
     /// @return an empty [ConstructorDescriptor] if not found; never `null`
@@ -95,14 +240,80 @@ public interface ClassDescriptor<T> extends AnnotatedElementDescriptor<Class<T>>
     /// @throws NullPointerException if the parameterTypes is `null`
     ConstructorDescriptor<T> getConstructor(Class<?>... parameterTypes);
 
+    /// Returns the constructor with the specified parameter types if present.
+    ///
+    /// Like [#getConstructor(Class...)], but reports the absence as an empty [Optional].
+    /// Misses are remembered per class, so repeating one never raises an exception internally.
+    ///
+    /// @param parameterTypes the constructor parameter types; must not be `null`
+    ///
+    /// @return the constructor descriptor, or an empty [Optional] if not found
+    /// @throws NullPointerException if the parameterTypes is `null`
+    default Optional<ConstructorDescriptor<T>> findConstructor(Class<?>... parameterTypes) {
+        ConstructorDescriptor<T> constructor = getConstructor(parameterTypes);
+        return constructor.isPresent() ? Optional.of(constructor) : Optional.empty();
+    }
+
+    /// Returns the constructor with the specified parameter types if present.
+    ///
+    /// Behaves like [#getConstructor(Class...)], but takes the parameter types as a reusable key.
+    /// Implementations that keep their constructors by parameter types, such as
+    /// [AbstractClassDescriptor], look the key up as is, so repeated lookups with the same, ideally
+    /// interned, [Params] neither copy nor allocate arrays; this default delegates to
+    /// [#getConstructor(Class...)] with a copy of the types.
+    ///
+    /// @param params the constructor parameter types; must not be `null`
+    ///
+    /// @return an empty [ConstructorDescriptor] if not found; never `null`
+    /// @throws NullPointerException if the params is `null`
+    default ConstructorDescriptor<T> getConstructor(Params params) {
+        return getConstructor(params.getTypes());
+    }
+
     /// Returns all constructors declared in this class.
     ///
     /// The returned list is immutable. If no constructors are present,
-    /// this method returns an empty list.
+    /// this method returns an empty list. Constructors annotated with `@R4jIgnore`, and all
+    /// constructors of a class annotated with it, are left out; see [#getAllConstructors()].
     ///
     /// @return an immutable list of constructor descriptors; never `null`
     List<ConstructorDescriptor<T>> getConstructors();
 
+    /// Returns all constructors declared in this class, including those excluded by `@R4jIgnore`.
+    ///
+    /// Meant for tooling that must see every member. Implementations that do not honour
+    /// `@R4jIgnore` return the same list as [#getConstructors()].
+    ///
+    /// @return an immutable list of constructor descriptors; never `null`
+    default List<ConstructorDescriptor<T>> getAllConstructors() {
+        return getConstructors();
+    }
+
+    /// Returns the signature index of this class.
+    ///
+    /// The index is built from [#getAllMethods()], [#getAllConstructors()] and [#getAllFields()]
+    /// and resolves to this descriptor's own member descriptors. Implementations should build it
+    /// once and keep it for their own lifetime, as [AbstractClassDescriptor] does; the default
+    /// builds a new index on every call.
+    ///
+    /// @return the signature index; never `null`
+    default SignatureIndex getSignatureIndex() {
+        return SignatureIndex.of(this);
+    }
+
+    /// Returns the alias table of this class.
+    ///
+    /// The table resolves the `@R4jAlias` aliases of the declared fields, methods and
+    /// constructors to this descriptor's own member descriptors. Implementations should build it
+    /// once and keep it for their own lifetime, as [AbstractClassDescriptor] does; the default
+    /// builds a new table on every call.
+    ///
+    /// @return the alias table; never `null`
+    /// @throws io.github.reflect4j.api.exception.UnsupportedAliasOperationException if the aliases of the class are ambiguous
+    default AliasTable getAliasTable() {
+        return AliasTable.of(this);
+    }
+
     /// Returns whether this class is an interface.
     ///
     /// @return `true` if this class is an interface, `false` otherwise
@@ -123,6 +334,17 @@ public interface ClassDescriptor<T> extends AnnotatedElementDescriptor<Class<T>>
     /// @return `true` if this class is a record, `false` otherwise
     boolean isRecord();
 
+    /// Returns the record descriptor of this class, which deconstructs and reconstructs its
+    /// instances through the component accessors and the canonical constructor.
+    ///
+    /// The descriptor is built on first use and then shared by every descriptor of the same class.
+    ///
+    /// @return the record descriptor; never `null`
+    /// @throws IllegalArgumentException if this class is not a record
+    default RecordDescriptor<T> getRecordDescriptor() {
+        return RecordDescriptor.of(this);
+    }
+
     /// Returns whether this class is abstract.
     ///
     /// @return `true` if this class is abstract, `false` otherwise
@@ -183,6 +405,33 @@ public interface ClassDescriptor<T> extends AnnotatedElementDescriptor<Class<T>>
     /// @return an immutable list of interface descriptors; never `null`
     List<? extends ClassDescriptor<?>> getInterfaces();
 
+    /// Returns the type hierarchy of this class: all of its supertypes, linearized, with
+    /// constant-time subtype and membership checks.
+    ///
+    /// The hierarchy is built from the hierarchies of [#getSuperclass()] and [#getInterfaces()]
+    /// and lists this descriptor's own supertype descriptors. Implementations should build it once
+    /// and keep it for their own lifetime, as [AbstractClassDescriptor] does; the default builds a
+    /// new hierarchy on every call.
+    ///
+    /// @return the type hierarchy; never `null`
+    default TypeHierarchy getTypeHierarchy() {
+        return TypeHierarchy.of(this);
+    }
+
+    /// Returns whether instances of this class can be assigned to the type described by the
+    /// given descriptor, i.e. whether that type is this class or one of its supertypes.
+    ///
+    /// Answered by a single bit test on [#getTypeHierarchy()].
+    ///
+    /// @param other the candidate supertype; must not be `null`
+    ///
+    /// @return `true` if this class is a subtype of the other type, `false` if it is not or
+    ///         either descriptor is empty
+    /// @throws NullPointerException if the other descriptor is `null`
+    default boolean isAssignableTo(ClassDescriptor<?> other) {
+        return getTypeHierarchy().isSubtypeOf(other);
+    }
+
     /// Casts this descriptor's underlying class to the specified target type.
     ///
     /// @param targetType the target type; must not be `null`
@@ -1,9 +1,20 @@
 package io.github.reflect4j.api.descriptor;
 
+import io.github.reflect4j.api.invoke.AsyncInvocations;
 import io.github.reflect4j.api.invoke.ConstructorInvocationResult;
+import io.github.reflect4j.api.invoke.ConstructorInvoker;
+import io.github.reflect4j.api.invoke.InstanceFactories;
+import io.github.reflect4j.api.invoke.InvocationEngine;
+import io.github.reflect4j.api.invoke.Invocations;
 
 import java.lang.reflect.Constructor;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /// # ConstructorDescriptor
 ///
@@ -18,6 +29,10 @@ import java.util.List;
 /// a [ConstructorInvocationResult], which encapsulates both the constructed
 /// instance and any exception raised during the call.
 ///
+/// Code that creates many instances should turn the constructor into a factory once, with
+/// [#asSupplier()], [#asFunction()], [#asBiFunction()] or [#asFactory(Class)]. Factories are
+/// compiled like lambdas, so calling one costs about as much as `new`.
+///
 /// @param <T> the type of the class declaring this constructor
 ///
 /// @author Aliabbos Ashurov
@@ -71,17 +86,249 @@ public interface ConstructorDescriptor<T> extends MemberDescriptor<Constructor<T
     /// @return `true` if package-private, `false` otherwise
     boolean isPackagePrivate();
 
+    /// Returns the engine this descriptor's invocations are routed through.
+    ///
+    /// Unless set explicitly via [#withInvocationEngine(InvocationEngine)], this is the
+    /// [InvocationEngine#getDefault()] in effect when the descriptor bound its invoker.
+    ///
+    /// @return the invocation engine; never `null`
+    InvocationEngine getInvocationEngine();
+
+    /// Returns a descriptor for the same constructor that invokes through the given engine.
+    ///
+    /// If this descriptor already uses the engine, it is returned as-is.
+    ///
+    /// @param engine the engine to use; must not be `null`
+    ///
+    /// @return a descriptor bound to the given engine; never `null`
+    /// @throws NullPointerException if the engine is `null`
+    ConstructorDescriptor<T> withInvocationEngine(InvocationEngine engine);
+
+    /// Returns the invoker that [#invoke(Object...)] is routed through.
+    ///
+    /// The invoker is bound lazily on first use by [#getInvocationEngine()] and cached for
+    /// the lifetime of this descriptor.
+    ///
+    /// @return the bound invoker; never `null`
+    /// @throws io.github.reflect4j.api.exception.ConstructorInvocationException if the constructor cannot be bound
+    ConstructorInvoker getInvoker();
+
     /// Invokes this constructor reflectively with the given arguments.
     ///
     /// The operation creates a new instance of the declaring class.
     /// The returned [ConstructorInvocationResult] encapsulates both the
     /// created object (if successful) and any exception thrown during
-    /// instantiation.
+    /// instantiation. The call itself is performed by [#getInvoker()]; a call without arguments
+    /// goes through [ConstructorInvoker#invoke0()], so the empty argument array does not escape.
+    /// Errors such as [OutOfMemoryError] are not wrapped: they propagate unchanged.
     ///
     /// @param args the arguments to pass to the constructor; must not be `null`
     /// @param <R>  the type of the created instance
     ///
     /// @return a [ConstructorInvocationResult] representing the outcome; never `null`
     /// @throws NullPointerException if args is `null`
-    <R> ConstructorInvocationResult<R> invoke(Object... args);
+    /// @throws Error                if the constructor throws one
+    @SuppressWarnings("unchecked")
+    default <R> ConstructorInvocationResult<R> invoke(Object... args) {
+        Objects.requireNonNull(args, "args must not be null");
+        try {
+            ConstructorInvoker invoker = getInvoker();
+            return ConstructorInvocationResult.success((R) (args.length == 0
+                    ? invoker.invoke0() : invoker.invoke(args)));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            return ConstructorInvocationResult.failure(e);
+        }
+    }
+
+    /// Invokes this constructor with no arguments, without allocating an argument
+    /// array or a result object.
+    ///
+    /// Unlike [#invoke(Object...)], failures are thrown rather than wrapped: unchecked exceptions
+    /// of the constructor propagate unchanged, checked ones are wrapped in a
+    /// [io.github.reflect4j.api.exception.ConstructorInvocationException].
+    ///
+    /// @return the newly created instance; never `null`
+    /// @throws IllegalArgumentException if the constructor does not take exactly 0 parameters
+    @SuppressWarnings("unchecked")
+    default T invoke0() {
+        try {
+            return (T) getInvoker().invoke0();
+        } catch (Throwable e) {
+            throw Invocations.unchecked(getDeclaringClass(), e);
+        }
+    }
+
+    /// Invokes this constructor with exactly 1 argument, without allocating an argument
+    /// array or a result object.
+    ///
+    /// Unlike [#invoke(Object...)], failures are thrown rather than wrapped: unchecked exceptions
+    /// of the constructor propagate unchanged, checked ones are wrapped in a
+    /// [io.github.reflect4j.api.exception.ConstructorInvocationException].
+    ///
+    /// @param arg0 the first argument
+    ///
+    /// @return the newly created instance; never `null`
+    /// @throws IllegalArgumentException if the constructor does not take exactly 1 parameter
+    @SuppressWarnings("unchecked")
+    default T invoke1(Object arg0) {
+        try {
+            return (T) getInvoker().invoke1(arg0);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(getDeclaringClass(), e);
+        }
+    }
+
+    /// Invokes this constructor with exactly 2 arguments, without allocating an argument
+    /// array or a result object.
+    ///
+    /// Unlike [#invoke(Object...)], failures are thrown rather than wrapped: unchecked exceptions
+    /// of the constructor propagate unchanged, checked ones are wrapped in a
+    /// [io.github.reflect4j.api.exception.ConstructorInvocationException].
+    ///
+    /// @param arg0 the first argument
+    /// @param arg1 the second argument
+    ///
+    /// @return the newly created instance; never `null`
+    /// @throws IllegalArgumentException if the constructor does not take exactly 2 parameters
+    @SuppressWarnings("unchecked")
+    default T invoke2(Object arg0, Object arg1) {
+        try {
+            return (T) getInvoker().invoke2(arg0, arg1);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(getDeclaringClass(), e);
+        }
+    }
+
+    /// Invokes this constructor with exactly 3 arguments, without allocating an argument
+    /// array or a result object.
+    ///
+    /// Unlike [#invoke(Object...)], failures are thrown rather than wrapped: unchecked exceptions
+    /// of the constructor propagate unchanged, checked ones are wrapped in a
+    /// [io.github.reflect4j.api.exception.ConstructorInvocationException].
+    ///
+    /// @param arg0 the first argument
+    /// @param arg1 the second argument
+    /// @param arg2 the third argument
+    ///
+    /// @return the newly created instance; never `null`
+    /// @throws IllegalArgumentException if the constructor does not take exactly 3 parameters
+    @SuppressWarnings("unchecked")
+    default T invoke3(Object arg0, Object arg1, Object arg2) {
+        try {
+            return (T) getInvoker().invoke3(arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(getDeclaringClass(), e);
+        }
+    }
+
+    /// Invokes this constructor with exactly 4 arguments, without allocating an argument
+    /// array or a result object.
+    ///
+    /// Unlike [#invoke(Object...)], failures are thrown rather than wrapped: unchecked exceptions
+    /// of the constructor propagate unchanged, checked ones are wrapped in a
+    /// [io.github.reflect4j.api.exception.ConstructorInvocationException].
+    ///
+    /// @param arg0 the first argument
+    /// @param arg1 the second argument
+    /// @param arg2 the third argument
+    /// @param arg3 the fourth argument
+    ///
+    /// @return the newly created instance; never `null`
+    /// @throws IllegalArgumentException if the constructor does not take exactly 4 parameters
+    @SuppressWarnings("unchecked")
+    default T invoke4(Object arg0, Object arg1, Object arg2, Object arg3) {
+        try {
+            return (T) getInvoker().invoke4(arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(getDeclaringClass(), e);
+        }
+    }
+
+    /// Invokes this constructor asynchronously on the [AsyncInvocations#getDefaultExecutor()].
+    ///
+    /// Equivalent to `invokeAsync(AsyncInvocations.getDefaultExecutor(), args)`.
+    ///
+    /// @param <R>  the type of the created instance
+    /// @param args the arguments to pass to the constructor; must not be `null`
+    ///
+    /// @return a future of the outcome; never `null`
+    /// @throws NullPointerException if args is `null`
+    default <R> CompletableFuture<ConstructorInvocationResult<R>> invokeAsync(Object... args) {
+        return invokeAsync(AsyncInvocations.getDefaultExecutor(), args);
+    }
+
+    /// Invokes this constructor asynchronously on the given executor.
+    ///
+    /// The call is performed by [#invoke(Object...)], so the future completes normally with a
+    /// [ConstructorInvocationResult] even if the constructor throws. It completes exceptionally
+    /// only if the executor rejects the call.
+    ///
+    /// @param <R>      the type of the created instance
+    /// @param executor the executor to run the call on; must not be `null`
+    /// @param args     the arguments to pass to the constructor; must not be `null`
+    ///
+    /// @return a future of the outcome; never `null`
+    /// @throws NullPointerException if the executor or args is `null`
+    default <R> CompletableFuture<ConstructorInvocationResult<R>> invokeAsync(Executor executor, Object[] args) {
+        Objects.requireNonNull(args, "args must not be null");
+        return AsyncInvocations.submit(() -> this.<R>invoke(args), executor);
+    }
+
+    /// Returns a [Supplier] that calls this constructor.
+    ///
+    /// Equivalent to `asFactory(Supplier.class)`.
+    ///
+    /// @return the cached factory; never `null`
+    /// @throws IllegalArgumentException if this constructor takes parameters
+    @SuppressWarnings("unchecked")
+    default Supplier<T> asSupplier() {
+        return asFactory(Supplier.class);
+    }
+
+    /// Returns a [Function] that calls this constructor with its argument.
+    ///
+    /// Equivalent to `asFactory(Function.class)`.
+    ///
+    /// @param <A> the argument type
+    ///
+    /// @return the cached factory; never `null`
+    /// @throws IllegalArgumentException if this constructor does not take exactly 1 parameter
+    @SuppressWarnings("unchecked")
+    default <A> Function<A, T> asFunction() {
+        return asFactory(Function.class);
+    }
+
+    /// Returns a [BiFunction] that calls this constructor with its two arguments.
+    ///
+    /// Equivalent to `asFactory(BiFunction.class)`.
+    ///
+    /// @param <A> the first argument type
+    /// @param <B> the second argument type
+    ///
+    /// @return the cached factory; never `null`
+    /// @throws IllegalArgumentException if this constructor does not take exactly 2 parameters
+    @SuppressWarnings("unchecked")
+    default <A, B> BiFunction<A, B, T> asBiFunction() {
+        return asFactory(BiFunction.class);
+    }
+
+    /// Returns an instance of the given functional interface that calls this constructor.
+    ///
+    /// The interface method receives the constructor's arguments, in order, and must return a
+    /// supertype of the declaring class. The factory is compiled once, as by
+    /// [InstanceFactories#of(Constructor, Class)], and shared by every descriptor of this
+    /// constructor. Unlike [#invoke(Object...)], it neither allocates an argument array nor wraps
+    /// the outcome: exceptions of the constructor propagate unchanged.
+    ///
+    /// @param <F>  the functional interface type
+    /// @param type the functional interface; must not be `null`
+    ///
+    /// @return the cached factory; never `null`
+    /// @throws IllegalArgumentException if the type is not a functional interface or its method
+    ///                                  does not match this constructor
+    default <F> F asFactory(Class<F> type) {
+        return InstanceFactories.of(unwrap(), type);
+    }
 }
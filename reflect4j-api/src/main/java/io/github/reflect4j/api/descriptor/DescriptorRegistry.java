@@ -0,0 +1,410 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.api.exception.ClassNotFoundRuntimeException;
+import io.github.reflect4j.api.index.MetadataIndex;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/// # DescriptorRegistry
+///
+/// Canonical registry of [ClassDescriptor]s: asking for the descriptor of the same [Class]
+/// twice returns the same instance, and every lookup after the first is a lock-free
+/// [ClassValue] read.
+///
+/// Descriptors are attached to their class through [ClassValue] rather than held in a
+/// `Class`-keyed map, so they never keep a class or its class loader alive: when a plugin's
+/// class loader is discarded, its descriptors are collected with it.
+///
+/// By default the registry is unbounded. Hosts that create huge numbers of short-lived classes
+/// (scripting engines, generated proxies) can bound it by count or by weight with a [Policy].
+/// Bounded registries evict with a second-chance (clock) scheme that approximates LRU without
+/// any bookkeeping on the lookup path beyond a single flag write; an evicted descriptor is
+/// simply recreated on its next lookup.
+///
+/// Each class gets its descriptor from the factory exactly once per admission: concurrent first
+/// lookups of a class wait for the one thread creating its descriptor, and all of them return
+/// that descriptor. The [ClassValue] itself only attaches an empty holder, so discarded or
+/// recomputed values never touch the clock, the weight or the statistics.
+///
+/// **Example:**
+/// ```java
+/// DescriptorRegistry registry = DescriptorRegistry.create(MyClassDescriptor::new,
+///         DescriptorRegistry.Policy.maximumSize(10_000));
+///
+/// ClassDescriptor<User> user = registry.get(User.class);
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class DescriptorRegistry {
+
+    /// Most names [#find(String, ClassLoader)] remembers as missing per class loader.
+    static final int MAXIMUM_MISSES = 1024;
+
+    private final Function<Class<?>, ? extends ClassDescriptor<?>> factory;
+    private final Policy policy;
+    private final ClassValue<Entry> entries = new ClassValue<>() {
+        @Override
+        protected Entry computeValue(Class<?> type) {
+            return new Entry();
+        }
+    };
+
+    /// Names [#find(String, ClassLoader)] did not resolve, per class loader; weak in the loader.
+    private final Map<ClassLoader, Set<String>> missingNames = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Queue<Node> clock = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong weight = new AtomicLong();
+    private final AtomicLong nodes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private DescriptorRegistry(Function<Class<?>, ? extends ClassDescriptor<?>> factory, Policy policy) {
+        this.factory = Objects.requireNonNull(factory, "factory must not be null");
+        this.policy = Objects.requireNonNull(policy, "policy must not be null");
+    }
+
+    /// Creates an unbounded registry.
+    ///
+    /// @param factory creates the descriptor for a class on its first lookup; must not be `null`
+    ///
+    /// @return a new registry; never `null`
+    /// @throws NullPointerException if the factory is `null`
+    public static DescriptorRegistry create(Function<Class<?>, ? extends ClassDescriptor<?>> factory) {
+        return new DescriptorRegistry(factory, Policy.unbounded());
+    }
+
+    /// Creates a registry governed by the given policy.
+    ///
+    /// @param factory creates the descriptor for a class on its first lookup; must not be `null`
+    /// @param policy  the bounding and statistics policy; must not be `null`
+    ///
+    /// @return a new registry; never `null`
+    /// @throws NullPointerException if the factory or policy is `null`
+    public static DescriptorRegistry create(Function<Class<?>, ? extends ClassDescriptor<?>> factory, Policy policy) {
+        return new DescriptorRegistry(factory, policy);
+    }
+
+    /// Returns the canonical descriptor for the given class, creating it on first lookup.
+    ///
+    /// @param <T>  the type represented by the descriptor
+    /// @param type the class; must not be `null`
+    ///
+    /// @return the canonical descriptor; never `null`
+    /// @throws NullPointerException if the type is `null`
+    @SuppressWarnings("unchecked")
+    public <T> ClassDescriptor<T> get(Class<T> type) {
+        Entry entry = entries.get(Objects.requireNonNull(type, "type must not be null"));
+        ClassDescriptor<?> descriptor = entry.descriptor;
+        if (descriptor == null) {
+            return (ClassDescriptor<T>) admit(type, entry);
+        }
+        if (policy.recordStats) {
+            hits.increment();
+        }
+        Node node = entry.node;
+        if (node != null && !node.referenced) {
+            node.referenced = true;
+        }
+        return (ClassDescriptor<T>) descriptor;
+    }
+
+    /// Returns the canonical descriptor for the class with the given binary name or type alias.
+    ///
+    /// Type aliases are the `@R4jAlias` aliases of types listed in the
+    /// [io.github.reflect4j.api.index.MetadataIndex] of the class loader: primary aliases are
+    /// resolved before binary names, other aliases after them. The class is loaded without
+    /// being initialized.
+    ///
+    /// @param name   the binary name, e.g. `com.example.Outer$Inner`, or a type alias; must not be `null`
+    /// @param loader the class loader; `null` for the system class loader
+    ///
+    /// @return the canonical descriptor; never `null`
+    /// @throws NullPointerException                                                   if the name is `null`
+    /// @throws io.github.reflect4j.api.exception.ClassNotFoundRuntimeException        if no class has this name or alias
+    /// @throws io.github.reflect4j.api.exception.UnsupportedAliasOperationException if two types share the alias
+    public ClassDescriptor<?> get(String name, ClassLoader loader) {
+        Objects.requireNonNull(name, "name must not be null");
+        ClassLoader classLoader = loader != null ? loader : ClassLoader.getSystemClassLoader();
+        ClassDescriptor<?> descriptor = get(load(name, classLoader, true));
+        Set<String> missing = missingNames.get(classLoader);
+        if (missing != null) {
+            missing.remove(name);
+        }
+        return descriptor;
+    }
+
+    /// Returns the canonical descriptor for the class with the given binary name or type alias, if
+    /// such a class exists.
+    ///
+    /// Like [#get(String, ClassLoader)], but meant for probes that are expected to miss: the
+    /// absence is reported as an empty [Optional]. The first miss of a name goes through the
+    /// JDK's `ClassNotFoundException`, since [Class#forName(String, boolean, ClassLoader)] has no
+    /// non-throwing form, but raises nothing itself. The name is then remembered per class
+    /// loader, up to [#MAXIMUM_MISSES] names each, so repeating the miss is a hash probe that
+    /// allocates nothing. The class loader is held weakly, and its misses are forgotten when this
+    /// registry admits a class it defines, or when [#get(String, ClassLoader)] finds the name.
+    ///
+    /// @param name   the binary name, e.g. `com.example.Outer$Inner`, or a type alias; must not be `null`
+    /// @param loader the class loader; `null` for the system class loader
+    ///
+    /// @return the canonical descriptor, or an empty [Optional] if no class has this name or alias
+    /// @throws NullPointerException                                                   if the name is `null`
+    /// @throws io.github.reflect4j.api.exception.UnsupportedAliasOperationException if two types share the alias
+    public Optional<ClassDescriptor<?>> find(String name, ClassLoader loader) {
+        Objects.requireNonNull(name, "name must not be null");
+        ClassLoader classLoader = loader != null ? loader : ClassLoader.getSystemClassLoader();
+        Set<String> missing = missingNames.get(classLoader);
+        if (missing != null && missing.contains(name)) {
+            return Optional.empty();
+        }
+        Class<?> type = load(name, classLoader, false);
+        if (type != null) {
+            return Optional.of(get(type));
+        }
+        if (missing == null) {
+            missing = missingNames.computeIfAbsent(classLoader, key -> ConcurrentHashMap.newKeySet());
+        }
+        if (missing.size() < MAXIMUM_MISSES) {
+            missing.add(name);
+        }
+        return Optional.empty();
+    }
+
+    /// Loads the class with the given binary name or type alias without initializing it.
+    ///
+    /// @return the class, or `null` if it is missing and not `required`
+    /// @throws ClassNotFoundRuntimeException if the class is missing and `required`
+    private static Class<?> load(String name, ClassLoader loader, boolean required) {
+        MetadataIndex index = MetadataIndex.load(loader);
+        String resolved = AliasTable.typeName(index, name, true);
+        try {
+            return Class.forName(resolved != null ? resolved : name, false, loader);
+        } catch (ClassNotFoundException e) {
+            String secondary = resolved == null ? AliasTable.typeName(index, name, false) : null;
+            if (secondary == null) {
+                if (required) {
+                    throw new ClassNotFoundRuntimeException(name, e);
+                }
+                return null;
+            }
+            try {
+                return Class.forName(secondary, false, loader);
+            } catch (ClassNotFoundException ex) {
+                if (required) {
+                    throw new ClassNotFoundRuntimeException(secondary, ex);
+                }
+                return null;
+            }
+        }
+    }
+
+    /// Returns the policy this registry was created with.
+    ///
+    /// @return the policy; never `null`
+    public Policy policy() {
+        return policy;
+    }
+
+    /// Returns a snapshot of this registry's statistics.
+    ///
+    /// Hits and misses are only counted if the policy records statistics; evictions and the
+    /// current weight are always tracked for bounded registries. A miss is a lookup that created
+    /// a descriptor, so every admission counts exactly one; lookups that waited for a concurrent
+    /// admission count as hits.
+    ///
+    /// @return the current statistics; never `null`
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), weight.get());
+    }
+
+    /// Creates the descriptor of an entry and links its clock node, once per entry.
+    private ClassDescriptor<?> admit(Class<?> type, Entry entry) {
+        ClassDescriptor<?> descriptor;
+        Node node;
+        synchronized (entry) {
+            descriptor = entry.descriptor;
+            if (descriptor != null) {
+                if (policy.recordStats) {
+                    hits.increment();
+                }
+                return descriptor;
+            }
+            descriptor = Objects.requireNonNull(factory.apply(type), "factory returned null for " + type.getName());
+            if (policy.recordStats) {
+                misses.increment();
+            }
+            node = policy.isBounded() ? new Node(type, Math.max(0, policy.weigher.applyAsLong(descriptor))) : null;
+            entry.node = node;
+            entry.descriptor = descriptor;
+        }
+        ClassLoader loader = type.getClassLoader();
+        if (loader != null && !missingNames.isEmpty()) {
+            // the loader defined a class since its misses were recorded, which may be one of them
+            missingNames.remove(loader);
+        }
+        if (node != null) {
+            clock.add(node);
+            nodes.incrementAndGet();
+            if (weight.addAndGet(node.weight) > policy.maximumWeight) {
+                evict(node);
+            }
+        }
+        return descriptor;
+    }
+
+    /// Sweeps the clock until the registry is back within its maximum weight.
+    ///
+    /// Only one thread sweeps at a time; others admit without waiting and leave the excess
+    /// to the sweeping thread.
+    private void evict(Node admitted) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long budget = 2 * nodes.get() + 1;
+            while (weight.get() > policy.maximumWeight && budget-- > 0) {
+                Node node = clock.poll();
+                if (node == null) {
+                    break;
+                }
+                Class<?> type = node.type.get();
+                if (type != null && (node == admitted || node.referenced)) {
+                    node.referenced = false;
+                    clock.add(node);
+                    continue;
+                }
+                nodes.decrementAndGet();
+                weight.addAndGet(-node.weight);
+                // entries are only removed here, under the lock, so the check cannot go stale
+                if (type != null && entries.get(type).node == node) {
+                    entries.remove(type);
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /// Holder attached to each class; receives the descriptor and, for bounded registries, its
+    /// clock node when the class is admitted. The node is written before the descriptor, so a
+    /// reader that sees the descriptor sees the node too.
+    private static final class Entry {
+
+        Node node;
+        volatile ClassDescriptor<?> descriptor;
+    }
+
+    /// Clock bookkeeping for one admitted class. Must never reference the descriptor or hold
+    /// the class strongly, since the clock queue is itself strongly reachable.
+    private static final class Node {
+
+        final WeakReference<Class<?>> type;
+        final long weight;
+        volatile boolean referenced;
+
+        Node(Class<?> type, long weight) {
+            this.type = new WeakReference<>(type);
+            this.weight = weight;
+        }
+    }
+
+    /// Snapshot of registry statistics.
+    ///
+    /// @param hitCount      lookups served by an existing descriptor
+    /// @param missCount     lookups that created a descriptor
+    /// @param evictionCount descriptors evicted by the bounding policy
+    /// @param weight        current total weight of bounded registries; `0` if unbounded
+    public record Stats(long hitCount, long missCount, long evictionCount, long weight) {
+
+        /// Returns the ratio of hits to lookups, or `1.0` if there were no lookups.
+        ///
+        /// @return the hit rate between `0.0` and `1.0`
+        public double hitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 1.0 : (double) hitCount / total;
+        }
+    }
+
+    /// Bounding and statistics policy of a [DescriptorRegistry].
+    ///
+    /// Policies are immutable; [#recordingStats()] returns a copy.
+    public static final class Policy {
+
+        private static final Policy UNBOUNDED = new Policy(Long.MAX_VALUE, d -> 0, false);
+
+        private final long maximumWeight;
+        private final ToLongFunction<? super ClassDescriptor<?>> weigher;
+        private final boolean recordStats;
+
+        private Policy(long maximumWeight, ToLongFunction<? super ClassDescriptor<?>> weigher, boolean recordStats) {
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            this.recordStats = recordStats;
+        }
+
+        /// Returns the policy of a registry that never evicts and does not record hits and misses.
+        ///
+        /// @return the unbounded policy; never `null`
+        public static Policy unbounded() {
+            return UNBOUNDED;
+        }
+
+        /// Returns a policy that keeps at most the given number of descriptors and records statistics.
+        ///
+        /// @param maximumSize the maximum number of descriptors; must not be negative
+        ///
+        /// @return a size-bounded policy; never `null`
+        /// @throws IllegalArgumentException if `maximumSize` is negative
+        public static Policy maximumSize(long maximumSize) {
+            return maximumWeight(maximumSize, d -> 1);
+        }
+
+        /// Returns a policy that keeps descriptors up to the given total weight and records statistics.
+        ///
+        /// The weigher is called once per descriptor, when it is created; negative weights count as `0`.
+        ///
+        /// @param maximumWeight the maximum total weight; must not be negative
+        /// @param weigher       computes the weight of a descriptor; must not be `null`
+        ///
+        /// @return a weight-bounded policy; never `null`
+        /// @throws IllegalArgumentException if `maximumWeight` is negative
+        /// @throws NullPointerException     if the weigher is `null`
+        public static Policy maximumWeight(long maximumWeight, ToLongFunction<? super ClassDescriptor<?>> weigher) {
+            if (maximumWeight < 0) {
+                throw new IllegalArgumentException("maximumWeight must not be negative: " + maximumWeight);
+            }
+            return new Policy(maximumWeight, Objects.requireNonNull(weigher, "weigher must not be null"), true);
+        }
+
+        /// Returns a copy of this policy that also records hit and miss counts.
+        ///
+        /// @return a policy recording statistics; never `null`
+        public Policy recordingStats() {
+            return recordStats ? this : new Policy(maximumWeight, weigher, true);
+        }
+
+        /// Returns whether this policy evicts descriptors.
+        ///
+        /// @return `true` if bounded, `false` otherwise
+        public boolean isBounded() {
+            return maximumWeight != Long.MAX_VALUE;
+        }
+    }
+}
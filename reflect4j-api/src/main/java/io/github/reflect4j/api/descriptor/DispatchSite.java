@@ -0,0 +1,268 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.api.descriptor.Overloads.Dispatch;
+import io.github.reflect4j.api.exception.AmbiguousMethodException;
+import io.github.reflect4j.api.exception.MethodNotFoundException;
+import io.github.reflect4j.api.invoke.MethodInvocationResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// # DispatchSite
+///
+/// Call site that picks the overload of a method from the runtime arguments of each call, for
+/// callers such as scripting bridges that hold argument values but not their parameter types.
+///
+/// The overload is chosen like the compiler would if each argument were statically typed by its
+/// class: strict applicability first, then unboxing with widening, then variable arity, and the
+/// most specific applicable overload wins (JLS §15.12.2). Overloads are looked up by name, with
+/// `@R4jAlias` aliases taking the same precedence as in [ClassDescriptor#getMethod(String)].
+///
+/// Resolutions are cached by the classes of the arguments, their *shape*, in a polymorphic
+/// inline cache: the first [#getDepth()] shapes seen are kept in a small array that is scanned
+/// with identity comparisons, so a call whose shape was seen before skips resolution and does not
+/// allocate. Shapes beyond that depth go to a hash table instead, which costs a key per call.
+/// A site is meant to be created once per call site and kept, like an `invokedynamic` call site;
+/// sites are safe to share between threads.
+///
+/// **Example:**
+/// ```java
+/// DispatchSite format = descriptor.newDispatchSite("format");
+/// MethodInvocationResult<String> result = format.invoke(formatter, 42, "px");
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class DispatchSite {
+
+    /// The inline cache depth of sites created without an explicit one.
+    public static final int DEFAULT_DEPTH = 4;
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private final ClassDescriptor<?> type;
+    private final String name;
+    private final int depth;
+    private final List<MethodDescriptor> candidates;
+    private volatile Entry[] inline = EMPTY;
+    private volatile Map<Shape, Dispatch> megamorphic;
+
+    private DispatchSite(ClassDescriptor<?> type, String name, int depth) {
+        this.type = type;
+        this.name = name;
+        this.depth = depth;
+        this.candidates = candidates(type, name);
+    }
+
+    /// Creates a site for the methods with the given name, with the default inline cache depth.
+    ///
+    /// @param type the class declaring the methods; must not be `null`
+    /// @param name the method name or alias; must not be `null`
+    ///
+    /// @return a new site; never `null`
+    /// @throws NullPointerException if the type or the name is `null`
+    public static DispatchSite of(ClassDescriptor<?> type, String name) {
+        return of(type, name, DEFAULT_DEPTH);
+    }
+
+    /// Creates a site for the methods with the given name.
+    ///
+    /// @param type  the class declaring the methods; must not be `null`
+    /// @param name  the method name or alias; must not be `null`
+    /// @param depth the number of argument shapes kept in the inline cache; `0` to go straight to the hash table
+    ///
+    /// @return a new site; never `null`
+    /// @throws NullPointerException     if the type or the name is `null`
+    /// @throws IllegalArgumentException if the depth is negative
+    public static DispatchSite of(ClassDescriptor<?> type, String name, int depth) {
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(name, "name must not be null");
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth must not be negative: " + depth);
+        }
+        return new DispatchSite(type, name, depth);
+    }
+
+    /// Returns the method name or alias this site dispatches on.
+    ///
+    /// @return the name; never `null`
+    public String getName() {
+        return name;
+    }
+
+    /// Returns the number of argument shapes kept in the inline cache.
+    ///
+    /// @return the inline cache depth; never negative
+    public int getDepth() {
+        return depth;
+    }
+
+    /// Returns the overloads this site chooses from, in declaration order.
+    ///
+    /// @return an immutable, possibly empty list of methods; never `null`
+    public List<MethodDescriptor> getCandidates() {
+        return candidates;
+    }
+
+    /// Returns the overload that a call with the given arguments dispatches to.
+    ///
+    /// @param arguments the arguments; must not be `null`, elements may be `null`
+    ///
+    /// @return the most specific applicable overload; never `null`
+    /// @throws NullPointerException     if the arguments array is `null`
+    /// @throws MethodNotFoundException  if no overload is applicable to the arguments
+    /// @throws AmbiguousMethodException if several overloads are applicable and none is most specific
+    public MethodDescriptor resolve(Object... arguments) {
+        return dispatch(Objects.requireNonNull(arguments, "arguments must not be null")).method;
+    }
+
+    /// Invokes the overload that the given arguments dispatch to.
+    ///
+    /// Boxed arguments are widened to primitive parameter types as needed, and in a variable arity
+    /// call the trailing arguments are collected into the varargs array.
+    ///
+    /// @param <R>       the expected return type
+    /// @param target    the target object; `null` if the overload is static
+    /// @param arguments the arguments; must not be `null`, elements may be `null`
+    ///
+    /// @return a [MethodInvocationResult] with the returned value, or with the exception thrown by
+    ///         the method or raised while resolving the overload; never `null`
+    /// @throws NullPointerException if the arguments array is `null`
+    public <R> MethodInvocationResult<R> invoke(Object target, Object... arguments) {
+        Objects.requireNonNull(arguments, "arguments must not be null");
+        Dispatch dispatch;
+        try {
+            dispatch = dispatch(arguments);
+        } catch (RuntimeException e) {
+            return MethodInvocationResult.failure(e);
+        }
+        return dispatch.method.invoke(target, dispatch.arguments(arguments));
+    }
+
+    private Dispatch dispatch(Object[] arguments) {
+        for (Entry entry : inline) {
+            if (entry.matches(arguments)) {
+                return entry.dispatch;
+            }
+        }
+        Map<Shape, Dispatch> table = megamorphic;
+        if (table != null) {
+            Dispatch dispatch = table.get(new Shape(classes(arguments)));
+            if (dispatch != null) {
+                return dispatch;
+            }
+        }
+        return miss(arguments);
+    }
+
+    private Dispatch miss(Object[] arguments) {
+        Class<?>[] classes = classes(arguments);
+        Dispatch dispatch = Overloads.resolve(candidates, classes);
+        if (dispatch == null) {
+            throw new MethodNotFoundException("No method '" + name + "' in class " + type.getName()
+                    + " is applicable to arguments " + Arrays.toString(classes));
+        }
+        synchronized (this) {
+            Entry[] entries = inline;
+            for (Entry entry : entries) {
+                if (Arrays.equals(entry.classes, classes)) {
+                    return entry.dispatch;
+                }
+            }
+            if (entries.length < depth) {
+                Entry[] grown = Arrays.copyOf(entries, entries.length + 1);
+                grown[entries.length] = new Entry(classes, dispatch);
+                inline = grown;
+            } else {
+                if (megamorphic == null) {
+                    megamorphic = new ConcurrentHashMap<>();
+                }
+                Dispatch existing = megamorphic.putIfAbsent(new Shape(classes), dispatch);
+                if (existing != null) {
+                    dispatch = existing;
+                }
+            }
+        }
+        return dispatch;
+    }
+
+    /// Returns the overloads a name resolves to: those with a primary alias of that name, else
+    /// those with that name, else those with a secondary alias of that name, leaving out the
+    /// methods excluded by `@R4jIgnore`.
+    private static List<MethodDescriptor> candidates(ClassDescriptor<?> type, String name) {
+        IgnoreMask mask = type.unwrap() == null ? null : IgnoreMask.of(type.unwrap());
+        AliasTable aliases = type.getAliasTable();
+        List<MethodDescriptor> candidates = aliases.isEmpty() ? List.of() : included(aliases.methods(name, true), mask);
+        if (candidates.isEmpty()) {
+            candidates = included(type.getSignatureIndex().overloads(name), mask);
+        }
+        if (candidates.isEmpty() && !aliases.isEmpty()) {
+            candidates = included(aliases.methods(name, false), mask);
+        }
+        return candidates;
+    }
+
+    private static List<MethodDescriptor> included(List<MethodDescriptor> methods, IgnoreMask mask) {
+        if (mask == null || mask.isEmpty()) {
+            return methods;
+        }
+        List<MethodDescriptor> included = new ArrayList<>(methods.size());
+        for (MethodDescriptor method : methods) {
+            if (!mask.isIgnored(method.unwrap())) {
+                included.add(method);
+            }
+        }
+        return List.copyOf(included);
+    }
+
+    private static Class<?>[] classes(Object[] arguments) {
+        Class<?>[] classes = new Class<?>[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            classes[i] = arguments[i] == null ? null : arguments[i].getClass();
+        }
+        return classes;
+    }
+
+    /// Inline cache entry: one argument shape and its resolved dispatch.
+    private record Entry(Class<?>[] classes, Dispatch dispatch) {
+
+        boolean matches(Object[] arguments) {
+            if (arguments.length != classes.length) {
+                return false;
+            }
+            for (int i = 0; i < arguments.length; i++) {
+                Object argument = arguments[i];
+                if ((argument == null ? null : argument.getClass()) != classes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /// Hash table key of an argument shape, with its hash computed once.
+    private static final class Shape {
+
+        private final Class<?>[] classes;
+        private final int hash;
+
+        Shape(Class<?>[] classes) {
+            this.classes = classes;
+            this.hash = Arrays.hashCode(classes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Shape other && hash == other.hash && Arrays.equals(classes, other.classes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package io.github.reflect4j.api.descriptor;
 
+import io.github.reflect4j.api.invoke.BatchFailures;
+import io.github.reflect4j.api.invoke.BatchMode;
+import io.github.reflect4j.api.invoke.Batches;
 import io.github.reflect4j.api.invoke.FieldAccessResult;
+import io.github.reflect4j.api.invoke.FieldAccessor;
+import io.github.reflect4j.api.invoke.InvocationEngine;
 
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Field;
 
 /// # FieldDescriptor
@@ -18,6 +25,24 @@ import java.lang.reflect.Field;
 /// [FieldAccessResult] objects, which encapsulate both the value and any
 /// exception thrown during access, enabling safe and functional-style handling.
 ///
+/// Hot paths can bypass both boxing and result objects through the primitive accessors
+/// (`getInt`, `setLong`, `getDouble`, ...) and the access-mode operations (`getVolatile`,
+/// `setRelease`, `compareAndSet`, `getAndAddInt`, ...), all backed by the cached
+/// [#getVarHandle()]. Plain accessors use volatile semantics for fields declared
+/// `volatile`; `final` fields are read-only.
+///
+/// Because these accessors take the owning instance as `Object`, they invoke the handle with
+/// a call-site type that differs from its exact coordinate type, so the JVM adapts the handle
+/// (as by [java.lang.invoke.MethodHandle#asType]) and caches the adaptation for the call site.
+/// The adaptation casts `obj` to the declaring class and applies primitive widening, so
+/// `getLong` also reads an `int` field, while narrowing or unrelated types fail with
+/// [WrongMethodTypeException]. Callers that know the declaring class statically and want no
+/// adaptation at all should invoke [#getVarHandle()] directly with exact types, optionally on
+/// [VarHandle#withInvokeExactBehavior()].
+///
+/// Reading the field from many objects at once is best done with [#getAll(Object[], Object[])],
+/// which binds once and reports failures in a single [BatchFailures].
+///
 /// @author Aliabbos Ashurov
 /// @since 1.0.0
 public interface FieldDescriptor extends MemberDescriptor<Field> {
@@ -31,6 +56,8 @@ public interface FieldDescriptor extends MemberDescriptor<Field> {
     ///
     /// The operation returns a [FieldAccessResult] that encapsulates
     /// the result of the set operation and any exception thrown during execution.
+    /// A successful write returns the shared [FieldAccessResult#empty()] and allocates no result.
+    /// Errors such as [OutOfMemoryError] are not wrapped: they propagate unchanged.
     ///
     /// @param <T>   the type of the value to set
     /// @param obj   the target object on which to set the field; `null` if static
@@ -38,7 +65,20 @@ public interface FieldDescriptor extends MemberDescriptor<Field> {
     ///
     /// @return a [FieldAccessResult] representing the outcome; never `null`
     /// @throws NullPointerException if value is `null` for a non-nullable field type
-    <T> FieldAccessResult<T> set(Object obj, T value);
+    /// @throws Error                if the write throws one
+    default <T> FieldAccessResult<T> set(Object obj, T value) {
+        if (value == null && getType().isPrimitive()) {
+            throw new NullPointerException("cannot set primitive field " + getName() + " to null");
+        }
+        try {
+            getAccessor().set(obj, value);
+            return FieldAccessResult.empty();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            return FieldAccessResult.failure(e);
+        }
+    }
 
     /// Retrieves the value of this field from the specified object instance.
     ///
@@ -47,6 +87,462 @@ public interface FieldDescriptor extends MemberDescriptor<Field> {
     /// @return the field value
     Object get(Object obj);
 
+    /// Returns the [VarHandle] backing the primitive and access-mode operations of this descriptor.
+    ///
+    /// The handle is resolved once, on first use, and cached. Its coordinates are
+    /// `(declaringClass)` for instance fields and empty for static fields. For `final` fields
+    /// the handle is read-only: write and atomic update modes throw
+    /// [UnsupportedOperationException]. The handle has invoke behavior, so call sites whose
+    /// types differ from the exact coordinate and value types are adapted; use
+    /// [VarHandle#withInvokeExactBehavior()] to reject such calls instead.
+    ///
+    /// @return the cached variable handle; never `null`
+    /// @throws io.github.reflect4j.api.exception.ReflectionException if the field cannot be made accessible
+    VarHandle getVarHandle();
+
+    /// Reads this `boolean` field without boxing.
+    ///
+    /// @param obj the owning instance; ignored if static
+    ///
+    /// @return the field value
+    /// @throws WrongMethodTypeException if the field's type cannot be widened to `boolean`
+    /// @throws ClassCastException       if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException     if `obj` is `null` for an instance field
+    default boolean getBoolean(Object obj) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            return isVolatile() ? (boolean) handle.getVolatile() : (boolean) handle.get();
+        }
+        return isVolatile() ? (boolean) handle.getVolatile(obj) : (boolean) handle.get(obj);
+    }
+
+    /// Writes this `boolean` field without boxing.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param value the new value
+    ///
+    /// @throws UnsupportedOperationException if the field is `final`
+    /// @throws WrongMethodTypeException      if `boolean` cannot be widened to the field's type
+    /// @throws ClassCastException            if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException          if `obj` is `null` for an instance field
+    default void setBoolean(Object obj, boolean value) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            if (isVolatile()) {
+                handle.setVolatile(value);
+            } else {
+                handle.set(value);
+            }
+        } else if (isVolatile()) {
+            handle.setVolatile(obj, value);
+        } else {
+            handle.set(obj, value);
+        }
+    }
+
+    /// Reads this `byte` field without boxing.
+    ///
+    /// @param obj the owning instance; ignored if static
+    ///
+    /// @return the field value
+    /// @throws WrongMethodTypeException if the field's type cannot be widened to `byte`
+    /// @throws ClassCastException       if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException     if `obj` is `null` for an instance field
+    default byte getByte(Object obj) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            return isVolatile() ? (byte) handle.getVolatile() : (byte) handle.get();
+        }
+        return isVolatile() ? (byte) handle.getVolatile(obj) : (byte) handle.get(obj);
+    }
+
+    /// Writes this `byte` field without boxing.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param value the new value
+    ///
+    /// @throws UnsupportedOperationException if the field is `final`
+    /// @throws WrongMethodTypeException      if `byte` cannot be widened to the field's type
+    /// @throws ClassCastException            if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException          if `obj` is `null` for an instance field
+    default void setByte(Object obj, byte value) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            if (isVolatile()) {
+                handle.setVolatile(value);
+            } else {
+                handle.set(value);
+            }
+        } else if (isVolatile()) {
+            handle.setVolatile(obj, value);
+        } else {
+            handle.set(obj, value);
+        }
+    }
+
+    /// Reads this `char` field without boxing.
+    ///
+    /// @param obj the owning instance; ignored if static
+    ///
+    /// @return the field value
+    /// @throws WrongMethodTypeException if the field's type cannot be widened to `char`
+    /// @throws ClassCastException       if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException     if `obj` is `null` for an instance field
+    default char getChar(Object obj) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            return isVolatile() ? (char) handle.getVolatile() : (char) handle.get();
+        }
+        return isVolatile() ? (char) handle.getVolatile(obj) : (char) handle.get(obj);
+    }
+
+    /// Writes this `char` field without boxing.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param value the new value
+    ///
+    /// @throws UnsupportedOperationException if the field is `final`
+    /// @throws WrongMethodTypeException      if `char` cannot be widened to the field's type
+    /// @throws ClassCastException            if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException          if `obj` is `null` for an instance field
+    default void setChar(Object obj, char value) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            if (isVolatile()) {
+                handle.setVolatile(value);
+            } else {
+                handle.set(value);
+            }
+        } else if (isVolatile()) {
+            handle.setVolatile(obj, value);
+        } else {
+            handle.set(obj, value);
+        }
+    }
+
+    /// Reads this `short` field without boxing.
+    ///
+    /// @param obj the owning instance; ignored if static
+    ///
+    /// @return the field value
+    /// @throws WrongMethodTypeException if the field's type cannot be widened to `short`
+    /// @throws ClassCastException       if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException     if `obj` is `null` for an instance field
+    default short getShort(Object obj) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            return isVolatile() ? (short) handle.getVolatile() : (short) handle.get();
+        }
+        return isVolatile() ? (short) handle.getVolatile(obj) : (short) handle.get(obj);
+    }
+
+    /// Writes this `short` field without boxing.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param value the new value
+    ///
+    /// @throws UnsupportedOperationException if the field is `final`
+    /// @throws WrongMethodTypeException      if `short` cannot be widened to the field's type
+    /// @throws ClassCastException            if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException          if `obj` is `null` for an instance field
+    default void setShort(Object obj, short value) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            if (isVolatile()) {
+                handle.setVolatile(value);
+            } else {
+                handle.set(value);
+            }
+        } else if (isVolatile()) {
+            handle.setVolatile(obj, value);
+        } else {
+            handle.set(obj, value);
+        }
+    }
+
+    /// Reads this `int` field without boxing.
+    ///
+    /// @param obj the owning instance; ignored if static
+    ///
+    /// @return the field value
+    /// @throws WrongMethodTypeException if the field's type cannot be widened to `int`
+    /// @throws ClassCastException       if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException     if `obj` is `null` for an instance field
+    default int getInt(Object obj) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            return isVolatile() ? (int) handle.getVolatile() : (int) handle.get();
+        }
+        return isVolatile() ? (int) handle.getVolatile(obj) : (int) handle.get(obj);
+    }
+
+    /// Writes this `int` field without boxing.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param value the new value
+    ///
+    /// @throws UnsupportedOperationException if the field is `final`
+    /// @throws WrongMethodTypeException      if `int` cannot be widened to the field's type
+    /// @throws ClassCastException            if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException          if `obj` is `null` for an instance field
+    default void setInt(Object obj, int value) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            if (isVolatile()) {
+                handle.setVolatile(value);
+            } else {
+                handle.set(value);
+            }
+        } else if (isVolatile()) {
+            handle.setVolatile(obj, value);
+        } else {
+            handle.set(obj, value);
+        }
+    }
+
+    /// Reads this `long` field without boxing.
+    ///
+    /// @param obj the owning instance; ignored if static
+    ///
+    /// @return the field value
+    /// @throws WrongMethodTypeException if the field's type cannot be widened to `long`
+    /// @throws ClassCastException       if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException     if `obj` is `null` for an instance field
+    default long getLong(Object obj) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            return isVolatile() ? (long) handle.getVolatile() : (long) handle.get();
+        }
+        return isVolatile() ? (long) handle.getVolatile(obj) : (long) handle.get(obj);
+    }
+
+    /// Writes this `long` field without boxing.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param value the new value
+    ///
+    /// @throws UnsupportedOperationException if the field is `final`
+    /// @throws WrongMethodTypeException      if `long` cannot be widened to the field's type
+    /// @throws ClassCastException            if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException          if `obj` is `null` for an instance field
+    default void setLong(Object obj, long value) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            if (isVolatile()) {
+                handle.setVolatile(value);
+            } else {
+                handle.set(value);
+            }
+        } else if (isVolatile()) {
+            handle.setVolatile(obj, value);
+        } else {
+            handle.set(obj, value);
+        }
+    }
+
+    /// Reads this `float` field without boxing.
+    ///
+    /// @param obj the owning instance; ignored if static
+    ///
+    /// @return the field value
+    /// @throws WrongMethodTypeException if the field's type cannot be widened to `float`
+    /// @throws ClassCastException       if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException     if `obj` is `null` for an instance field
+    default float getFloat(Object obj) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            return isVolatile() ? (float) handle.getVolatile() : (float) handle.get();
+        }
+        return isVolatile() ? (float) handle.getVolatile(obj) : (float) handle.get(obj);
+    }
+
+    /// Writes this `float` field without boxing.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param value the new value
+    ///
+    /// @throws UnsupportedOperationException if the field is `final`
+    /// @throws WrongMethodTypeException      if `float` cannot be widened to the field's type
+    /// @throws ClassCastException            if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException          if `obj` is `null` for an instance field
+    default void setFloat(Object obj, float value) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            if (isVolatile()) {
+                handle.setVolatile(value);
+            } else {
+                handle.set(value);
+            }
+        } else if (isVolatile()) {
+            handle.setVolatile(obj, value);
+        } else {
+            handle.set(obj, value);
+        }
+    }
+
+    /// Reads this `double` field without boxing.
+    ///
+    /// @param obj the owning instance; ignored if static
+    ///
+    /// @return the field value
+    /// @throws WrongMethodTypeException if the field's type cannot be widened to `double`
+    /// @throws ClassCastException       if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException     if `obj` is `null` for an instance field
+    default double getDouble(Object obj) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            return isVolatile() ? (double) handle.getVolatile() : (double) handle.get();
+        }
+        return isVolatile() ? (double) handle.getVolatile(obj) : (double) handle.get(obj);
+    }
+
+    /// Writes this `double` field without boxing.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param value the new value
+    ///
+    /// @throws UnsupportedOperationException if the field is `final`
+    /// @throws WrongMethodTypeException      if `double` cannot be widened to the field's type
+    /// @throws ClassCastException            if `obj` is not an instance of the declaring class
+    /// @throws NullPointerException          if `obj` is `null` for an instance field
+    default void setDouble(Object obj, double value) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            if (isVolatile()) {
+                handle.setVolatile(value);
+            } else {
+                handle.set(value);
+            }
+        } else if (isVolatile()) {
+            handle.setVolatile(obj, value);
+        } else {
+            handle.set(obj, value);
+        }
+    }
+
+    /// Reads this field with volatile semantics, regardless of whether it is declared `volatile`.
+    ///
+    /// @param obj the owning instance; ignored if static
+    ///
+    /// @return the field value, boxed if primitive
+    default Object getVolatile(Object obj) {
+        VarHandle handle = getVarHandle();
+        return isStatic() ? handle.getVolatile() : handle.getVolatile(obj);
+    }
+
+    /// Writes this field with volatile semantics, regardless of whether it is declared `volatile`.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param value the new value, boxed if the field is primitive
+    ///
+    /// @throws UnsupportedOperationException if the field is `final`
+    default void setVolatile(Object obj, Object value) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            handle.setVolatile(value);
+        } else {
+            handle.setVolatile(obj, value);
+        }
+    }
+
+    /// Reads this field with acquire semantics.
+    ///
+    /// @param obj the owning instance; ignored if static
+    ///
+    /// @return the field value, boxed if primitive
+    default Object getAcquire(Object obj) {
+        VarHandle handle = getVarHandle();
+        return isStatic() ? handle.getAcquire() : handle.getAcquire(obj);
+    }
+
+    /// Writes this field with release semantics.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param value the new value, boxed if the field is primitive
+    ///
+    /// @throws UnsupportedOperationException if the field is `final`
+    default void setRelease(Object obj, Object value) {
+        VarHandle handle = getVarHandle();
+        if (isStatic()) {
+            handle.setRelease(value);
+        } else {
+            handle.setRelease(obj, value);
+        }
+    }
+
+    /// Atomically sets this field to `newValue` if its current value equals `expected`,
+    /// with volatile semantics.
+    ///
+    /// Reference fields are compared by identity; primitive fields by value, as with
+    /// [VarHandle#compareAndSet(Object...)].
+    ///
+    /// @param obj      the owning instance; ignored if static
+    /// @param expected the expected current value
+    /// @param newValue the new value
+    ///
+    /// @return `true` if the field was updated
+    /// @throws UnsupportedOperationException if the field is `final`
+    default boolean compareAndSet(Object obj, Object expected, Object newValue) {
+        VarHandle handle = getVarHandle();
+        return isStatic()
+                ? handle.compareAndSet(expected, newValue)
+                : handle.compareAndSet(obj, expected, newValue);
+    }
+
+    /// Atomically sets this `int` field to `newValue` if its current value is `expected`, without boxing.
+    ///
+    /// @param obj      the owning instance; ignored if static
+    /// @param expected the expected current value
+    /// @param newValue the new value
+    ///
+    /// @return `true` if the field was updated
+    /// @throws UnsupportedOperationException if the field is `final`
+    default boolean compareAndSetInt(Object obj, int expected, int newValue) {
+        VarHandle handle = getVarHandle();
+        return isStatic()
+                ? handle.compareAndSet(expected, newValue)
+                : handle.compareAndSet(obj, expected, newValue);
+    }
+
+    /// Atomically sets this `long` field to `newValue` if its current value is `expected`, without boxing.
+    ///
+    /// @param obj      the owning instance; ignored if static
+    /// @param expected the expected current value
+    /// @param newValue the new value
+    ///
+    /// @return `true` if the field was updated
+    /// @throws UnsupportedOperationException if the field is `final`
+    default boolean compareAndSetLong(Object obj, long expected, long newValue) {
+        VarHandle handle = getVarHandle();
+        return isStatic()
+                ? handle.compareAndSet(expected, newValue)
+                : handle.compareAndSet(obj, expected, newValue);
+    }
+
+    /// Atomically adds `delta` to this `int` field with volatile semantics, without boxing.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param delta the value to add
+    ///
+    /// @return the previous value
+    /// @throws UnsupportedOperationException if the field is `final`
+    default int getAndAddInt(Object obj, int delta) {
+        VarHandle handle = getVarHandle();
+        return isStatic() ? (int) handle.getAndAdd(delta) : (int) handle.getAndAdd(obj, delta);
+    }
+
+    /// Atomically adds `delta` to this `long` field with volatile semantics, without boxing.
+    ///
+    /// @param obj   the owning instance; ignored if static
+    /// @param delta the value to add
+    ///
+    /// @return the previous value
+    /// @throws UnsupportedOperationException if the field is `final`
+    default long getAndAddLong(Object obj, long delta) {
+        VarHandle handle = getVarHandle();
+        return isStatic() ? (long) handle.getAndAdd(delta) : (long) handle.getAndAdd(obj, delta);
+    }
+
     /// Returns whether this field is declared `static`.
     ///
     /// @return `true` if this field is static, `false` otherwise
@@ -88,4 +584,62 @@ public interface FieldDescriptor extends MemberDescriptor<Field> {
     ///
     /// @return `true` if package-private, `false` otherwise
     boolean isPackagePrivate();
+
+    /// Returns the engine this descriptor's reads and writes are routed through.
+    ///
+    /// Unless set explicitly via [#withInvocationEngine(InvocationEngine)], this is the
+    /// [InvocationEngine#getDefault()] in effect when the descriptor bound its accessor.
+    ///
+    /// @return the invocation engine; never `null`
+    InvocationEngine getInvocationEngine();
+
+    /// Returns a descriptor for the same field that accesses it through the given engine.
+    ///
+    /// If this descriptor already uses the engine, it is returned as-is.
+    ///
+    /// @param engine the engine to use; must not be `null`
+    ///
+    /// @return a descriptor bound to the given engine; never `null`
+    /// @throws NullPointerException if the engine is `null`
+    FieldDescriptor withInvocationEngine(InvocationEngine engine);
+
+    /// Returns the accessor that [#get(Object)] and [#set(Object, Object)] are routed through.
+    ///
+    /// The accessor is bound lazily on first use by [#getInvocationEngine()] and cached for
+    /// the lifetime of this descriptor.
+    ///
+    /// @return the bound accessor; never `null`
+    /// @throws io.github.reflect4j.api.exception.ReflectionException if the field cannot be bound
+    FieldAccessor getAccessor();
+
+    /// Reads this field from every target, sequentially.
+    ///
+    /// Equivalent to `getAll(BatchMode.SEQUENTIAL, targets, out)`.
+    ///
+    /// @param targets the owning instances; ignored for static fields; must not be `null`
+    /// @param out     receives the value read from each target at the target's position; must not be `null`
+    ///
+    /// @return the failed reads; never `null`
+    /// @throws IllegalArgumentException if `out` is shorter than `targets`
+    default BatchFailures getAll(Object[] targets, Object[] out) {
+        return getAll(BatchMode.SEQUENTIAL, targets, out);
+    }
+
+    /// Reads this field from every target.
+    ///
+    /// The accessor is bound once for the whole batch. The value of `targets[i]` is stored in
+    /// `out[i]`, boxed if primitive; if the read fails, for example because the target is `null`
+    /// or of the wrong type, the exception is recorded at index `i` of the returned
+    /// [BatchFailures] and `out[i]` is left untouched. An [Error] propagates unchanged and aborts the batch.
+    ///
+    /// @param mode    how to distribute the reads; must not be `null`
+    /// @param targets the owning instances; ignored for static fields; must not be `null`
+    /// @param out     receives the value read from each target at the target's position; must not be `null`
+    ///
+    /// @return the failed reads; never `null`
+    /// @throws IllegalArgumentException if `out` is shorter than `targets`
+    /// @throws io.github.reflect4j.api.exception.ReflectionException if the field cannot be bound
+    default BatchFailures getAll(BatchMode mode, Object[] targets, Object[] out) {
+        return Batches.getAll(getAccessor(), targets, out, mode);
+    }
 }
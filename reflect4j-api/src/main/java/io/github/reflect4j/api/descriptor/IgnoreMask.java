@@ -0,0 +1,149 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.annotations.R4jIgnore;
+import io.github.reflect4j.api.index.IndexedElement;
+import io.github.reflect4j.api.index.IndexedType;
+import io.github.reflect4j.api.index.MetadataIndex;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/// # IgnoreMask
+///
+/// Precomputed [R4jIgnore] exclusions of one class: the declared fields, methods and constructors
+/// annotated with `@R4jIgnore`, or every member if the class itself is annotated.
+///
+/// The excluded members are recorded themselves rather than by position, since the order of
+/// [Class#getDeclaredFields()] and friends is unspecified and may differ between two calls. The
+/// exclusions are computed once per class and shared through [#of(Class)]. When the
+/// [MetadataIndex] has an entry for the class without any ignored element, the members are not
+/// even inspected.
+///
+/// Descriptors use the mask once to derive the filtered, immutable member lists returned by
+/// [ClassDescriptor#getFields()] and friends, so bulk queries neither test annotations nor
+/// allocate, and test single members found by name with [#isIgnored(AnnotatedElement)]. Classes
+/// without exclusions share one empty mask, for which [#filter(List)] returns the unfiltered list
+/// itself.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class IgnoreMask {
+
+    private static final IgnoreMask EMPTY = new IgnoreMask(false, Set.of());
+
+    private static final ClassValue<IgnoreMask> MASKS = new ClassValue<>() {
+        @Override
+        protected IgnoreMask computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    private final boolean typeIgnored;
+    private final Set<AnnotatedElement> ignored;
+
+    private IgnoreMask(boolean typeIgnored, Set<AnnotatedElement> ignored) {
+        this.typeIgnored = typeIgnored;
+        this.ignored = ignored;
+    }
+
+    /// Returns the ignore mask of the given class, computing it on first use.
+    ///
+    /// @param type the class; must not be `null`
+    ///
+    /// @return the shared mask; never `null`
+    /// @throws NullPointerException if the type is `null`
+    public static IgnoreMask of(Class<?> type) {
+        return MASKS.get(Objects.requireNonNull(type, "type must not be null"));
+    }
+
+    /// Returns whether nothing in the class is ignored.
+    ///
+    /// @return `true` if the class and all of its members are included
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /// Returns whether the class itself is annotated with `@R4jIgnore`, which excludes all of its members.
+    ///
+    /// @return `true` if the whole class is ignored
+    public boolean isTypeIgnored() {
+        return typeIgnored;
+    }
+
+    /// Returns whether the given member of the class is ignored.
+    ///
+    /// Members are compared by equality, so any copy of a declared member answers the same. The
+    /// empty mask answers without inspecting the member.
+    ///
+    /// @param member a field, method or constructor declared by the class; must not be `null`
+    ///
+    /// @return `true` if the member or its class is annotated with `@R4jIgnore`
+    public boolean isIgnored(AnnotatedElement member) {
+        return this != EMPTY && (typeIgnored || ignored.contains(member));
+    }
+
+    /// Returns the given member descriptors without the ignored ones.
+    ///
+    /// @param <D>      the descriptor type
+    /// @param declared descriptors of fields, methods or constructors declared by the class, in any
+    ///                 order; must not be `null`
+    ///
+    /// @return an immutable list; `declared` itself if nothing is ignored
+    public <D extends MemberDescriptor<?>> List<D> filter(List<D> declared) {
+        if (typeIgnored) {
+            return List.of();
+        }
+        if (ignored.isEmpty()) {
+            return declared;
+        }
+        List<D> result = new ArrayList<>(declared.size());
+        for (D member : declared) {
+            if (!ignored.contains(member.unwrap())) {
+                result.add(member);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    private static IgnoreMask build(Class<?> type) {
+        if (type.isPrimitive() || type.isArray()) {
+            return EMPTY;
+        }
+        IndexedType indexed = MetadataIndex.of(type).type(type.getName());
+        if (indexed != null && !hasIgnored(indexed)) {
+            return EMPTY;
+        }
+        if (type.isAnnotationPresent(R4jIgnore.class)) {
+            return new IgnoreMask(true, Set.of());
+        }
+        List<AnnotatedElement> ignored = new ArrayList<>();
+        collect(type.getDeclaredFields(), ignored);
+        collect(type.getDeclaredMethods(), ignored);
+        collect(type.getDeclaredConstructors(), ignored);
+        return ignored.isEmpty() ? EMPTY : new IgnoreMask(false, Set.copyOf(ignored));
+    }
+
+    private static boolean hasIgnored(IndexedType type) {
+        if (type.element().isIgnored()) {
+            return true;
+        }
+        for (IndexedElement member : type.members()) {
+            if (member.isIgnored()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void collect(AccessibleObject[] members, List<AnnotatedElement> ignored) {
+        for (AccessibleObject member : members) {
+            if (member.isAnnotationPresent(R4jIgnore.class)) {
+                ignored.add(member);
+            }
+        }
+    }
+}
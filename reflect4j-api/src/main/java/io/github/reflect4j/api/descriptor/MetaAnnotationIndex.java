@@ -0,0 +1,97 @@
+package io.github.reflect4j.api.descriptor;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/// # MetaAnnotationIndex
+///
+/// Transitive meta-annotation closure of every annotation type, computed once per type.
+///
+/// The closure of an annotation type holds every annotation type reachable through its
+/// meta-annotations at any depth, so composed annotations such as `@Endpoint`, which is
+/// annotated with `@Component`, which in turn is annotated with `@Indexed`, need no manual graph
+/// walk. Cycles, such as `@Documented` and `@Retention` annotating each other, are cut during the
+/// traversal; an annotation type that is reachable from itself is part of its own closure.
+///
+/// Closures are stored as bitsets over [TypeIds], so [#isMetaAnnotated(Class, Class)] is a bit
+/// test. Only meta-annotations visible at runtime take part.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class MetaAnnotationIndex {
+
+    private static final ClassValue<Closure> CLOSURES = new ClassValue<>() {
+        @Override
+        protected Closure computeValue(Class<?> type) {
+            return closure(type);
+        }
+    };
+
+    private MetaAnnotationIndex() {
+    }
+
+    /// Returns whether the given annotation type is meta-annotated with another type at any depth.
+    ///
+    /// @param annotationType the annotation type to inspect; must not be `null`
+    /// @param metaAnnotation the meta-annotation type to look for; must not be `null`
+    ///
+    /// @return `true` if the meta-annotation is reachable from the annotation type
+    /// @throws NullPointerException if either type is `null`
+    public static boolean isMetaAnnotated(Class<? extends Annotation> annotationType,
+                                          Class<? extends Annotation> metaAnnotation) {
+        Objects.requireNonNull(annotationType, "annotationType must not be null");
+        return TypeIds.contains(CLOSURES.get(annotationType).words,
+                Objects.requireNonNull(metaAnnotation, "metaAnnotation must not be null"));
+    }
+
+    /// Returns whether the given annotation type is the other type or meta-annotated with it at any depth.
+    ///
+    /// @param annotationType the annotation type to inspect; must not be `null`
+    /// @param target         the annotation type to look for; must not be `null`
+    ///
+    /// @return `true` if the types are equal or the target is reachable as a meta-annotation
+    /// @throws NullPointerException if either type is `null`
+    public static boolean isOrMetaAnnotated(Class<? extends Annotation> annotationType,
+                                            Class<? extends Annotation> target) {
+        return annotationType == target || isMetaAnnotated(annotationType, target);
+    }
+
+    /// Returns every annotation type in the closure of the given type, in breadth-first order.
+    ///
+    /// @param annotationType the annotation type; must not be `null`
+    ///
+    /// @return an immutable list of meta-annotation types; never `null`
+    /// @throws NullPointerException if the annotation type is `null`
+    public static List<Class<? extends Annotation>> metaAnnotationTypes(Class<? extends Annotation> annotationType) {
+        return CLOSURES.get(Objects.requireNonNull(annotationType, "annotationType must not be null")).types;
+    }
+
+    private static Closure closure(Class<?> root) {
+        List<Class<? extends Annotation>> types = new ArrayList<>();
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        long[] words = new long[0];
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            for (Annotation meta : pending.poll().getDeclaredAnnotations()) {
+                Class<? extends Annotation> type = meta.annotationType();
+                if (visited.add(type)) {
+                    types.add(type);
+                    words = TypeIds.add(words, type);
+                    pending.add(type);
+                }
+            }
+        }
+        return new Closure(List.copyOf(types), words);
+    }
+
+    /// Closure of one annotation type, as a list and as a bitset over [TypeIds].
+    private record Closure(List<Class<? extends Annotation>> types, long[] words) {
+    }
+}
@@ -1,9 +1,19 @@
 package io.github.reflect4j.api.descriptor;
 
+import io.github.reflect4j.api.invoke.AsyncInvocations;
+import io.github.reflect4j.api.invoke.BatchFailures;
+import io.github.reflect4j.api.invoke.BatchMode;
+import io.github.reflect4j.api.invoke.Batches;
+import io.github.reflect4j.api.invoke.InvocationEngine;
+import io.github.reflect4j.api.invoke.Invocations;
 import io.github.reflect4j.api.invoke.MethodInvocationResult;
+import io.github.reflect4j.api.invoke.MethodInvoker;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /// # MethodDescriptor
 ///
@@ -20,6 +30,19 @@ import java.util.List;
 /// and any exception thrown during execution, enabling safe and functional-style
 /// handling.
 ///
+/// Hot paths that cannot afford the argument array, the boxing and the result object can use
+/// the fixed-arity (`invoke0` ... `invoke4`) and primitive-return (`invokeInt`, `invokeLong`,
+/// `invokeBoolean`, `invokeVoid`) variants instead, which throw rather than wrap failures.
+///
+/// Calling the same method over many targets is best done with the batch variants
+/// ([#invokeAll(List, Object[], Object...)], [#invokeEach(Object[], Object[][], Object[])]), which
+/// check and dispatch once per batch, write the results into a caller-supplied array and report
+/// failures in a single [BatchFailures].
+///
+/// Blocking targets can be called off the caller's thread with [#invokeAsync(Object, Object...)]
+/// and fanned out over many targets with [#invokeAllAsync(List, int, Object...)]; both run on
+/// virtual threads unless given an executor, see [AsyncInvocations].
+///
 /// @author Aliabbos Ashurov
 /// @since 1.0.0
 public interface MethodDescriptor extends MemberDescriptor<Method> {
@@ -115,10 +138,43 @@ public interface MethodDescriptor extends MemberDescriptor<Method> {
     /// @return `true` if this method is package-private, `false` otherwise
     boolean isPackagePrivate();
 
+    /// Returns the engine this descriptor's invocations are routed through.
+    ///
+    /// Unless set explicitly via [#withInvocationEngine(InvocationEngine)], this is the
+    /// [InvocationEngine#getDefault()] in effect when the descriptor bound its invoker.
+    ///
+    /// @return the invocation engine; never `null`
+    InvocationEngine getInvocationEngine();
+
+    /// Returns a descriptor for the same method that invokes through the given engine.
+    ///
+    /// If this descriptor already uses the engine, it is returned as-is.
+    ///
+    /// @param engine the engine to use; must not be `null`
+    ///
+    /// @return a descriptor bound to the given engine; never `null`
+    /// @throws NullPointerException if the engine is `null`
+    MethodDescriptor withInvocationEngine(InvocationEngine engine);
+
+    /// Returns the invoker that [#invoke(Object, Object...)] is routed through.
+    ///
+    /// The invoker is bound lazily on first use by [#getInvocationEngine()] and cached for
+    /// the lifetime of this descriptor. It can be used directly on hot paths that want the
+    /// raw return value and the target's own exceptions instead of a [MethodInvocationResult].
+    ///
+    /// @return the bound invoker; never `null`
+    /// @throws io.github.reflect4j.api.exception.MethodInvocationException if the method cannot be bound
+    MethodInvoker getInvoker();
+
     /// Invokes this method on the specified target object with the given arguments.
     ///
     /// The operation returns a [MethodInvocationResult] that encapsulates
     /// both the result of the invocation and any exception thrown during execution.
+    /// The call itself is performed by [#getInvoker()]. A successful call of a `void` method
+    /// returns the shared [MethodInvocationResult#empty()] and allocates no result. A call
+    /// without arguments goes through [MethodInvoker#invoke0(Object)], so the empty array the
+    /// caller passes does not escape and can be eliminated once the call is inlined. Errors such
+    /// as [OutOfMemoryError] are not wrapped: they propagate unchanged.
     ///
     /// @param <R>    the expected return type
     /// @param target the target object on which to invoke the method; `null` if static
@@ -126,5 +182,490 @@ public interface MethodDescriptor extends MemberDescriptor<Method> {
     ///
     /// @return a [MethodInvocationResult] representing the outcome; never `null`
     /// @throws NullPointerException if args is `null`
-    <R> MethodInvocationResult<R> invoke(Object target, Object... args);
+    /// @throws Error                if the call throws one
+    @SuppressWarnings("unchecked")
+    default <R> MethodInvocationResult<R> invoke(Object target, Object... args) {
+        Objects.requireNonNull(args, "args must not be null");
+        try {
+            MethodInvoker invoker = getInvoker();
+            return MethodInvocationResult.success((R) (args.length == 0
+                    ? invoker.invoke0(target) : invoker.invoke(target, args)));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            return MethodInvocationResult.failure(e);
+        }
+    }
+
+    /// Invokes this method with no arguments, without allocating an argument array
+    /// or a result object.
+    ///
+    /// Unlike [#invoke(Object, Object...)], failures are thrown rather than wrapped: unchecked
+    /// exceptions of the target propagate unchanged, checked ones are wrapped in a
+    /// [io.github.reflect4j.api.exception.MethodInvocationException].
+    ///
+    /// @param <R>    the expected return type
+    /// @param target the target object; `null` if static
+    ///
+    /// @return the value returned by the method, boxed if primitive; `null` for `void` methods
+    /// @throws IllegalArgumentException if the method does not take exactly 0 parameters
+    @SuppressWarnings("unchecked")
+    default <R> R invoke0(Object target) {
+        try {
+            return (R) getInvoker().invoke0(target);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with exactly 1 argument, without allocating an argument array
+    /// or a result object.
+    ///
+    /// Unlike [#invoke(Object, Object...)], failures are thrown rather than wrapped: unchecked
+    /// exceptions of the target propagate unchanged, checked ones are wrapped in a
+    /// [io.github.reflect4j.api.exception.MethodInvocationException].
+    ///
+    /// @param <R>    the expected return type
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    ///
+    /// @return the value returned by the method, boxed if primitive; `null` for `void` methods
+    /// @throws IllegalArgumentException if the method does not take exactly 1 parameter
+    @SuppressWarnings("unchecked")
+    default <R> R invoke1(Object target, Object arg0) {
+        try {
+            return (R) getInvoker().invoke1(target, arg0);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with exactly 2 arguments, without allocating an argument array
+    /// or a result object.
+    ///
+    /// Unlike [#invoke(Object, Object...)], failures are thrown rather than wrapped: unchecked
+    /// exceptions of the target propagate unchanged, checked ones are wrapped in a
+    /// [io.github.reflect4j.api.exception.MethodInvocationException].
+    ///
+    /// @param <R>    the expected return type
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    /// @param arg1   the second argument
+    ///
+    /// @return the value returned by the method, boxed if primitive; `null` for `void` methods
+    /// @throws IllegalArgumentException if the method does not take exactly 2 parameters
+    @SuppressWarnings("unchecked")
+    default <R> R invoke2(Object target, Object arg0, Object arg1) {
+        try {
+            return (R) getInvoker().invoke2(target, arg0, arg1);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with exactly 3 arguments, without allocating an argument array
+    /// or a result object.
+    ///
+    /// Unlike [#invoke(Object, Object...)], failures are thrown rather than wrapped: unchecked
+    /// exceptions of the target propagate unchanged, checked ones are wrapped in a
+    /// [io.github.reflect4j.api.exception.MethodInvocationException].
+    ///
+    /// @param <R>    the expected return type
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    /// @param arg1   the second argument
+    /// @param arg2   the third argument
+    ///
+    /// @return the value returned by the method, boxed if primitive; `null` for `void` methods
+    /// @throws IllegalArgumentException if the method does not take exactly 3 parameters
+    @SuppressWarnings("unchecked")
+    default <R> R invoke3(Object target, Object arg0, Object arg1, Object arg2) {
+        try {
+            return (R) getInvoker().invoke3(target, arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with exactly 4 arguments, without allocating an argument array
+    /// or a result object.
+    ///
+    /// Unlike [#invoke(Object, Object...)], failures are thrown rather than wrapped: unchecked
+    /// exceptions of the target propagate unchanged, checked ones are wrapped in a
+    /// [io.github.reflect4j.api.exception.MethodInvocationException].
+    ///
+    /// @param <R>    the expected return type
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    /// @param arg1   the second argument
+    /// @param arg2   the third argument
+    /// @param arg3   the fourth argument
+    ///
+    /// @return the value returned by the method, boxed if primitive; `null` for `void` methods
+    /// @throws IllegalArgumentException if the method does not take exactly 4 parameters
+    @SuppressWarnings("unchecked")
+    default <R> R invoke4(Object target, Object arg0, Object arg1, Object arg2, Object arg3) {
+        try {
+            return (R) getInvoker().invoke4(target, arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with no arguments and returns its result as `int`,
+    /// without boxing it.
+    ///
+    /// Failures are thrown as by [#invoke0(Object)].
+    ///
+    /// @param target the target object; `null` if static
+    ///
+    /// @return the value returned by the method, widened to `int` if necessary
+    /// @throws ClassCastException if the return type is not convertible to `int`
+    default int invokeInt(Object target) {
+        try {
+            return getInvoker().invokeInt(target);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with exactly 1 argument and returns its result as `int`,
+    /// without boxing it.
+    ///
+    /// Failures are thrown as by [#invoke1(Object, Object)].
+    ///
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    ///
+    /// @return the value returned by the method, widened to `int` if necessary
+    /// @throws ClassCastException if the return type is not convertible to `int`
+    default int invokeInt(Object target, Object arg0) {
+        try {
+            return getInvoker().invokeInt(target, arg0);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with exactly 2 arguments and returns its result as `int`,
+    /// without boxing it.
+    ///
+    /// Failures are thrown as by [#invoke2(Object, Object, Object)].
+    ///
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    /// @param arg1   the second argument
+    ///
+    /// @return the value returned by the method, widened to `int` if necessary
+    /// @throws ClassCastException if the return type is not convertible to `int`
+    default int invokeInt(Object target, Object arg0, Object arg1) {
+        try {
+            return getInvoker().invokeInt(target, arg0, arg1);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with no arguments and returns its result as `long`,
+    /// without boxing it.
+    ///
+    /// Failures are thrown as by [#invoke0(Object)].
+    ///
+    /// @param target the target object; `null` if static
+    ///
+    /// @return the value returned by the method, widened to `long` if necessary
+    /// @throws ClassCastException if the return type is not convertible to `long`
+    default long invokeLong(Object target) {
+        try {
+            return getInvoker().invokeLong(target);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with exactly 1 argument and returns its result as `long`,
+    /// without boxing it.
+    ///
+    /// Failures are thrown as by [#invoke1(Object, Object)].
+    ///
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    ///
+    /// @return the value returned by the method, widened to `long` if necessary
+    /// @throws ClassCastException if the return type is not convertible to `long`
+    default long invokeLong(Object target, Object arg0) {
+        try {
+            return getInvoker().invokeLong(target, arg0);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with exactly 2 arguments and returns its result as `long`,
+    /// without boxing it.
+    ///
+    /// Failures are thrown as by [#invoke2(Object, Object, Object)].
+    ///
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    /// @param arg1   the second argument
+    ///
+    /// @return the value returned by the method, widened to `long` if necessary
+    /// @throws ClassCastException if the return type is not convertible to `long`
+    default long invokeLong(Object target, Object arg0, Object arg1) {
+        try {
+            return getInvoker().invokeLong(target, arg0, arg1);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with no arguments and returns its result as `boolean`,
+    /// without boxing it.
+    ///
+    /// Failures are thrown as by [#invoke0(Object)].
+    ///
+    /// @param target the target object; `null` if static
+    ///
+    /// @return the value returned by the method
+    /// @throws ClassCastException if the return type is not convertible to `boolean`
+    default boolean invokeBoolean(Object target) {
+        try {
+            return getInvoker().invokeBoolean(target);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with exactly 1 argument and returns its result as `boolean`,
+    /// without boxing it.
+    ///
+    /// Failures are thrown as by [#invoke1(Object, Object)].
+    ///
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    ///
+    /// @return the value returned by the method
+    /// @throws ClassCastException if the return type is not convertible to `boolean`
+    default boolean invokeBoolean(Object target, Object arg0) {
+        try {
+            return getInvoker().invokeBoolean(target, arg0);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with exactly 2 arguments and returns its result as `boolean`,
+    /// without boxing it.
+    ///
+    /// Failures are thrown as by [#invoke2(Object, Object, Object)].
+    ///
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    /// @param arg1   the second argument
+    ///
+    /// @return the value returned by the method
+    /// @throws ClassCastException if the return type is not convertible to `boolean`
+    default boolean invokeBoolean(Object target, Object arg0, Object arg1) {
+        try {
+            return getInvoker().invokeBoolean(target, arg0, arg1);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Invokes this method with no arguments, discarding its result.
+    ///
+    /// Failures are thrown as by [#invoke0(Object)].
+    ///
+    /// @param target the target object; `null` if static
+    default void invokeVoid(Object target) {
+        invoke0(target);
+    }
+
+    /// Invokes this method with exactly 1 argument, discarding its result.
+    ///
+    /// Failures are thrown as by [#invoke1(Object, Object)].
+    ///
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    default void invokeVoid(Object target, Object arg0) {
+        invoke1(target, arg0);
+    }
+
+    /// Invokes this method with exactly 2 arguments, discarding its result.
+    ///
+    /// Failures are thrown as by [#invoke2(Object, Object, Object)].
+    ///
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    /// @param arg1   the second argument
+    default void invokeVoid(Object target, Object arg0, Object arg1) {
+        invoke2(target, arg0, arg1);
+    }
+
+    /// Invokes this method with exactly 3 arguments, discarding its result.
+    ///
+    /// Failures are thrown as by [#invoke3(Object, Object, Object, Object)].
+    ///
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    /// @param arg1   the second argument
+    /// @param arg2   the third argument
+    default void invokeVoid(Object target, Object arg0, Object arg1, Object arg2) {
+        invoke3(target, arg0, arg1, arg2);
+    }
+
+    /// Invokes this method with exactly 4 arguments, discarding its result.
+    ///
+    /// Failures are thrown as by [#invoke4(Object, Object, Object, Object, Object)].
+    ///
+    /// @param target the target object; `null` if static
+    /// @param arg0   the first argument
+    /// @param arg1   the second argument
+    /// @param arg2   the third argument
+    /// @param arg3   the fourth argument
+    default void invokeVoid(Object target, Object arg0, Object arg1, Object arg2, Object arg3) {
+        invoke4(target, arg0, arg1, arg2, arg3);
+    }
+
+    /// Invokes this method with the same arguments on every target, sequentially.
+    ///
+    /// Equivalent to `invokeAll(BatchMode.SEQUENTIAL, targets, out, args)`.
+    ///
+    /// @param targets the receivers; ignored for static methods; must not be `null`
+    /// @param out     receives the return value of each call at the target's position; `null` to discard
+    /// @param args    the arguments shared by every call
+    ///
+    /// @return the failed calls; never `null`
+    /// @throws IllegalArgumentException if the number of arguments differs from [#getParameterCount()],
+    ///                                  or `out` is shorter than `targets`
+    default BatchFailures invokeAll(List<?> targets, Object[] out, Object... args) {
+        return invokeAll(BatchMode.SEQUENTIAL, targets, out, args);
+    }
+
+    /// Invokes this method with the same arguments on every target.
+    ///
+    /// The invoker is bound, the argument count checked and the call path chosen once for the
+    /// whole batch. The return value of the call on `targets.get(i)` is stored in `out[i]`; if the
+    /// call throws, the exception is recorded at index `i` of the returned [BatchFailures] and
+    /// `out[i]` is left untouched. The batch never stops early for exceptions; an [Error] thrown by
+    /// a call propagates unchanged and aborts the batch.
+    ///
+    /// @param mode    how to distribute the calls; must not be `null`
+    /// @param targets the receivers; ignored for static methods; must not be `null`
+    /// @param out     receives the return value of each call at the target's position; `null` to discard
+    /// @param args    the arguments shared by every call
+    ///
+    /// @return the failed calls; never `null`
+    /// @throws IllegalArgumentException if the number of arguments differs from [#getParameterCount()],
+    ///                                  or `out` is shorter than `targets`
+    /// @throws io.github.reflect4j.api.exception.MethodInvocationException if the method cannot be bound
+    default BatchFailures invokeAll(BatchMode mode, List<?> targets, Object[] out, Object... args) {
+        return Batches.invokeAll(getInvoker(), getParameterCount(), targets, args, out, mode);
+    }
+
+    /// Invokes this method once per target, each time with its own arguments, sequentially.
+    ///
+    /// Equivalent to `invokeEach(BatchMode.SEQUENTIAL, targets, args, out)`.
+    ///
+    /// @param targets the receivers; ignored for static methods; must not be `null`
+    /// @param args    the arguments of each call, at the target's position; must not be `null`
+    /// @param out     receives the return value of each call at the target's position; `null` to discard
+    ///
+    /// @return the failed calls; never `null`
+    /// @throws IllegalArgumentException if `args` or `out` is shorter than `targets`
+    default BatchFailures invokeEach(Object[] targets, Object[][] args, Object[] out) {
+        return invokeEach(BatchMode.SEQUENTIAL, targets, args, out);
+    }
+
+    /// Invokes this method once per target, each time with its own arguments.
+    ///
+    /// The call on `targets[i]` receives `args[i]` and its return value is stored in `out[i]`;
+    /// failures, including argument rows of the wrong length, are recorded in the returned
+    /// [BatchFailures] as by [#invokeAll(BatchMode, List, Object[], Object...)].
+    ///
+    /// @param mode    how to distribute the calls; must not be `null`
+    /// @param targets the receivers; ignored for static methods; must not be `null`
+    /// @param args    the arguments of each call, at the target's position; must not be `null`
+    /// @param out     receives the return value of each call at the target's position; `null` to discard
+    ///
+    /// @return the failed calls; never `null`
+    /// @throws IllegalArgumentException if `args` or `out` is shorter than `targets`
+    /// @throws io.github.reflect4j.api.exception.MethodInvocationException if the method cannot be bound
+    default BatchFailures invokeEach(BatchMode mode, Object[] targets, Object[][] args, Object[] out) {
+        return Batches.invokeEach(getInvoker(), targets, args, out, mode);
+    }
+
+    /// Invokes this method asynchronously on the [AsyncInvocations#getDefaultExecutor()].
+    ///
+    /// Equivalent to `invokeAsync(AsyncInvocations.getDefaultExecutor(), target, args)`.
+    ///
+    /// @param <R>    the expected return type
+    /// @param target the target object on which to invoke the method; `null` if static
+    /// @param args   the arguments to pass to the method; must not be `null`
+    ///
+    /// @return a future of the outcome; never `null`
+    /// @throws NullPointerException if args is `null`
+    default <R> CompletableFuture<MethodInvocationResult<R>> invokeAsync(Object target, Object... args) {
+        return invokeAsync(AsyncInvocations.getDefaultExecutor(), target, args);
+    }
+
+    /// Invokes this method asynchronously on the given executor.
+    ///
+    /// The call is performed by [#invoke(Object, Object...)], so the future completes normally
+    /// with a [MethodInvocationResult] even if the method throws. It completes exceptionally only
+    /// if the executor rejects the call.
+    ///
+    /// @param <R>      the expected return type
+    /// @param executor the executor to run the call on; must not be `null`
+    /// @param target   the target object on which to invoke the method; `null` if static
+    /// @param args     the arguments to pass to the method; must not be `null`
+    ///
+    /// @return a future of the outcome; never `null`
+    /// @throws NullPointerException if the executor or args is `null`
+    default <R> CompletableFuture<MethodInvocationResult<R>> invokeAsync(Executor executor, Object target, Object[] args) {
+        Objects.requireNonNull(args, "args must not be null");
+        return AsyncInvocations.submit(() -> this.<R>invoke(target, args), executor);
+    }
+
+    /// Invokes this method with the same arguments on every target, asynchronously, on the
+    /// [AsyncInvocations#getDefaultExecutor()].
+    ///
+    /// Equivalent to `invokeAllAsync(AsyncInvocations.getDefaultExecutor(), targets, maxConcurrency, args)`.
+    ///
+    /// @param <R>            the expected return type
+    /// @param targets        the receivers; ignored for static methods; must not be `null`
+    /// @param maxConcurrency the maximum number of calls in flight; must be positive
+    /// @param args           the arguments shared by every call; must not be `null`
+    ///
+    /// @return a future of the outcomes in target order; never `null`
+    /// @throws IllegalArgumentException if `maxConcurrency` is not positive
+    default <R> CompletableFuture<List<MethodInvocationResult<R>>> invokeAllAsync(List<?> targets, int maxConcurrency,
+                                                                                   Object... args) {
+        return invokeAllAsync(AsyncInvocations.getDefaultExecutor(), targets, maxConcurrency, args);
+    }
+
+    /// Invokes this method with the same arguments on every target, asynchronously, with at most
+    /// `maxConcurrency` calls in flight.
+    ///
+    /// Each call is performed by [#invoke(Object, Object...)] and its outcome is stored at the
+    /// target's position of the resulting list. Cancelling the returned future stops the
+    /// remaining calls and interrupts those in flight; see
+    /// [AsyncInvocations#fanOut(List, java.util.function.Function, int, Executor)].
+    ///
+    /// @param <R>            the expected return type
+    /// @param executor       the executor to run the calls on; must not be `null`
+    /// @param targets        the receivers; ignored for static methods; must not be `null`
+    /// @param maxConcurrency the maximum number of calls in flight; must be positive
+    /// @param args           the arguments shared by every call; must not be `null`
+    ///
+    /// @return a future of the outcomes in target order; never `null`
+    /// @throws IllegalArgumentException if `maxConcurrency` is not positive
+    /// @throws NullPointerException     if the executor, the targets or args is `null`
+    default <R> CompletableFuture<List<MethodInvocationResult<R>>> invokeAllAsync(Executor executor, List<?> targets,
+                                                                                   int maxConcurrency, Object[] args) {
+        Objects.requireNonNull(args, "args must not be null");
+        return AsyncInvocations.fanOut(targets, target -> this.<R>invoke(target, args), maxConcurrency, executor);
+    }
 }
@@ -0,0 +1,287 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.api.exception.AmbiguousMethodException;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/// # Overloads
+///
+/// Most-specific overload resolution against the runtime classes of the arguments, following the
+/// three phases of JLS §15.12.2 with each argument typed by its class and `null` assignable to
+/// any reference type:
+///
+///     1. strict: subtyping only, no unboxing and no varargs
+///     2. loose: unboxing followed by widening primitive conversion
+///     3. variable arity: like loose, with the trailing arguments collected into the varargs array
+///
+/// The first phase with an applicable overload decides; among its overloads the one whose
+/// parameter types are all subtypes of the others' wins. Bridge and synthetic methods are never
+/// candidates, since the methods they stand for are.
+///
+/// The outcome is a [Dispatch], which also carries the conversions the chosen overload needs for
+/// arguments of these classes, so calls that hit a cached dispatch do no type tests at all.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class Overloads {
+
+    private static final int STRICT = 1;
+    private static final int LOOSE = 2;
+    private static final int VARIABLE_ARITY = 3;
+
+    private Overloads() {
+    }
+
+    /// Returns the dispatch of the most specific overload applicable to arguments of the given classes.
+    ///
+    /// @param candidates the overloads
+    /// @param classes    the argument classes, `null` for `null` arguments
+    ///
+    /// @return the dispatch, or `null` if no overload is applicable
+    /// @throws AmbiguousMethodException if several overloads are applicable and none is most specific
+    static Dispatch resolve(List<MethodDescriptor> candidates, Class<?>[] classes) {
+        for (int phase = STRICT; phase <= VARIABLE_ARITY; phase++) {
+            List<MethodDescriptor> applicable = new ArrayList<>(2);
+            for (MethodDescriptor candidate : candidates) {
+                if (!candidate.isBridge() && !candidate.isSynthetic() && isApplicable(candidate, classes, phase)) {
+                    applicable.add(candidate);
+                }
+            }
+            if (!applicable.isEmpty()) {
+                boolean variable = phase == VARIABLE_ARITY;
+                return new Dispatch(mostSpecific(applicable, classes, variable), classes, variable);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isApplicable(MethodDescriptor method, Class<?>[] classes, int phase) {
+        int count = method.getParameterCount();
+        if (phase == VARIABLE_ARITY) {
+            if (!method.isVarArgs() || classes.length < count - 1) {
+                return false;
+            }
+        } else if (classes.length != count) {
+            return false;
+        }
+        for (int i = 0; i < classes.length; i++) {
+            if (!isConvertible(classes[i], parameterType(method, i, phase == VARIABLE_ARITY), phase != STRICT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Returns whether an argument of the given class can be passed as the given parameter type.
+    private static boolean isConvertible(Class<?> argument, Class<?> parameter, boolean loose) {
+        if (argument == null) {
+            return !parameter.isPrimitive();
+        }
+        if (!parameter.isPrimitive()) {
+            return parameter.isAssignableFrom(argument);
+        }
+        Class<?> unboxed = loose ? unboxed(argument) : null;
+        return unboxed != null && isSubtype(unboxed, parameter);
+    }
+
+    private static MethodDescriptor mostSpecific(List<MethodDescriptor> applicable, Class<?>[] classes, boolean variable) {
+        MethodDescriptor best = applicable.get(0);
+        for (int i = 1; i < applicable.size(); i++) {
+            MethodDescriptor candidate = applicable.get(i);
+            if (isMoreSpecific(candidate, best, classes.length, variable)
+                    && !isMoreSpecific(best, candidate, classes.length, variable)) {
+                best = candidate;
+            }
+        }
+        for (MethodDescriptor other : applicable) {
+            if (other != best && !isMoreSpecific(best, other, classes.length, variable)) {
+                throw ambiguous(applicable, classes);
+            }
+        }
+        return best;
+    }
+
+    /// Returns whether every parameter type of `m1` is a subtype of the corresponding one of `m2`,
+    /// with varargs parameters expanded as far as needed when `variable` is set.
+    private static boolean isMoreSpecific(MethodDescriptor m1, MethodDescriptor m2, int arguments, boolean variable) {
+        int count = variable
+                ? Math.max(arguments, Math.max(m1.getParameterCount(), m2.getParameterCount()))
+                : arguments;
+        for (int i = 0; i < count; i++) {
+            if (!isSubtype(parameterType(m1, i, variable), parameterType(m2, i, variable))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Returns the type of the `i`-th argument of the method, which is the varargs component type
+    /// from the last parameter on in a variable arity call.
+    private static Class<?> parameterType(MethodDescriptor method, int i, boolean variable) {
+        List<Class<?>> types = method.getParameterTypes();
+        int last = types.size() - 1;
+        if (variable && i >= last) {
+            return types.get(last).getComponentType();
+        }
+        return types.get(i);
+    }
+
+    /// Subtyping among reference types (JLS §4.10.2) and among primitive types (JLS §4.10.1).
+    private static boolean isSubtype(Class<?> s, Class<?> t) {
+        if (s == t) {
+            return true;
+        }
+        if (s.isPrimitive() != t.isPrimitive()) {
+            return false;
+        }
+        if (!s.isPrimitive()) {
+            return t.isAssignableFrom(s);
+        }
+        return rank(s) >= 0 && rank(t) > rank(s) && (s != char.class || t != short.class)
+                && (s == char.class || t != char.class);
+    }
+
+    /// Orders the numeric primitive types so that widening only ever goes up; `-1` for `boolean`.
+    private static int rank(Class<?> type) {
+        if (type == byte.class) {
+            return 0;
+        }
+        if (type == short.class || type == char.class) {
+            return 1;
+        }
+        if (type == int.class) {
+            return 2;
+        }
+        if (type == long.class) {
+            return 3;
+        }
+        if (type == float.class) {
+            return 4;
+        }
+        if (type == double.class) {
+            return 5;
+        }
+        return -1;
+    }
+
+    private static Class<?> unboxed(Class<?> type) {
+        if (type == Integer.class) {
+            return int.class;
+        }
+        if (type == Long.class) {
+            return long.class;
+        }
+        if (type == Double.class) {
+            return double.class;
+        }
+        if (type == Boolean.class) {
+            return boolean.class;
+        }
+        if (type == Float.class) {
+            return float.class;
+        }
+        if (type == Character.class) {
+            return char.class;
+        }
+        if (type == Byte.class) {
+            return byte.class;
+        }
+        if (type == Short.class) {
+            return short.class;
+        }
+        return null;
+    }
+
+    private static AmbiguousMethodException ambiguous(List<MethodDescriptor> applicable, Class<?>[] classes) {
+        StringJoiner arguments = new StringJoiner(", ", "(", ")");
+        for (Class<?> type : classes) {
+            arguments.add(type == null ? "null" : type.getName());
+        }
+        StringJoiner candidates = new StringJoiner(", ");
+        for (MethodDescriptor method : applicable) {
+            candidates.add(method.getSignature());
+        }
+        return new AmbiguousMethodException("Ambiguous call " + applicable.get(0).getName() + arguments
+                + ", candidates: " + candidates);
+    }
+
+    /// Resolved call of one overload for one combination of argument classes.
+    ///
+    /// Knows how to turn the caller's arguments into the ones the overload expects: boxed values
+    /// that need a widening conversion are converted, and in a variable arity call the trailing
+    /// arguments are collected into the varargs array.
+    static final class Dispatch {
+
+        final MethodDescriptor method;
+        private final Class<?>[] widenings;
+        private final int fixed;
+        private final Class<?> component;
+
+        Dispatch(MethodDescriptor method, Class<?>[] classes, boolean variable) {
+            this.method = method;
+            this.fixed = variable ? method.getParameterCount() - 1 : classes.length;
+            this.component = variable ? method.getParameterTypes().get(fixed).getComponentType() : null;
+            Class<?>[] widenings = null;
+            for (int i = 0; i < classes.length; i++) {
+                Class<?> parameter = parameterType(method, i, variable);
+                if (parameter.isPrimitive() && unboxed(classes[i]) != parameter) {
+                    if (widenings == null) {
+                        widenings = new Class<?>[classes.length];
+                    }
+                    widenings[i] = parameter;
+                }
+            }
+            this.widenings = widenings;
+        }
+
+        /// Returns the arguments to pass to the method; the given array itself when no
+        /// conversion is needed.
+        Object[] arguments(Object[] args) {
+            if (widenings == null && component == null) {
+                return args;
+            }
+            Object[] converted = widenings == null ? args : args.clone();
+            if (widenings != null) {
+                for (int i = 0; i < widenings.length; i++) {
+                    if (widenings[i] != null) {
+                        converted[i] = widen(converted[i], widenings[i]);
+                    }
+                }
+            }
+            if (component == null) {
+                return converted;
+            }
+            Object[] result = new Object[fixed + 1];
+            System.arraycopy(converted, 0, result, 0, fixed);
+            Object varargs = Array.newInstance(component, converted.length - fixed);
+            for (int i = fixed; i < converted.length; i++) {
+                Array.set(varargs, i - fixed, converted[i]);
+            }
+            result[fixed] = varargs;
+            return result;
+        }
+
+        private static Object widen(Object value, Class<?> type) {
+            if (value instanceof Character c) {
+                value = (int) c;
+            }
+            Number number = (Number) value;
+            if (type == long.class) {
+                return number.longValue();
+            }
+            if (type == int.class) {
+                return number.intValue();
+            }
+            if (type == double.class) {
+                return number.doubleValue();
+            }
+            if (type == float.class) {
+                return number.floatValue();
+            }
+            return number.shortValue();
+        }
+    }
+}
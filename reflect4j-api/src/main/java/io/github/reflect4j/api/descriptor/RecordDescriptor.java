@@ -0,0 +1,365 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.api.exception.ConstructorInvocationException;
+import io.github.reflect4j.api.exception.ReflectionException;
+import io.github.reflect4j.api.invoke.Invocations;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/// # RecordDescriptor
+///
+/// Record-specialized view of a class that deconstructs records into their components and
+/// reconstructs them from components, each in a single call.
+///
+/// The canonical constructor and the component accessors are resolved once per record class and
+/// combined into a few method handles: one that reads all components into an `Object[]`, one that
+/// creates a record from an `Object[]`, and a pair that does the same with primitive components
+/// kept unboxed. No component is looked up by name after the descriptor has been built.
+///
+/// In the slot form, every primitive component occupies one `long` slot and every reference
+/// component one `Object` slot, both numbered in declaration order; [#slot(int)] gives the slot
+/// of a component. `float` and `double` values are stored as their raw bits, `boolean` values as
+/// `0` or `1`, and the other primitives sign- or zero-extended as by a widening cast. This lets
+/// serializers move primitive components without ever boxing them.
+///
+/// **Example:**
+/// ```java
+/// RecordDescriptor<Point> point = descriptor.getRecordDescriptor();
+/// Object[] components = point.deconstruct(new Point(1, 2));
+/// Point copy = point.reconstruct(components);
+///```
+///
+/// Descriptors are created on first use, shared per record class and safe to use from any thread.
+///
+/// @param <T> the record type
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class RecordDescriptor<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<RecordDescriptor<?>> CACHE = new ClassValue<>() {
+        @Override
+        protected RecordDescriptor<?> computeValue(Class<?> type) {
+            return new RecordDescriptor<>(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final List<String> names;
+    private final List<Class<?>> types;
+    private final int[] slots;
+    private final int primitiveCount;
+    private final MethodHandle[] accessors;
+    private final MethodHandle toArray;
+    private final MethodHandle fromArray;
+    private final MethodHandle toSlots;
+    private final MethodHandle fromSlots;
+
+    private RecordDescriptor(Class<T> type) {
+        this.type = type;
+        RecordComponent[] components = type.getRecordComponents();
+        int count = components.length;
+        List<String> names = new ArrayList<>(count);
+        List<Class<?>> types = new ArrayList<>(count);
+        Class<?>[] parameterTypes = new Class<?>[count];
+        this.slots = new int[count];
+        this.accessors = new MethodHandle[count];
+        int primitives = 0;
+        int references = 0;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, LOOKUP);
+            for (int i = 0; i < count; i++) {
+                RecordComponent component = components[i];
+                Class<?> componentType = component.getType();
+                names.add(component.getName());
+                types.add(componentType);
+                parameterTypes[i] = componentType;
+                slots[i] = componentType.isPrimitive() ? primitives++ : references++;
+                accessors[i] = lookup.unreflect(component.getAccessor());
+            }
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameterTypes));
+            this.primitiveCount = primitives;
+            this.toArray = toArray(count);
+            this.fromArray = Invocations.convertArguments(constructor.asFixedArity()).asSpreader(Object[].class, count)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            this.toSlots = toSlots(count);
+            this.fromSlots = fromSlots(constructor, count);
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new ReflectionException("Cannot resolve the canonical constructor and accessors of record: "
+                    + type.getName(), e);
+        }
+        this.names = List.copyOf(names);
+        this.types = List.copyOf(types);
+    }
+
+    /// Returns the record descriptor of the given class, creating it on first use.
+    ///
+    /// @param <T>  the record type
+    /// @param type the record class; must not be `null`
+    ///
+    /// @return the shared record descriptor; never `null`
+    /// @throws NullPointerException                                   if the type is `null`
+    /// @throws IllegalArgumentException                               if the type is not a record
+    /// @throws io.github.reflect4j.api.exception.ReflectionException if the record's package is not open to Reflect4j
+    @SuppressWarnings("unchecked")
+    public static <T> RecordDescriptor<T> of(Class<T> type) {
+        Objects.requireNonNull(type, "type must not be null");
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException("Not a record: " + type.getName());
+        }
+        return (RecordDescriptor<T>) CACHE.get(type);
+    }
+
+    /// Returns the record descriptor of the class of the given descriptor.
+    ///
+    /// @param <T>  the record type
+    /// @param type the descriptor of the record class; must not be `null`
+    ///
+    /// @return the shared record descriptor; never `null`
+    /// @throws IllegalArgumentException if the class is not a record
+    public static <T> RecordDescriptor<T> of(ClassDescriptor<T> type) {
+        return of(Objects.requireNonNull(type, "type must not be null").unwrap());
+    }
+
+    /// Returns the record class.
+    ///
+    /// @return the record class; never `null`
+    public Class<T> getType() {
+        return type;
+    }
+
+    /// Returns the number of components.
+    ///
+    /// @return the component count; always non-negative
+    public int getComponentCount() {
+        return slots.length;
+    }
+
+    /// Returns the component names, in declaration order.
+    ///
+    /// @return an immutable list of names; never `null`
+    public List<String> getComponentNames() {
+        return names;
+    }
+
+    /// Returns the component types, in declaration order.
+    ///
+    /// @return an immutable list of types; never `null`
+    public List<Class<?>> getComponentTypes() {
+        return types;
+    }
+
+    /// Returns the number of `long` slots used by the primitive components.
+    ///
+    /// @return the primitive slot count; always non-negative
+    public int getPrimitiveSlotCount() {
+        return primitiveCount;
+    }
+
+    /// Returns the number of `Object` slots used by the reference components.
+    ///
+    /// @return the reference slot count; always non-negative
+    public int getReferenceSlotCount() {
+        return slots.length - primitiveCount;
+    }
+
+    /// Returns the slot of a component: its index among the `long` slots if the component is
+    /// primitive, or among the `Object` slots otherwise.
+    ///
+    /// @param component the component index, in declaration order
+    ///
+    /// @return the slot index
+    /// @throws IndexOutOfBoundsException if the component index is out of range
+    public int slot(int component) {
+        return slots[component];
+    }
+
+    /// Returns the value of one component.
+    ///
+    /// @param record    the record; must not be `null`
+    /// @param component the component index, in declaration order
+    ///
+    /// @return the component value, boxed if primitive
+    /// @throws IndexOutOfBoundsException if the component index is out of range
+    public Object get(T record, int component) {
+        try {
+            return accessors[component].invoke(record);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Reads all components of a record.
+    ///
+    /// @param record the record; must not be `null`
+    ///
+    /// @return a new array of the component values in declaration order, primitives boxed; never `null`
+    /// @throws NullPointerException if the record is `null`
+    public Object[] deconstruct(T record) {
+        Objects.requireNonNull(record, "record must not be null");
+        try {
+            return (Object[]) toArray.invokeExact((Object) record);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Reads all components of a record into caller-supplied slots, without boxing primitives.
+    ///
+    /// @param record     the record; must not be `null`
+    /// @param primitives receives the primitive components, by [#slot(int)]; at least
+    ///                   [#getPrimitiveSlotCount()] long
+    /// @param references receives the reference components, by [#slot(int)]; at least
+    ///                   [#getReferenceSlotCount()] long
+    ///
+    /// @throws NullPointerException      if any argument is `null`
+    /// @throws IndexOutOfBoundsException if an array is too short
+    public void deconstruct(T record, long[] primitives, Object[] references) {
+        Objects.requireNonNull(record, "record must not be null");
+        try {
+            toSlots.invokeExact((Object) record, primitives, references);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+
+    /// Creates a record from its components, through the canonical constructor.
+    ///
+    /// Primitive components are unboxed and widened like method arguments, with the conversions
+    /// of [Invocations], so an `Integer` fills a `long` component but `null` fills none.
+    ///
+    /// @param components the component values in declaration order, primitives boxed; must not be `null`
+    ///
+    /// @return the new record; never `null`
+    /// @throws NullPointerException           if the components or a primitive component is `null`
+    /// @throws IllegalArgumentException       if the number of components is wrong
+    /// @throws ClassCastException             if a component has the wrong type
+    /// @throws ConstructorInvocationException if the constructor throws a checked exception
+    @SuppressWarnings("unchecked")
+    public T reconstruct(Object[] components) {
+        Invocations.checkArity(Objects.requireNonNull(components, "components must not be null"), slots.length);
+        try {
+            return (T) fromArray.invokeExact(components);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(type, e);
+        }
+    }
+
+    /// Creates a record from slots, through the canonical constructor, without boxing primitives.
+    ///
+    /// @param primitives the primitive components, by [#slot(int)]; must not be `null`
+    /// @param references the reference components, by [#slot(int)]; must not be `null`
+    ///
+    /// @return the new record; never `null`
+    /// @throws IndexOutOfBoundsException      if an array is too short
+    /// @throws ClassCastException             if a reference component has the wrong type
+    /// @throws ConstructorInvocationException if the constructor throws a checked exception
+    @SuppressWarnings("unchecked")
+    public T reconstruct(long[] primitives, Object[] references) {
+        Objects.requireNonNull(primitives, "primitives must not be null");
+        Objects.requireNonNull(references, "references must not be null");
+        try {
+            return (T) fromSlots.invokeExact(primitives, references);
+        } catch (Throwable e) {
+            throw Invocations.unchecked(type, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RecordDescriptor[" + type.getName() + names + "]";
+    }
+
+    /// `(Object)Object[]`: collects every accessor's value into a new array.
+    private MethodHandle toArray(int count) {
+        MethodHandle collect = MethodHandles.identity(Object[].class).asCollector(Object[].class, count);
+        MethodHandle[] filters = new MethodHandle[count];
+        for (int i = 0; i < count; i++) {
+            filters[i] = accessors[i].asType(MethodType.methodType(Object.class, Object.class));
+        }
+        collect = MethodHandles.filterArguments(collect, 0, filters);
+        return MethodHandles.permuteArguments(collect, MethodType.methodType(Object[].class, Object.class), new int[count]);
+    }
+
+    /// `(Object, long[], Object[])void`: stores every component into its slot, in declaration order.
+    private MethodHandle toSlots(int count) throws NoSuchMethodException, IllegalAccessException {
+        MethodType type = MethodType.methodType(void.class, Object.class, long[].class, Object[].class);
+        MethodHandle chain = MethodHandles.empty(type);
+        for (int i = count - 1; i >= 0; i--) {
+            MethodHandle store;
+            if (accessors[i].type().returnType().isPrimitive()) {
+                // (long[], long)void <- (long[], Object)
+                store = MethodHandles.insertArguments(MethodHandles.arrayElementSetter(long[].class), 1, slots[i]);
+                store = MethodHandles.filterArguments(store, 1, toBits(accessors[i]));
+                store = MethodHandles.permuteArguments(store, type, 1, 0);
+            } else {
+                store = MethodHandles.insertArguments(MethodHandles.arrayElementSetter(Object[].class), 1, slots[i]);
+                store = MethodHandles.filterArguments(store, 1,
+                        accessors[i].asType(MethodType.methodType(Object.class, Object.class)));
+                store = MethodHandles.permuteArguments(store, type, 2, 0);
+            }
+            chain = MethodHandles.foldArguments(chain, store);
+        }
+        return chain;
+    }
+
+    /// `(long[], Object[])Object`: calls the constructor with every argument read from its slot.
+    private MethodHandle fromSlots(MethodHandle constructor, int count) throws NoSuchMethodException, IllegalAccessException {
+        MethodHandle[] filters = new MethodHandle[count];
+        int[] order = new int[count];
+        Class<?>[] sources = new Class<?>[count];
+        for (int i = 0; i < count; i++) {
+            Class<?> componentType = constructor.type().parameterType(i);
+            if (componentType.isPrimitive()) {
+                MethodHandle load = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(long[].class), 1, slots[i]);
+                filters[i] = MethodHandles.filterReturnValue(load, fromBits(componentType));
+                sources[i] = long[].class;
+                order[i] = 0;
+            } else {
+                MethodHandle load = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(Object[].class), 1, slots[i]);
+                filters[i] = load.asType(MethodType.methodType(componentType, Object[].class));
+                sources[i] = Object[].class;
+                order[i] = 1;
+            }
+        }
+        MethodHandle create = MethodHandles.filterArguments(constructor, 0, filters);
+        return MethodHandles.permuteArguments(create.asType(MethodType.methodType(Object.class, sources)),
+                MethodType.methodType(Object.class, long[].class, Object[].class), order);
+    }
+
+    /// Adapts a primitive accessor to `(Object)long`, storing floating-point values as raw bits.
+    private static MethodHandle toBits(MethodHandle accessor) throws NoSuchMethodException, IllegalAccessException {
+        Class<?> type = accessor.type().returnType();
+        MethodHandle bits = accessor;
+        if (type == double.class) {
+            bits = MethodHandles.filterReturnValue(accessor, LOOKUP.findStatic(Double.class, "doubleToRawLongBits",
+                    MethodType.methodType(long.class, double.class)));
+        } else if (type == float.class) {
+            bits = MethodHandles.filterReturnValue(accessor, LOOKUP.findStatic(Float.class, "floatToRawIntBits",
+                    MethodType.methodType(int.class, float.class)));
+        }
+        return MethodHandles.explicitCastArguments(bits, MethodType.methodType(long.class, Object.class));
+    }
+
+    /// Converts a `long` slot back to a primitive component type, the inverse of [#toBits].
+    private static MethodHandle fromBits(Class<?> type) throws NoSuchMethodException, IllegalAccessException {
+        if (type == double.class) {
+            return LOOKUP.findStatic(Double.class, "longBitsToDouble", MethodType.methodType(double.class, long.class));
+        }
+        MethodHandle identity = MethodHandles.identity(long.class);
+        if (type == float.class) {
+            MethodHandle fromInt = LOOKUP.findStatic(Float.class, "intBitsToFloat", MethodType.methodType(float.class, int.class));
+            return MethodHandles.filterReturnValue(
+                    MethodHandles.explicitCastArguments(identity, MethodType.methodType(int.class, long.class)), fromInt);
+        }
+        return MethodHandles.explicitCastArguments(identity, MethodType.methodType(type, long.class));
+    }
+}
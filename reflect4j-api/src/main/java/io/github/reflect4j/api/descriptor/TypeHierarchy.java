@@ -0,0 +1,202 @@
+package io.github.reflect4j.api.descriptor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/// # TypeHierarchy
+///
+/// Precomputed supertypes of one class, as a linearized list and as a bitset over [TypeIds].
+///
+/// The linearization lists every supertype once, the class itself included, in a fixed order:
+///
+///     - for a class: the class and its superclasses, nearest first and ending with `Object`,
+///       followed by all of its interfaces
+///     - for an interface: the interface and all of its superinterfaces
+///
+/// Interfaces are ordered depth-first: the interfaces declared by the class come first, each
+/// directly followed by its own superinterfaces, then those of the superclass, and so on; an
+/// interface reached again later keeps its first position. An interface has no descriptor path to
+/// `Object`, so `Object` is not listed for it, but it still counts as a supertype, as it does for
+/// [Class#isAssignableFrom(Class)]. Primitive types have no supertype but themselves.
+///
+/// With the bitset, [#isSubtypeOf(Class)] and [#declaresOrInherits(MemberDescriptor)] are a
+/// single bit test instead of a walk over [ClassDescriptor#getSuperclass()] and
+/// [ClassDescriptor#getInterfaces()]. Array types are the exception: their covariant subtyping
+/// is not part of the linearization, so their checks defer to [Class#isAssignableFrom(Class)].
+///
+/// The hierarchy holds the descriptor it was built from and the descriptors that descriptor
+/// returns for its supertypes, so it belongs to that descriptor: it is built once, on first use
+/// (see [ClassDescriptor#getTypeHierarchy()]), from the hierarchies of the direct supertype
+/// descriptors, and then shared read-only by all threads. Other descriptors of the same class
+/// build their own hierarchy over their own members. The member lists of [#getInheritedFields()] and
+/// [#getInheritedMethods()] are derived from it once, when first requested.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class TypeHierarchy {
+
+    private final Class<?> type;
+    private final List<ClassDescriptor<?>> classes;
+    private final List<ClassDescriptor<?>> interfaces;
+    private final List<ClassDescriptor<?>> supertypes;
+    private final long[] words;
+    private volatile List<FieldDescriptor> inheritedFields;
+    private volatile List<MethodDescriptor> inheritedMethods;
+
+    private TypeHierarchy(ClassDescriptor<?> descriptor) {
+        this.type = descriptor.unwrap();
+        Map<Class<?>, ClassDescriptor<?>> classes = new LinkedHashMap<>();
+        Map<Class<?>, ClassDescriptor<?>> interfaces = new LinkedHashMap<>();
+        if (type != null) {
+            if (type.isInterface()) {
+                interfaces.put(type, descriptor);
+            } else {
+                classes.put(type, descriptor);
+            }
+            for (ClassDescriptor<?> declared : descriptor.getInterfaces()) {
+                putAll(interfaces, declared.getTypeHierarchy().interfaces);
+            }
+            ClassDescriptor<?> superclass = descriptor.getSuperclass();
+            if (superclass.isPresent()) {
+                TypeHierarchy parent = superclass.getTypeHierarchy();
+                putAll(classes, parent.classes);
+                putAll(interfaces, parent.interfaces);
+            }
+        }
+        this.classes = List.copyOf(classes.values());
+        this.interfaces = List.copyOf(interfaces.values());
+        List<ClassDescriptor<?>> all = new ArrayList<>(this.classes);
+        all.addAll(this.interfaces);
+        this.supertypes = List.copyOf(all);
+        long[] words = new long[0];
+        for (ClassDescriptor<?> supertype : supertypes) {
+            words = TypeIds.add(words, supertype.unwrap());
+        }
+        if (type != null && type.isInterface()) {
+            words = TypeIds.add(words, Object.class);
+        }
+        this.words = words;
+    }
+
+    /// Builds the hierarchy of the class described by the given descriptor.
+    ///
+    /// The hierarchies of the direct supertypes are taken from their descriptors, so building is
+    /// cheap once those are built; callers are expected to keep the result, as
+    /// [ClassDescriptor#getTypeHierarchy()] implementations do.
+    ///
+    /// @param type the class descriptor; must not be `null`
+    ///
+    /// @return a new hierarchy; never `null`
+    /// @throws NullPointerException if the type is `null`
+    public static TypeHierarchy of(ClassDescriptor<?> type) {
+        return new TypeHierarchy(Objects.requireNonNull(type, "type must not be null"));
+    }
+
+    /// Returns every supertype of the class, itself included, in linearization order.
+    ///
+    /// @return an immutable list of class descriptors; empty only for an empty descriptor
+    public List<ClassDescriptor<?>> getSupertypes() {
+        return supertypes;
+    }
+
+    /// Returns the class and its superclasses, nearest first; empty for an interface.
+    ///
+    /// @return an immutable list of class descriptors; never `null`
+    public List<ClassDescriptor<?>> getSuperclasses() {
+        return classes;
+    }
+
+    /// Returns all interfaces of the class, directly or transitively implemented or extended, in
+    /// linearization order; for an interface, the interface itself comes first.
+    ///
+    /// @return an immutable list of interface descriptors; never `null`
+    public List<ClassDescriptor<?>> getAllInterfaces() {
+        return interfaces;
+    }
+
+    /// Returns whether the class is the given type or one of its subtypes, i.e. whether its
+    /// instances can be assigned to the given type.
+    ///
+    /// @param other the candidate supertype; must not be `null`
+    ///
+    /// @return `true` if the given type is a supertype of the class
+    /// @throws NullPointerException if the other type is `null`
+    public boolean isSubtypeOf(Class<?> other) {
+        Objects.requireNonNull(other, "other must not be null");
+        if (type != null && type.isArray()) {
+            return other.isAssignableFrom(type);
+        }
+        return TypeIds.contains(words, other);
+    }
+
+    /// Returns whether the class is the type described by the given descriptor or one of its subtypes.
+    ///
+    /// @param other the candidate supertype; must not be `null`
+    ///
+    /// @return `true` if the described type is a supertype of the class, `false` if it is not or
+    ///         the descriptor is empty
+    /// @throws NullPointerException if the other descriptor is `null`
+    public boolean isSubtypeOf(ClassDescriptor<?> other) {
+        Class<?> clazz = Objects.requireNonNull(other, "other must not be null").unwrap();
+        return clazz != null && isSubtypeOf(clazz);
+    }
+
+    /// Returns whether the member is declared by the class or by one of its supertypes.
+    ///
+    /// Visibility is not taken into account: a private member of a superclass counts as well.
+    ///
+    /// @param member the member; must not be `null`
+    ///
+    /// @return `true` if the declaring class of the member is in the linearization of the class
+    /// @throws NullPointerException if the member is `null`
+    public boolean declaresOrInherits(MemberDescriptor<?> member) {
+        Class<?> owner = Objects.requireNonNull(member, "member must not be null").getDeclaringClass();
+        return owner != null && TypeIds.contains(words, owner);
+    }
+
+    /// Returns the fields of every supertype, in linearization order and in the order of
+    /// [ClassDescriptor#getFields()] within each type.
+    ///
+    /// Hidden fields are kept, so a name may occur more than once; the nearest one comes first.
+    ///
+    /// @return an immutable list of field descriptors; never `null`
+    public List<FieldDescriptor> getInheritedFields() {
+        List<FieldDescriptor> result = inheritedFields;
+        if (result == null) {
+            List<FieldDescriptor> list = new ArrayList<>();
+            for (ClassDescriptor<?> supertype : supertypes) {
+                list.addAll(supertype.getFields());
+            }
+            inheritedFields = result = List.copyOf(list);
+        }
+        return result;
+    }
+
+    /// Returns the methods of every supertype, in linearization order and in the order of
+    /// [ClassDescriptor#getMethods()] within each type.
+    ///
+    /// Overridden methods are kept, so a signature may occur more than once; the nearest
+    /// declaration comes first.
+    ///
+    /// @return an immutable list of method descriptors; never `null`
+    public List<MethodDescriptor> getInheritedMethods() {
+        List<MethodDescriptor> result = inheritedMethods;
+        if (result == null) {
+            List<MethodDescriptor> list = new ArrayList<>();
+            for (ClassDescriptor<?> supertype : supertypes) {
+                list.addAll(supertype.getMethods());
+            }
+            inheritedMethods = result = List.copyOf(list);
+        }
+        return result;
+    }
+
+    private static void putAll(Map<Class<?>, ClassDescriptor<?>> target, List<ClassDescriptor<?>> types) {
+        for (ClassDescriptor<?> type : types) {
+            target.putIfAbsent(type.unwrap(), type);
+        }
+    }
+}
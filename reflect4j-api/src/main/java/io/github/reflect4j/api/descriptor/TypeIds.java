@@ -0,0 +1,126 @@
+package io.github.reflect4j.api.descriptor;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.HashSet;
+import java.util.Set;
+
+/// # TypeIds
+///
+/// Interns classes into a dense space of `int` ids, so that sets of types can be stored as
+/// bitsets and membership becomes a single bit test.
+///
+/// Ids are assigned on first request, starting at `0`, and stay stable for the lifetime of the
+/// class. They are attached through [ClassValue], so interning never keeps a class or its class
+/// loader alive. Once a class has been unloaded, its id is reclaimed and handed out again, lowest
+/// first, so the id space, and with it the size of every bitset, stays bounded by the number of
+/// live classes even on hosts that keep redeploying class loaders.
+///
+/// Reuse is safe as long as every bitset keeps the classes it contains reachable, as
+/// [TypeHierarchy] and [MetaAnnotationIndex] do through their type lists: a bit can then only be
+/// reclaimed once no bitset holds it anymore.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class TypeIds {
+
+    private static final ClassValue<Id> IDS = new ClassValue<>() {
+        @Override
+        protected Id computeValue(Class<?> type) {
+            return assign();
+        }
+    };
+
+    private static final ReferenceQueue<Id> RELEASED = new ReferenceQueue<>();
+    private static final Set<Release> PENDING = new HashSet<>();
+    private static final BitSet FREE = new BitSet();
+    private static int next;
+
+    private TypeIds() {
+    }
+
+    /// Returns the id of the given class, assigning one on first request.
+    ///
+    /// @param type the class; must not be `null`
+    ///
+    /// @return the id; never negative
+    /// @throws NullPointerException if the type is `null`
+    public static int id(Class<?> type) {
+        return IDS.get(Objects.requireNonNull(type, "type must not be null")).value;
+    }
+
+    /// Returns the highest number of ids in use at once so far; every id is below this bound.
+    ///
+    /// @return the current bound of the id space
+    public static synchronized int bound() {
+        return next;
+    }
+
+    /// Returns whether the given bitset words contain the id of the given class.
+    ///
+    /// @param words the bitset, with id `i` at bit `i % 64` of word `i / 64`; must not be `null`
+    /// @param type  the class; must not be `null`
+    ///
+    /// @return `true` if the bit of the class is set
+    /// @throws NullPointerException if the words or type is `null`
+    public static boolean contains(long[] words, Class<?> type) {
+        int id = id(type);
+        int word = id >>> 6;
+        return word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    /// Sets the bit of the given class in the bitset words, growing them if needed, and returns the result.
+    static long[] add(long[] words, Class<?> type) {
+        int id = id(type);
+        int word = id >>> 6;
+        long[] result = word < words.length ? words : Arrays.copyOf(words, word + 1);
+        result[word] |= 1L << id;
+        return result;
+    }
+
+    /// Returns a new id, the lowest reclaimed one if any, after reclaiming the ids of unloaded classes.
+    ///
+    /// An id is only reachable from the [ClassValue] entry of its class, so it is released once
+    /// the class is unloaded, or right away if it lost a race in [ClassValue#computeValue].
+    private static synchronized Id assign() {
+        for (Reference<? extends Id> ref; (ref = RELEASED.poll()) != null; ) {
+            Release release = (Release) ref;
+            PENDING.remove(release);
+            FREE.set(release.value);
+        }
+        int value = FREE.nextSetBit(0);
+        if (value < 0) {
+            value = next++;
+        } else {
+            FREE.clear(value);
+        }
+        Id id = new Id(value);
+        PENDING.add(new Release(id));
+        return id;
+    }
+
+    /// The id of one class, held by its [ClassValue] entry only.
+    private static final class Id {
+
+        final int value;
+
+        Id(int value) {
+            this.value = value;
+        }
+    }
+
+    /// Reclaims an id once its holder has become unreachable.
+    private static final class Release extends PhantomReference<Id> {
+
+        final int value;
+
+        Release(Id id) {
+            super(id, RELEASED);
+            this.value = id.value;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.reflect4j.api.exception;
+
+import java.io.Serial;
+
+/// # AmbiguousMethodException
+///
+/// Exception thrown when a call matches several overloads of a method and none of them is more
+/// specific than all the others.
+/// Extends [ReflectionException] for consistent runtime exception handling.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public class AmbiguousMethodException extends ReflectionException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public AmbiguousMethodException(String message) {
+        super(message);
+    }
+
+    public AmbiguousMethodException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public AmbiguousMethodException(Throwable cause) {
+        super(cause);
+    }
+}
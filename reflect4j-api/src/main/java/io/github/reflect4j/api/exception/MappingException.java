@@ -0,0 +1,29 @@
+package io.github.reflect4j.api.exception;
+
+import java.io.Serial;
+
+/// # MappingException
+///
+/// Exception thrown when an object cannot be mapped to another type, either because no copy plan
+/// can be compiled for the pair of types or because copying a field fails at runtime.
+/// Extends [ReflectionException] for consistent runtime exception handling.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public class MappingException extends ReflectionException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public MappingException(String message) {
+        super(message);
+    }
+
+    public MappingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public MappingException(Throwable cause) {
+        super(cause);
+    }
+}
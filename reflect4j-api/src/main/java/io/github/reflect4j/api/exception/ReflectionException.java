@@ -13,6 +13,8 @@ public class ReflectionException extends RuntimeException {
 
     @Serial
     private static final long serialVersionUID = 1L;
+
+    private static final boolean DEBUG = Boolean.getBoolean("reflect4j.debug");
     
     public ReflectionException(String message) {
         super(message);
@@ -27,9 +29,10 @@ public class ReflectionException extends RuntimeException {
     }
 
     /// Lightweight version: no stack trace creation for high-performance scenarios.
-    /// Uncomment only if you are creating exceptions in tight loops.
+    /// Stack traces are captured only when the `reflect4j.debug` system property is `true`
+    /// (e.g. `-Dreflect4j.debug=true`), for tracking down where a failure was raised.
     @Override
     public synchronized Throwable fillInStackTrace() {
-        return this;
+        return DEBUG ? super.fillInStackTrace() : this;
     }
 }
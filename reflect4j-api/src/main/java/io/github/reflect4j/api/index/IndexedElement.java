@@ -0,0 +1,51 @@
+package io.github.reflect4j.api.index;
+
+import java.util.List;
+
+/// # IndexedElement
+///
+/// A type or member recorded in a [MetadataIndex].
+///
+/// Member signatures use JVM descriptors, e.g. `name:Ljava/lang/String;`, `process(Ljava/lang/String;I)V`
+/// and `<init>(I)V`, and can be matched with [io.github.reflect4j.api.signature.SignatureParser].
+///
+/// @param kind         the element kind; never `null`
+/// @param signature    the binary name of a type or the signature of a member; never `null`
+/// @param annotations  the signatures of the runtime-visible annotations, e.g. `@com.example.Entity`
+/// @param alias        the aliases declared by `@R4jAlias`, or `null` if not aliased
+/// @param ignoreReason the reason given by `@R4jIgnore`, or `null` if not ignored
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public record IndexedElement(Kind kind, String signature, List<String> annotations, Alias alias,
+                             String ignoreReason) {
+
+    /// Returns whether the element carries an annotation with the given signature.
+    ///
+    /// @param signature the annotation signature with `@` prefix; must not be `null`
+    ///
+    /// @return `true` if the annotation is present
+    public boolean hasAnnotation(String signature) {
+        return annotations.contains(signature);
+    }
+
+    /// Returns whether the element is annotated with `@R4jIgnore`.
+    ///
+    /// @return `true` if ignored
+    public boolean isIgnored() {
+        return ignoreReason != null;
+    }
+
+    /// Kind of an indexed element.
+    public enum Kind {
+        TYPE, FIELD, METHOD, CONSTRUCTOR
+    }
+
+    /// Aliases declared by `@R4jAlias`.
+    ///
+    /// @param names         the alias names; never `null`
+    /// @param primary       whether aliases are checked before the real name
+    /// @param caseSensitive whether aliases are compared case-sensitively
+    public record Alias(List<String> names, boolean primary, boolean caseSensitive) {
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.reflect4j.api.index;
+
+import java.util.List;
+import java.util.Objects;
+
+/// # IndexedType
+///
+/// A type recorded in a [MetadataIndex], with its annotated members.
+///
+/// @param name    the binary name of the type, e.g. `com.example.Outer$Inner`; never `null`
+/// @param element the type itself; never `null`
+/// @param members the annotated fields, methods and constructors, in declaration order; never `null`
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public record IndexedType(String name, IndexedElement element, List<IndexedElement> members) {
+
+    /// Returns the member with the given signature.
+    ///
+    /// @param signature the member signature as recorded in the index; must not be `null`
+    ///
+    /// @return the member, or `null` if it is not indexed
+    /// @throws NullPointerException if the signature is `null`
+    public IndexedElement member(String signature) {
+        Objects.requireNonNull(signature, "signature must not be null");
+        for (IndexedElement member : members) {
+            if (member.signature().equals(signature)) {
+                return member;
+            }
+        }
+        return null;
+    }
+}
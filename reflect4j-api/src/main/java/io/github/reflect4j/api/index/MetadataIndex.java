@@ -0,0 +1,299 @@
+package io.github.reflect4j.api.index;
+
+import io.github.reflect4j.api.exception.ReflectionException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/// # MetadataIndex
+///
+/// Runtime view of the metadata indexes written at compile time by the Reflect4j annotation
+/// processor to `META-INF/reflect4j/index`.
+///
+/// An index lists the annotated types and members of one compilation unit set, with their
+/// annotation signatures, `@R4jAlias` aliases and `@R4jIgnore` reasons. [#load(ClassLoader)]
+/// merges the indexes of every JAR and directory visible to a class loader, in class path order;
+/// if a type appears in several indexes, the first one wins. Loading reads only the index files,
+/// so its cost grows with the number of annotated elements, not with the size of the class path.
+///
+/// When [#isPresent()] returns `true`, Reflect4j prefers the index to reflection for alias and
+/// ignore metadata. Indexes are cached per class loader, without keeping the loader alive.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class MetadataIndex {
+
+    /// Location of the index files on the class path.
+    public static final String RESOURCE = "META-INF/reflect4j/index";
+
+    private static final String HEADER = "reflect4j-index 1";
+    private static final Map<ClassLoader, MetadataIndex> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, IndexedType> types;
+    private final boolean present;
+    private volatile Map<String, List<IndexedType>> byAnnotation;
+
+    private MetadataIndex(Map<String, IndexedType> types, boolean present) {
+        this.types = types;
+        this.present = present;
+    }
+
+    /// Returns the merged index of all index files visible to the given class loader.
+    ///
+    /// @param loader the class loader; `null` for the system class loader
+    ///
+    /// @return the merged index, possibly empty; never `null`
+    /// @throws ReflectionException if an index file cannot be read or is malformed
+    public static MetadataIndex load(ClassLoader loader) {
+        ClassLoader key = loader != null ? loader : ClassLoader.getSystemClassLoader();
+        MetadataIndex index = CACHE.get(key);
+        if (index == null) {
+            index = read(key);
+            MetadataIndex existing = CACHE.putIfAbsent(key, index);
+            if (existing != null) {
+                index = existing;
+            }
+        }
+        return index;
+    }
+
+    /// Returns the merged index visible to the class loader of the given class.
+    ///
+    /// @param type the class; must not be `null`
+    ///
+    /// @return the merged index, possibly empty; never `null`
+    /// @throws NullPointerException if the type is `null`
+    /// @throws ReflectionException  if an index file cannot be read or is malformed
+    public static MetadataIndex of(Class<?> type) {
+        return load(Objects.requireNonNull(type, "type must not be null").getClassLoader());
+    }
+
+    /// Returns whether at least one index file was found.
+    ///
+    /// @return `true` if the index is backed by index files
+    public boolean isPresent() {
+        return present;
+    }
+
+    /// Returns all indexed types.
+    ///
+    /// @return an immutable collection of types in class path order; never `null`
+    public List<IndexedType> types() {
+        return List.copyOf(types.values());
+    }
+
+    /// Returns the indexed type with the given binary name.
+    ///
+    /// @param name the binary name, e.g. `com.example.Outer$Inner`; must not be `null`
+    ///
+    /// @return the indexed type, or `null` if it is not indexed
+    /// @throws NullPointerException if the name is `null`
+    public IndexedType type(String name) {
+        return types.get(Objects.requireNonNull(name, "name must not be null"));
+    }
+
+    /// Returns the indexed types directly annotated with the given annotation.
+    ///
+    /// @param signature the annotation signature with `@` prefix, e.g. `@com.example.Entity`; must not be `null`
+    ///
+    /// @return an immutable, possibly empty list of types; never `null`
+    /// @throws NullPointerException if the signature is `null`
+    public List<IndexedType> typesAnnotatedWith(String signature) {
+        Objects.requireNonNull(signature, "signature must not be null");
+        Map<String, List<IndexedType>> index = byAnnotation;
+        if (index == null) {
+            Map<String, List<IndexedType>> m = new HashMap<>();
+            for (IndexedType type : types.values()) {
+                for (String annotation : type.element().annotations()) {
+                    m.computeIfAbsent(annotation, k -> new ArrayList<>()).add(type);
+                }
+            }
+            m.replaceAll((annotation, list) -> List.copyOf(list));
+            byAnnotation = index = m;
+        }
+        return index.getOrDefault(signature, List.of());
+    }
+
+    private static MetadataIndex read(ClassLoader loader) {
+        Map<String, IndexedType> types = new LinkedHashMap<>();
+        boolean present = false;
+        try {
+            Enumeration<URL> resources = loader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                present = true;
+                read(resources.nextElement(), types);
+            }
+        } catch (IOException e) {
+            throw new ReflectionException("Cannot read " + RESOURCE, e);
+        }
+        return new MetadataIndex(Collections.unmodifiableMap(types), present);
+    }
+
+    private static void read(URL resource, Map<String, IndexedType> types) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (!HEADER.equals(header)) {
+                throw new ReflectionException("Unsupported index format in " + resource + ": " + header);
+            }
+            Parser parser = new Parser(resource, types);
+            String line;
+            int number = 1;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (!line.isEmpty()) {
+                    parser.line(line, number);
+                }
+            }
+            parser.finish();
+        }
+    }
+
+    /// Builds indexed types from the lines of one index file.
+    private static final class Parser {
+
+        private final URL resource;
+        private final Map<String, IndexedType> types;
+
+        private String typeName;
+        private IndexedElement type;
+        private final List<IndexedElement> members = new ArrayList<>();
+
+        private IndexedElement.Kind kind;
+        private String signature;
+        private final List<String> annotations = new ArrayList<>();
+        private IndexedElement.Alias alias;
+        private String ignoreReason;
+
+        Parser(URL resource, Map<String, IndexedType> types) {
+            this.resource = resource;
+            this.types = types;
+        }
+
+        void line(String line, int number) {
+            if (line.length() < 2 || line.charAt(1) != ' ') {
+                throw malformed(number);
+            }
+            String value = line.substring(2);
+            switch (line.charAt(0)) {
+                case 'T' -> {
+                    finishType();
+                    typeName = unescape(value);
+                    start(IndexedElement.Kind.TYPE, typeName);
+                }
+                case 'F' -> member(IndexedElement.Kind.FIELD, value, number);
+                case 'M' -> member(IndexedElement.Kind.METHOD, value, number);
+                case 'C' -> member(IndexedElement.Kind.CONSTRUCTOR, value, number);
+                case '@' -> {
+                    requireElement(number);
+                    annotations.add(value);
+                }
+                case 'a' -> {
+                    requireElement(number);
+                    String[] parts = value.split("\t", -1);
+                    String[] flags = parts[0].split(" ");
+                    if (flags.length != 2) {
+                        throw malformed(number);
+                    }
+                    List<String> names = new ArrayList<>(parts.length - 1);
+                    for (int i = 1; i < parts.length; i++) {
+                        names.add(unescape(parts[i]));
+                    }
+                    alias = new IndexedElement.Alias(List.copyOf(names), "1".equals(flags[0]), "1".equals(flags[1]));
+                }
+                case 'i' -> {
+                    requireElement(number);
+                    ignoreReason = unescape(value);
+                }
+                default -> throw malformed(number);
+            }
+        }
+
+        void finish() {
+            finishType();
+        }
+
+        private void member(IndexedElement.Kind memberKind, String value, int number) {
+            if (typeName == null) {
+                throw malformed(number);
+            }
+            finishElement();
+            start(memberKind, unescape(value));
+        }
+
+        private void start(IndexedElement.Kind elementKind, String elementSignature) {
+            kind = elementKind;
+            signature = elementSignature;
+        }
+
+        private void finishElement() {
+            if (kind == null) {
+                return;
+            }
+            IndexedElement element = new IndexedElement(kind, signature, List.copyOf(annotations), alias, ignoreReason);
+            if (kind == IndexedElement.Kind.TYPE) {
+                type = element;
+            } else {
+                members.add(element);
+            }
+            kind = null;
+            annotations.clear();
+            alias = null;
+            ignoreReason = null;
+        }
+
+        private void finishType() {
+            finishElement();
+            if (typeName != null) {
+                types.putIfAbsent(typeName, new IndexedType(typeName, type, List.copyOf(members)));
+            }
+            typeName = null;
+            type = null;
+            members.clear();
+        }
+
+        private void requireElement(int number) {
+            if (kind == null) {
+                throw malformed(number);
+            }
+        }
+
+        private ReflectionException malformed(int number) {
+            return new ReflectionException("Malformed index " + resource + " at line " + number);
+        }
+
+        private static String unescape(String value) {
+            if (value.indexOf('\\') < 0) {
+                return value;
+            }
+            StringBuilder sb = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\\' && i + 1 < value.length()) {
+                    char next = value.charAt(++i);
+                    sb.append(switch (next) {
+                        case 't' -> '\t';
+                        case 'n' -> '\n';
+                        case 'r' -> '\r';
+                        default -> next;
+                    });
+                } else {
+                    sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package io.github.reflect4j.api.invoke;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/// # AsyncInvocations
+///
+/// Executor and fan-out support behind the asynchronous invocations of the descriptors, such as
+/// [io.github.reflect4j.api.descriptor.MethodDescriptor#invokeAsync(Object, Object...)].
+///
+/// Asynchronous calls run on the [#getDefaultExecutor()] unless an executor is passed explicitly.
+/// The default starts one virtual thread per call, so blocking targets — handlers doing I/O,
+/// waiting on locks or sleeping — can be kept in flight by the thousands without sizing a pool.
+/// It can be replaced globally via [#setDefaultExecutor(Executor)].
+///
+/// [#fanOut(List, Function, int, Executor)] runs one call per input with bounded concurrency:
+/// `maxConcurrency` workers claim inputs one at a time until all are done, and the results are
+/// aggregated in input order. The fan-out is structured: cancelling the returned future stops
+/// the workers from claiming further inputs and interrupts the calls in flight, and a call that
+/// throws instead of returning a result fails the whole fan-out the same way.
+///
+/// **Example:**
+/// ```java
+/// CompletableFuture<List<MethodInvocationResult<Object>>> all =
+///         handle.invokeAllAsync(requests, 256, context);
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class AsyncInvocations {
+
+    private static volatile Executor defaultExecutor;
+
+    private AsyncInvocations() {
+    }
+
+    /// Returns the executor used by asynchronous invocations that were not given one explicitly.
+    ///
+    /// Unless set via [#setDefaultExecutor(Executor)], this is a shared executor that starts a new
+    /// virtual thread for each task, created on first use.
+    ///
+    /// @return the default executor; never `null`
+    public static Executor getDefaultExecutor() {
+        Executor executor = defaultExecutor;
+        if (executor == null) {
+            synchronized (AsyncInvocations.class) {
+                executor = defaultExecutor;
+                if (executor == null) {
+                    defaultExecutor = executor = Executors.newVirtualThreadPerTaskExecutor();
+                }
+            }
+        }
+        return executor;
+    }
+
+    /// Sets the executor used by asynchronous invocations that were not given one explicitly.
+    ///
+    /// The previous executor is not shut down; calls already submitted to it run to completion.
+    ///
+    /// @param executor the new default executor; must not be `null`
+    /// @throws NullPointerException if the executor is `null`
+    public static void setDefaultExecutor(Executor executor) {
+        defaultExecutor = Objects.requireNonNull(executor, "executor must not be null");
+    }
+
+    /// Runs a single call asynchronously.
+    ///
+    /// @param <R>      the result type
+    /// @param call     the call; must not be `null`
+    /// @param executor the executor to run the call on; must not be `null`
+    ///
+    /// @return a future completed with the call's result, or exceptionally if the call throws or
+    ///         the executor rejects it; never `null`
+    /// @throws NullPointerException if the call or the executor is `null`
+    public static <R> CompletableFuture<R> submit(Supplier<R> call, Executor executor) {
+        Objects.requireNonNull(call, "call must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        try {
+            return CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /// Runs one call per input with bounded concurrency and aggregates the results in input order.
+    ///
+    /// At most `maxConcurrency` calls are in flight at any time. The returned future completes with
+    /// an immutable list whose `i`-th element is the result for `inputs.get(i)`. Calls are expected
+    /// to report failures in their result; if a call throws instead, or the executor rejects a
+    /// worker, the future completes exceptionally with that exception and the remaining calls are
+    /// cancelled.
+    ///
+    /// Cancelling the returned future stops claiming new inputs and interrupts the calls in flight.
+    ///
+    /// @param <T>            the input type
+    /// @param <R>            the result type
+    /// @param inputs         the inputs, one call each; must not be `null`
+    /// @param call           the call to run per input; must not return `null`
+    /// @param maxConcurrency the maximum number of calls in flight; must be positive
+    /// @param executor       the executor to run the workers on; must not be `null`
+    ///
+    /// @return a future of the results in input order; never `null`
+    /// @throws IllegalArgumentException if `maxConcurrency` is not positive
+    /// @throws NullPointerException     if any argument is `null`
+    public static <T, R> CompletableFuture<List<R>> fanOut(List<? extends T> inputs, Function<? super T, ? extends R> call,
+                                                           int maxConcurrency, Executor executor) {
+        Objects.requireNonNull(inputs, "inputs must not be null");
+        Objects.requireNonNull(call, "call must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        Object[] snapshot = inputs.toArray();
+        if (snapshot.length == 0) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        FanOut<T, R> fanOut = new FanOut<>(snapshot, call, Math.min(maxConcurrency, snapshot.length));
+        fanOut.start(executor);
+        return fanOut.future;
+    }
+
+    /// State of one fan-out: the shared claim counter, the results and the threads in flight.
+    ///
+    /// Each worker has a state slot that holds its thread while, and only while, it is inside a
+    /// call. Cancelling claims a slot by swapping the thread for [#INTERRUPTING] before
+    /// interrupting it, and a worker leaving a call swaps its thread back out; whichever side loses
+    /// the swap knows the other one won. A worker that loses waits until the interrupt has been
+    /// delivered and then clears it, so an interrupt only ever reaches a call of this fan-out and
+    /// never the next task of the executor's thread.
+    private static final class FanOut<T, R> {
+
+        /// Slot state while the fan-out interrupts the worker's thread.
+        private static final Object INTERRUPTING = new Object();
+        /// Slot state once the interrupt has been delivered.
+        private static final Object INTERRUPTED = new Object();
+
+        private final CompletableFuture<List<R>> future = new CompletableFuture<>();
+        private final Object[] inputs;
+        private final Function<? super T, ? extends R> call;
+        private final Object[] results;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger running;
+        private final AtomicReferenceArray<Object> workers;
+
+        FanOut(Object[] inputs, Function<? super T, ? extends R> call, int concurrency) {
+            this.inputs = inputs;
+            this.call = call;
+            this.results = new Object[inputs.length];
+            this.running = new AtomicInteger(concurrency);
+            this.workers = new AtomicReferenceArray<>(concurrency);
+            future.whenComplete((list, failure) -> {
+                if (failure != null) {
+                    interruptWorkers();
+                }
+            });
+        }
+
+        void start(Executor executor) {
+            for (int w = 0; w < workers.length(); w++) {
+                int worker = w;
+                try {
+                    executor.execute(() -> work(worker));
+                } catch (RejectedExecutionException e) {
+                    future.completeExceptionally(e);
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void work(int worker) {
+            Thread thread = Thread.currentThread();
+            try {
+                for (int i; !future.isDone() && (i = next.getAndIncrement()) < inputs.length; ) {
+                    if (!enter(worker, thread)) {
+                        break;
+                    }
+                    try {
+                        results[i] = Objects.requireNonNull(call.apply((T) inputs[i]), "call returned null");
+                    } finally {
+                        exit(worker, thread);
+                    }
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+            if (running.decrementAndGet() == 0 && !future.isDone()) {
+                future.complete((List<R>) List.of(results));
+            }
+        }
+
+        /// Publishes the worker's thread before a call, unless the fan-out is already over.
+        ///
+        /// The check follows the publication, so a cancellation either sees the thread and
+        /// interrupts the call, or completed before the check and the call does not start.
+        private boolean enter(int worker, Thread thread) {
+            workers.set(worker, thread);
+            if (future.isDone()) {
+                exit(worker, thread);
+                return false;
+            }
+            return true;
+        }
+
+        /// Withdraws the worker's thread after a call, absorbing an interrupt aimed at that call.
+        private void exit(int worker, Thread thread) {
+            if (!workers.compareAndSet(worker, thread, null)) {
+                while (workers.get(worker) == INTERRUPTING) {
+                    Thread.onSpinWait();
+                }
+                Thread.interrupted();
+                workers.set(worker, null);
+            }
+        }
+
+        private void interruptWorkers() {
+            for (int w = 0; w < workers.length(); w++) {
+                if (workers.get(w) instanceof Thread thread && workers.compareAndSet(w, thread, INTERRUPTING)) {
+                    thread.interrupt();
+                    workers.set(w, INTERRUPTED);
+                }
+            }
+        }
+    }
+}
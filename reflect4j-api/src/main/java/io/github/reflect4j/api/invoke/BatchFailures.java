@@ -0,0 +1,145 @@
+package io.github.reflect4j.api.invoke;
+
+import java.util.Arrays;
+
+/// # BatchFailures
+///
+/// Compact record of the elements that failed in a batch operation, such as
+/// [io.github.reflect4j.api.descriptor.MethodDescriptor#invokeAll(java.util.List, Object[], Object...)].
+///
+/// Instead of one [InvocationResult] per element, a batch reports its failures as two parallel
+/// arrays: the positions of the failed elements, in ascending order, and the exceptions they
+/// threw. The exceptions are the target's own, exactly as an invoker or accessor throws them,
+/// without an intermediate [java.lang.reflect.InvocationTargetException]. A batch in which every
+/// element succeeded returns the shared [#none()] instance, so the common case allocates nothing.
+///
+/// Instances are immutable and safe to share between threads.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class BatchFailures {
+
+    private static final BatchFailures NONE = new BatchFailures(new int[0], new Throwable[0]);
+
+    private final int[] indices;
+    private final Throwable[] failures;
+
+    private BatchFailures(int[] indices, Throwable[] failures) {
+        this.indices = indices;
+        this.failures = failures;
+    }
+
+    /// Returns the shared instance of a batch without failures.
+    ///
+    /// @return the empty failure record; never `null`
+    public static BatchFailures none() {
+        return NONE;
+    }
+
+    /// Returns whether every element of the batch succeeded.
+    ///
+    /// @return `true` if there are no failures
+    public boolean isEmpty() {
+        return indices.length == 0;
+    }
+
+    /// Returns the number of failed elements.
+    ///
+    /// @return the failure count; always non-negative
+    public int size() {
+        return indices.length;
+    }
+
+    /// Returns the position in the batch of the `i`-th failure.
+    ///
+    /// @param i the failure number, from `0` to [#size()] exclusive
+    ///
+    /// @return the index of the failed element in the batch input
+    /// @throws IndexOutOfBoundsException if `i` is out of range
+    public int index(int i) {
+        return indices[i];
+    }
+
+    /// Returns the exception of the `i`-th failure.
+    ///
+    /// @param i the failure number, from `0` to [#size()] exclusive
+    ///
+    /// @return the exception thrown for that element; never `null`
+    /// @throws IndexOutOfBoundsException if `i` is out of range
+    public Throwable failure(int i) {
+        return failures[i];
+    }
+
+    /// Returns the exception thrown for the element at the given position of the batch.
+    ///
+    /// @param index the index of the element in the batch input
+    ///
+    /// @return the exception, or `null` if the element succeeded
+    public Throwable failureAt(int index) {
+        int i = Arrays.binarySearch(indices, index);
+        return i < 0 ? null : failures[i];
+    }
+
+    /// Returns the positions of all failed elements, in ascending order.
+    ///
+    /// @return a copy of the failed indices; never `null`
+    public int[] indices() {
+        return indices.clone();
+    }
+
+    /// Rethrows the failure of the first failed element, if any.
+    ///
+    /// The exception is surfaced like by the throwing invocation paths: unchecked exceptions and
+    /// errors propagate unchanged, checked exceptions are wrapped in a
+    /// [io.github.reflect4j.api.exception.MethodInvocationException].
+    public void rethrowFirst() {
+        if (indices.length != 0) {
+            throw Invocations.unchecked(failures[0]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (indices.length == 0) {
+            return "BatchFailures[]";
+        }
+        return "BatchFailures[size=" + indices.length + ", first=" + indices[0] + ": " + failures[0] + "]";
+    }
+
+    /// Mutable collector of the failures of one batch, or of one slice of a parallel batch.
+    ///
+    /// Failures must be added in ascending index order; collectors of adjacent slices are
+    /// combined left to right with [#addAll(Collector)].
+    static final class Collector {
+
+        private int[] indices;
+        private Throwable[] failures;
+        private int size;
+
+        void add(int index, Throwable failure) {
+            if (indices == null) {
+                indices = new int[4];
+                failures = new Throwable[4];
+            } else if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+                failures = Arrays.copyOf(failures, size * 2);
+            }
+            indices[size] = index;
+            failures[size] = failure;
+            size++;
+        }
+
+        void addAll(Collector other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.indices[i], other.failures[i]);
+            }
+        }
+
+        BatchFailures toFailures() {
+            if (size == 0) {
+                return NONE;
+            }
+            return new BatchFailures(Arrays.copyOf(indices, size), Arrays.copyOf(failures, size));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.reflect4j.api.invoke;
+
+/// # BatchMode
+///
+/// How a batch operation, such as
+/// [io.github.reflect4j.api.descriptor.MethodDescriptor#invokeAll(BatchMode, java.util.List, Object[], Object...)],
+/// distributes its elements.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public enum BatchMode {
+
+    /// Processes the elements one after another on the calling thread.
+    SEQUENTIAL,
+
+    /// Splits batches of at least [#PARALLEL_THRESHOLD] elements into slices processed on the
+    /// common [java.util.concurrent.ForkJoinPool]; smaller batches run sequentially, where the
+    /// cost of forking would outweigh the work.
+    ///
+    /// The target members must be safe to call concurrently. Results are still written to their
+    /// own positions and failures are still reported in ascending order.
+    PARALLEL;
+
+    /// The smallest batch that [#PARALLEL] splits across the common pool.
+    public static final int PARALLEL_THRESHOLD = 8192;
+}
@@ -0,0 +1,206 @@
+package io.github.reflect4j.api.invoke;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/// # Batches
+///
+/// Loops behind the batch operations of the descriptors, such as
+/// [io.github.reflect4j.api.descriptor.MethodDescriptor#invokeAll(java.util.List, Object[], Object...)]
+/// and [io.github.reflect4j.api.descriptor.FieldDescriptor#getAll(Object[], Object[])].
+///
+/// Everything that does not depend on the element is done once per batch: the invoker or accessor
+/// is bound by the caller, the argument count is checked, and the fixed-arity entry point of the
+/// invoker is chosen, so the per-element work is a single call. Results are written to a
+/// caller-supplied array and failures are collected into a [BatchFailures] rather than wrapped
+/// one by one. Errors such as [OutOfMemoryError] are not per-element failures: like on the other
+/// invocation paths (see [Invocations]), they propagate unchanged and abort the batch.
+///
+/// With [BatchMode#PARALLEL], batches of at least [BatchMode#PARALLEL_THRESHOLD] elements are split
+/// into slices on the common [ForkJoinPool]. Each slice collects its own failures, and slices are
+/// joined left to right so the failures stay in ascending order.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class Batches {
+
+    private Batches() {
+    }
+
+    /// Invokes a method with the same arguments on every target.
+    ///
+    /// @param invoker        the bound invoker; must not be `null`
+    /// @param parameterCount the parameter count of the method
+    /// @param targets        the receivers; ignored for static methods; must not be `null`
+    /// @param args           the arguments shared by every call; `null` counts as empty
+    /// @param out            receives the return value of each call at the target's position; `null` to discard
+    /// @param mode           how to distribute the calls; must not be `null`
+    ///
+    /// @return the failed calls; never `null`
+    /// @throws IllegalArgumentException if the number of arguments differs from the parameter count,
+    ///                                  or `out` is shorter than `targets`
+    /// @throws Error                    if a call throws one
+    public static BatchFailures invokeAll(MethodInvoker invoker, int parameterCount, List<?> targets,
+                                          Object[] args, Object[] out, BatchMode mode) {
+        Objects.requireNonNull(invoker, "invoker must not be null");
+        Objects.requireNonNull(mode, "mode must not be null");
+        Object[] arguments = Invocations.checkArity(args, parameterCount);
+        Object[] receivers = targets instanceof RandomAccess ? null : targets.toArray();
+        int size = checkOut(targets.size(), out);
+        return run(size, mode, (from, to, failures) -> {
+            for (int i = from; i < to; i++) {
+                Object target = receivers == null ? targets.get(i) : receivers[i];
+                try {
+                    Object result = call(invoker, target, arguments);
+                    if (out != null) {
+                        out[i] = result;
+                    }
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    failures.add(i, e);
+                }
+            }
+        });
+    }
+
+    /// Invokes a method once per target, each time with its own arguments.
+    ///
+    /// A call whose arguments do not match the parameter count fails with an
+    /// [IllegalArgumentException], which is recorded like any other failure.
+    ///
+    /// @param invoker the bound invoker; must not be `null`
+    /// @param targets the receivers; ignored for static methods; must not be `null`
+    /// @param args    the arguments of each call, at the target's position; a `null` row counts as empty
+    /// @param out     receives the return value of each call at the target's position; `null` to discard
+    /// @param mode    how to distribute the calls; must not be `null`
+    ///
+    /// @return the failed calls; never `null`
+    /// @throws IllegalArgumentException if `args` or `out` is shorter than `targets`
+    /// @throws Error                    if a call throws one
+    public static BatchFailures invokeEach(MethodInvoker invoker, Object[] targets, Object[][] args,
+                                           Object[] out, BatchMode mode) {
+        Objects.requireNonNull(invoker, "invoker must not be null");
+        Objects.requireNonNull(mode, "mode must not be null");
+        int size = checkOut(targets.length, out);
+        if (args.length < size) {
+            throw new IllegalArgumentException("args has " + args.length + " rows, expected: " + size);
+        }
+        return run(size, mode, (from, to, failures) -> {
+            for (int i = from; i < to; i++) {
+                try {
+                    Object result = call(invoker, targets[i], args[i]);
+                    if (out != null) {
+                        out[i] = result;
+                    }
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    failures.add(i, e);
+                }
+            }
+        });
+    }
+
+    /// Reads a field from every target.
+    ///
+    /// @param accessor the bound accessor; must not be `null`
+    /// @param targets  the owning instances; ignored for static fields; must not be `null`
+    /// @param out      receives the value read from each target at the target's position, boxed
+    ///                 if primitive; must not be `null`
+    /// @param mode     how to distribute the reads; must not be `null`
+    ///
+    /// @return the failed reads; never `null`
+    /// @throws IllegalArgumentException if `out` is shorter than `targets`
+    /// @throws Error                    if a read throws one
+    public static BatchFailures getAll(FieldAccessor accessor, Object[] targets, Object[] out, BatchMode mode) {
+        Objects.requireNonNull(accessor, "accessor must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+        Objects.requireNonNull(mode, "mode must not be null");
+        int size = checkOut(targets.length, out);
+        return run(size, mode, (from, to, failures) -> {
+            for (int i = from; i < to; i++) {
+                try {
+                    out[i] = accessor.get(targets[i]);
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    failures.add(i, e);
+                }
+            }
+        });
+    }
+
+    private static Object call(MethodInvoker invoker, Object target, Object[] args) throws Throwable {
+        return switch (args == null ? 0 : args.length) {
+            case 0 -> invoker.invoke0(target);
+            case 1 -> invoker.invoke1(target, args[0]);
+            case 2 -> invoker.invoke2(target, args[0], args[1]);
+            case 3 -> invoker.invoke3(target, args[0], args[1], args[2]);
+            case 4 -> invoker.invoke4(target, args[0], args[1], args[2], args[3]);
+            default -> invoker.invoke(target, args);
+        };
+    }
+
+    private static int checkOut(int size, Object[] out) {
+        if (out != null && out.length < size) {
+            throw new IllegalArgumentException("out has length " + out.length + ", expected at least: " + size);
+        }
+        return size;
+    }
+
+    private static BatchFailures run(int size, BatchMode mode, Slice slice) {
+        BatchFailures.Collector failures = new BatchFailures.Collector();
+        if (mode == BatchMode.PARALLEL && size >= BatchMode.PARALLEL_THRESHOLD) {
+            int leaf = Math.max(BatchMode.PARALLEL_THRESHOLD / 8, size / (ForkJoinPool.getCommonPoolParallelism() * 4));
+            ForkJoinPool.commonPool().invoke(new SliceTask(slice, 0, size, leaf, failures));
+        } else {
+            slice.run(0, size, failures);
+        }
+        return failures.toFailures();
+    }
+
+    /// The loop of one batch operation over a range of elements.
+    @FunctionalInterface
+    private interface Slice {
+        void run(int from, int to, BatchFailures.Collector failures);
+    }
+
+    /// Splits a range in halves until it is at most `leaf` elements long.
+    ///
+    /// Tasks are never serialized, although [RecursiveAction] is [java.io.Serializable].
+    @SuppressWarnings("serial")
+    private static final class SliceTask extends RecursiveAction {
+
+        private final Slice slice;
+        private final int from;
+        private final int to;
+        private final int leaf;
+        private final BatchFailures.Collector failures;
+
+        SliceTask(Slice slice, int from, int to, int leaf, BatchFailures.Collector failures) {
+            this.slice = slice;
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+            this.failures = failures;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leaf) {
+                slice.run(from, to, failures);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            SliceTask right = new SliceTask(slice, middle, to, leaf, new BatchFailures.Collector());
+            right.fork();
+            new SliceTask(slice, from, middle, leaf, failures).compute();
+            right.join();
+            failures.addAll(right.failures);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.reflect4j.api.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static io.github.reflect4j.api.invoke.InvokerClassWriter.descriptor;
+
+/// # Companions
+///
+/// Finds the [GeneratedAccessors] companion of a class and asks it for the invoker of a member.
+///
+/// The companion is resolved once per class through its binary name and cached; classes
+/// without a companion, or whose companion cannot be loaded or instantiated, are remembered as
+/// such and cost a single [ClassValue] lookup afterwards.
+///
+/// Companions are package-private classes with a private constructor, so they are instantiated
+/// through a private lookup in the companion, which requires its package to be open to Reflect4j
+/// just like field handles do. Only a class of the same package and loader is accepted as the
+/// companion of a type.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class Companions {
+
+    /// Suffix appended to the binary name of a class to form the name of its companion.
+    static final String SUFFIX = "$R4jAccessors";
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<GeneratedAccessors> COMPANIONS = new ClassValue<>() {
+        @Override
+        protected GeneratedAccessors computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    private Companions() {
+    }
+
+    /// Returns the generated invoker of a method, or `null` if its class has no companion covering it.
+    static MethodInvoker method(Method method) {
+        GeneratedAccessors companion = COMPANIONS.get(method.getDeclaringClass());
+        return companion == null ? null
+                : companion.method(method.getName() + descriptor(method.getParameterTypes(), method.getReturnType()));
+    }
+
+    /// Returns the generated invoker of a constructor, or `null` if its class has no companion covering it.
+    static ConstructorInvoker constructor(Constructor<?> constructor) {
+        GeneratedAccessors companion = COMPANIONS.get(constructor.getDeclaringClass());
+        return companion == null ? null
+                : companion.constructor("<init>" + descriptor(constructor.getParameterTypes(), void.class));
+    }
+
+    /// Returns the generated accessor of a field, or `null` if its class has no companion covering it.
+    static FieldAccessor field(Field field) {
+        GeneratedAccessors companion = COMPANIONS.get(field.getDeclaringClass());
+        return companion == null ? null : companion.field(field.getName());
+    }
+
+    private static GeneratedAccessors load(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isHidden()) {
+            return null;
+        }
+        try {
+            Class<?> companion = Class.forName(type.getName() + SUFFIX, true, type.getClassLoader());
+            if (!GeneratedAccessors.class.isAssignableFrom(companion) || companion.getClassLoader() != type.getClassLoader()
+                    || !companion.getPackageName().equals(type.getPackageName())) {
+                return null;
+            }
+            MethodHandle constructor = MethodHandles.privateLookupIn(companion, LOOKUP)
+                    .findConstructor(companion, MethodType.methodType(void.class));
+            return (GeneratedAccessors) constructor.invoke();
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            return null;
+        } catch (Throwable e) {
+            throw Invocations.unchecked(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.reflect4j.api.invoke;
+
+/// # ConstructorInvocationResult
+///
+/// Outcome of [io.github.reflect4j.api.descriptor.ConstructorDescriptor#invoke(Object...)]: the
+/// created instance, or the exception the constructor threw.
+///
+/// Results are created through the static factories. A successful result holds the instance in
+/// a single immutable field, so the JIT can scalar-replace it when the caller consumes it inline;
+/// see [InvocationResult] for the accessors.
+///
+/// @param <T> the type of the created instance
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public interface ConstructorInvocationResult<T> extends InvocationResult<T> {
+
+    /// Returns a successful result holding the given created instance.
+    ///
+    /// @param <T>   the type of the created instance
+    /// @param value the created instance
+    ///
+    /// @return the result; never `null`
+    static <T> ConstructorInvocationResult<T> success(T value) {
+        return Results.success(value);
+    }
+
+    /// Returns a failed result.
+    ///
+    /// The exception is kept as given; an [java.lang.reflect.InvocationTargetException] is
+    /// unwrapped to its cause only when [#getException()] is called.
+    ///
+    /// @param <T>       the type of the created instance
+    /// @param exception the exception thrown by the constructor; must not be `null`
+    ///
+    /// @return the result; never `null`
+    /// @throws NullPointerException if the exception is `null`
+    static <T> ConstructorInvocationResult<T> failure(Throwable exception) {
+        return Results.failure(exception);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.reflect4j.api.invoke;
+
+/// # ConstructorInvoker
+///
+/// Low-level call path a [io.github.reflect4j.api.descriptor.ConstructorDescriptor] routes its
+/// instantiations through.
+///
+/// An invoker is bound once per constructor by an [InvocationEngine] and then reused for every
+/// call. It returns the created instance directly and lets the exception thrown by the
+/// constructor propagate unchanged.
+///
+/// Besides the array-based [#invoke(Object[])], invokers offer fixed-arity entry points
+/// (`invoke0` ... `invoke4`) that avoid the argument array. The default implementations fall
+/// back to [#invoke(Object[])]; invokers bound by [InvocationEngine#METHOD_HANDLE] and
+/// [InvocationEngine#GENERATED] override them with allocation-free paths.
+///
+/// Implementations are immutable and safe to share between threads.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public interface ConstructorInvoker {
+
+    /// Invokes the bound constructor.
+    ///
+    /// If the constructor is varargs, the variable arity parameter is passed as a single
+    /// array argument.
+    ///
+    /// @param args the arguments; may be `null` if the constructor takes no parameters
+    ///
+    /// @return the newly created instance; never `null`
+    /// @throws Throwable whatever the constructor throws, or an argument conversion error
+    Object invoke(Object[] args) throws Throwable;
+
+    /// Invokes the bound constructor without arguments.
+    ///
+    /// @return the newly created instance; never `null`
+    /// @throws Throwable whatever the constructor throws, or an argument conversion error
+    default Object invoke0() throws Throwable {
+        return invoke(null);
+    }
+
+    /// Invokes the bound constructor with exactly 1 argument.
+    ///
+    /// @return the newly created instance; never `null`
+    /// @throws Throwable whatever the constructor throws, or an argument conversion error
+    default Object invoke1(Object arg0) throws Throwable {
+        return invoke(new Object[]{arg0});
+    }
+
+    /// Invokes the bound constructor with exactly 2 arguments.
+    ///
+    /// @return the newly created instance; never `null`
+    /// @throws Throwable whatever the constructor throws, or an argument conversion error
+    default Object invoke2(Object arg0, Object arg1) throws Throwable {
+        return invoke(new Object[]{arg0, arg1});
+    }
+
+    /// Invokes the bound constructor with exactly 3 arguments.
+    ///
+    /// @return the newly created instance; never `null`
+    /// @throws Throwable whatever the constructor throws, or an argument conversion error
+    default Object invoke3(Object arg0, Object arg1, Object arg2) throws Throwable {
+        return invoke(new Object[]{arg0, arg1, arg2});
+    }
+
+    /// Invokes the bound constructor with exactly 4 arguments.
+    ///
+    /// @return the newly created instance; never `null`
+    /// @throws Throwable whatever the constructor throws, or an argument conversion error
+    default Object invoke4(Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return invoke(new Object[]{arg0, arg1, arg2, arg3});
+    }
+}
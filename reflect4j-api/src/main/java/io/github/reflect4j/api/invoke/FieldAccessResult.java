@@ -0,0 +1,50 @@
+package io.github.reflect4j.api.invoke;
+
+/// # FieldAccessResult
+///
+/// Outcome of [io.github.reflect4j.api.descriptor.FieldDescriptor#set(Object, Object)]: success, or the
+/// exception the access threw.
+///
+/// Results are created through the static factories. Successful results without a value are a
+/// single shared instance, so a successful write allocates no result; see
+/// [InvocationResult] for the accessors.
+///
+/// @param <T> the type of the field value
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public interface FieldAccessResult<T> extends InvocationResult<T> {
+
+    /// Returns a successful result holding the given value.
+    ///
+    /// @param <T>   the type of the field value
+    /// @param value the value; `null` for a write
+    ///
+    /// @return the result; the shared empty instance if the value is `null`
+    static <T> FieldAccessResult<T> success(T value) {
+        return Results.success(value);
+    }
+
+    /// Returns the shared successful result without a value.
+    ///
+    /// @param <T> the type of the field value
+    ///
+    /// @return the shared empty result; never `null`
+    static <T> FieldAccessResult<T> empty() {
+        return Results.empty();
+    }
+
+    /// Returns a failed result.
+    ///
+    /// The exception is kept as given; an [java.lang.reflect.InvocationTargetException] is
+    /// unwrapped to its cause only when [#getException()] is called.
+    ///
+    /// @param <T>       the type of the field value
+    /// @param exception the exception thrown by the access; must not be `null`
+    ///
+    /// @return the result; never `null`
+    /// @throws NullPointerException if the exception is `null`
+    static <T> FieldAccessResult<T> failure(Throwable exception) {
+        return Results.failure(exception);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.reflect4j.api.invoke;
+
+/// # FieldAccessor
+///
+/// Low-level access path a [io.github.reflect4j.api.descriptor.FieldDescriptor] routes its
+/// reads and writes through.
+///
+/// An accessor is bound once per field by an [InvocationEngine] and then reused for every
+/// access. Primitive values are boxed on read and unboxed on write.
+///
+/// Implementations are immutable and safe to share between threads.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public interface FieldAccessor {
+
+    /// Reads the bound field.
+    ///
+    /// @param target the owning instance; ignored for static fields
+    ///
+    /// @return the field value, boxed if primitive
+    /// @throws Throwable if the target is of the wrong type or `null` for an instance field
+    Object get(Object target) throws Throwable;
+
+    /// Writes the bound field.
+    ///
+    /// @param target the owning instance; ignored for static fields
+    /// @param value  the new value, boxed if the field is primitive
+    ///
+    /// @throws Throwable if the field is not writable or the value is of the wrong type
+    void set(Object target, Object value) throws Throwable;
+}
@@ -0,0 +1,43 @@
+package io.github.reflect4j.api.invoke;
+
+import io.github.reflect4j.api.exception.ReflectionException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/// # FieldHandles
+///
+/// Resolves the [VarHandle] backing a [io.github.reflect4j.api.descriptor.FieldDescriptor].
+///
+/// Unlike [Field#get(Object)], [MethodHandles.Lookup#unreflectVarHandle(Field)] ignores the
+/// field's accessible flag, so the handle is resolved through a private lookup in the field's
+/// declaring class. Descriptors call this once and cache the result.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class FieldHandles {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private FieldHandles() {
+    }
+
+    /// Returns a variable handle for the given field.
+    ///
+    /// @param field the field; must not be `null`
+    ///
+    /// @return a variable handle with coordinates `(declaringClass)` for instance fields and
+    ///         none for static fields; never `null`
+    /// @throws NullPointerException                                   if the field is `null`
+    /// @throws io.github.reflect4j.api.exception.ReflectionException if the field's package is not open to Reflect4j
+    public static VarHandle varHandle(Field field) {
+        Objects.requireNonNull(field, "field must not be null");
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), LOOKUP).unreflectVarHandle(field);
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException("Cannot resolve var handle for field: " + field, e);
+        }
+    }
+}
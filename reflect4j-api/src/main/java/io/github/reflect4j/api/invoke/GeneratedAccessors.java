@@ -0,0 +1,45 @@
+package io.github.reflect4j.api.invoke;
+
+/// # GeneratedAccessors
+///
+/// Reflection-free accessor companion generated at compile time for a type annotated with
+/// `@io.github.reflect4j.annotations.R4jAccessors`.
+///
+/// A companion is a package-private class with a private no-argument constructor, in the package
+/// of its type, whose binary name is the binary name of its type followed by `$R4jAccessors`.
+/// Only the engines instantiate it, through a private lookup, so it exposes no more than what
+/// [InvocationEngine#bind(java.lang.reflect.Method)] already grants to holders of the member.
+///
+/// When an [InvocationEngine] other than [InvocationEngine#REFLECTION] binds a member, it first
+/// asks the companion of the declaring class; members the companion covers are then called with
+/// plain Java code, and all other members are bound by the engine as usual. Companions are looked up once per class.
+///
+/// Member signatures use JVM descriptors, e.g. `process(Ljava/lang/String;I)V` and `<init>(I)V`.
+///
+/// This interface is implemented by generated code only.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public interface GeneratedAccessors {
+
+    /// Returns a direct invoker for a method of the companion's type.
+    ///
+    /// @param signature the method name followed by its JVM method descriptor
+    ///
+    /// @return an invoker, or `null` if the method is not covered
+    MethodInvoker method(String signature);
+
+    /// Returns a direct invoker for a constructor of the companion's type.
+    ///
+    /// @param signature `<init>` followed by the JVM method descriptor of the constructor
+    ///
+    /// @return an invoker, or `null` if the constructor is not covered
+    ConstructorInvoker constructor(String signature);
+
+    /// Returns a direct accessor for a field of the companion's type.
+    ///
+    /// @param name the field name
+    ///
+    /// @return an accessor, or `null` if the field is not covered
+    FieldAccessor field(String name);
+}
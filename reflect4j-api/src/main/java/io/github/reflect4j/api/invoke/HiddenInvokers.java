@@ -0,0 +1,282 @@
+package io.github.reflect4j.api.invoke;
+
+import io.github.reflect4j.api.invoke.InvokerClassWriter.Code;
+import io.github.reflect4j.api.invoke.InvokerClassWriter.Primitive;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.IntConsumer;
+
+import static io.github.reflect4j.api.invoke.InvokerClassWriter.*;
+
+/// # HiddenInvokers
+///
+/// Spins one hidden class per member that calls it directly, with a plain `invokevirtual`,
+/// `invokestatic`, `invokespecial` or `getfield`, instead of going through reflection or a
+/// method handle.
+///
+/// Each class is defined with [MethodHandles.Lookup#defineHiddenClass] in the package and nest
+/// of the member's declaring class, so it may access private members. The classes are defined
+/// without the `STRONG` option: they are not kept alive by their class loader and are unloaded
+/// as soon as the invoker becomes unreachable, at the latest together with the target class.
+///
+/// Generated code unboxes arguments with a plain `checkcast` to the exact wrapper type, so it
+/// must only be called with arguments that pass [#accepts(Class[], Object[])]; the inflating
+/// invokers route every other call through their method handle fallback.
+///
+/// Generation is best effort: every factory method returns `null` when the member cannot be
+/// reached from a hidden class (hidden or inaccessible types, packages not open to Reflect4j,
+/// class loaders that cannot see the invoker interfaces). A class that cannot be defined is logged
+/// at `DEBUG` level. A [VerifyError] or [ClassFormatError] means the generated code is wrong, so
+/// it propagates instead.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class HiddenInvokers {
+
+    /// Number of calls through the fallback before an inflating invoker generates its class.
+    static final int INFLATION_THRESHOLD =
+            Integer.getInteger(InvocationEngine.INFLATION_THRESHOLD_PROPERTY, 15);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+
+    private HiddenInvokers() {
+    }
+
+    /// Generates a [MethodInvoker] for the given method, or returns `null` if it cannot be generated.
+    static MethodInvoker method(Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Class<?> returnType = method.getReturnType();
+        if (!reachable(owner, MethodInvoker.class) || !accessible(owner, parameterTypes)
+                || !accessible(owner, returnType)) {
+            return null;
+        }
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        InvokerClassWriter cw = new InvokerClassWriter(hiddenName(owner), MethodInvoker.class);
+        int arity = parameterTypes.length;
+        Code spread = cw.method("invoke", "(" + OBJECT_DESCRIPTOR + "[" + OBJECT_DESCRIPTOR + ")" + OBJECT_DESCRIPTOR,
+                3 + slots(parameterTypes), 3);
+        invokeMethod(spread, method, isStatic, i -> spread.op(ALOAD_2).iconst(i).op(AALOAD));
+        if (arity <= MethodHandleMethodInvoker.MAX_FIXED_ARITY) {
+            Code fixed = cw.method("invoke" + arity, "(" + OBJECT_DESCRIPTOR.repeat(arity + 1) + ")" + OBJECT_DESCRIPTOR,
+                    3 + slots(parameterTypes), 2 + arity);
+            invokeMethod(fixed, method, isStatic, i -> fixed.aload(2 + i));
+        }
+        return (MethodInvoker) define(owner, cw.toByteArray());
+    }
+
+    /// Emits the body shared by the spread and fixed-arity method entry points: the receiver
+    /// from local 1, each argument as produced by `loadArgument`, the call and the boxed result.
+    private static void invokeMethod(Code code, Method method, boolean isStatic, IntConsumer loadArgument) {
+        Class<?> owner = method.getDeclaringClass();
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (!isStatic) {
+            code.op(ALOAD_1).type(CHECKCAST, internalName(owner));
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            loadArgument.accept(i);
+            code.unbox(parameterTypes[i]);
+        }
+        code.invoke(isStatic ? INVOKESTATIC : owner.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                internalName(owner), method.getName(), descriptor(parameterTypes, method.getReturnType()),
+                owner.isInterface());
+        code.box(method.getReturnType()).op(ARETURN).end();
+    }
+
+    /// Generates a [ConstructorInvoker] for the given constructor, or returns `null` if it cannot be generated.
+    static ConstructorInvoker constructor(Constructor<?> constructor) {
+        Class<?> owner = constructor.getDeclaringClass();
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        if (Modifier.isAbstract(owner.getModifiers()) || !reachable(owner, ConstructorInvoker.class)
+                || !accessible(owner, parameterTypes)) {
+            return null;
+        }
+        InvokerClassWriter cw = new InvokerClassWriter(hiddenName(owner), ConstructorInvoker.class);
+        int arity = parameterTypes.length;
+        Code spread = cw.method("invoke", "([" + OBJECT_DESCRIPTOR + ")" + OBJECT_DESCRIPTOR,
+                4 + slots(parameterTypes), 2);
+        invokeConstructor(spread, constructor, i -> spread.op(ALOAD_1).iconst(i).op(AALOAD));
+        if (arity <= MethodHandleMethodInvoker.MAX_FIXED_ARITY) {
+            Code fixed = cw.method("invoke" + arity, "(" + OBJECT_DESCRIPTOR.repeat(arity) + ")" + OBJECT_DESCRIPTOR,
+                    2 + slots(parameterTypes), 1 + arity);
+            invokeConstructor(fixed, constructor, i -> fixed.aload(1 + i));
+        }
+        return (ConstructorInvoker) define(owner, cw.toByteArray());
+    }
+
+    /// Emits the body shared by the spread and fixed-arity constructor entry points.
+    private static void invokeConstructor(Code code, Constructor<?> constructor, IntConsumer loadArgument) {
+        String owner = internalName(constructor.getDeclaringClass());
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        code.type(NEW, owner).op(DUP);
+        for (int i = 0; i < parameterTypes.length; i++) {
+            loadArgument.accept(i);
+            code.unbox(parameterTypes[i]);
+        }
+        code.invoke(INVOKESPECIAL, owner, "<init>", descriptor(parameterTypes, void.class), false);
+        code.op(ARETURN).end();
+    }
+
+    /// Generates a [FieldAccessor] for the given non-final field, or returns `null` if it cannot be generated.
+    static FieldAccessor field(Field field) {
+        Class<?> owner = field.getDeclaringClass();
+        Class<?> type = field.getType();
+        if (Modifier.isFinal(field.getModifiers()) || !reachable(owner, FieldAccessor.class)
+                || !accessible(owner, type)) {
+            return null;
+        }
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        String ownerName = internalName(owner);
+        String fieldDescriptor = descriptor(type);
+        InvokerClassWriter cw = new InvokerClassWriter(hiddenName(owner), FieldAccessor.class);
+
+        Code get = cw.method("get", "(" + OBJECT_DESCRIPTOR + ")" + OBJECT_DESCRIPTOR, 2, 2);
+        if (isStatic) {
+            get.field(GETSTATIC, ownerName, field.getName(), fieldDescriptor);
+        } else {
+            get.op(ALOAD_1).type(CHECKCAST, ownerName).field(GETFIELD, ownerName, field.getName(), fieldDescriptor);
+        }
+        get.box(type).op(ARETURN).end();
+
+        Code set = cw.method("set", "(" + OBJECT_DESCRIPTOR + OBJECT_DESCRIPTOR + ")V", 3, 3);
+        if (!isStatic) {
+            set.op(ALOAD_1).type(CHECKCAST, ownerName);
+        }
+        set.op(ALOAD_2).unbox(type)
+                .field(isStatic ? PUTSTATIC : PUTFIELD, ownerName, field.getName(), fieldDescriptor)
+                .op(RETURN).end();
+        return (FieldAccessor) define(owner, cw.toByteArray());
+    }
+
+    /// Returns the wrapper type of each primitive parameter type, with `null` for reference types.
+    static Class<?>[] wrappers(Class<?>[] types) {
+        Class<?>[] wrappers = new Class<?>[types.length];
+        for (int i = 0; i < types.length; i++) {
+            wrappers[i] = types[i].isPrimitive() ? MethodType.methodType(types[i]).wrap().returnType() : null;
+        }
+        return wrappers;
+    }
+
+    /// Returns whether the arguments can be passed to generated code as-is: the count matches
+    /// and every primitive parameter receives a non-null value of its exact wrapper type.
+    static boolean accepts(Class<?>[] wrappers, Object[] args) {
+        if (args == null) {
+            return wrappers.length == 0;
+        }
+        if (args.length != wrappers.length) {
+            return false;
+        }
+        for (int i = 0; i < wrappers.length; i++) {
+            if (!accepts(wrappers[i], args[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Fixed-arity counterpart of [#accepts(Class[], Object[])]; only the first `count` arguments are checked.
+    static boolean accepts(Class<?>[] wrappers, int count, Object arg0, Object arg1, Object arg2, Object arg3) {
+        if (count != wrappers.length) {
+            return false;
+        }
+        return (count < 1 || accepts(wrappers[0], arg0))
+                && (count < 2 || accepts(wrappers[1], arg1))
+                && (count < 3 || accepts(wrappers[2], arg2))
+                && (count < 4 || accepts(wrappers[3], arg3));
+    }
+
+    /// Returns whether a single value can be passed to generated code for a parameter with the given wrapper.
+    static boolean accepts(Class<?> wrapper, Object value) {
+        return wrapper == null || (value != null && value.getClass() == wrapper);
+    }
+
+    /// Defines a generated class in the nest of the host and returns a new instance of it, or
+    /// `null` if the host does not admit it.
+    ///
+    /// @throws VerifyError      if the generated code does not verify
+    /// @throws ClassFormatError if the generated class file is malformed
+    static Object define(Class<?> host, byte[] bytes) {
+        try {
+            MethodHandles.Lookup hidden = MethodHandles.privateLookupIn(host, LOOKUP)
+                    .defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            return hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (VerifyError | ClassFormatError e) {
+            throw e;
+        } catch (LinkageError | RuntimeException e) {
+            return undefined(host, e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            return undefined(host, e);
+        }
+    }
+
+    private static Object undefined(Class<?> host, Throwable cause) {
+        System.getLogger(HiddenInvokers.class.getName()).log(System.Logger.Level.DEBUG,
+                "Cannot define an invoker in " + host.getName() + ", using the fallback", cause);
+        return null;
+    }
+
+    /// Hidden classes must be named within the package of their lookup class.
+    private static String hiddenName(Class<?> owner) {
+        return internalName(owner) + "$$R4jInvoker";
+    }
+
+    /// Returns whether the host's class loader resolves the invoker interface to this very class.
+    private static boolean reachable(Class<?> host, Class<?> invokerType) {
+        if (host.isHidden() || host.isArray() || host.isPrimitive() || host.getClassLoader() == null) {
+            return false;
+        }
+        try {
+            return Class.forName(invokerType.getName(), false, host.getClassLoader()) == invokerType;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static boolean accessible(Class<?> host, Class<?>... types) {
+        for (Class<?> type : types) {
+            if (!accessible(host, type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Returns whether code in the host's package can name the given type at the bytecode level.
+    private static boolean accessible(Class<?> host, Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (type.isHidden()) {
+            return false;
+        }
+        if (type.getClassLoader() == host.getClassLoader() && type.getPackageName().equals(host.getPackageName())) {
+            return true;
+        }
+        for (Class<?> c = type; c != null; c = c.getDeclaringClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return host.getModule().canRead(type.getModule())
+                && type.getModule().isExported(type.getPackageName(), host.getModule());
+    }
+
+    private static int slots(Class<?>[] types) {
+        int slots = 0;
+        for (Class<?> type : types) {
+            slots += type.isPrimitive() ? Primitive.of(type).slots() : 1;
+        }
+        return slots;
+    }
+}
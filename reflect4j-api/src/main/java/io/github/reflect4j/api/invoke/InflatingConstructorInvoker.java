@@ -0,0 +1,99 @@
+package io.github.reflect4j.api.invoke;
+
+import java.lang.reflect.Constructor;
+
+/// # InflatingConstructorInvoker
+///
+/// [ConstructorInvoker] counterpart of [InflatingMethodInvoker]: starts out on a method handle
+/// and switches to a generated hidden-class invoker after [HiddenInvokers#INFLATION_THRESHOLD] calls.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class InflatingConstructorInvoker implements ConstructorInvoker {
+
+    private final Constructor<?> constructor;
+    private final ConstructorInvoker fallback;
+    private final Class<?>[] wrappers;
+    private volatile ConstructorInvoker generated;
+    private boolean inflated;
+    private int calls;
+
+    InflatingConstructorInvoker(Constructor<?> constructor) {
+        this.constructor = constructor;
+        this.fallback = new MethodHandleConstructorInvoker(constructor);
+        this.wrappers = HiddenInvokers.wrappers(constructor.getParameterTypes());
+    }
+
+    @Override
+    public Object invoke(Object[] args) throws Throwable {
+        ConstructorInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, args)) {
+            return g.invoke(args);
+        }
+        count();
+        return fallback.invoke(args);
+    }
+
+    @Override
+    public Object invoke0() throws Throwable {
+        ConstructorInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, 0, null, null, null, null)) {
+            return g.invoke0();
+        }
+        count();
+        return fallback.invoke0();
+    }
+
+    @Override
+    public Object invoke1(Object arg0) throws Throwable {
+        ConstructorInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, 1, arg0, null, null, null)) {
+            return g.invoke1(arg0);
+        }
+        count();
+        return fallback.invoke1(arg0);
+    }
+
+    @Override
+    public Object invoke2(Object arg0, Object arg1) throws Throwable {
+        ConstructorInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, 2, arg0, arg1, null, null)) {
+            return g.invoke2(arg0, arg1);
+        }
+        count();
+        return fallback.invoke2(arg0, arg1);
+    }
+
+    @Override
+    public Object invoke3(Object arg0, Object arg1, Object arg2) throws Throwable {
+        ConstructorInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, 3, arg0, arg1, arg2, null)) {
+            return g.invoke3(arg0, arg1, arg2);
+        }
+        count();
+        return fallback.invoke3(arg0, arg1, arg2);
+    }
+
+    @Override
+    public Object invoke4(Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        ConstructorInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, 4, arg0, arg1, arg2, arg3)) {
+            return g.invoke4(arg0, arg1, arg2, arg3);
+        }
+        count();
+        return fallback.invoke4(arg0, arg1, arg2, arg3);
+    }
+
+    private void count() {
+        if (!inflated && ++calls > HiddenInvokers.INFLATION_THRESHOLD) {
+            inflate();
+        }
+    }
+
+    private synchronized void inflate() {
+        if (!inflated) {
+            inflated = true;
+            generated = HiddenInvokers.constructor(constructor);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.reflect4j.api.invoke;
+
+import java.lang.reflect.Field;
+
+/// # InflatingFieldAccessor
+///
+/// [FieldAccessor] counterpart of [InflatingMethodInvoker]: starts out on method handles and
+/// switches to a generated hidden-class accessor after [HiddenInvokers#INFLATION_THRESHOLD]
+/// reads and writes. Only used for non-final fields.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class InflatingFieldAccessor implements FieldAccessor {
+
+    private final Field field;
+    private final FieldAccessor fallback;
+    private final Class<?> wrapper;
+    private volatile FieldAccessor generated;
+    private boolean inflated;
+    private int calls;
+
+    InflatingFieldAccessor(Field field) {
+        this.field = field;
+        this.fallback = new MethodHandleFieldAccessor(field);
+        this.wrapper = HiddenInvokers.wrappers(new Class<?>[]{field.getType()})[0];
+    }
+
+    @Override
+    public Object get(Object target) throws Throwable {
+        FieldAccessor g = generated;
+        if (g != null) {
+            return g.get(target);
+        }
+        count();
+        return fallback.get(target);
+    }
+
+    @Override
+    public void set(Object target, Object value) throws Throwable {
+        FieldAccessor g = generated;
+        if (g != null && (wrapper == null || (value != null && value.getClass() == wrapper))) {
+            g.set(target, value);
+            return;
+        }
+        count();
+        fallback.set(target, value);
+    }
+
+    private void count() {
+        if (!inflated && ++calls > HiddenInvokers.INFLATION_THRESHOLD) {
+            inflate();
+        }
+    }
+
+    private synchronized void inflate() {
+        if (!inflated) {
+            inflated = true;
+            generated = HiddenInvokers.field(field);
+        }
+    }
+}
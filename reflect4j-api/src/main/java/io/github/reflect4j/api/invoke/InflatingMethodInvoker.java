@@ -0,0 +1,149 @@
+package io.github.reflect4j.api.invoke;
+
+import java.lang.reflect.Method;
+
+/// # InflatingMethodInvoker
+///
+/// [MethodInvoker] that starts out on a method handle and switches to a generated hidden-class
+/// invoker once it has been called more than [HiddenInvokers#INFLATION_THRESHOLD] times,
+/// the same way the JDK inflates its native reflection accessors.
+///
+/// Calls whose arguments the generated code cannot take as-is keep using the method handle, so
+/// inflation never changes the observable behavior of an invocation. Primitive-return variants
+/// always use the method handle, which is already free of boxing.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class InflatingMethodInvoker implements MethodInvoker {
+
+    private final Method method;
+    private final MethodInvoker fallback;
+    private final Class<?>[] wrappers;
+    private volatile MethodInvoker generated;
+    private boolean inflated;
+    private int calls;
+
+    InflatingMethodInvoker(Method method) {
+        this.method = method;
+        this.fallback = new MethodHandleMethodInvoker(method);
+        this.wrappers = HiddenInvokers.wrappers(method.getParameterTypes());
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) throws Throwable {
+        MethodInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, args)) {
+            return g.invoke(target, args);
+        }
+        count();
+        return fallback.invoke(target, args);
+    }
+
+    @Override
+    public Object invoke0(Object target) throws Throwable {
+        MethodInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, 0, null, null, null, null)) {
+            return g.invoke0(target);
+        }
+        count();
+        return fallback.invoke0(target);
+    }
+
+    @Override
+    public Object invoke1(Object target, Object arg0) throws Throwable {
+        MethodInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, 1, arg0, null, null, null)) {
+            return g.invoke1(target, arg0);
+        }
+        count();
+        return fallback.invoke1(target, arg0);
+    }
+
+    @Override
+    public Object invoke2(Object target, Object arg0, Object arg1) throws Throwable {
+        MethodInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, 2, arg0, arg1, null, null)) {
+            return g.invoke2(target, arg0, arg1);
+        }
+        count();
+        return fallback.invoke2(target, arg0, arg1);
+    }
+
+    @Override
+    public Object invoke3(Object target, Object arg0, Object arg1, Object arg2) throws Throwable {
+        MethodInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, 3, arg0, arg1, arg2, null)) {
+            return g.invoke3(target, arg0, arg1, arg2);
+        }
+        count();
+        return fallback.invoke3(target, arg0, arg1, arg2);
+    }
+
+    @Override
+    public Object invoke4(Object target, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        MethodInvoker g = generated;
+        if (g != null && HiddenInvokers.accepts(wrappers, 4, arg0, arg1, arg2, arg3)) {
+            return g.invoke4(target, arg0, arg1, arg2, arg3);
+        }
+        count();
+        return fallback.invoke4(target, arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public int invokeInt(Object target) throws Throwable {
+        return fallback.invokeInt(target);
+    }
+
+    @Override
+    public int invokeInt(Object target, Object arg0) throws Throwable {
+        return fallback.invokeInt(target, arg0);
+    }
+
+    @Override
+    public int invokeInt(Object target, Object arg0, Object arg1) throws Throwable {
+        return fallback.invokeInt(target, arg0, arg1);
+    }
+
+    @Override
+    public long invokeLong(Object target) throws Throwable {
+        return fallback.invokeLong(target);
+    }
+
+    @Override
+    public long invokeLong(Object target, Object arg0) throws Throwable {
+        return fallback.invokeLong(target, arg0);
+    }
+
+    @Override
+    public long invokeLong(Object target, Object arg0, Object arg1) throws Throwable {
+        return fallback.invokeLong(target, arg0, arg1);
+    }
+
+    @Override
+    public boolean invokeBoolean(Object target) throws Throwable {
+        return fallback.invokeBoolean(target);
+    }
+
+    @Override
+    public boolean invokeBoolean(Object target, Object arg0) throws Throwable {
+        return fallback.invokeBoolean(target, arg0);
+    }
+
+    @Override
+    public boolean invokeBoolean(Object target, Object arg0, Object arg1) throws Throwable {
+        return fallback.invokeBoolean(target, arg0, arg1);
+    }
+
+    private void count() {
+        if (!inflated && ++calls > HiddenInvokers.INFLATION_THRESHOLD) {
+            inflate();
+        }
+    }
+
+    private synchronized void inflate() {
+        if (!inflated) {
+            inflated = true;
+            generated = HiddenInvokers.method(method);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.reflect4j.api.invoke;
+
+import io.github.reflect4j.api.exception.ReflectionException;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// # InstanceFactories
+///
+/// Turns constructors into instances of functional interfaces, such as
+/// [java.util.function.Supplier] or [java.util.function.Function], that call them directly.
+///
+/// Factories are spun with [LambdaMetafactory] in the nest of the constructor's declaring class,
+/// exactly like the lambda `() -> new Foo()` would be, so the JIT sees a plain allocation behind
+/// the interface call and can inline it. If the metafactory cannot be used — the declaring class is
+/// in a module or class loader Reflect4j cannot define classes for, or the interface is not visible
+/// from it — the factory falls back to [MethodHandleProxies#asInterfaceInstance(Class, MethodHandle)],
+/// which behaves the same but is not inlined.
+///
+/// Exceptions thrown by the constructor propagate unchanged, checked ones included. The fallback
+/// is the one exception: like any proxy, it wraps a checked exception that the interface method
+/// does not declare in an [java.lang.reflect.UndeclaredThrowableException]. Factories are created
+/// once per constructor and interface and cached for the lifetime of the declaring class, so every
+/// descriptor of the same constructor shares them.
+///
+/// A factory implements its interface and refers to the declaring class, so it keeps both alive.
+/// It is cached on the declaring class when the interface comes from the class loader of that
+/// class or one of its parents, which the class keeps alive anyway. Otherwise it is cached on the
+/// interface, so a declaring class never holds an interface of a child loader.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class InstanceFactories {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Map<Key, Object>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Key, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /// Factories for interfaces the declaring class cannot keep, by declaring class, then by
+    /// interface: the inner map is stored on the interface.
+    private static final ClassValue<ClassValue<Map<Constructor<?>, Object>>> FOREIGN_CACHE = new ClassValue<>() {
+        @Override
+        protected ClassValue<Map<Constructor<?>, Object>> computeValue(Class<?> owner) {
+            return new ClassValue<>() {
+                @Override
+                protected Map<Constructor<?>, Object> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+        }
+    };
+
+    private InstanceFactories() {
+    }
+
+    /// Returns an instance of the given functional interface whose single abstract method calls
+    /// the constructor with its arguments.
+    ///
+    /// The method's parameters are passed to the constructor in order, unboxed or cast as needed,
+    /// and its return type must be assignable from the declaring class.
+    ///
+    /// @param <F>         the functional interface type
+    /// @param constructor the constructor; must not be `null`
+    /// @param type        the functional interface; must not be `null`
+    ///
+    /// @return the cached factory; never `null`
+    /// @throws NullPointerException     if the constructor or the type is `null`
+    /// @throws IllegalArgumentException if the type is not a functional interface, its method does
+    ///                                  not match the constructor, or the class is abstract
+    /// @throws ReflectionException      if the constructor cannot be accessed
+    public static <F> F of(Constructor<?> constructor, Class<F> type) {
+        Objects.requireNonNull(constructor, "constructor must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Class<?> owner = constructor.getDeclaringClass();
+        if (!isVisible(type, owner)) {
+            Map<Constructor<?>, Object> factories = FOREIGN_CACHE.get(owner).get(type);
+            return type.cast(factories.computeIfAbsent(constructor, c -> create(constructor, type)));
+        }
+        Map<Key, Object> factories = CACHE.get(owner);
+        return type.cast(factories.computeIfAbsent(new Key(constructor, type), key -> create(constructor, type)));
+    }
+
+    /// Returns whether the type comes from the loader of the owner or one of its parents.
+    private static boolean isVisible(Class<?> type, Class<?> owner) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return true;
+        }
+        for (ClassLoader ancestor = owner.getClassLoader(); ancestor != null; ancestor = ancestor.getParent()) {
+            if (ancestor == loader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object create(Constructor<?> constructor, Class<?> type) {
+        Class<?> owner = constructor.getDeclaringClass();
+        if (Modifier.isAbstract(owner.getModifiers())) {
+            throw new IllegalArgumentException("Cannot instantiate abstract class: " + owner.getName());
+        }
+        Method sam = singleAbstractMethod(type);
+        MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+        MethodType instantiatedType = instantiatedType(constructor, samType);
+        MethodHandles.Lookup lookup;
+        MethodHandle target;
+        try {
+            lookup = MethodHandles.privateLookupIn(owner, LOOKUP);
+            target = lookup.unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException("Cannot access constructor: " + constructor, e);
+        }
+        try {
+            return LambdaMetafactory.metafactory(lookup, sam.getName(), MethodType.methodType(type), samType,
+                    target, instantiatedType).getTarget().invoke();
+        } catch (LambdaConversionException | LinkageError e) {
+            return MethodHandleProxies.asInterfaceInstance(type, adapt(constructor, target, samType));
+        } catch (Throwable e) {
+            throw new ReflectionException("Cannot create factory for constructor: " + constructor, e);
+        }
+    }
+
+    /// Adapts the constructor handle to the interface method for the fallback proxy.
+    private static MethodHandle adapt(Constructor<?> constructor, MethodHandle target, MethodType samType) {
+        try {
+            return target.asType(samType);
+        } catch (WrongMethodTypeException e) {
+            throw new IllegalArgumentException("Functional method " + samType + " does not match constructor "
+                    + constructor, e);
+        }
+    }
+
+    /// Returns the method type the lambda implements: the interface method's type, narrowed to the
+    /// wrapper types of the constructor's primitive parameters and to the declaring class.
+    private static MethodType instantiatedType(Constructor<?> constructor, MethodType samType) {
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        if (parameterTypes.length != samType.parameterCount()) {
+            throw new IllegalArgumentException("Constructor " + constructor + " takes " + parameterTypes.length
+                    + " parameters, functional method takes " + samType.parameterCount());
+        }
+        Class<?> owner = constructor.getDeclaringClass();
+        if (!samType.returnType().isAssignableFrom(owner)) {
+            throw new IllegalArgumentException("Functional method returns " + samType.returnType().getName()
+                    + ", not assignable from " + owner.getName());
+        }
+        MethodType instantiated = samType.changeReturnType(owner);
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> declared = samType.parameterType(i);
+            Class<?> wanted = parameterTypes[i].isPrimitive() && !declared.isPrimitive()
+                    ? MethodType.methodType(parameterTypes[i]).wrap().returnType()
+                    : parameterTypes[i];
+            if (!declared.isPrimitive() && declared != wanted && declared.isAssignableFrom(wanted)) {
+                instantiated = instantiated.changeParameterType(i, wanted);
+            }
+        }
+        return instantiated;
+    }
+
+    private static Method singleAbstractMethod(Class<?> type) {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException("Not an interface: " + type.getName());
+        }
+        Method found = null;
+        for (Method method : type.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+            if (found != null && !(found.getName().equals(method.getName())
+                    && found.getParameterCount() == method.getParameterCount())) {
+                throw new IllegalArgumentException("Not a functional interface: " + type.getName());
+            }
+            if (found == null || found.getReturnType().isAssignableFrom(method.getReturnType())) {
+                found = method;
+            }
+        }
+        if (found == null) {
+            throw new IllegalArgumentException("Not a functional interface: " + type.getName());
+        }
+        return found;
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private record Key(Constructor<?> constructor, Class<?> type) {
+    }
+}
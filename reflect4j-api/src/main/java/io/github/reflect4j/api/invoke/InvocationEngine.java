@@ -0,0 +1,194 @@
+package io.github.reflect4j.api.invoke;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Objects;
+
+/// # InvocationEngine
+///
+/// Strategy used to bind methods, constructors and fields to the [MethodInvoker],
+/// [ConstructorInvoker] and [FieldAccessor] that perform the actual calls.
+///
+/// The engine is chosen per descriptor via `withInvocationEngine(InvocationEngine)` on
+/// [io.github.reflect4j.api.descriptor.MethodDescriptor],
+/// [io.github.reflect4j.api.descriptor.ConstructorDescriptor] and
+/// [io.github.reflect4j.api.descriptor.FieldDescriptor], or globally via
+/// [#setDefault(InvocationEngine)]. The initial global default can also be set with the
+/// `reflect4j.invocation.engine` system property (e.g. `-Dreflect4j.invocation.engine=reflection`,
+/// matched case-insensitively); without it, or when it names no engine, [#METHOD_HANDLE] is used.
+///
+/// Members of classes annotated with `@io.github.reflect4j.annotations.R4jAccessors` are bound to
+/// their compile-time [GeneratedAccessors] companion by every engine except [#REFLECTION].
+///
+/// **Example:**
+/// ```java
+/// MethodDescriptor process = descriptor.getMethod("process", String.class)
+///         .withInvocationEngine(InvocationEngine.GENERATED);
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public enum InvocationEngine {
+
+    /// Invokes through [Method#invoke(Object, Object...)], [Constructor#newInstance(Object...)]
+    /// and [Field#get(Object)] / [Field#set(Object, Object)].
+    ///
+    /// Cheapest to bind; best suited for members that are used only a handful of times.
+    REFLECTION {
+        @Override
+        MethodInvoker bindMethod(Method method) {
+            return new ReflectiveMethodInvoker(method);
+        }
+
+        @Override
+        ConstructorInvoker bindConstructor(Constructor<?> constructor) {
+            return new ReflectiveConstructorInvoker(constructor);
+        }
+
+        @Override
+        FieldAccessor bindField(Field field) {
+            return new ReflectiveFieldAccessor(field);
+        }
+    },
+
+    /// Invokes through cached, type-adapted [java.lang.invoke.MethodHandle]s.
+    ///
+    /// Binding is more expensive than [#REFLECTION], but once the JIT has warmed up the call
+    /// approaches the cost of a direct call.
+    METHOD_HANDLE {
+        @Override
+        MethodInvoker bindMethod(Method method) {
+            return new MethodHandleMethodInvoker(method);
+        }
+
+        @Override
+        ConstructorInvoker bindConstructor(Constructor<?> constructor) {
+            return new MethodHandleConstructorInvoker(constructor);
+        }
+
+        @Override
+        FieldAccessor bindField(Field field) {
+            return new MethodHandleFieldAccessor(field);
+        }
+    },
+
+    /// Starts out like [#METHOD_HANDLE] and, once a member has been used more often than the
+    /// inflation threshold, switches to a hidden class generated for that member alone that
+    /// calls it with a direct `invokevirtual`, `invokestatic`, `invokespecial` or `getfield`.
+    ///
+    /// The threshold defaults to 15 calls and is set with the `reflect4j.inflation.threshold`
+    /// system property; `0` generates on the first call. Generated classes are unloaded together
+    /// with their invoker. Members that cannot be reached from a hidden class (for example in
+    /// packages not open to Reflect4j) and `final` fields stay on method handles.
+    GENERATED {
+        @Override
+        MethodInvoker bindMethod(Method method) {
+            return new InflatingMethodInvoker(method);
+        }
+
+        @Override
+        ConstructorInvoker bindConstructor(Constructor<?> constructor) {
+            return new InflatingConstructorInvoker(constructor);
+        }
+
+        @Override
+        FieldAccessor bindField(Field field) {
+            return Modifier.isFinal(field.getModifiers())
+                    ? new MethodHandleFieldAccessor(field)
+                    : new InflatingFieldAccessor(field);
+        }
+    };
+
+    /// System property holding the name of the initial default engine.
+    public static final String DEFAULT_ENGINE_PROPERTY = "reflect4j.invocation.engine";
+
+    /// System property holding the number of calls after which [#GENERATED] spins its invoker class.
+    public static final String INFLATION_THRESHOLD_PROPERTY = "reflect4j.inflation.threshold";
+
+    private static volatile InvocationEngine defaultEngine =
+            fromProperty(System.getProperty(DEFAULT_ENGINE_PROPERTY));
+
+    /// Binds the given method to an invoker of this engine.
+    ///
+    /// Binding is the expensive part of the engine and is meant to happen once per method;
+    /// the returned invoker should be cached and reused.
+    ///
+    /// @param method the method to bind; must not be `null`
+    ///
+    /// @return an immutable, thread-safe invoker; never `null`
+    /// @throws NullPointerException                                         if the method is `null`
+    /// @throws io.github.reflect4j.api.exception.MethodInvocationException if the method cannot be made accessible
+    public MethodInvoker bind(Method method) {
+        Objects.requireNonNull(method, "method must not be null");
+        MethodInvoker generated = this == REFLECTION ? null : Companions.method(method);
+        return generated != null ? generated : bindMethod(method);
+    }
+
+    /// Binds the given constructor to an invoker of this engine.
+    ///
+    /// @param constructor the constructor to bind; must not be `null`
+    ///
+    /// @return an immutable, thread-safe invoker; never `null`
+    /// @throws NullPointerException                                              if the constructor is `null`
+    /// @throws io.github.reflect4j.api.exception.ConstructorInvocationException if the constructor cannot be made accessible
+    public ConstructorInvoker bind(Constructor<?> constructor) {
+        Objects.requireNonNull(constructor, "constructor must not be null");
+        ConstructorInvoker generated = this == REFLECTION ? null : Companions.constructor(constructor);
+        return generated != null ? generated : bindConstructor(constructor);
+    }
+
+    /// Binds the given field to an accessor of this engine.
+    ///
+    /// @param field the field to bind; must not be `null`
+    ///
+    /// @return an immutable, thread-safe accessor; never `null`
+    /// @throws NullPointerException                                   if the field is `null`
+    /// @throws io.github.reflect4j.api.exception.ReflectionException if the field cannot be made accessible
+    public FieldAccessor bind(Field field) {
+        Objects.requireNonNull(field, "field must not be null");
+        FieldAccessor generated = this == REFLECTION ? null : Companions.field(field);
+        return generated != null ? generated : bindField(field);
+    }
+
+    /// Resolves the value of [#DEFAULT_ENGINE_PROPERTY], ignoring case and surrounding whitespace.
+    ///
+    /// A value that names no engine is logged and replaced by [#METHOD_HANDLE], so a typo on the
+    /// command line never leaves this class uninitializable.
+    static InvocationEngine fromProperty(String value) {
+        if (value == null || value.isBlank()) return METHOD_HANDLE;
+        String name = value.strip();
+        for (InvocationEngine engine : values()) {
+            if (engine.name().equalsIgnoreCase(name)) return engine;
+        }
+        System.getLogger(InvocationEngine.class.getName()).log(System.Logger.Level.WARNING,
+                "Unknown value ''{0}'' for -D{1}; expected one of {2}, falling back to {3}",
+                value, DEFAULT_ENGINE_PROPERTY, Arrays.toString(values()), METHOD_HANDLE);
+        return METHOD_HANDLE;
+    }
+
+    abstract MethodInvoker bindMethod(Method method);
+
+    abstract ConstructorInvoker bindConstructor(Constructor<?> constructor);
+
+    abstract FieldAccessor bindField(Field field);
+
+    /// Returns the engine used by descriptors that were not given one explicitly.
+    ///
+    /// @return the global default engine; never `null`
+    public static InvocationEngine getDefault() {
+        return defaultEngine;
+    }
+
+    /// Sets the engine used by descriptors that were not given one explicitly.
+    ///
+    /// Descriptors that have already bound their invoker keep using it.
+    ///
+    /// @param engine the new global default; must not be `null`
+    /// @throws NullPointerException if the engine is `null`
+    public static void setDefault(InvocationEngine engine) {
+        defaultEngine = Objects.requireNonNull(engine, "engine must not be null");
+    }
+}
@@ -0,0 +1,302 @@
+package io.github.reflect4j.api.invoke;
+
+import io.github.reflect4j.api.exception.ConstructorInvocationException;
+import io.github.reflect4j.api.exception.MethodInvocationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+
+/// # Invocations
+///
+/// Helpers shared by the throwing, non-wrapping invocation paths of the descriptors and
+/// invokers, such as [io.github.reflect4j.api.descriptor.MethodDescriptor#invoke1(Object, Object)].
+///
+/// Failures are surfaced the same way everywhere: unchecked exceptions and errors thrown by
+/// the target propagate unchanged, checked exceptions are wrapped in the matching
+/// [io.github.reflect4j.api.exception.ReflectionException] subclass.
+///
+/// The public argument conversions (`toInt`, `toLong`, ...) unbox and widen like a method
+/// handle does. They are used by [GeneratedAccessors] companions, and [#convertArguments] puts
+/// them in front of the primitive parameters of the method-handle engine's handles and of
+/// [io.github.reflect4j.api.descriptor.RecordDescriptor]'s constructors, so all of them reject
+/// `null`, mismatched and missing arguments with the same exceptions and messages.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class Invocations {
+
+    private static final Map<Class<?>, MethodHandle> CONVERSIONS = Map.of(
+            byte.class, lookupConversion(byte.class),
+            short.class, lookupConversion(short.class),
+            char.class, lookupConversion(char.class),
+            int.class, lookupConversion(int.class),
+            long.class, lookupConversion(long.class),
+            float.class, lookupConversion(float.class),
+            double.class, lookupConversion(double.class),
+            boolean.class, lookupConversion(boolean.class));
+
+    private Invocations() {
+    }
+
+    /// Rethrows a failure of a method invocation as an unchecked exception.
+    ///
+    /// Declared to return the exception so callers can write `throw Invocations.unchecked(e)`.
+    ///
+    /// @param failure the failure; must not be `null`
+    ///
+    /// @return never returns normally
+    /// @throws Error                     if the failure is an error
+    /// @throws RuntimeException          if the failure is unchecked
+    /// @throws MethodInvocationException wrapping the failure if it is checked
+    public static RuntimeException unchecked(Throwable failure) {
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        throw new MethodInvocationException(failure);
+    }
+
+    /// Rethrows a failure of a constructor invocation as an unchecked exception.
+    ///
+    /// @param type    the class being instantiated; must not be `null`
+    /// @param failure the failure; must not be `null`
+    ///
+    /// @return never returns normally
+    /// @throws Error                          if the failure is an error
+    /// @throws RuntimeException               if the failure is unchecked
+    /// @throws ConstructorInvocationException wrapping the failure if it is checked
+    public static RuntimeException unchecked(Class<?> type, Throwable failure) {
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        throw new ConstructorInvocationException(type, failure);
+    }
+
+    /// Converts a boxed value to `byte` by unboxing.
+    ///
+    /// @param value the boxed value
+    ///
+    /// @return the unboxed value
+    /// @throws NullPointerException if the value is `null`
+    /// @throws ClassCastException   if the value is not a `Byte`
+    public static byte toByte(Object value) {
+        if (value instanceof Byte b) {
+            return b;
+        }
+        throw cannotConvert(value, byte.class);
+    }
+
+    /// Converts a boxed value to `short` by unboxing and widening, like a method handle would.
+    ///
+    /// @param value the boxed value
+    ///
+    /// @return the unboxed value
+    /// @throws NullPointerException if the value is `null`
+    /// @throws ClassCastException   if the value is not convertible to `short`
+    public static short toShort(Object value) {
+        if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).shortValue();
+        }
+        throw cannotConvert(value, short.class);
+    }
+
+    /// Converts a boxed value to `char` by unboxing.
+    ///
+    /// @param value the boxed value
+    ///
+    /// @return the unboxed value
+    /// @throws NullPointerException if the value is `null`
+    /// @throws ClassCastException   if the value is not a `Character`
+    public static char toChar(Object value) {
+        if (value instanceof Character c) {
+            return c;
+        }
+        throw cannotConvert(value, char.class);
+    }
+
+    /// Converts a boxed value to `int` by unboxing and widening, like a method handle would.
+    ///
+    /// @param value the boxed value
+    ///
+    /// @return the unboxed value
+    /// @throws NullPointerException if the value is `null`
+    /// @throws ClassCastException   if the value is not convertible to `int`
+    public static int toInt(Object value) {
+        if (value instanceof Character c) {
+            return c;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        throw cannotConvert(value, int.class);
+    }
+
+    /// Converts a boxed value to `long` by unboxing and widening, like a method handle would.
+    ///
+    /// @param value the boxed value
+    ///
+    /// @return the unboxed value
+    /// @throws NullPointerException if the value is `null`
+    /// @throws ClassCastException   if the value is not convertible to `long`
+    public static long toLong(Object value) {
+        if (value instanceof Long l) {
+            return l;
+        }
+        if (value instanceof Character || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return toInt(value);
+        }
+        throw cannotConvert(value, long.class);
+    }
+
+    /// Converts a boxed value to `float` by unboxing and widening, like a method handle would.
+    ///
+    /// @param value the boxed value
+    ///
+    /// @return the unboxed value
+    /// @throws NullPointerException if the value is `null`
+    /// @throws ClassCastException   if the value is not convertible to `float`
+    public static float toFloat(Object value) {
+        if (value instanceof Float f) {
+            return f;
+        }
+        if (value instanceof Long l) {
+            return l;
+        }
+        if (value instanceof Character || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return toInt(value);
+        }
+        throw cannotConvert(value, float.class);
+    }
+
+    /// Converts a boxed value to `double` by unboxing and widening, like a method handle would.
+    ///
+    /// @param value the boxed value
+    ///
+    /// @return the unboxed value
+    /// @throws NullPointerException if the value is `null`
+    /// @throws ClassCastException   if the value is not convertible to `double`
+    public static double toDouble(Object value) {
+        if (value instanceof Double d) {
+            return d;
+        }
+        if (value instanceof Float f) {
+            return f;
+        }
+        if (value instanceof Long l) {
+            return l;
+        }
+        if (value instanceof Character || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return toInt(value);
+        }
+        throw cannotConvert(value, double.class);
+    }
+
+    /// Converts a boxed value to `boolean` by unboxing.
+    ///
+    /// @param value the boxed value
+    ///
+    /// @return the unboxed value
+    /// @throws NullPointerException if the value is `null`
+    /// @throws ClassCastException   if the value is not a `Boolean`
+    public static boolean toBoolean(Object value) {
+        if (value instanceof Boolean b) {
+            return b;
+        }
+        throw cannotConvert(value, boolean.class);
+    }
+
+    /// Returns the exception thrown when a primitive-return variant such as
+    /// [MethodInvoker#invokeInt(Object)] is called on a `void` method.
+    ///
+    /// Every engine rejects such calls before invoking the method, with this exception.
+    ///
+    /// @param type the requested primitive return type
+    ///
+    /// @return a new exception; never `null`
+    public static ClassCastException voidResult(Class<?> type) {
+        return new ClassCastException("Cannot convert void to " + type.getName());
+    }
+
+    /// Casts the receiver of an instance member like a method handle does: `null` fails with a
+    /// [NullPointerException] without a message, other mismatches with [Class#cast(Object)].
+    ///
+    /// @param type   the declaring class of the member; must not be `null`
+    /// @param target the receiver
+    /// @param <T>    the declaring class
+    ///
+    /// @return the receiver; never `null`
+    /// @throws NullPointerException if the receiver is `null`
+    /// @throws ClassCastException   if the receiver is not an instance of the type
+    public static <T> T receiver(Class<T> type, Object target) {
+        if (target == null) {
+            throw new NullPointerException();
+        }
+        return type.cast(target);
+    }
+
+    /// Checks the length of an argument array against the parameter count of the callee.
+    ///
+    /// @param args  the arguments; `null` counts as empty
+    /// @param count the expected number of arguments
+    ///
+    /// @return the arguments
+    /// @throws IllegalArgumentException if the number of arguments differs
+    public static Object[] checkArity(Object[] args, int count) {
+        int length = args == null ? 0 : args.length;
+        if (length != count) {
+            throw wrongArity(length, count);
+        }
+        return args;
+    }
+
+    /// Returns the exception thrown when the number of arguments differs from the parameter count.
+    static IllegalArgumentException wrongArity(int count, int arity) {
+        return new IllegalArgumentException("wrong number of arguments: " + count + " expected: " + arity);
+    }
+
+    /// Filters every primitive parameter of the handle through the matching conversion of this
+    /// class, replacing the unboxing that [MethodHandle#asType] would otherwise insert.
+    ///
+    /// @param handle the handle to adapt; must not be `null`
+    ///
+    /// @return a handle taking `Object` in place of each primitive parameter; `handle` itself if
+    ///         it has none
+    public static MethodHandle convertArguments(MethodHandle handle) {
+        MethodType type = handle.type();
+        for (int i = 0; i < type.parameterCount(); i++) {
+            MethodHandle conversion = conversion(type.parameterType(i));
+            if (conversion != null) {
+                handle = MethodHandles.filterArguments(handle, i, conversion);
+            }
+        }
+        return handle;
+    }
+
+    /// Returns the conversion of this class to the given primitive type, as a method handle.
+    static MethodHandle conversion(Class<?> type) {
+        return CONVERSIONS.get(type);
+    }
+
+    private static MethodHandle lookupConversion(Class<?> type) {
+        String name = type.getName();
+        try {
+            return MethodHandles.lookup().findStatic(Invocations.class,
+                    "to" + Character.toUpperCase(name.charAt(0)) + name.substring(1), MethodType.methodType(type, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static RuntimeException cannotConvert(Object value, Class<?> type) {
+        return value == null
+                ? new NullPointerException("Cannot convert null to " + type.getName())
+                : new ClassCastException("Cannot convert " + value.getClass().getName() + " to " + type.getName());
+    }
+}
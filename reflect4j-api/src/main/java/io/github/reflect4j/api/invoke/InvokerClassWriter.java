@@ -0,0 +1,378 @@
+package io.github.reflect4j.api.invoke;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/// # InvokerClassWriter
+///
+/// Minimal class file writer used by [HiddenInvokers] to spin invoker classes.
+///
+/// It only supports what generated invokers need: a public final class extending [Object]
+/// with one interface, a no-arg constructor and a few methods of straight-line code. Method
+/// bodies never branch, so no `StackMapTable` is required. Stack and local sizes are supplied
+/// by the caller.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class InvokerClassWriter {
+
+    static final int ACONST_NULL = 0x01;
+    static final int ICONST_0 = 0x03;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int LDC_W = 0x13;
+    static final int ALOAD = 0x19;
+    static final int ALOAD_0 = 0x2a;
+    static final int ALOAD_1 = 0x2b;
+    static final int ALOAD_2 = 0x2c;
+    static final int AALOAD = 0x32;
+    static final int DUP = 0x59;
+    static final int ARETURN = 0xb0;
+    static final int RETURN = 0xb1;
+    static final int GETSTATIC = 0xb2;
+    static final int PUTSTATIC = 0xb3;
+    static final int GETFIELD = 0xb4;
+    static final int PUTFIELD = 0xb5;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int INVOKEINTERFACE = 0xb9;
+    static final int NEW = 0xbb;
+    static final int CHECKCAST = 0xc0;
+
+    private static final int CLASS_FILE_VERSION = 61;
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+    private final DataOutputStream poolOut = new DataOutputStream(pool);
+    private final Map<String, Integer> poolIndex = new HashMap<>();
+    private int poolCount = 1;
+
+    private final ByteArrayOutputStream methods = new ByteArrayOutputStream();
+    private final DataOutputStream methodsOut = new DataOutputStream(methods);
+    private int methodCount;
+
+    private final int thisClass;
+    private final int superClass;
+    private final int iface;
+
+    /// Starts a class with the given internal name implementing the given interface.
+    InvokerClassWriter(String internalName, Class<?> implemented) {
+        this.thisClass = classRef(internalName);
+        this.superClass = classRef("java/lang/Object");
+        this.iface = classRef(internalName(implemented));
+        Code init = method(ACC_PUBLIC, "<init>", "()V", 1, 1);
+        init.op(ALOAD_0).invoke(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false).op(RETURN);
+        init.end();
+    }
+
+    /// Starts a public method; the body is written through the returned [Code].
+    Code method(int access, String name, String descriptor, int maxStack, int maxLocals) {
+        return new Code(access, name, descriptor, maxStack, maxLocals);
+    }
+
+    Code method(String name, String descriptor, int maxStack, int maxLocals) {
+        return method(ACC_PUBLIC, name, descriptor, maxStack, maxLocals);
+    }
+
+    /// Serializes the class file.
+    byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(pool.size() + methods.size() + 32);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_FILE_VERSION);
+            out.writeShort(poolCount);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(iface);
+            out.writeShort(0);
+            out.writeShort(methodCount);
+            methods.writeTo(out);
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /// Returns the internal name of a class or interface, or the descriptor of an array type,
+    /// as used by `CONSTANT_Class` entries.
+    static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    /// Returns the field descriptor of a type.
+    static String descriptor(Class<?> type) {
+        if (type.isPrimitive()) {
+            return String.valueOf(Primitive.of(type).descriptor);
+        }
+        return type.isArray() ? internalName(type) : "L" + internalName(type) + ";";
+    }
+
+    /// Returns the method descriptor for the given parameter and return types.
+    static String descriptor(Class<?>[] parameterTypes, Class<?> returnType) {
+        StringBuilder sb = new StringBuilder("(");
+        for (Class<?> type : parameterTypes) {
+            sb.append(descriptor(type));
+        }
+        return sb.append(')').append(descriptor(returnType)).toString();
+    }
+
+    private int utf8(String value) {
+        return entry("U" + value, () -> {
+            poolOut.writeByte(CONSTANT_UTF8);
+            poolOut.writeUTF(value);
+        });
+    }
+
+    private int integer(int value) {
+        return entry("I" + value, () -> {
+            poolOut.writeByte(CONSTANT_INTEGER);
+            poolOut.writeInt(value);
+        });
+    }
+
+    private int classRef(String internalName) {
+        int name = utf8(internalName);
+        return entry("C" + internalName, () -> {
+            poolOut.writeByte(CONSTANT_CLASS);
+            poolOut.writeShort(name);
+        });
+    }
+
+    private int nameAndType(String name, String descriptor) {
+        int n = utf8(name);
+        int d = utf8(descriptor);
+        return entry("N" + name + ' ' + descriptor, () -> {
+            poolOut.writeByte(CONSTANT_NAME_AND_TYPE);
+            poolOut.writeShort(n);
+            poolOut.writeShort(d);
+        });
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+        int c = classRef(owner);
+        int nt = nameAndType(name, descriptor);
+        return entry("M" + tag + owner + '.' + name + descriptor, () -> {
+            poolOut.writeByte(tag);
+            poolOut.writeShort(c);
+            poolOut.writeShort(nt);
+        });
+    }
+
+    private int entry(String key, PoolWrite write) {
+        Integer index = poolIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        try {
+            write.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int assigned = poolCount;
+        poolCount++;
+        poolIndex.put(key, assigned);
+        return assigned;
+    }
+
+    @FunctionalInterface
+    private interface PoolWrite {
+        void run() throws IOException;
+    }
+
+    /// Bytecode of a single method body.
+    final class Code {
+
+        private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+        private final int access;
+        private final int name;
+        private final int descriptor;
+        private final int maxStack;
+        private final int maxLocals;
+
+        private Code(int access, String name, String descriptor, int maxStack, int maxLocals) {
+            this.access = access;
+            this.name = utf8(name);
+            this.descriptor = utf8(descriptor);
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        Code op(int opcode) {
+            code.write(opcode);
+            return this;
+        }
+
+        Code aload(int local) {
+            if (local <= 3) {
+                return op(ALOAD_0 + local);
+            }
+            op(ALOAD);
+            return op(local);
+        }
+
+        Code iconst(int value) {
+            if (value >= -1 && value <= 5) {
+                return op(ICONST_0 + value);
+            }
+            if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                op(BIPUSH);
+                return op(value & 0xff);
+            }
+            if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                op(SIPUSH);
+                return u2(value & 0xffff);
+            }
+            op(LDC_W);
+            return u2(integer(value));
+        }
+
+        Code type(int opcode, String internalName) {
+            op(opcode);
+            return u2(classRef(internalName));
+        }
+
+        Code field(int opcode, String owner, String name, String descriptor) {
+            op(opcode);
+            return u2(memberRef(CONSTANT_FIELDREF, owner, name, descriptor));
+        }
+
+        Code invoke(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            op(opcode);
+            u2(memberRef(isInterface ? CONSTANT_INTERFACE_METHODREF : CONSTANT_METHODREF, owner, name, descriptor));
+            if (opcode == INVOKEINTERFACE) {
+                op(argumentSlots(descriptor) + 1);
+                op(0);
+            }
+            return this;
+        }
+
+        /// Casts the reference on top of the stack to `type`, unboxing it if `type` is primitive.
+        Code unbox(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return type == Object.class ? this : type(CHECKCAST, internalName(type));
+            }
+            Primitive p = Primitive.of(type);
+            type(CHECKCAST, p.wrapper);
+            return invoke(INVOKEVIRTUAL, p.wrapper, p.unboxMethod, "()" + p.descriptor, false);
+        }
+
+        /// Boxes the value of `type` on top of the stack; `void` pushes `null`.
+        Code box(Class<?> type) {
+            if (type == void.class) {
+                return op(ACONST_NULL);
+            }
+            if (!type.isPrimitive()) {
+                return this;
+            }
+            Primitive p = Primitive.of(type);
+            return invoke(INVOKESTATIC, p.wrapper, "valueOf", "(" + p.descriptor + ")L" + p.wrapper + ";", false);
+        }
+
+        /// Finishes the method and appends it to the class.
+        void end() {
+            try {
+                methodsOut.writeShort(access);
+                methodsOut.writeShort(name);
+                methodsOut.writeShort(descriptor);
+                methodsOut.writeShort(1);
+                methodsOut.writeShort(utf8("Code"));
+                methodsOut.writeInt(12 + code.size());
+                methodsOut.writeShort(maxStack);
+                methodsOut.writeShort(maxLocals);
+                methodsOut.writeInt(code.size());
+                code.writeTo(methodsOut);
+                methodsOut.writeShort(0);
+                methodsOut.writeShort(0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            methodCount++;
+        }
+
+        private Code u2(int value) {
+            code.write(value >>> 8);
+            code.write(value);
+            return this;
+        }
+    }
+
+    /// Counts the argument slots of a method descriptor (longs and doubles take two).
+    private static int argumentSlots(String descriptor) {
+        int slots = 0;
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            boolean array = false;
+            while (descriptor.charAt(i) == '[') {
+                array = true;
+                i++;
+            }
+            char c = descriptor.charAt(i);
+            if (c == 'L') {
+                i = descriptor.indexOf(';', i);
+            }
+            slots += !array && (c == 'J' || c == 'D') ? 2 : 1;
+            i++;
+        }
+        return slots;
+    }
+
+    /// Boxing metadata of the primitive types.
+    enum Primitive {
+        BOOLEAN(boolean.class, 'Z', "java/lang/Boolean", "booleanValue"),
+        BYTE(byte.class, 'B', "java/lang/Byte", "byteValue"),
+        CHAR(char.class, 'C', "java/lang/Character", "charValue"),
+        SHORT(short.class, 'S', "java/lang/Short", "shortValue"),
+        INT(int.class, 'I', "java/lang/Integer", "intValue"),
+        LONG(long.class, 'J', "java/lang/Long", "longValue"),
+        FLOAT(float.class, 'F', "java/lang/Float", "floatValue"),
+        DOUBLE(double.class, 'D', "java/lang/Double", "doubleValue"),
+        VOID(void.class, 'V', "java/lang/Void", null);
+
+        final Class<?> type;
+        final char descriptor;
+        final String wrapper;
+        final String unboxMethod;
+
+        Primitive(Class<?> type, char descriptor, String wrapper, String unboxMethod) {
+            this.type = type;
+            this.descriptor = descriptor;
+            this.wrapper = wrapper;
+            this.unboxMethod = unboxMethod;
+        }
+
+        /// Returns the number of stack slots a value of this type takes.
+        int slots() {
+            return this == LONG || this == DOUBLE ? 2 : this == VOID ? 0 : 1;
+        }
+
+        static Primitive of(Class<?> type) {
+            for (Primitive p : values()) {
+                if (p.type == type) {
+                    return p;
+                }
+            }
+            throw new IllegalArgumentException("Not a primitive type: " + type);
+        }
+    }
+}
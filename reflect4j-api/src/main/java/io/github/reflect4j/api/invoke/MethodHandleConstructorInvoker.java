@@ -0,0 +1,80 @@
+package io.github.reflect4j.api.invoke;
+
+import io.github.reflect4j.api.exception.ConstructorInvocationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+/// # MethodHandleConstructorInvoker
+///
+/// [ConstructorInvoker] backed by a constructor [MethodHandle] adapted once to the erased
+/// shape `(Object[])Object`, the same way [MethodHandleMethodInvoker] adapts methods, including
+/// the [Invocations] conversions of primitive parameters and the arity check.
+/// Fixed-arity variants use the generic handle `(Object...)Object` directly.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class MethodHandleConstructorInvoker implements ConstructorInvoker {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final MethodHandle spreader;
+    private final MethodHandle fixed;
+    private final int arity;
+
+    MethodHandleConstructorInvoker(Constructor<?> constructor) {
+        this.arity = constructor.getParameterCount();
+        MethodHandle generic = adapt(constructor).asType(MethodType.genericMethodType(arity));
+        this.spreader = generic.asSpreader(Object[].class, arity);
+        this.fixed = arity <= MethodHandleMethodInvoker.MAX_FIXED_ARITY ? generic : null;
+    }
+
+    @Override
+    public Object invoke(Object[] args) throws Throwable {
+        return (Object) spreader.invokeExact(Invocations.checkArity(args, arity));
+    }
+
+    @Override
+    public Object invoke0() throws Throwable {
+        return (Object) fixed(0).invokeExact();
+    }
+
+    @Override
+    public Object invoke1(Object arg0) throws Throwable {
+        return (Object) fixed(1).invokeExact(arg0);
+    }
+
+    @Override
+    public Object invoke2(Object arg0, Object arg1) throws Throwable {
+        return (Object) fixed(2).invokeExact(arg0, arg1);
+    }
+
+    @Override
+    public Object invoke3(Object arg0, Object arg1, Object arg2) throws Throwable {
+        return (Object) fixed(3).invokeExact(arg0, arg1, arg2);
+    }
+
+    @Override
+    public Object invoke4(Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return (Object) fixed(4).invokeExact(arg0, arg1, arg2, arg3);
+    }
+
+    private MethodHandle fixed(int count) {
+        if (count != arity) {
+            throw Invocations.wrongArity(count, arity);
+        }
+        return fixed;
+    }
+
+    /// Unreflects the constructor with fixed arity and [Invocations] conversions in front of primitive parameters.
+    static MethodHandle adapt(Constructor<?> constructor) {
+        constructor.trySetAccessible();
+        try {
+            return Invocations.convertArguments(LOOKUP.unreflectConstructor(constructor).asFixedArity());
+        } catch (IllegalAccessException e) {
+            throw new ConstructorInvocationException(constructor.getDeclaringClass(), e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.reflect4j.api.invoke;
+
+import io.github.reflect4j.api.exception.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/// # MethodHandleFieldAccessor
+///
+/// [FieldAccessor] backed by getter and setter [MethodHandle]s adapted once to the erased
+/// shapes `(Object)Object` and `(Object, Object)void`. Static fields get a dummy leading
+/// receiver so both kinds of fields share one call shape. Values written to primitive fields are
+/// converted with the [Invocations] conversions, like in a [GeneratedAccessors] companion.
+///
+/// Fields that cannot be written through a method handle (static `final` fields, `final`
+/// fields of records and hidden classes) can still be read; writing them rethrows the
+/// [IllegalAccessException] raised at bind time.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class MethodHandleFieldAccessor implements FieldAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final IllegalAccessException setterFailure;
+
+    MethodHandleFieldAccessor(Field field) {
+        field.trySetAccessible();
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        try {
+            this.getter = receiver(LOOKUP.unreflectGetter(field), isStatic).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException("Cannot bind getter for field: " + field, e);
+        }
+        MethodHandle handle = null;
+        IllegalAccessException failure = null;
+        try {
+            handle = receiver(Invocations.convertArguments(LOOKUP.unreflectSetter(field)), isStatic).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            failure = e;
+        }
+        this.setter = handle;
+        this.setterFailure = failure;
+    }
+
+    @Override
+    public Object get(Object target) throws Throwable {
+        return (Object) getter.invokeExact(target);
+    }
+
+    @Override
+    public void set(Object target, Object value) throws Throwable {
+        if (setter == null) {
+            throw setterFailure;
+        }
+        setter.invokeExact(target, value);
+    }
+
+    private static MethodHandle receiver(MethodHandle handle, boolean isStatic) {
+        return isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+    }
+}
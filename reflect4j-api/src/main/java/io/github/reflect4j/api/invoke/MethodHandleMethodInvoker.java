@@ -0,0 +1,198 @@
+package io.github.reflect4j.api.invoke;
+
+import io.github.reflect4j.api.exception.MethodInvocationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/// # MethodHandleMethodInvoker
+///
+/// [MethodInvoker] backed by a [MethodHandle] that is adapted once, at bind time, to the
+/// erased shape `(Object, Object[])Object`.
+///
+/// The handle is built in three steps:
+///     - varargs collection is switched off, so the trailing array is passed through as-is;
+///     - static methods get a dummy leading receiver, so every method shares one call shape;
+///     - primitive parameters are converted with [Invocations#toInt(Object)] and its siblings, so
+///       `null` and mismatched arguments fail exactly like in a [GeneratedAccessors] companion;
+///     - the handle is converted to generic types and turned into a spread invoker sized to
+///       the parameter count.
+///
+/// Every call is then an arity check and a single `invokeExact` that the JIT can inline down to
+/// the target.
+///
+/// The fixed-arity and primitive-return variants use separate handles of the exact shape
+/// `(Object, Object...)R`, so they need neither an argument array nor a boxed result. The
+/// fixed-arity handle is built at bind time; primitive-return handles on first use.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class MethodHandleMethodInvoker implements MethodInvoker {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /// Highest parameter count served by the fixed-arity variants.
+    static final int MAX_FIXED_ARITY = 4;
+
+    private final MethodHandle adapted;
+    private final MethodHandle spreader;
+    private final MethodHandle fixed;
+    private final int arity;
+    private final boolean returnsVoid;
+    private MethodHandle intHandle;
+    private MethodHandle longHandle;
+    private MethodHandle booleanHandle;
+
+    MethodHandleMethodInvoker(Method method) {
+        this.arity = method.getParameterCount();
+        this.returnsVoid = method.getReturnType() == void.class;
+        this.adapted = adapt(method);
+        MethodHandle generic = adapted.asType(MethodType.genericMethodType(arity + 1));
+        this.spreader = generic.asSpreader(Object[].class, arity);
+        this.fixed = arity <= MAX_FIXED_ARITY ? generic : null;
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) throws Throwable {
+        return (Object) spreader.invokeExact(target, Invocations.checkArity(args, arity));
+    }
+
+    @Override
+    public Object invoke0(Object target) throws Throwable {
+        return (Object) fixed(0).invokeExact(target);
+    }
+
+    @Override
+    public Object invoke1(Object target, Object arg0) throws Throwable {
+        return (Object) fixed(1).invokeExact(target, arg0);
+    }
+
+    @Override
+    public Object invoke2(Object target, Object arg0, Object arg1) throws Throwable {
+        return (Object) fixed(2).invokeExact(target, arg0, arg1);
+    }
+
+    @Override
+    public Object invoke3(Object target, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return (Object) fixed(3).invokeExact(target, arg0, arg1, arg2);
+    }
+
+    @Override
+    public Object invoke4(Object target, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return (Object) fixed(4).invokeExact(target, arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public int invokeInt(Object target) throws Throwable {
+        return (int) typed(0, int.class).invokeExact(target);
+    }
+
+    @Override
+    public int invokeInt(Object target, Object arg0) throws Throwable {
+        return (int) typed(1, int.class).invokeExact(target, arg0);
+    }
+
+    @Override
+    public int invokeInt(Object target, Object arg0, Object arg1) throws Throwable {
+        return (int) typed(2, int.class).invokeExact(target, arg0, arg1);
+    }
+
+    @Override
+    public long invokeLong(Object target) throws Throwable {
+        return (long) typed(0, long.class).invokeExact(target);
+    }
+
+    @Override
+    public long invokeLong(Object target, Object arg0) throws Throwable {
+        return (long) typed(1, long.class).invokeExact(target, arg0);
+    }
+
+    @Override
+    public long invokeLong(Object target, Object arg0, Object arg1) throws Throwable {
+        return (long) typed(2, long.class).invokeExact(target, arg0, arg1);
+    }
+
+    @Override
+    public boolean invokeBoolean(Object target) throws Throwable {
+        return (boolean) typed(0, boolean.class).invokeExact(target);
+    }
+
+    @Override
+    public boolean invokeBoolean(Object target, Object arg0) throws Throwable {
+        return (boolean) typed(1, boolean.class).invokeExact(target, arg0);
+    }
+
+    @Override
+    public boolean invokeBoolean(Object target, Object arg0, Object arg1) throws Throwable {
+        return (boolean) typed(2, boolean.class).invokeExact(target, arg0, arg1);
+    }
+
+    /// Returns the generic fixed-arity handle after checking the caller's arity.
+    private MethodHandle fixed(int count) {
+        if (count != arity) {
+            throw Invocations.wrongArity(count, arity);
+        }
+        return fixed;
+    }
+
+    /// Returns the handle of shape `(Object, Object...)returnType` after checking the caller's arity.
+    ///
+    /// `void` methods are rejected rather than adapted, because [MethodHandle#asType] would turn
+    /// their missing result into `0` or `false`. Reference results are converted with the same
+    /// [Invocations] conversion as the default path; primitive results that cannot be widened to
+    /// `returnType` fail with the same [ClassCastException].
+    /// Handles are immutable, so racing initializations are benign.
+    private MethodHandle typed(int count, Class<?> returnType) {
+        if (count != arity) {
+            throw Invocations.wrongArity(count, arity);
+        }
+        if (returnsVoid) {
+            throw Invocations.voidResult(returnType);
+        }
+        MethodHandle handle = returnType == int.class ? intHandle
+                : returnType == long.class ? longHandle
+                : booleanHandle;
+        if (handle == null) {
+            MethodType type = MethodType.genericMethodType(arity + 1);
+            try {
+                handle = adapted.type().returnType().isPrimitive()
+                        ? adapted.asType(type.changeReturnType(returnType))
+                        : MethodHandles.filterReturnValue(adapted.asType(type), Invocations.conversion(returnType));
+            } catch (WrongMethodTypeException e) {
+                throw new ClassCastException("Cannot convert " + adapted.type().wrap().returnType().getName()
+                        + " to " + returnType.getName());
+            }
+            if (returnType == int.class) {
+                intHandle = handle;
+            } else if (returnType == long.class) {
+                longHandle = handle;
+            } else {
+                booleanHandle = handle;
+            }
+        }
+        return handle;
+    }
+
+    /// Unreflects the method with fixed arity, a leading receiver parameter for static methods and
+    /// [Invocations] conversions in front of primitive parameters.
+    static MethodHandle adapt(Method method) {
+        MethodHandle handle = Invocations.convertArguments(unreflect(method).asFixedArity());
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        method.trySetAccessible();
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new MethodInvocationException("Cannot bind method handle for: " + method, e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.reflect4j.api.invoke;
+
+/// # MethodInvocationResult
+///
+/// Outcome of [io.github.reflect4j.api.descriptor.MethodDescriptor#invoke(Object, Object...)]: the
+/// value returned by the method, or the exception it threw.
+///
+/// Results are created through the static factories. Successful results without a value are a
+/// single shared instance, so a successful call of a `void` method allocates no result; see
+/// [InvocationResult] for the accessors.
+///
+/// @param <T> the return type of the method
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public interface MethodInvocationResult<T> extends InvocationResult<T> {
+
+    /// Returns a successful result holding the given return value.
+    ///
+    /// @param <T>   the return type of the method
+    /// @param value the returned value; `null` for `void` methods
+    ///
+    /// @return the result; the shared empty instance if the value is `null`
+    static <T> MethodInvocationResult<T> success(T value) {
+        return Results.success(value);
+    }
+
+    /// Returns the shared successful result without a value.
+    ///
+    /// @param <T> the return type of the method
+    ///
+    /// @return the shared empty result; never `null`
+    static <T> MethodInvocationResult<T> empty() {
+        return Results.empty();
+    }
+
+    /// Returns a failed result.
+    ///
+    /// The exception is kept as given; an [java.lang.reflect.InvocationTargetException] is
+    /// unwrapped to its cause only when [#getException()] is called.
+    ///
+    /// @param <T>       the return type of the method
+    /// @param exception the exception thrown by the method; must not be `null`
+    ///
+    /// @return the result; never `null`
+    /// @throws NullPointerException if the exception is `null`
+    static <T> MethodInvocationResult<T> failure(Throwable exception) {
+        return Results.failure(exception);
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.reflect4j.api.invoke;
+
+/// # MethodInvoker
+///
+/// Low-level call path a [io.github.reflect4j.api.descriptor.MethodDescriptor] routes its
+/// invocations through.
+///
+/// An invoker is bound once per method by an [InvocationEngine] and then reused for every call.
+/// Unlike [io.github.reflect4j.api.descriptor.MethodDescriptor#invoke(Object, Object...)], an
+/// invoker does not wrap its outcome: it returns the raw return value (`null` for `void`
+/// methods) and lets the exception thrown by the target method propagate unchanged, without
+/// an intermediate [java.lang.reflect.InvocationTargetException].
+///
+/// Besides the array-based [#invoke(Object, Object[])], invokers offer fixed-arity entry points
+/// (`invoke0` ... `invoke4`) and primitive-return variants (`invokeInt`, `invokeLong`,
+/// `invokeBoolean`) that avoid the argument array and the boxing of the return value. The
+/// default implementations fall back to [#invoke(Object, Object[])]; invokers bound by
+/// [InvocationEngine#METHOD_HANDLE] and [InvocationEngine#GENERATED] override them with
+/// allocation-free paths. Calling a fixed-arity variant whose arity differs from the method's
+/// parameter count fails with an [IllegalArgumentException]. Calling a primitive-return variant
+/// on a `void` method fails with [Invocations#voidResult(Class)] before the method is invoked.
+///
+/// Implementations are immutable and safe to share between threads.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public interface MethodInvoker {
+
+    /// Invokes the bound method.
+    ///
+    /// If the method is varargs, the variable arity parameter is passed as a single array
+    /// argument, exactly as with [java.lang.reflect.Method#invoke(Object, Object...)].
+    ///
+    /// @param target the receiver; ignored for static methods
+    /// @param args   the arguments; may be `null` if the method takes no parameters
+    ///
+    /// @return the value returned by the method, boxed if primitive; `null` for `void` methods
+    /// @throws Throwable whatever the target method throws, or an argument conversion error
+    Object invoke(Object target, Object[] args) throws Throwable;
+
+    /// Invokes the bound method without arguments.
+    ///
+    /// @return the value returned by the method, boxed if primitive; `null` for `void` methods
+    /// @throws Throwable whatever the target method throws, or an argument conversion error
+    default Object invoke0(Object target) throws Throwable {
+        return invoke(target, null);
+    }
+
+    /// Invokes the bound method with exactly 1 argument.
+    ///
+    /// @return the value returned by the method, boxed if primitive; `null` for `void` methods
+    /// @throws Throwable whatever the target method throws, or an argument conversion error
+    default Object invoke1(Object target, Object arg0) throws Throwable {
+        return invoke(target, new Object[]{arg0});
+    }
+
+    /// Invokes the bound method with exactly 2 arguments.
+    ///
+    /// @return the value returned by the method, boxed if primitive; `null` for `void` methods
+    /// @throws Throwable whatever the target method throws, or an argument conversion error
+    default Object invoke2(Object target, Object arg0, Object arg1) throws Throwable {
+        return invoke(target, new Object[]{arg0, arg1});
+    }
+
+    /// Invokes the bound method with exactly 3 arguments.
+    ///
+    /// @return the value returned by the method, boxed if primitive; `null` for `void` methods
+    /// @throws Throwable whatever the target method throws, or an argument conversion error
+    default Object invoke3(Object target, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return invoke(target, new Object[]{arg0, arg1, arg2});
+    }
+
+    /// Invokes the bound method with exactly 4 arguments.
+    ///
+    /// @return the value returned by the method, boxed if primitive; `null` for `void` methods
+    /// @throws Throwable whatever the target method throws, or an argument conversion error
+    default Object invoke4(Object target, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return invoke(target, new Object[]{arg0, arg1, arg2, arg3});
+    }
+
+    /// Invokes the bound method without arguments and returns its result as `int`.
+    ///
+    /// @return the value returned by the method, unboxed and widened to `int` if necessary
+    /// @throws Throwable whatever the target method throws, or a conversion error
+    default int invokeInt(Object target) throws Throwable {
+        return Invocations.toInt(invoke0(target));
+    }
+
+    /// Invokes the bound method with exactly 1 argument and returns its result as `int`.
+    ///
+    /// @return the value returned by the method, unboxed and widened to `int` if necessary
+    /// @throws Throwable whatever the target method throws, or a conversion error
+    default int invokeInt(Object target, Object arg0) throws Throwable {
+        return Invocations.toInt(invoke1(target, arg0));
+    }
+
+    /// Invokes the bound method with exactly 2 arguments and returns its result as `int`.
+    ///
+    /// @return the value returned by the method, unboxed and widened to `int` if necessary
+    /// @throws Throwable whatever the target method throws, or a conversion error
+    default int invokeInt(Object target, Object arg0, Object arg1) throws Throwable {
+        return Invocations.toInt(invoke2(target, arg0, arg1));
+    }
+
+    /// Invokes the bound method without arguments and returns its result as `long`.
+    ///
+    /// @return the value returned by the method, unboxed and widened to `long` if necessary
+    /// @throws Throwable whatever the target method throws, or a conversion error
+    default long invokeLong(Object target) throws Throwable {
+        return Invocations.toLong(invoke0(target));
+    }
+
+    /// Invokes the bound method with exactly 1 argument and returns its result as `long`.
+    ///
+    /// @return the value returned by the method, unboxed and widened to `long` if necessary
+    /// @throws Throwable whatever the target method throws, or a conversion error
+    default long invokeLong(Object target, Object arg0) throws Throwable {
+        return Invocations.toLong(invoke1(target, arg0));
+    }
+
+    /// Invokes the bound method with exactly 2 arguments and returns its result as `long`.
+    ///
+    /// @return the value returned by the method, unboxed and widened to `long` if necessary
+    /// @throws Throwable whatever the target method throws, or a conversion error
+    default long invokeLong(Object target, Object arg0, Object arg1) throws Throwable {
+        return Invocations.toLong(invoke2(target, arg0, arg1));
+    }
+
+    /// Invokes the bound method without arguments and returns its result as `boolean`.
+    ///
+    /// @return the value returned by the method, unboxed
+    /// @throws Throwable whatever the target method throws, or a conversion error
+    default boolean invokeBoolean(Object target) throws Throwable {
+        return Invocations.toBoolean(invoke0(target));
+    }
+
+    /// Invokes the bound method with exactly 1 argument and returns its result as `boolean`.
+    ///
+    /// @return the value returned by the method, unboxed
+    /// @throws Throwable whatever the target method throws, or a conversion error
+    default boolean invokeBoolean(Object target, Object arg0) throws Throwable {
+        return Invocations.toBoolean(invoke1(target, arg0));
+    }
+
+    /// Invokes the bound method with exactly 2 arguments and returns its result as `boolean`.
+    ///
+    /// @return the value returned by the method, unboxed
+    /// @throws Throwable whatever the target method throws, or a conversion error
+    default boolean invokeBoolean(Object target, Object arg0, Object arg1) throws Throwable {
+        return Invocations.toBoolean(invoke2(target, arg0, arg1));
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.reflect4j.api.invoke;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/// # ReflectiveConstructorInvoker
+///
+/// [ConstructorInvoker] backed by plain [Constructor#newInstance(Object...)].
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class ReflectiveConstructorInvoker implements ConstructorInvoker {
+
+    private final Constructor<?> constructor;
+
+    ReflectiveConstructorInvoker(Constructor<?> constructor) {
+        constructor.trySetAccessible();
+        this.constructor = constructor;
+    }
+
+    @Override
+    public Object invoke(Object[] args) throws Throwable {
+        try {
+            return constructor.newInstance(args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.reflect4j.api.invoke;
+
+import java.lang.reflect.Field;
+
+/// # ReflectiveFieldAccessor
+///
+/// [FieldAccessor] backed by plain [Field#get(Object)] and [Field#set(Object, Object)].
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class ReflectiveFieldAccessor implements FieldAccessor {
+
+    private final Field field;
+
+    ReflectiveFieldAccessor(Field field) {
+        field.trySetAccessible();
+        this.field = field;
+    }
+
+    @Override
+    public Object get(Object target) throws Throwable {
+        return field.get(target);
+    }
+
+    @Override
+    public void set(Object target, Object value) throws Throwable {
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.reflect4j.api.invoke;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/// # ReflectiveMethodInvoker
+///
+/// [MethodInvoker] backed by plain [Method#invoke(Object, Object...)].
+///
+/// The primitive-return variants reject `void` methods before invoking them, like
+/// [MethodHandleMethodInvoker] does, instead of failing to convert the missing result afterwards.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class ReflectiveMethodInvoker implements MethodInvoker {
+
+    private final Method method;
+    private final boolean returnsVoid;
+
+    ReflectiveMethodInvoker(Method method) {
+        method.trySetAccessible();
+        this.method = method;
+        this.returnsVoid = method.getReturnType() == void.class;
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public int invokeInt(Object target) throws Throwable {
+        requireResult(int.class);
+        return MethodInvoker.super.invokeInt(target);
+    }
+
+    @Override
+    public int invokeInt(Object target, Object arg0) throws Throwable {
+        requireResult(int.class);
+        return MethodInvoker.super.invokeInt(target, arg0);
+    }
+
+    @Override
+    public int invokeInt(Object target, Object arg0, Object arg1) throws Throwable {
+        requireResult(int.class);
+        return MethodInvoker.super.invokeInt(target, arg0, arg1);
+    }
+
+    @Override
+    public long invokeLong(Object target) throws Throwable {
+        requireResult(long.class);
+        return MethodInvoker.super.invokeLong(target);
+    }
+
+    @Override
+    public long invokeLong(Object target, Object arg0) throws Throwable {
+        requireResult(long.class);
+        return MethodInvoker.super.invokeLong(target, arg0);
+    }
+
+    @Override
+    public long invokeLong(Object target, Object arg0, Object arg1) throws Throwable {
+        requireResult(long.class);
+        return MethodInvoker.super.invokeLong(target, arg0, arg1);
+    }
+
+    @Override
+    public boolean invokeBoolean(Object target) throws Throwable {
+        requireResult(boolean.class);
+        return MethodInvoker.super.invokeBoolean(target);
+    }
+
+    @Override
+    public boolean invokeBoolean(Object target, Object arg0) throws Throwable {
+        requireResult(boolean.class);
+        return MethodInvoker.super.invokeBoolean(target, arg0);
+    }
+
+    @Override
+    public boolean invokeBoolean(Object target, Object arg0, Object arg1) throws Throwable {
+        requireResult(boolean.class);
+        return MethodInvoker.super.invokeBoolean(target, arg0, arg1);
+    }
+
+    private void requireResult(Class<?> type) {
+        if (returnsVoid) {
+            throw Invocations.voidResult(type);
+        }
+    }
+}
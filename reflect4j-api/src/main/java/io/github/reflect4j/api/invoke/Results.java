@@ -0,0 +1,119 @@
+package io.github.reflect4j.api.invoke;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+
+/// # Results
+///
+/// The implementations behind [MethodInvocationResult], [ConstructorInvocationResult] and
+/// [FieldAccessResult].
+///
+/// Every outcome is one of two small final classes that implement all three result types, so the
+/// call sites that produce and consume results stay monomorphic and inline well:
+///
+/// - [Success] holds the value in a single final field. A `null` value, such as the result of a
+///   `void` method or of a field write, is always the shared [#EMPTY] instance, so those calls
+///   allocate no result at all. Other successes are immutable and never escape through the
+///   library, which lets the JIT scalar-replace them when the caller consumes the result inline.
+/// - [Failure] keeps the exception exactly as it was caught. An
+///   [InvocationTargetException] is only unwrapped when [Failure#getException()] asks for it,
+///   and the result itself records no stack trace.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class Results {
+
+    /// The shared successful result without a value.
+    static final Success<?> EMPTY = new Success<>(null);
+
+    private Results() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Success<T> empty() {
+        return (Success<T>) EMPTY;
+    }
+
+    static <T> Success<T> success(T value) {
+        return value == null ? empty() : new Success<>(value);
+    }
+
+    static <T> Failure<T> failure(Throwable exception) {
+        return new Failure<>(Objects.requireNonNull(exception, "exception must not be null"));
+    }
+
+    /// A successful outcome.
+    static final class Success<T> implements MethodInvocationResult<T>, ConstructorInvocationResult<T>,
+            FieldAccessResult<T> {
+
+        private final T value;
+
+        private Success(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public T getValue() {
+            return value;
+        }
+
+        @Override
+        public Throwable getException() {
+            return null;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Success<?> other && Objects.equals(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success[" + value + "]";
+        }
+    }
+
+    /// A failed outcome.
+    static final class Failure<T> implements MethodInvocationResult<T>, ConstructorInvocationResult<T>,
+            FieldAccessResult<T> {
+
+        private final Throwable exception;
+
+        private Failure(Throwable exception) {
+            this.exception = exception;
+        }
+
+        @Override
+        public T getValue() {
+            return null;
+        }
+
+        @Override
+        public Throwable getException() {
+            if (exception instanceof InvocationTargetException e && e.getCause() != null) {
+                return e.getCause();
+            }
+            return exception;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure[" + getException() + "]";
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.reflect4j.api.mapping;
+
+import io.github.reflect4j.api.descriptor.ConstructorDescriptor;
+import io.github.reflect4j.api.exception.MappingException;
+import io.github.reflect4j.api.mapping.CopySteps.Step;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/// # CopyPlan
+///
+/// Compiled field-by-field copy from one type to another, obtained from a [Mapper].
+///
+/// A plan is compiled once per pair of types: the fields are matched, their handles resolved and
+/// adapted, and the conversions chosen up front. Copying then only runs the precompiled steps, one
+/// per mapped field, without looking anything up, testing annotations or boxing primitives.
+///
+/// Object graphs keep their shape: within one call to [#map(Object)] or [#copy(Object, Object)],
+/// an object reached more than once, for example through a parent/child back-reference or any
+/// other cycle, is mapped once per target type, and every reference to it points to that one copy.
+/// The identity map this takes is only allocated by plans that map nested objects or the elements
+/// of collections, and starts small, since most graphs hold a handful of objects.
+///
+/// [Error]s, such as a [StackOverflowError] on a graph too deep for the stack, propagate
+/// unchanged; only exceptions are wrapped in a [MappingException].
+///
+/// Plans are immutable and safe to share between threads.
+///
+/// @param <S> the source type
+/// @param <T> the target type
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class CopyPlan<S, T> {
+
+    /// Initial capacity of the identity map, in objects; it grows like any [IdentityHashMap].
+    private static final int EXPECTED_OBJECTS = 4;
+
+    private final Class<S> sourceType;
+    private final Class<T> targetType;
+    private final Step[] steps;
+    private final ConstructorDescriptor<T> constructor;
+    private final List<String> mappedFields;
+    private final boolean nested;
+
+    CopyPlan(Class<S> sourceType, Class<T> targetType, Step[] steps, ConstructorDescriptor<T> constructor) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.steps = steps;
+        this.constructor = constructor;
+        String[] names = new String[steps.length];
+        boolean nested = false;
+        for (int i = 0; i < steps.length; i++) {
+            names[i] = steps[i].field;
+            nested |= steps[i].mapsObjects();
+        }
+        this.mappedFields = List.of(names);
+        this.nested = nested;
+    }
+
+    /// Returns the type this plan copies from.
+    ///
+    /// @return the source type; never `null`
+    public Class<S> getSourceType() {
+        return sourceType;
+    }
+
+    /// Returns the type this plan copies to.
+    ///
+    /// @return the target type; never `null`
+    public Class<T> getTargetType() {
+        return targetType;
+    }
+
+    /// Returns the names of the target fields this plan writes, in the order they are copied.
+    ///
+    /// @return an immutable list of field names; never `null`
+    public List<String> getMappedFields() {
+        return mappedFields;
+    }
+
+    /// Copies the mapped fields of the source into an existing target.
+    ///
+    /// Target fields without a matching source field are left untouched.
+    ///
+    /// @param source the object to copy from; must not be `null`
+    /// @param target the object to copy to; must not be `null`
+    ///
+    /// @return the target
+    /// @throws NullPointerException if the source or the target is `null`
+    /// @throws MappingException     if copying a field fails
+    public T copy(S source, T target) {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        return copy(source, target, nested ? new IdentityHashMap<>(EXPECTED_OBJECTS) : null);
+    }
+
+    private T copy(S source, T target, Map<Object, Object> mapped) {
+        if (mapped != null) {
+            mapped.put(source, target);
+        }
+        for (Step step : steps) {
+            try {
+                step.copy(source, target, mapped);
+            } catch (Error | MappingException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new MappingException("Failed to map " + sourceType.getName() + " to "
+                        + targetType.getName() + "#" + step.field, e);
+            }
+        }
+        return target;
+    }
+
+    /// Maps the source into a new instance of the target type.
+    ///
+    /// The instance is created with the no-argument constructor of the target type.
+    ///
+    /// @param source the object to copy from; may be `null`
+    ///
+    /// @return the new target, or `null` if the source is `null`
+    /// @throws MappingException if the target type has no no-argument constructor, or copying a field fails
+    public T map(S source) {
+        if (source == null) {
+            return null;
+        }
+        return map(source, nested ? new IdentityHashMap<>(EXPECTED_OBJECTS) : null);
+    }
+
+    /// Maps a non-`null` source as part of an enclosing copy, reusing its copy if it was already
+    /// mapped to this plan's target type.
+    T map(S source, Map<Object, Object> mapped) {
+        if (mapped != null) {
+            Object existing = mapped.get(source);
+            if (targetType.isInstance(existing)) {
+                return targetType.cast(existing);
+            }
+        }
+        if (constructor == null) {
+            throw new MappingException("No no-argument constructor in " + targetType.getName());
+        }
+        return copy(source, constructor.invoke0(), mapped);
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.reflect4j.api.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/// # CopySteps
+///
+/// The steps a [CopyPlan] runs, one per mapped target field.
+///
+/// Every step reads the source field and writes the target field through method handles that
+/// were adapted once, when the plan was compiled, to the exact types involved. A [Direct] step
+/// fuses the read, the conversion and the write into a single `(Object, Object)void` handle, so
+/// primitive values travel unboxed. [Nested] and [Elements] steps map the value, or each element
+/// of a collection, with the plan of its own pair of types, resolved on first use so that
+/// recursive types compile. They share the identity map of the objects mapped so far in the
+/// current copy, so an object reached again, for example through a back-reference, is not mapped
+/// a second time but resolved to its copy.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class CopySteps {
+
+    private CopySteps() {
+    }
+
+    /// Copies one field from a source to a target.
+    abstract static sealed class Step permits Direct, Unboxing, Nested, Elements {
+
+        /// The name of the target field, for diagnostics.
+        final String field;
+
+        Step(String field) {
+            this.field = field;
+        }
+
+        /// @param mapped the copies made so far in this copy, by source object; `null` if no step
+        ///               of the plan [maps objects][#mapsObjects()]
+        abstract void copy(Object source, Object target, Map<Object, Object> mapped) throws Throwable;
+
+        /// Returns whether this step maps values with another plan and so needs the identity map.
+        boolean mapsObjects() {
+            return false;
+        }
+    }
+
+    /// Copies a value whose type converts to the target's by assignment, boxing or widening.
+    static final class Direct extends Step {
+
+        private final MethodHandle copy;
+
+        /// @param copy a `(Object source, Object target)void` handle
+        Direct(String field, MethodHandle copy) {
+            super(field);
+            this.copy = copy;
+        }
+
+        @Override
+        void copy(Object source, Object target, Map<Object, Object> mapped) throws Throwable {
+            copy.invokeExact(source, target);
+        }
+    }
+
+    /// Copies a wrapper into a primitive, leaving the target untouched if the wrapper is `null`.
+    static final class Unboxing extends Step {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        /// @param getter a `(Object)Object` handle returning the wrapper
+        /// @param setter a `(Object, Object)void` handle unboxing the wrapper
+        Unboxing(String field, MethodHandle getter, MethodHandle setter) {
+            super(field);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        void copy(Object source, Object target, Map<Object, Object> mapped) throws Throwable {
+            Object value = getter.invokeExact(source);
+            if (value != null) {
+                setter.invokeExact(target, value);
+            }
+        }
+    }
+
+    /// Maps a value into a new instance of the target field's type.
+    static final class Nested extends Step {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final PlanRef plan;
+
+        Nested(String field, MethodHandle getter, MethodHandle setter, PlanRef plan) {
+            super(field);
+            this.getter = getter;
+            this.setter = setter;
+            this.plan = plan;
+        }
+
+        @Override
+        void copy(Object source, Object target, Map<Object, Object> mapped) throws Throwable {
+            Object value = getter.invokeExact(source);
+            setter.invokeExact(target, value == null ? null : plan.get().map(value, mapped));
+        }
+
+        @Override
+        boolean mapsObjects() {
+            return true;
+        }
+    }
+
+    /// Copies a collection into a new collection, mapping each element if needed.
+    static final class Elements extends Step {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final Supplier<Collection<Object>> factory;
+        private final PlanRef plan;
+
+        /// @param plan the element plan; `null` if elements are copied as they are
+        Elements(String field, MethodHandle getter, MethodHandle setter, Supplier<Collection<Object>> factory,
+                 PlanRef plan) {
+            super(field);
+            this.getter = getter;
+            this.setter = setter;
+            this.factory = factory;
+            this.plan = plan;
+        }
+
+        @Override
+        void copy(Object source, Object target, Map<Object, Object> mapped) throws Throwable {
+            Object values = getter.invokeExact(source);
+            if (values == null) {
+                setter.invokeExact(target, (Object) null);
+                return;
+            }
+            Collection<Object> copy = factory.get();
+            if (plan == null) {
+                copy.addAll((Collection<?>) values);
+            } else {
+                CopyPlan<Object, Object> elements = plan.get();
+                for (Object value : (Collection<?>) values) {
+                    copy.add(value == null ? null : elements.map(value, mapped));
+                }
+            }
+            setter.invokeExact(target, (Object) copy);
+        }
+
+        @Override
+        boolean mapsObjects() {
+            return plan != null;
+        }
+    }
+
+    /// Lazily resolved plan of a nested pair of types.
+    static final class PlanRef {
+
+        private final Mapper mapper;
+        private final Class<?> source;
+        private final Class<?> target;
+        private volatile CopyPlan<Object, Object> plan;
+
+        PlanRef(Mapper mapper, Class<?> source, Class<?> target) {
+            this.mapper = mapper;
+            this.source = source;
+            this.target = target;
+        }
+
+        @SuppressWarnings("unchecked")
+        CopyPlan<Object, Object> get() {
+            CopyPlan<Object, Object> result = plan;
+            if (result == null) {
+                plan = result = (CopyPlan<Object, Object>) mapper.plan(source, target);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package io.github.reflect4j.api.mapping;
+
+import io.github.reflect4j.annotations.R4jAlias;
+import io.github.reflect4j.api.descriptor.AliasTable;
+import io.github.reflect4j.api.descriptor.ClassDescriptor;
+import io.github.reflect4j.api.descriptor.ConstructorDescriptor;
+import io.github.reflect4j.api.descriptor.DescriptorRegistry;
+import io.github.reflect4j.api.descriptor.FieldDescriptor;
+import io.github.reflect4j.api.mapping.CopySteps.PlanRef;
+import io.github.reflect4j.api.mapping.CopySteps.Step;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/// # Mapper
+///
+/// Object-to-object mapper that compiles a [CopyPlan] once per pair of types and reuses it.
+///
+/// Fields are matched by target field: a source field with the same name wins, then a source
+/// field carrying the name as an `@R4jAlias` alias (primary aliases first), then a source field
+/// named after one of the target field's own aliases. Inherited fields take part, with fields of
+/// subclasses shadowing those of superclasses. Static fields, `final` target fields and
+/// `@R4jIgnore`d fields on either side are skipped.
+///
+/// Each matched pair is copied in the cheapest way its types allow:
+///
+/// - values assignable to the target, or convertible to it by boxing, unboxing or primitive
+///   widening, are copied through a single adapted method handle, without boxing primitives;
+///   `null` wrappers leave primitive targets untouched;
+/// - collections are copied into a new `ArrayList`, `LinkedHashSet` or `TreeSet`, whichever fits
+///   the target field, mapping the elements when their types differ;
+/// - other objects are mapped into a new instance of the target field's type with the plan of
+///   their own pair of types.
+///
+/// Pairs that fit none of these are left out of the plan; [CopyPlan#getMappedFields()] lists the
+/// fields that are copied. Nested types are described through the [DescriptorRegistry] the mapper
+/// was created with.
+///
+/// **Example:**
+/// ```java
+/// Mapper mapper = Mapper.create(registry);
+/// CopyPlan<UserDto, User> plan = mapper.plan(UserDto.class, User.class);
+/// User user = plan.map(dto);
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class Mapper {
+
+    private final DescriptorRegistry registry;
+    private final Map<Pair, CopyPlan<?, ?>> plans = new ConcurrentHashMap<>();
+
+    private Mapper(DescriptorRegistry registry) {
+        this.registry = registry;
+    }
+
+    /// Creates a mapper that describes classes through the given registry.
+    ///
+    /// @param registry the registry to obtain class descriptors from; must not be `null`
+    ///
+    /// @return a new mapper with an empty plan cache; never `null`
+    /// @throws NullPointerException if the registry is `null`
+    public static Mapper create(DescriptorRegistry registry) {
+        return new Mapper(Objects.requireNonNull(registry, "registry must not be null"));
+    }
+
+    /// Returns the copy plan from one class to another, compiling it on first use.
+    ///
+    /// @param <S>    the source type
+    /// @param <T>    the target type
+    /// @param source the source class; must not be `null`
+    /// @param target the target class; must not be `null`
+    ///
+    /// @return the cached plan; never `null`
+    /// @throws NullPointerException if either class is `null`
+    public <S, T> CopyPlan<S, T> plan(Class<S> source, Class<T> target) {
+        return plan(registry.get(source), registry.get(target));
+    }
+
+    /// Returns the copy plan between the classes of two descriptors, compiling it on first use.
+    ///
+    /// @param <S>    the source type
+    /// @param <T>    the target type
+    /// @param source the descriptor of the source class; must not be `null`
+    /// @param target the descriptor of the target class; must not be `null`
+    ///
+    /// @return the cached plan; never `null`
+    /// @throws NullPointerException if either descriptor is `null`
+    @SuppressWarnings("unchecked")
+    public <S, T> CopyPlan<S, T> plan(ClassDescriptor<S> source, ClassDescriptor<T> target) {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        return (CopyPlan<S, T>) plans.computeIfAbsent(new Pair(source.unwrap(), target.unwrap()),
+                key -> compile(source, target));
+    }
+
+    /// Maps an object into a new instance of the given class.
+    ///
+    /// @param <T>    the target type
+    /// @param source the object to map; may be `null`
+    /// @param target the target class; must not be `null`
+    ///
+    /// @return the new target, or `null` if the source is `null`
+    /// @throws io.github.reflect4j.api.exception.MappingException if the target class has no
+    ///                                                            no-argument constructor, or copying a field fails
+    @SuppressWarnings("unchecked")
+    public <T> T map(Object source, Class<T> target) {
+        if (source == null) {
+            return null;
+        }
+        return ((CopyPlan<Object, T>) plan(source.getClass(), target)).map(source);
+    }
+
+    /// Copies the matching fields of one object into another.
+    ///
+    /// @param <T>    the target type
+    /// @param source the object to copy from; must not be `null`
+    /// @param target the object to copy to; must not be `null`
+    ///
+    /// @return the target
+    /// @throws io.github.reflect4j.api.exception.MappingException if copying a field fails
+    @SuppressWarnings("unchecked")
+    public <T> T copy(Object source, T target) {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        return ((CopyPlan<Object, T>) plan(source.getClass(), target.getClass())).copy(source, target);
+    }
+
+    private <S, T> CopyPlan<S, T> compile(ClassDescriptor<S> source, ClassDescriptor<T> target) {
+        Map<String, FieldDescriptor> sourceFields = fields(source, false);
+        List<Step> steps = new ArrayList<>();
+        for (FieldDescriptor to : fields(target, true).values()) {
+            FieldDescriptor from = match(source, sourceFields, to);
+            Step step = from == null ? null : step(from, to);
+            if (step != null) {
+                steps.add(step);
+            }
+        }
+        ConstructorDescriptor<T> constructor = target.isAbstract() ? null : target.getConstructor();
+        if (constructor != null && !constructor.isPresent()) {
+            constructor = null;
+        }
+        return new CopyPlan<>(source.unwrap(), target.unwrap(), steps.toArray(Step[]::new), constructor);
+    }
+
+    /// Collects the instance fields of a class and its superclasses, by name, subclasses first.
+    private static Map<String, FieldDescriptor> fields(ClassDescriptor<?> type, boolean writable) {
+        Map<String, FieldDescriptor> fields = new LinkedHashMap<>();
+        for (ClassDescriptor<?> c = type; c != null && c.isPresent() && c.unwrap() != Object.class; c = c.getSuperclass()) {
+            for (FieldDescriptor field : c.getFields()) {
+                if (!field.isStatic() && !(writable && field.isFinal()) && !field.unwrap().isSynthetic()) {
+                    fields.putIfAbsent(field.getName(), field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private static FieldDescriptor match(ClassDescriptor<?> source, Map<String, FieldDescriptor> sourceFields,
+                                         FieldDescriptor to) {
+        String name = to.getName();
+        FieldDescriptor match = sourceFields.get(name);
+        if (match != null) {
+            return match;
+        }
+        for (ClassDescriptor<?> c = source; c != null && c.isPresent() && c.unwrap() != Object.class; c = c.getSuperclass()) {
+            AliasTable aliases = c.getAliasTable();
+            if (aliases.isEmpty()) {
+                continue;
+            }
+            for (boolean primary : new boolean[]{true, false}) {
+                FieldDescriptor aliased = aliases.field(name, primary);
+                if (aliased != null && sourceFields.get(aliased.getName()) == aliased) {
+                    return aliased;
+                }
+            }
+        }
+        R4jAlias alias = to.unwrap().getAnnotation(R4jAlias.class);
+        if (alias != null) {
+            for (String candidate : alias.value()) {
+                for (FieldDescriptor field : sourceFields.values()) {
+                    String fieldName = field.getName();
+                    if (alias.caseSensitive() ? fieldName.equals(candidate) : fieldName.equalsIgnoreCase(candidate)) {
+                        return field;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private Step step(FieldDescriptor from, FieldDescriptor to) {
+        Class<?> fromType = from.getType();
+        Class<?> toType = to.getType();
+        String name = to.getName();
+        MethodHandle getter = getter(from);
+        MethodHandle setter = setter(to);
+        if (toType.isPrimitive() && !fromType.isPrimitive()) {
+            if (!MethodType.methodType(fromType).unwrap().returnType().isPrimitive()) {
+                return null;
+            }
+            MethodHandle unbox = adapt(setter, MethodType.methodType(void.class, Object.class, fromType));
+            return unbox == null ? null : new CopySteps.Unboxing(name, erase(getter), erase(unbox));
+        }
+        if (toType.isPrimitive() || fromType.isPrimitive()) {
+            if (!toType.isPrimitive() && !toType.isAssignableFrom(MethodType.methodType(fromType).wrap().returnType())) {
+                return null;
+            }
+            MethodHandle read = adapt(getter, MethodType.methodType(toType, Object.class));
+            if (read == null) {
+                return null;
+            }
+            MethodHandle write = setter.asType(MethodType.methodType(void.class, Object.class, toType));
+            MethodHandle copy = MethodHandles.permuteArguments(MethodHandles.filterArguments(write, 1, read),
+                    MethodType.methodType(void.class, Object.class, Object.class), 1, 0);
+            return new CopySteps.Direct(name, copy);
+        }
+        MethodHandle read = erase(getter);
+        MethodHandle write = erase(setter);
+        if (Collection.class.isAssignableFrom(fromType) && Collection.class.isAssignableFrom(toType)) {
+            Supplier<Collection<Object>> factory = collectionFactory(toType);
+            if (factory == null) {
+                return null;
+            }
+            Class<?> fromElement = elementType(from.unwrap().getGenericType());
+            Class<?> toElement = elementType(to.unwrap().getGenericType());
+            if (toElement.isAssignableFrom(fromElement)) {
+                return new CopySteps.Elements(name, read, write, factory, null);
+            }
+            return mappable(fromElement, toElement)
+                    ? new CopySteps.Elements(name, read, write, factory, new PlanRef(this, fromElement, toElement))
+                    : null;
+        }
+        if (toType.isAssignableFrom(fromType)) {
+            MethodHandle copy = MethodHandles.permuteArguments(MethodHandles.filterArguments(write, 1, read),
+                    MethodType.methodType(void.class, Object.class, Object.class), 1, 0);
+            return new CopySteps.Direct(name, copy);
+        }
+        return mappable(fromType, toType) ? new CopySteps.Nested(name, read, write, new PlanRef(this, fromType, toType)) : null;
+    }
+
+    private static MethodHandle getter(FieldDescriptor field) {
+        VarHandle handle = field.getVarHandle();
+        return handle.toMethodHandle(field.isVolatile() ? VarHandle.AccessMode.GET_VOLATILE : VarHandle.AccessMode.GET);
+    }
+
+    private static MethodHandle setter(FieldDescriptor field) {
+        VarHandle handle = field.getVarHandle();
+        return handle.toMethodHandle(field.isVolatile() ? VarHandle.AccessMode.SET_VOLATILE : VarHandle.AccessMode.SET);
+    }
+
+    /// Erases a getter to `(Object)Object` or a setter to `(Object, Object)void`.
+    private static MethodHandle erase(MethodHandle handle) {
+        return handle.asType(handle.type().erase().changeParameterType(0, Object.class));
+    }
+
+    /// Adapts a handle, or returns `null` if the types do not convert.
+    private static MethodHandle adapt(MethodHandle handle, MethodType type) {
+        try {
+            return handle.asType(type);
+        } catch (WrongMethodTypeException e) {
+            return null;
+        }
+    }
+
+    /// Returns whether values of one type can be mapped into a new instance of another.
+    private static boolean mappable(Class<?> from, Class<?> to) {
+        return !from.isPrimitive() && !from.isArray() && !from.isEnum()
+                && !to.isPrimitive() && !to.isArray() && !to.isEnum() && !to.isInterface()
+                && !to.getName().startsWith("java.");
+    }
+
+    private static Supplier<Collection<Object>> collectionFactory(Class<?> type) {
+        if (type.isAssignableFrom(ArrayList.class)) {
+            return ArrayList::new;
+        }
+        if (type.isAssignableFrom(LinkedHashSet.class)) {
+            return LinkedHashSet::new;
+        }
+        if (type.isAssignableFrom(TreeSet.class)) {
+            return TreeSet::new;
+        }
+        return null;
+    }
+
+    private static Class<?> elementType(Type type) {
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments().length == 1) {
+            Type argument = parameterized.getActualTypeArguments()[0];
+            if (argument instanceof Class<?> c) {
+                return c;
+            }
+            if (argument instanceof ParameterizedType p && p.getRawType() instanceof Class<?> c) {
+                return c;
+            }
+        }
+        return Object.class;
+    }
+
+    private record Pair(Class<?> source, Class<?> target) {
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.reflect4j.api.signature;
+
+import io.github.reflect4j.api.descriptor.ClassDescriptor;
+import io.github.reflect4j.api.descriptor.ConstructorDescriptor;
+import io.github.reflect4j.api.descriptor.Descriptor;
+import io.github.reflect4j.api.descriptor.FieldDescriptor;
+import io.github.reflect4j.api.descriptor.MethodDescriptor;
+import io.github.reflect4j.api.exception.InvalidSignatureException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/// # SignatureIndex
+///
+/// Immutable hash index over the member signatures of one class, as documented on
+/// [Descriptor#getSignature()].
+///
+/// The index maps every method, constructor and field signature to its descriptor, plus a
+/// secondary index from method name to all of its overloads. Each member is registered under
+/// its full signature and under the shorter forms that still identify it within the class,
+/// both as produced by `getSignature()` and with all whitespace removed:
+///
+///     - methods: `com.example.MyClass#process(java.lang.String, int):void`,
+///       `process(java.lang.String, int):void` and `process(java.lang.String, int)`
+///     - constructors: `com.example.MyClass(int)`, `MyClass(int)` and `(int)`
+///     - fields: `com.example.MyClass#name:java.lang.String`, `name:java.lang.String` and `name`
+///
+/// A lookup is a single hash probe for any of these forms, and a second probe for other
+/// whitespace variants. Any other notation accepted by [SignatureParser], such as JVM
+/// descriptors, falls back to parsing the signature and matching it against the overloads
+/// of the named method or against the constructors or fields of the class. When a compiler-generated bridge method shares its name and
+/// parameters with the method it bridges, the short forms resolve to the bridged method.
+///
+/// The index holds the member descriptors of the [ClassDescriptor] it was built from, so it
+/// belongs to that descriptor: it is built once, on the first signature lookup, kept by the
+/// descriptor (see [ClassDescriptor#getSignatureIndex()]) and shared read-only by all threads.
+/// Other descriptors of the same class, for example one recreated after a
+/// [io.github.reflect4j.api.descriptor.DescriptorRegistry] eviction, build their own index and
+/// always resolve to their own members.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class SignatureIndex {
+
+    private static final ThreadLocal<SignatureParser> PARSER = ThreadLocal.withInitial(SignatureParser::new);
+
+    private final Map<String, MethodDescriptor> methods;
+    private final Map<String, ConstructorDescriptor<?>> constructors;
+    private final Map<String, FieldDescriptor> fields;
+    private final Map<String, List<MethodDescriptor>> overloads;
+    private final List<ConstructorDescriptor<?>> constructorList;
+    private final List<FieldDescriptor> fieldList;
+
+    private SignatureIndex(ClassDescriptor<?> type) {
+        Map<String, MethodDescriptor> m = new HashMap<>();
+        Map<String, List<MethodDescriptor>> o = new HashMap<>();
+        for (MethodDescriptor method : type.getAllMethods()) {
+            String signature = method.getSignature();
+            String local = local(signature);
+            register(m, method, signature, local, withoutReturnType(local));
+            o.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+        }
+        Map<String, ConstructorDescriptor<?>> c = new HashMap<>();
+        for (ConstructorDescriptor<?> constructor : type.getAllConstructors()) {
+            String signature = constructor.getSignature();
+            int open = signature.indexOf('(');
+            String parameters = open < 0 ? signature : signature.substring(open);
+            register(c, constructor, signature, type.getName() + parameters, parameters);
+        }
+        Map<String, FieldDescriptor> f = new HashMap<>();
+        for (FieldDescriptor field : type.getAllFields()) {
+            String signature = field.getSignature();
+            register(f, field, signature, local(signature), field.getName());
+        }
+        o.replaceAll((name, list) -> List.copyOf(list));
+        this.methods = Map.copyOf(m);
+        this.constructors = Map.copyOf(c);
+        this.fields = Map.copyOf(f);
+        this.overloads = Map.copyOf(o);
+        this.constructorList = List.copyOf(type.getAllConstructors());
+        this.fieldList = List.copyOf(type.getAllFields());
+    }
+
+    /// Builds the index over the members of the given class descriptor.
+    ///
+    /// Building walks every member of the class; callers are expected to keep the result, as
+    /// [ClassDescriptor#getSignatureIndex()] implementations do.
+    ///
+    /// @param type the class descriptor; must not be `null`
+    ///
+    /// @return a new index; never `null`
+    /// @throws NullPointerException if the type is `null`
+    public static SignatureIndex of(ClassDescriptor<?> type) {
+        return new SignatureIndex(Objects.requireNonNull(type, "type must not be null"));
+    }
+
+    /// Returns the method with the given signature.
+    ///
+    /// @param signature the method signature in any notation accepted by [SignatureParser]; must not be `null`
+    ///
+    /// @return the method descriptor, or `null` if no method matches
+    /// @throws NullPointerException      if the signature is `null`
+    /// @throws InvalidSignatureException if the signature is malformed or has no parameter list
+    public MethodDescriptor method(String signature) {
+        MethodDescriptor method = probe(methods, signature);
+        if (method != null) {
+            return method;
+        }
+        SignatureParser parser = PARSER.get();
+        try {
+            parser.parse(signature);
+            if (parser.isAnnotation() || !parser.hasParameters()) {
+                throw new InvalidSignatureException("Not a method signature: " + signature);
+            }
+            for (MethodDescriptor candidate : overloads(parser.name())) {
+                if (parser.matches(candidate) && (method == null || method.isBridge())) {
+                    method = candidate;
+                }
+            }
+            return method;
+        } finally {
+            parser.clear();
+        }
+    }
+
+    /// Returns the constructor with the given signature.
+    ///
+    /// @param <T>       the type of the class declaring the constructor
+    /// @param signature the constructor signature in any notation accepted by [SignatureParser]; must not be `null`
+    ///
+    /// @return the constructor descriptor, or `null` if no constructor matches
+    /// @throws NullPointerException      if the signature is `null`
+    /// @throws InvalidSignatureException if the signature is malformed or has no parameter list
+    @SuppressWarnings("unchecked")
+    public <T> ConstructorDescriptor<T> constructor(String signature) {
+        ConstructorDescriptor<?> constructor = probe(constructors, signature);
+        if (constructor != null) {
+            return (ConstructorDescriptor<T>) constructor;
+        }
+        SignatureParser parser = PARSER.get();
+        try {
+            parser.parse(signature);
+            if (parser.isAnnotation() || !parser.hasParameters()) {
+                throw new InvalidSignatureException("Not a constructor signature: " + signature);
+            }
+            for (ConstructorDescriptor<?> candidate : constructorList) {
+                if (parser.matches(candidate)) {
+                    return (ConstructorDescriptor<T>) candidate;
+                }
+            }
+            return null;
+        } finally {
+            parser.clear();
+        }
+    }
+
+    /// Returns the field with the given signature or name.
+    ///
+    /// Malformed signatures match no field.
+    ///
+    /// @param signature the field signature in any notation accepted by [SignatureParser]; must not be `null`
+    ///
+    /// @return the field descriptor, or `null` if no field matches
+    /// @throws NullPointerException if the signature is `null`
+    public FieldDescriptor field(String signature) {
+        FieldDescriptor field = probe(fields, signature);
+        if (field != null) {
+            return field;
+        }
+        SignatureParser parser = PARSER.get();
+        try {
+            if (parser.tryParse(signature)) {
+                for (FieldDescriptor candidate : fieldList) {
+                    if (parser.matches(candidate)) {
+                        return candidate;
+                    }
+                }
+            }
+            return null;
+        } finally {
+            parser.clear();
+        }
+    }
+
+    /// Returns all methods with the given name, in the order of [ClassDescriptor#getAllMethods()].
+    ///
+    /// @param name the method name; must not be `null`
+    ///
+    /// @return an immutable, possibly empty list of overloads; never `null`
+    /// @throws NullPointerException if the name is `null`
+    public List<MethodDescriptor> overloads(String name) {
+        return overloads.getOrDefault(Objects.requireNonNull(name, "name must not be null"), List.of());
+    }
+
+    private static <D> D probe(Map<String, D> index, String signature) {
+        D descriptor = index.get(Objects.requireNonNull(signature, "signature must not be null"));
+        if (descriptor == null) {
+            String stripped = stripWhitespace(signature);
+            if (stripped != signature) {
+                descriptor = index.get(stripped);
+            }
+        }
+        return descriptor;
+    }
+
+    private static <D extends Descriptor<?>> void register(Map<String, D> index, D descriptor, String... keys) {
+        for (String key : keys) {
+            put(index, key, descriptor);
+            put(index, stripWhitespace(key), descriptor);
+        }
+    }
+
+    /// Registers a key, letting a regular method win over a bridge method with the same key.
+    private static <D extends Descriptor<?>> void put(Map<String, D> index, String key, D descriptor) {
+        D existing = index.putIfAbsent(key, descriptor);
+        if (existing instanceof MethodDescriptor method && method.isBridge()) {
+            index.put(key, descriptor);
+        }
+    }
+
+    /// Drops the `owner#` prefix of a member signature.
+    private static String local(String signature) {
+        int hash = signature.indexOf('#');
+        return hash < 0 ? signature : signature.substring(hash + 1);
+    }
+
+    /// Drops the `:returnType` suffix of a method signature.
+    private static String withoutReturnType(String signature) {
+        int close = signature.lastIndexOf(')');
+        return close < 0 ? signature : signature.substring(0, close + 1);
+    }
+
+    /// Returns the string without whitespace, or the same instance if it has none.
+    static String stripWhitespace(String s) {
+        int i = 0;
+        while (i < s.length() && !Character.isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        if (i == s.length()) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length()).append(s, 0, i);
+        for (; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
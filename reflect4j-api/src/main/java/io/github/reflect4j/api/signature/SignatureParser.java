@@ -0,0 +1,662 @@
+package io.github.reflect4j.api.signature;
+
+import io.github.reflect4j.api.descriptor.AnnotationDescriptor;
+import io.github.reflect4j.api.descriptor.ConstructorDescriptor;
+import io.github.reflect4j.api.descriptor.FieldDescriptor;
+import io.github.reflect4j.api.descriptor.MethodDescriptor;
+import io.github.reflect4j.api.exception.InvalidSignatureException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/// # SignatureParser
+///
+/// Single-pass parser for the signatures accepted by the `String`-based lookups of Reflect4j.
+///
+/// A parser is a reusable token view: [#parse(CharSequence)] records the positions of the owner,
+/// name, parameter types, return type and `@` prefix in the input, and the `matches` methods
+/// compare those ranges character by character with a descriptor. Neither step creates
+/// substrings, uses regular expressions or allocates once the parser's internal buffer has grown
+/// to the largest parameter count seen; only the `String`-returning accessors allocate.
+///
+/// Two notations are accepted, both with arbitrary whitespace between tokens:
+///
+///     - the notation of [io.github.reflect4j.api.descriptor.Descriptor#getSignature()], with
+///       types written as by [Class#getTypeName()] (`$` or `.` before nested classes, `[]` or a
+///       trailing `...` for arrays):
+///       `com.example.MyClass#process(java.lang.String, int):void`, `MyClass(int)`, `(int)`,
+///       `name:java.lang.String`, `@com.example.MyAnnotation(value="some")`
+///     - JVM descriptors, for methods and constructors after an optional name and for field types:
+///       `process(Ljava/lang/String;I)V`, `<init>(I)V`, `(Ljava/lang/String;I)V`, `name:[J`
+///
+/// An owner is separated from the member name by `#` and may be written with `.` or `/`.
+/// Annotation attribute lists are checked for balanced parentheses and quotes but otherwise
+/// ignored when matching.
+///
+/// Parsers are not thread-safe; keep one per thread.
+///
+/// **Example:**
+/// ```java
+/// SignatureParser parser = new SignatureParser();
+/// if (parser.parse("process(Ljava/lang/String;I)V").matches(method)) {
+///     // ...
+/// }
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class SignatureParser {
+
+    /// Type written as a source-level name, e.g. `java.lang.String` or `int`.
+    private static final int NAME = 0;
+    /// Type written as a JVM primitive descriptor, e.g. `I`.
+    private static final int PRIMITIVE = 1;
+    /// Type written as a JVM internal name between `L` and `;`, e.g. `java/lang/String`.
+    private static final int INTERNAL = 2;
+
+    /// Ints per recorded type: start, end, array dimensions and kind.
+    private static final int STRIDE = 4;
+
+    private CharSequence input;
+    private int length;
+    private int pos;
+
+    private boolean annotation;
+    private boolean descriptor;
+    private int ownerStart;
+    private int ownerEnd;
+    private int nameStart;
+    private int nameEnd;
+    private int parameterCount;
+    private int[] parameters = new int[8 * STRIDE];
+    private final int[] returnType = new int[STRIDE];
+    private boolean hasReturnType;
+
+    /// Creates a parser with no parsed signature.
+    public SignatureParser() {
+        clear();
+    }
+
+    /// Parses the given signature into this parser, replacing the previous one.
+    ///
+    /// @param signature the signature to parse; must not be `null`
+    ///
+    /// @return this parser
+    /// @throws NullPointerException      if the signature is `null`
+    /// @throws InvalidSignatureException if the signature is malformed
+    public SignatureParser parse(CharSequence signature) {
+        clear();
+        input = Objects.requireNonNull(signature, "signature must not be null");
+        length = signature.length();
+        try {
+            parseSignature();
+        } catch (InvalidSignatureException e) {
+            clear();
+            throw e;
+        }
+        return this;
+    }
+
+    /// Parses the given signature into this parser, reporting malformed input by return value.
+    ///
+    /// @param signature the signature to parse; must not be `null`
+    ///
+    /// @return `true` if the signature was parsed, `false` if it is malformed
+    /// @throws NullPointerException if the signature is `null`
+    public boolean tryParse(CharSequence signature) {
+        try {
+            parse(signature);
+            return true;
+        } catch (InvalidSignatureException e) {
+            return false;
+        }
+    }
+
+    /// Forgets the parsed signature, so this parser no longer references its input.
+    public void clear() {
+        input = null;
+        length = 0;
+        pos = 0;
+        annotation = false;
+        descriptor = false;
+        ownerStart = ownerEnd = -1;
+        nameStart = nameEnd = 0;
+        parameterCount = -1;
+        hasReturnType = false;
+    }
+
+    /// Returns whether the signature starts with `@`.
+    ///
+    /// @return `true` for an annotation signature
+    public boolean isAnnotation() {
+        return annotation;
+    }
+
+    /// Returns whether the parameter and return types are written as a JVM descriptor.
+    ///
+    /// @return `true` for JVM descriptor notation
+    public boolean isDescriptor() {
+        return descriptor;
+    }
+
+    /// Returns whether the signature names an owner before `#`.
+    ///
+    /// @return `true` if an owner is present
+    public boolean hasOwner() {
+        return ownerStart >= 0;
+    }
+
+    /// Returns whether the signature has a parameter list.
+    ///
+    /// @return `true` for method and constructor signatures
+    public boolean hasParameters() {
+        return parameterCount >= 0;
+    }
+
+    /// Returns whether the signature declares a return or field type.
+    ///
+    /// @return `true` if a type follows the name or parameter list
+    public boolean hasReturnType() {
+        return hasReturnType;
+    }
+
+    /// Returns the number of parameter types.
+    ///
+    /// @return the parameter count, or `-1` if the signature has no parameter list
+    public int parameterCount() {
+        return parameterCount;
+    }
+
+    /// Returns whether the name equals the given characters.
+    ///
+    /// @param name the expected name; must not be `null`
+    ///
+    /// @return `true` if the name matches exactly
+    public boolean nameEquals(CharSequence name) {
+        return regionEquals(nameStart, nameEnd, name);
+    }
+
+    /// Returns the owner as written, or `null` if absent. Allocates.
+    ///
+    /// @return the owner, or `null`
+    public String owner() {
+        return hasOwner() ? text(ownerStart, ownerEnd) : null;
+    }
+
+    /// Returns the name as written, which is the annotation type for annotation signatures. Allocates.
+    ///
+    /// @return the name, possibly empty for a bare parameter list; never `null`
+    public String name() {
+        return text(nameStart, nameEnd);
+    }
+
+    /// Returns the parameter type at the given index as written, without array brackets
+    /// or descriptor decoration. Allocates.
+    ///
+    /// @param index the parameter index
+    ///
+    /// @return the element type name of the parameter; never `null`
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    public String parameterType(int index) {
+        Objects.checkIndex(index, Math.max(parameterCount, 0));
+        return text(parameters[index * STRIDE], parameters[index * STRIDE + 1]);
+    }
+
+    /// Returns the return or field type as written, without array brackets or descriptor decoration. Allocates.
+    ///
+    /// @return the element type name, or `null` if absent
+    public String returnType() {
+        return hasReturnType ? text(returnType[0], returnType[1]) : null;
+    }
+
+    /// Returns whether the parsed signature identifies the given method.
+    ///
+    /// @param method the method descriptor; must not be `null`
+    ///
+    /// @return `true` if name, owner, parameter types and, if given, return type match
+    /// @throws NullPointerException if the method is `null`
+    public boolean matches(MethodDescriptor method) {
+        Objects.requireNonNull(method, "method must not be null");
+        return !annotation && hasParameters()
+                && nameEquals(method.getName())
+                && (!hasOwner() || typeEquals(ownerStart, ownerEnd, method.getDeclaringClass()))
+                && parametersMatch(method.getParameterTypes())
+                && (!hasReturnType || typeMatches(returnType, 0, method.getReturnType()));
+    }
+
+    /// Returns whether the parsed signature identifies the given constructor.
+    ///
+    /// The name may be empty, `<init>`, or the simple or qualified name of the declaring class;
+    /// a return type, if given, must be `void`.
+    ///
+    /// @param constructor the constructor descriptor; must not be `null`
+    ///
+    /// @return `true` if the name, owner and parameter types match
+    /// @throws NullPointerException if the constructor is `null`
+    public boolean matches(ConstructorDescriptor<?> constructor) {
+        Objects.requireNonNull(constructor, "constructor must not be null");
+        Class<?> owner = constructor.getDeclaringClass();
+        return !annotation && hasParameters()
+                && (nameStart == nameEnd || nameEquals("<init>")
+                || typeEquals(nameStart, nameEnd, owner) || nameEquals(owner.getSimpleName()))
+                && (!hasOwner() || typeEquals(ownerStart, ownerEnd, owner))
+                && parametersMatch(constructor.getParameterTypes())
+                && (!hasReturnType || typeMatches(returnType, 0, void.class));
+    }
+
+    /// Returns whether the parsed signature identifies the given field.
+    ///
+    /// @param field the field descriptor; must not be `null`
+    ///
+    /// @return `true` if name, owner and, if given, type match
+    /// @throws NullPointerException if the field is `null`
+    public boolean matches(FieldDescriptor field) {
+        Objects.requireNonNull(field, "field must not be null");
+        return !annotation && !hasParameters()
+                && nameEquals(field.getName())
+                && (!hasOwner() || typeEquals(ownerStart, ownerEnd, field.getDeclaringClass()))
+                && (!hasReturnType || typeMatches(returnType, 0, field.getType()));
+    }
+
+    /// Returns whether the parsed signature is an annotation signature naming the type of the given annotation.
+    ///
+    /// @param annotation the annotation descriptor; must not be `null`
+    ///
+    /// @return `true` if the annotation types match
+    /// @throws NullPointerException if the annotation is `null`
+    public boolean matches(AnnotationDescriptor<?> annotation) {
+        Objects.requireNonNull(annotation, "annotation must not be null");
+        return matchesAnnotation(annotation.getAnnotationType());
+    }
+
+    /// Returns whether the parsed signature is an annotation signature naming the given annotation type.
+    ///
+    /// @param annotationType the annotation type; must not be `null`
+    ///
+    /// @return `true` if the annotation types match
+    /// @throws NullPointerException if the annotation type is `null`
+    public boolean matchesAnnotation(Class<?> annotationType) {
+        Objects.requireNonNull(annotationType, "annotationType must not be null");
+        return annotation && typeEquals(nameStart, nameEnd, annotationType);
+    }
+
+    /// Returns whether the parsed signature is a plain type name denoting the given class.
+    ///
+    /// @param type the class; must not be `null`
+    ///
+    /// @return `true` if the signature names exactly this class
+    /// @throws NullPointerException if the type is `null`
+    public boolean matchesType(Class<?> type) {
+        Objects.requireNonNull(type, "type must not be null");
+        return !annotation && !hasOwner() && !hasParameters() && !hasReturnType
+                && typeEquals(nameStart, nameEnd, type);
+    }
+
+    private void parseSignature() {
+        skipWhitespace();
+        if (peek() == '@') {
+            annotation = true;
+            pos++;
+            skipWhitespace();
+            nameStart = pos;
+            qualifiedName();
+            nameEnd = pos;
+            skipWhitespace();
+            if (peek() == '(') {
+                attributes();
+                skipWhitespace();
+            }
+            expectEnd();
+            return;
+        }
+
+        int start = pos;
+        if (peek() != '(') {
+            if (peek() == '<') {
+                initName();
+            } else {
+                qualifiedName();
+            }
+        }
+        int end = pos;
+        skipWhitespace();
+        if (peek() == '#') {
+            ownerStart = start;
+            ownerEnd = end;
+            pos++;
+            skipWhitespace();
+            start = pos;
+            if (peek() == '<') {
+                initName();
+            } else {
+                identifier();
+            }
+            end = pos;
+            skipWhitespace();
+        }
+        nameStart = start;
+        nameEnd = end;
+
+        if (peek() == '(') {
+            parameterList();
+        } else if (nameStart == nameEnd) {
+            throw fail("a name");
+        }
+        if (!descriptor && peek() == ':') {
+            pos++;
+            skipWhitespace();
+            hasReturnType = true;
+            if (fieldDescriptorAhead()) {
+                jvmType(returnType, 0, false);
+            } else {
+                sourceType(returnType, 0, false);
+            }
+            skipWhitespace();
+        }
+        expectEnd();
+    }
+
+    /// Parses `(...)`, choosing the notation by what follows the closing parenthesis: a JVM
+    /// descriptor is always followed by its return type, the source notation by `:` or nothing.
+    private void parameterList() {
+        int close = pos + 1;
+        while (close < length && input.charAt(close) != ')') {
+            close++;
+        }
+        if (close == length) {
+            throw fail("')'");
+        }
+        int after = close + 1;
+        while (after < length && Character.isWhitespace(input.charAt(after))) {
+            after++;
+        }
+        descriptor = after < length && input.charAt(after) != ':';
+
+        pos++;
+        parameterCount = 0;
+        if (descriptor) {
+            while (peek() != ')') {
+                jvmType(nextParameter(), (parameterCount - 1) * STRIDE, false);
+            }
+            pos++;
+            hasReturnType = true;
+            jvmType(returnType, 0, true);
+            skipWhitespace();
+            return;
+        }
+        skipWhitespace();
+        if (peek() != ')') {
+            while (true) {
+                sourceType(nextParameter(), (parameterCount - 1) * STRIDE, true);
+                skipWhitespace();
+                if (peek() == ')') {
+                    break;
+                }
+                expect(',');
+                skipWhitespace();
+            }
+        }
+        pos++;
+        skipWhitespace();
+    }
+
+    private int[] nextParameter() {
+        if ((parameterCount + 1) * STRIDE > parameters.length) {
+            parameters = Arrays.copyOf(parameters, parameters.length * 2);
+        }
+        parameterCount++;
+        return parameters;
+    }
+
+    /// Parses a source-level type: a qualified name followed by `[]` pairs and, for parameters, `...`.
+    private void sourceType(int[] into, int offset, boolean parameter) {
+        int start = pos;
+        qualifiedName();
+        int end = pos;
+        int dimensions = 0;
+        while (true) {
+            skipWhitespace();
+            if (peek() == '[') {
+                pos++;
+                skipWhitespace();
+                expect(']');
+                dimensions++;
+            } else if (parameter && peek() == '.') {
+                expect('.');
+                expect('.');
+                expect('.');
+                dimensions++;
+                break;
+            } else {
+                break;
+            }
+        }
+        record(into, offset, start, end, dimensions, NAME);
+    }
+
+    /// Parses a JVM field descriptor, or a return descriptor if `V` is allowed.
+    private void jvmType(int[] into, int offset, boolean allowVoid) {
+        int dimensions = 0;
+        while (peek() == '[') {
+            pos++;
+            dimensions++;
+        }
+        char c = peek();
+        switch (c) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z' -> {
+                record(into, offset, pos, pos + 1, dimensions, PRIMITIVE);
+                pos++;
+            }
+            case 'V' -> {
+                if (!allowVoid || dimensions > 0) {
+                    throw fail("a field type");
+                }
+                record(into, offset, pos, pos + 1, 0, PRIMITIVE);
+                pos++;
+            }
+            case 'L' -> {
+                int start = ++pos;
+                while (pos < length && input.charAt(pos) != ';') {
+                    char n = input.charAt(pos);
+                    if (n == '.' || n == '[' || n == '(' || n == ')' || Character.isWhitespace(n)) {
+                        throw fail("';'");
+                    }
+                    pos++;
+                }
+                if (pos == start || pos == length) {
+                    throw fail("an internal class name");
+                }
+                record(into, offset, start, pos, dimensions, INTERNAL);
+                pos++;
+            }
+            default -> throw fail("a JVM type descriptor");
+        }
+    }
+
+    private static void record(int[] into, int offset, int start, int end, int dimensions, int kind) {
+        into[offset] = start;
+        into[offset + 1] = end;
+        into[offset + 2] = dimensions;
+        into[offset + 3] = kind;
+    }
+
+    /// A field type after `:` is a JVM descriptor if it starts with `[`, is `L...;`, or is a lone primitive code.
+    private boolean fieldDescriptorAhead() {
+        char c = peek();
+        if (c == '[') {
+            return true;
+        }
+        int end = length;
+        while (end > pos && Character.isWhitespace(input.charAt(end - 1))) {
+            end--;
+        }
+        if (c == 'L') {
+            return input.charAt(end - 1) == ';';
+        }
+        return end == pos + 1 && "BCDFIJSZ".indexOf(c) >= 0;
+    }
+
+    /// Skips `(...)` after an annotation type, honoring nested parentheses and quoted literals.
+    private void attributes() {
+        int depth = 0;
+        while (pos < length) {
+            char c = input.charAt(pos++);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                if (--depth == 0) {
+                    return;
+                }
+            } else if (c == '"' || c == '\'') {
+                while (pos < length && input.charAt(pos) != c) {
+                    pos += input.charAt(pos) == '\\' ? 2 : 1;
+                }
+                if (pos >= length) {
+                    throw fail("closing " + c);
+                }
+                pos++;
+            }
+        }
+        throw fail("')'");
+    }
+
+    private void qualifiedName() {
+        identifier();
+        while (pos < length) {
+            char c = input.charAt(pos);
+            if ((c == '.' || c == '/') && pos + 1 < length && Character.isJavaIdentifierStart(input.charAt(pos + 1))) {
+                pos++;
+                identifier();
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void identifier() {
+        if (pos >= length || !Character.isJavaIdentifierStart(input.charAt(pos))) {
+            throw fail("an identifier");
+        }
+        pos++;
+        while (pos < length && Character.isJavaIdentifierPart(input.charAt(pos))
+                && !Character.isIdentifierIgnorable(input.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private void initName() {
+        for (int i = 0; i < "<init>".length(); i++) {
+            expect("<init>".charAt(i));
+        }
+    }
+
+    private char peek() {
+        return pos < length ? input.charAt(pos) : '\0';
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw fail("'" + c + "'");
+        }
+        pos++;
+    }
+
+    private void expectEnd() {
+        if (pos != length) {
+            throw fail("end of signature");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < length && Character.isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private InvalidSignatureException fail(String expected) {
+        return new InvalidSignatureException("Invalid signature '" + input + "': expected " + expected
+                + (pos < length ? " at index " + pos : " at end"));
+    }
+
+    private boolean parametersMatch(List<Class<?>> types) {
+        if (types.size() != parameterCount) {
+            return false;
+        }
+        for (int i = 0; i < parameterCount; i++) {
+            if (!typeMatches(parameters, i * STRIDE, types.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean typeMatches(int[] from, int offset, Class<?> type) {
+        int dimensions = from[offset + 2];
+        Class<?> element = type;
+        while (element.isArray()) {
+            element = element.getComponentType();
+            dimensions--;
+        }
+        if (dimensions != 0) {
+            return false;
+        }
+        int start = from[offset];
+        return switch (from[offset + 3]) {
+            case PRIMITIVE -> element.isPrimitive()
+                    && input.charAt(start) == descriptorChar(element);
+            case INTERNAL -> !element.isPrimitive() && typeEquals(start, from[offset + 1], element);
+            default -> typeEquals(start, from[offset + 1], element);
+        };
+    }
+
+    /// Compares a range with [Class#getName()], where `/` and `.` may stand for `.` and `.` may stand for `$`.
+    private boolean typeEquals(int start, int end, Class<?> type) {
+        String name = type.getName();
+        if (end - start != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = input.charAt(start + i);
+            char n = name.charAt(i);
+            if (c != n && !(c == '/' && n == '.') && !(c == '.' && n == '$')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean regionEquals(int start, int end, CharSequence expected) {
+        if (input == null || end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (input.charAt(start + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String text(int start, int end) {
+        return input == null ? "" : input.subSequence(start, end).toString();
+    }
+
+    @Override
+    public String toString() {
+        return input == null ? "SignatureParser[]" : "SignatureParser[" + input + "]";
+    }
+
+    /// Returns the JVM descriptor character of a primitive type.
+    private static char descriptorChar(Class<?> primitive) {
+        return primitive == int.class ? 'I'
+                : primitive == long.class ? 'J'
+                : primitive == boolean.class ? 'Z'
+                : primitive == byte.class ? 'B'
+                : primitive == char.class ? 'C'
+                : primitive == short.class ? 'S'
+                : primitive == float.class ? 'F'
+                : primitive == double.class ? 'D'
+                : 'V';
+    }
+}
@@ -0,0 +1,294 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.annotations.R4jAlias;
+import io.github.reflect4j.annotations.R4jIgnore;
+import io.github.reflect4j.commons.Params;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AbstractClassDescriptorTest {
+
+    static class Sample {
+        int count;
+
+        Sample() {
+        }
+
+        Sample(int count) {
+            this.count = count;
+        }
+
+        Sample(long count) {
+            this.count = (int) count;
+        }
+
+        int add(int delta) {
+            return count + delta;
+        }
+
+        long add(long delta) {
+            return count + delta;
+        }
+
+        String add(String suffix) {
+            return count + suffix;
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+    }
+
+    @Marker
+    static class Entry {
+        @R4jAlias("total")
+        int count;
+
+        @R4jIgnore
+        String secret;
+
+        Entry() {
+        }
+
+        @R4jIgnore
+        Entry(String secret) {
+            this.secret = secret;
+        }
+
+        @R4jAlias("sum")
+        int add(int delta) {
+            return count + delta;
+        }
+
+        @R4jIgnore
+        void reset() {
+            count = 0;
+        }
+    }
+
+    /// Returns the bytes allocated by the current thread so far, or -1 if the JVM does not tell.
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    @Test
+    void overloadsFoundByParameterTypesAreDescribedOnce() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+
+        MethodDescriptor addInt = descriptor.getMethod("add", int.class);
+        MethodDescriptor addLong = descriptor.getMethod("add", long.class);
+
+        assertThat(descriptor.getMethod("add", int.class)).isSameAs(addInt);
+        assertThat(descriptor.getMethod("add", long.class)).isSameAs(addLong).isNotSameAs(addInt);
+        assertThat(addLong.unwrap().getReturnType()).isEqualTo(long.class);
+        assertThat(descriptor.getAllMethods()).contains(addInt, addLong);
+    }
+
+    @Test
+    void constructorsFoundByParameterTypesAreDescribedOnce() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+
+        ConstructorDescriptor<Sample> ofInt = descriptor.getConstructor(int.class);
+
+        assertThat(descriptor.getConstructor(int.class)).isSameAs(ofInt);
+        assertThat(descriptor.getConstructor(long.class)).isNotSameAs(ofInt);
+        assertThat(descriptor.getConstructor().getParameterCount()).isZero();
+        assertThat(descriptor.getAllConstructors()).contains(ofInt);
+    }
+
+    @Test
+    void repeatedLookupsDoNotAllocate() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+        Class<?>[] intType = {int.class};
+        Class<?>[] stringType = {String.class};
+        for (int i = 0; i < 1_000; i++) {
+            descriptor.getMethod("add", intType);
+            descriptor.getMethod("add", stringType);
+            descriptor.getConstructor(intType);
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            descriptor.getMethod("add", intType);
+            descriptor.getMethod("add", stringType);
+            descriptor.getConstructor(intType);
+        }
+        long allocated = allocatedBytes() - before;
+
+        if (before >= 0) {
+            assertThat(allocated).isLessThan(10_000);
+        }
+    }
+
+    @Test
+    void missesAreRememberedWithoutHidingOtherOverloads() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+
+        assertThat(descriptor.getMethod("add", double.class).isPresent()).isFalse();
+        assertThat(descriptor.getMethod("add", double.class).isPresent()).isFalse();
+        assertThat(descriptor.getMethod("missing", int.class).isPresent()).isFalse();
+        assertThat(descriptor.getConstructor(String.class).isPresent()).isFalse();
+        assertThat(descriptor.getConstructor(String.class).isPresent()).isFalse();
+
+        assertThat(descriptor.getMethod("add", int.class).isPresent()).isTrue();
+        assertThat(descriptor.getConstructor(int.class).isPresent()).isTrue();
+    }
+
+    @Test
+    void repeatedMissesDoNotAllocate() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+        Class<?>[] doubleType = {double.class};
+        Class<?>[] stringType = {String.class};
+        for (int i = 0; i < 1_000; i++) {
+            descriptor.getMethod("add", doubleType);
+            descriptor.getConstructor(stringType);
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            descriptor.getMethod("add", doubleType);
+            descriptor.getConstructor(stringType);
+        }
+        long allocated = allocatedBytes() - before;
+
+        if (before >= 0) {
+            assertThat(allocated).isLessThan(10_000);
+        }
+    }
+
+    @Test
+    void lookupsByParamsShareTheProbesOfLookupsByTypes() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+        Params ofInt = Params.interned(int.class);
+
+        assertThat(descriptor.getConstructor(ofInt)).isSameAs(descriptor.getConstructor(int.class));
+        assertThat(descriptor.getConstructor(Params.of(long.class))).isSameAs(descriptor.getConstructor(long.class));
+        assertThat(descriptor.getConstructor(Params.empty())).isSameAs(descriptor.getConstructor());
+        assertThat(descriptor.getConstructor(Params.of(String.class)).isPresent()).isFalse();
+        assertThat(descriptor.getMethod("add", ofInt)).isSameAs(descriptor.getMethod("add", int.class));
+        assertThat(descriptor.getMethod("add", Params.of(String.class)).unwrap().getReturnType())
+                .isEqualTo(String.class);
+        assertThat(descriptor.getMethod("add", Params.of(double.class)).isPresent()).isFalse();
+    }
+
+    @Test
+    void repeatedLookupsByInternedParamsDoNotAllocate() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+        Params ofInt = Params.interned(int.class);
+        Params ofDouble = Params.interned(double.class);
+        for (int i = 0; i < 1_000; i++) {
+            descriptor.getMethod("add", ofInt);
+            descriptor.getMethod("add", ofDouble);
+            descriptor.getConstructor(ofInt);
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            descriptor.getMethod("add", ofInt);
+            descriptor.getMethod("add", ofDouble);
+            descriptor.getConstructor(ofInt);
+        }
+        long allocated = allocatedBytes() - before;
+
+        if (before >= 0) {
+            assertThat(allocated).isLessThan(10_000);
+        }
+    }
+
+    @Test
+    void findersReturnWhatTheGettersFind() {
+        TestClassDescriptor<Entry> descriptor = new TestClassDescriptor<>(Entry.class);
+
+        assertThat(descriptor.findField("count")).containsSame(descriptor.getField("count"));
+        assertThat(descriptor.findMethod("add(int)")).containsSame(descriptor.getMethod("add", int.class));
+        assertThat(descriptor.findMethod("add", int.class)).containsSame(descriptor.getMethod("add", int.class));
+        assertThat(descriptor.findConstructor()).containsSame(descriptor.getConstructor());
+        assertThat(descriptor.findAnnotation(Marker.class)).get()
+                .extracting(AnnotationDescriptor::getAnnotationType).isEqualTo(Marker.class);
+        assertThat(descriptor.findAnnotation("@" + Marker.class.getName())).get()
+                .extracting(AnnotationDescriptor::getAnnotationType).isEqualTo(Marker.class);
+    }
+
+    @Test
+    void findersReportMissesAsEmpty() {
+        TestClassDescriptor<Entry> descriptor = new TestClassDescriptor<>(Entry.class);
+
+        assertThat(descriptor.findField("missing")).isEmpty();
+        assertThat(descriptor.findMethod("missing()")).isEmpty();
+        assertThat(descriptor.findMethod("add(long)")).isEmpty();
+        assertThat(descriptor.findMethod("missing", int.class)).isEmpty();
+        assertThat(descriptor.findMethod("add", long.class)).isEmpty();
+        assertThat(descriptor.findConstructor(int.class)).isEmpty();
+        assertThat(descriptor.findAnnotation(Deprecated.class)).isEmpty();
+        assertThat(descriptor.findAnnotation("@" + Deprecated.class.getName())).isEmpty();
+    }
+
+    @Test
+    void findersSkipIgnoredMembersAndResolveAliases() {
+        TestClassDescriptor<Entry> descriptor = new TestClassDescriptor<>(Entry.class);
+
+        assertThat(descriptor.findField("secret")).isEmpty();
+        assertThat(descriptor.findMethod("reset()")).isEmpty();
+        assertThat(descriptor.findMethod("reset", new Class<?>[0])).isEmpty();
+        assertThat(descriptor.findConstructor(String.class)).isEmpty();
+        assertThat(descriptor.findField("total")).containsSame(descriptor.getField("count"));
+        assertThat(descriptor.findMethod("sum", int.class)).containsSame(descriptor.getMethod("add", int.class));
+        assertThat(descriptor.findMethod("sum(int)")).containsSame(descriptor.getMethod("add", int.class));
+    }
+
+    @Test
+    void repeatedFinderMissesAreAnsweredFromTheCache() {
+        TestClassDescriptor<Entry> descriptor = new TestClassDescriptor<>(Entry.class);
+        Class<?>[] longType = {long.class};
+        Class<?>[] intType = {int.class};
+        String deprecated = "@" + Deprecated.class.getName();
+        for (int i = 0; i < 1_000; i++) {
+            findMisses(descriptor, longType, intType, deprecated);
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            findMisses(descriptor, longType, intType, deprecated);
+        }
+        long allocated = allocatedBytes() - before;
+
+        if (before >= 0) {
+            assertThat(allocated).isLessThan(10_000);
+        }
+    }
+
+    @Test
+    void missesPastTheLimitAreStillAnswered() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+        Class<?>[] types = {byte.class, short.class, char.class, float.class, double.class, boolean.class,
+                Object.class, Integer.class, Long.class, Number.class, CharSequence.class, Runnable.class};
+
+        for (int round = 0; round < 2; round++) {
+            for (Class<?> type : types) {
+                assertThat(descriptor.findMethod("add", type)).isEmpty();
+                assertThat(descriptor.findConstructor(type)).isEmpty();
+            }
+        }
+        assertThat(AbstractClassDescriptor.MAXIMUM_MISSED_PROBES).isLessThan(types.length);
+        assertThat(descriptor.findMethod("add", int.class)).isPresent();
+        assertThat(descriptor.findConstructor(int.class)).isPresent();
+    }
+
+    private static void findMisses(TestClassDescriptor<Entry> descriptor, Class<?>[] longType,
+                                   Class<?>[] intType, String deprecated) {
+        descriptor.findField("missing");
+        descriptor.findMethod("missing", intType);
+        descriptor.findMethod("add", longType);
+        descriptor.findConstructor(intType);
+        descriptor.findAnnotation(deprecated);
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.annotations.R4jAlias;
+import io.github.reflect4j.api.exception.UnsupportedAliasOperationException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AliasTableTest {
+
+    static class Sample {
+        @R4jAlias({"total", "sum"})
+        int count;
+
+        @R4jAlias(value = "title", primary = true)
+        String label;
+
+        @R4jAlias("name")
+        String caption;
+
+        String name;
+
+        @R4jAlias(value = "Size", caseSensitive = false)
+        int length;
+
+        @R4jAlias(value = "make", primary = true)
+        Sample() {
+        }
+
+        @R4jAlias("make")
+        Sample(int count) {
+            this.count = count;
+        }
+
+        @R4jAlias("run")
+        String process(String value) {
+            return value;
+        }
+
+        @R4jAlias("run")
+        String process(String value, int times) {
+            return value.repeat(times);
+        }
+    }
+
+    static class Plain {
+        int count;
+    }
+
+    static class Ambiguous {
+        @R4jAlias("shared")
+        int first;
+
+        @R4jAlias("shared")
+        int second;
+    }
+
+    @Test
+    void tableIsKeptByItsDescriptor() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+
+        assertThat(descriptor.getAliasTable()).isSameAs(descriptor.getAliasTable());
+        assertThat(descriptor.getAliasTable().isEmpty()).isFalse();
+    }
+
+    @Test
+    void eachDescriptorResolvesAliasesToItsOwnMembers() {
+        TestClassDescriptor<Sample> first = new TestClassDescriptor<>(Sample.class);
+        TestClassDescriptor<Sample> second = new TestClassDescriptor<>(Sample.class);
+
+        assertThat(first.getField("total")).isSameAs(first.getField("count"));
+        assertThat(second.getField("total")).isSameAs(second.getField("count"));
+        assertThat(second.getField("total")).isNotSameAs(first.getField("count"));
+        assertThat(second.getMethod("run", String.class)).isSameAs(second.getMethod("process", String.class));
+        assertThat(second.getConstructor("make(int)")).isSameAs(second.getConstructor(int.class));
+    }
+
+    @Test
+    void primaryAliasesWinOverRealNamesAndSecondaryAliasesLose() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+
+        assertThat(descriptor.getField("title").unwrap().getName()).isEqualTo("label");
+        assertThat(descriptor.getField("name").unwrap().getName()).isEqualTo("name");
+        assertThat(descriptor.getField("sum").unwrap().getName()).isEqualTo("count");
+        assertThat(descriptor.getField("size").unwrap().getName()).isEqualTo("length");
+        assertThat(descriptor.getField("total ").isPresent()).isFalse();
+    }
+
+    @Test
+    void overloadsSharingAnAliasAreToldApartByParameters() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+
+        assertThat(descriptor.getMethod("run(java.lang.String, int)").getParameterCount()).isEqualTo(2);
+        assertThat(descriptor.getAliasTable().methods("run", false)).hasSize(2);
+        assertThatThrownBy(() -> descriptor.getMethod("run"))
+                .isInstanceOf(UnsupportedAliasOperationException.class);
+        assertThat(descriptor.getConstructor("make").getParameterCount()).isZero();
+    }
+
+    @Test
+    void classesWithoutAliasesShareTheEmptyTable() {
+        AliasTable table = new TestClassDescriptor<>(Plain.class).getAliasTable();
+
+        assertThat(table.isEmpty()).isTrue();
+        assertThat(table).isSameAs(new TestClassDescriptor<>(Plain.class).getAliasTable());
+        assertThat(table.field("count", false)).isNull();
+    }
+
+    @Test
+    void ambiguousAliasesAreRejected() {
+        TestClassDescriptor<Ambiguous> descriptor = new TestClassDescriptor<>(Ambiguous.class);
+
+        assertThatThrownBy(() -> descriptor.getField("shared"))
+                .isInstanceOf(UnsupportedAliasOperationException.class)
+                .hasMessageContaining("first").hasMessageContaining("second");
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.reflect4j.api.descriptor;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class AnnotationLayoutTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Plain {
+        String value() default "";
+
+        int count() default 1;
+
+        long[] ids() default {1L, 2L};
+    }
+
+    /// `Aa` and `BB` share the hash code 2112, so no perfect-hash seed can separate them.
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Colliding {
+        int Aa() default 1;
+
+        int BB() default 2;
+
+        int other() default 3;
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Empty {
+    }
+
+    @Test
+    void resolvesEveryAttributeToItsSlot() {
+        AnnotationLayout layout = AnnotationLayout.of(Plain.class);
+
+        assertThat(layout.size()).isEqualTo(3);
+        for (String name : layout.names()) {
+            assertThat(layout.name(layout.slot(name))).isEqualTo(name);
+        }
+        assertThat(layout.slot("missing")).isEqualTo(-1);
+        assertThat(layout.defaultValue(layout.slot("ids"))).isEqualTo(java.util.List.of(1L, 2L));
+    }
+
+    @Test
+    void attributesWithEqualHashCodesAreSeparated() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        AnnotationLayout layout = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> AnnotationLayout.of(Colliding.class));
+
+        int aa = layout.slot("Aa");
+        int bb = layout.slot("BB");
+        assertThat(aa).isNotNegative();
+        assertThat(bb).isNotNegative().isNotEqualTo(aa);
+        assertThat(layout.name(aa)).isEqualTo("Aa");
+        assertThat(layout.name(bb)).isEqualTo("BB");
+        assertThat(layout.defaultValue(bb)).isEqualTo(2);
+        assertThat(layout.name(layout.slot("other"))).isEqualTo("other");
+        assertThat(layout.slot("C#")).as("same hash code, not an attribute").isEqualTo(-1);
+        assertThat(layout.slot("missing")).isEqualTo(-1);
+    }
+
+    @Test
+    void annotationWithoutAttributesHasEmptyLayout() {
+        AnnotationLayout layout = AnnotationLayout.of(Empty.class);
+
+        assertThat(layout.size()).isZero();
+        assertThat(layout.slot("value")).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,264 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.api.exception.ClassNotFoundRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DescriptorRegistryTest {
+
+    private static final int THREADS = 8;
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private DescriptorRegistry registry(DescriptorRegistry.Policy policy) {
+        return DescriptorRegistry.create(type -> {
+            created.incrementAndGet();
+            Thread.yield();
+            return new TestClassDescriptor<>(type);
+        }, policy);
+    }
+
+    /// Runs the task on all threads at once and returns what each of them returned.
+    private static <R> List<R> race(int rounds, IntFunction<R> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<R>>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<R> results = new ArrayList<>();
+                    for (int i = 0; i < rounds; i++) {
+                        results.add(task.apply(i));
+                    }
+                    return results;
+                }));
+            }
+            start.countDown();
+            List<R> results = new ArrayList<>();
+            for (Future<List<R>> future : futures) {
+                results.addAll(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void lookupsReturnTheSameDescriptor() {
+        DescriptorRegistry registry = DescriptorRegistry.create(TestClassDescriptor::new);
+
+        assertThat(registry.get(String.class)).isSameAs(registry.get(String.class));
+        assertThat(registry.get("java.lang.String", null)).isSameAs(registry.get(String.class));
+    }
+
+    @Test
+    void concurrentFirstLookupsCreateOneCanonicalDescriptor() throws Exception {
+        DescriptorRegistry registry = registry(DescriptorRegistry.Policy.maximumSize(4));
+
+        List<ClassDescriptor<String>> results = race(1, i -> registry.get(String.class));
+        Set<Object> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(results);
+
+        assertThat(distinct).hasSize(1);
+        assertThat(created).hasValue(1);
+        assertThat(registry.stats()).isEqualTo(new DescriptorRegistry.Stats(THREADS - 1, 1, 0, 1));
+    }
+
+    @Test
+    void statsCountEveryLookupOnce() throws Exception {
+        DescriptorRegistry registry = registry(DescriptorRegistry.Policy.unbounded().recordingStats());
+
+        race(100, i -> registry.get(String.class));
+        registry.get(String.class);
+        registry.get(Integer.class);
+
+        DescriptorRegistry.Stats stats = registry.stats();
+        assertThat(stats.missCount()).isEqualTo(2);
+        assertThat(stats.hitCount()).isEqualTo(THREADS * 100L);
+        assertThat(stats.evictionCount()).isZero();
+        assertThat(stats.weight()).isZero();
+    }
+
+    @Test
+    void unboundedRegistriesDoNotCountByDefault() {
+        DescriptorRegistry registry = DescriptorRegistry.create(TestClassDescriptor::new);
+
+        registry.get(String.class);
+        registry.get(String.class);
+
+        assertThat(registry.stats()).isEqualTo(new DescriptorRegistry.Stats(0, 0, 0, 0));
+    }
+
+    @Test
+    void boundedRegistriesEvictAndRecreate() {
+        DescriptorRegistry registry = registry(DescriptorRegistry.Policy.maximumSize(2));
+        ClassDescriptor<String> first = registry.get(String.class);
+
+        for (Class<?> type : List.of(Integer.class, Long.class, Short.class, Byte.class)) {
+            registry.get(type);
+        }
+
+        DescriptorRegistry.Stats stats = registry.stats();
+        assertThat(stats.weight()).isLessThanOrEqualTo(2);
+        assertThat(stats.evictionCount()).isEqualTo(stats.missCount() - stats.weight());
+        assertThat(registry.get(String.class)).isNotSameAs(first);
+        assertThat(created.get()).isEqualTo(registry.stats().missCount());
+    }
+
+    @Test
+    void referencedDescriptorsGetASecondChance() {
+        DescriptorRegistry registry = registry(DescriptorRegistry.Policy.maximumSize(2));
+        ClassDescriptor<String> hot = registry.get(String.class);
+        registry.get(Integer.class);
+
+        registry.get(String.class);
+        registry.get(Long.class);
+
+        assertThat(registry.get(String.class)).isSameAs(hot);
+    }
+
+    @Test
+    void concurrentChurnKeepsCountersConsistent() throws Exception {
+        DescriptorRegistry registry = registry(DescriptorRegistry.Policy.maximumSize(4));
+        List<Class<?>> types = List.of(String.class, Integer.class, Long.class, Short.class, Byte.class,
+                Double.class, Float.class, Character.class, Boolean.class, Object.class);
+
+        race(500, i -> registry.get(types.get(i % types.size())));
+
+        DescriptorRegistry.Stats stats = registry.stats();
+        assertThat(stats.hitCount() + stats.missCount()).isEqualTo(THREADS * 500L);
+        assertThat((long) created.get()).isEqualTo(stats.missCount());
+        assertThat(stats.evictionCount()).isEqualTo(stats.missCount() - stats.weight());
+    }
+
+    @Test
+    void findReportsMissingClassesAsEmpty() {
+        DescriptorRegistry registry = DescriptorRegistry.create(TestClassDescriptor::new);
+
+        assertThat(registry.find("io.github.reflect4j.Missing", null)).isEmpty();
+        assertThat(registry.find("io.github.reflect4j.Missing", null)).isEmpty();
+        assertThat(registry.find("java.lang.String", null)).containsSame(registry.get(String.class));
+        assertThatThrownBy(() -> registry.get("io.github.reflect4j.Missing", null))
+                .isInstanceOf(ClassNotFoundRuntimeException.class);
+    }
+
+    @Test
+    void repeatedMissesDoNotReachTheClassLoader() {
+        DescriptorRegistry registry = DescriptorRegistry.create(TestClassDescriptor::new);
+        CountingLoader loader = new CountingLoader();
+
+        assertThat(registry.find("io.github.reflect4j.Missing", loader)).isEmpty();
+        assertThat(registry.find("io.github.reflect4j.Missing", loader)).isEmpty();
+        assertThat(registry.find("io.github.reflect4j.Missing", loader)).isEmpty();
+
+        assertThat(loader.lookups("io.github.reflect4j.Missing")).isEqualTo(1);
+    }
+
+    @Test
+    void missesAreRememberedUpToTheLimitPerLoader() {
+        DescriptorRegistry registry = DescriptorRegistry.create(TestClassDescriptor::new);
+        CountingLoader loader = new CountingLoader();
+        for (int i = 0; i <= DescriptorRegistry.MAXIMUM_MISSES; i++) {
+            registry.find("io.github.reflect4j.Missing" + i, loader);
+        }
+
+        registry.find("io.github.reflect4j.Missing0", loader);
+        registry.find("io.github.reflect4j.Missing" + DescriptorRegistry.MAXIMUM_MISSES, loader);
+
+        assertThat(loader.lookups("io.github.reflect4j.Missing0")).isEqualTo(1);
+        assertThat(loader.lookups("io.github.reflect4j.Missing" + DescriptorRegistry.MAXIMUM_MISSES)).isEqualTo(2);
+        assertThat(registry.find("io.github.reflect4j.Missing", new CountingLoader())).isEmpty();
+    }
+
+    @Test
+    void missesAreForgottenOnceTheLoaderDefinesAClass() {
+        DescriptorRegistry registry = DescriptorRegistry.create(TestClassDescriptor::new);
+        CountingLoader loader = new CountingLoader();
+        String name = Defined.class.getName();
+
+        assertThat(registry.find(name, loader)).isEmpty();
+        loader.defining = true;
+        assertThat(registry.find(name, loader)).isEmpty();
+        assertThat(loader.lookups(name)).isEqualTo(1);
+
+        ClassDescriptor<?> defined = registry.get(name, loader);
+        assertThat(defined.unwrap().getClassLoader()).isSameAs(loader);
+        assertThat(registry.find(name, loader)).containsSame(defined);
+
+        assertThat(registry.find("io.github.reflect4j.Missing", loader)).isEmpty();
+        registry.get(loader.define(Other.class.getName()));
+        assertThat(registry.find("io.github.reflect4j.Missing", loader)).isEmpty();
+        assertThat(loader.lookups("io.github.reflect4j.Missing")).isEqualTo(2);
+    }
+
+    /// Defined by [CountingLoader] itself once it is `defining`.
+    public static class Defined {
+    }
+
+    /// Defined by [CountingLoader] on request.
+    public static class Other {
+    }
+
+    /// Class loader that counts the lookups of each name and defines [Defined] itself.
+    private static final class CountingLoader extends ClassLoader {
+
+        private final Map<String, Integer> lookups = new ConcurrentHashMap<>();
+        volatile boolean defining;
+
+        CountingLoader() {
+            super(DescriptorRegistryTest.class.getClassLoader());
+        }
+
+        int lookups(String name) {
+            return lookups.getOrDefault(name, 0);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            lookups.merge(name, 1, Integer::sum);
+            if (name.equals(Defined.class.getName())) {
+                if (!defining) {
+                    throw new ClassNotFoundException(name);
+                }
+                return define(name);
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        Class<?> define(String name) {
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type != null) {
+                    return type;
+                }
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = in.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.api.exception.AmbiguousMethodException;
+import io.github.reflect4j.api.exception.MethodNotFoundException;
+import io.github.reflect4j.api.invoke.MethodInvocationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DispatchSiteTest {
+
+    public static class Boxing {
+        public String foo(int value) {
+            return "int";
+        }
+
+        public String foo(Integer value) {
+            return "Integer";
+        }
+
+        public String foo(long value) {
+            return "long";
+        }
+    }
+
+    public static class Widening {
+        public String foo(int value) {
+            return "int";
+        }
+
+        public String foo(long value) {
+            return "long:" + value;
+        }
+
+        public String bar(long value) {
+            return "long:" + value;
+        }
+
+        public String bar(double value) {
+            return "double:" + value;
+        }
+    }
+
+    public static class References {
+        public String of(Object value) {
+            return "Object";
+        }
+
+        public String of(String value) {
+            return "String";
+        }
+
+        public String pair(Object first, String second) {
+            return "Object, String";
+        }
+
+        public String pair(String first, Object second) {
+            return "String, Object";
+        }
+
+        public String either(String value) {
+            return "String";
+        }
+
+        public String either(Integer value) {
+            return "Integer";
+        }
+    }
+
+    public static class Varargs {
+        public int sum(int... values) {
+            int sum = 0;
+            for (int value : values) {
+                sum += value;
+            }
+            return sum;
+        }
+
+        public String join(String separator, Object... parts) {
+            StringBuilder sb = new StringBuilder();
+            for (Object part : parts) {
+                sb.append(sb.isEmpty() ? "" : separator).append(part);
+            }
+            return sb.toString();
+        }
+
+        public String join(String separator, String only) {
+            return "fixed:" + only;
+        }
+    }
+
+    private static DispatchSite site(Class<?> type, String name) {
+        return new TestClassDescriptor<>(type).newDispatchSite(name);
+    }
+
+    private static List<Class<?>> parameters(MethodDescriptor method) {
+        return method.getParameterTypes();
+    }
+
+    @Test
+    void exactBoxedOverloadWinsOverUnboxingAndWidening() {
+        DispatchSite foo = site(Boxing.class, "foo");
+
+        assertThat(parameters(foo.resolve(42))).containsExactly(Integer.class);
+        assertThat(parameters(foo.resolve(42L))).containsExactly(long.class);
+        assertThat(foo.<String>invoke(new Boxing(), 42).getValue()).isEqualTo("Integer");
+    }
+
+    @Test
+    void unboxingPrefersTheNarrowestWidening() {
+        DispatchSite foo = site(Widening.class, "foo");
+        DispatchSite bar = site(Widening.class, "bar");
+
+        assertThat(parameters(foo.resolve(42))).containsExactly(int.class);
+        assertThat(parameters(foo.resolve((short) 42))).containsExactly(int.class);
+        assertThat(foo.<String>invoke(new Widening(), 42L).getValue()).isEqualTo("long:42");
+        assertThat(bar.<String>invoke(new Widening(), 'a').getValue()).isEqualTo("long:97");
+        assertThat(bar.<String>invoke(new Widening(), 1.5f).getValue()).isEqualTo("double:1.5");
+    }
+
+    @Test
+    void nullArgumentsMatchOnlyReferenceParameters() {
+        assertThat(parameters(site(Boxing.class, "foo").resolve((Object) null))).containsExactly(Integer.class);
+        assertThat(parameters(site(References.class, "of").resolve((Object) null))).containsExactly(String.class);
+        assertThat(parameters(site(References.class, "pair").resolve(1, null))).containsExactly(Object.class, String.class);
+        assertThatThrownBy(() -> site(References.class, "either").resolve((Object) null))
+                .isInstanceOf(AmbiguousMethodException.class)
+                .hasMessageContaining("either(null)");
+    }
+
+    @Test
+    void ambiguousCallsAreReportedWithTheirCandidates() {
+        DispatchSite pair = site(References.class, "pair");
+
+        assertThatThrownBy(() -> pair.resolve("a", "b"))
+                .isInstanceOf(AmbiguousMethodException.class)
+                .hasMessageContaining("pair(java.lang.String, java.lang.String)")
+                .hasMessageContaining("candidates:");
+        MethodInvocationResult<Object> result = pair.invoke(new References(), "a", "b");
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getException()).isInstanceOf(AmbiguousMethodException.class);
+    }
+
+    @Test
+    void varargsCollectTrailingArgumentsIncludingNone() {
+        DispatchSite sum = site(Varargs.class, "sum");
+        DispatchSite join = site(Varargs.class, "join");
+
+        assertThat(sum.<Integer>invoke(new Varargs()).getValue()).isZero();
+        assertThat(sum.<Integer>invoke(new Varargs(), 1, (byte) 2, 'a').getValue()).isEqualTo(100);
+        assertThat(sum.<Integer>invoke(new Varargs(), (Object) new int[]{4, 5}).getValue()).isEqualTo(9);
+        assertThat(join.<String>invoke(new Varargs(), ",").getValue()).isEmpty();
+        assertThat(join.<String>invoke(new Varargs(), ",", "x").getValue()).isEqualTo("fixed:x");
+        assertThat(join.<String>invoke(new Varargs(), ",", 1, "x").getValue()).isEqualTo("1,x");
+    }
+
+    @Test
+    void inapplicableCallsFail() {
+        DispatchSite foo = site(Boxing.class, "foo");
+
+        assertThatThrownBy(() -> foo.resolve("text")).isInstanceOf(MethodNotFoundException.class);
+        assertThatThrownBy(() -> foo.resolve(1, 2)).isInstanceOf(MethodNotFoundException.class);
+        assertThat(site(Boxing.class, "missing").getCandidates()).isEmpty();
+    }
+
+    @Test
+    void depthZeroGoesStraightToTheHashTable() {
+        DispatchSite foo = new TestClassDescriptor<>(Widening.class).newDispatchSite("foo", 0);
+
+        for (int round = 0; round < 3; round++) {
+            assertThat(foo.<String>invoke(new Widening(), 1).getValue()).isEqualTo("int");
+            assertThat(foo.<String>invoke(new Widening(), 1L).getValue()).isEqualTo("long:1");
+        }
+        assertThat(foo.getDepth()).isZero();
+        assertThatThrownBy(() -> DispatchSite.of(new TestClassDescriptor<>(Widening.class), "foo", -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shapesBeyondTheInlineDepthResolveTheSame() {
+        DispatchSite foo = new TestClassDescriptor<>(Widening.class).newDispatchSite("foo", 1);
+        Object[] arguments = {1, 1L, (short) 1, (byte) 1, 'c'};
+
+        for (int round = 0; round < 2; round++) {
+            for (Object argument : arguments) {
+                String expected = argument instanceof Long ? "long:1" : "int";
+                assertThat(foo.<String>invoke(new Widening(), argument).getValue()).isEqualTo(expected);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.api.invoke.FieldHandles;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.WrongMethodTypeException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldDescriptorTest {
+
+    static class Sample {
+        static long total;
+
+        private boolean flag;
+        private byte b;
+        private char c;
+        private short s;
+        private int i;
+        private long l;
+        private float f;
+        private double d;
+        private volatile int counter;
+        private String name;
+        private final int fixed = 42;
+    }
+
+    static class Other {
+    }
+
+    private final TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+
+    private FieldDescriptor field(String name) {
+        return descriptor.getField(name);
+    }
+
+    @Test
+    void primitiveAccessorsRoundTripWithoutBoxing() {
+        Sample sample = new Sample();
+
+        field("flag").setBoolean(sample, true);
+        field("b").setByte(sample, (byte) -7);
+        field("c").setChar(sample, 'z');
+        field("s").setShort(sample, (short) 300);
+        field("i").setInt(sample, Integer.MIN_VALUE);
+        field("l").setLong(sample, Long.MAX_VALUE);
+        field("f").setFloat(sample, 1.5f);
+        field("d").setDouble(sample, -0.25);
+
+        assertThat(field("flag").getBoolean(sample)).isTrue();
+        assertThat(field("b").getByte(sample)).isEqualTo((byte) -7);
+        assertThat(field("c").getChar(sample)).isEqualTo('z');
+        assertThat(field("s").getShort(sample)).isEqualTo((short) 300);
+        assertThat(field("i").getInt(sample)).isEqualTo(Integer.MIN_VALUE);
+        assertThat(field("l").getLong(sample)).isEqualTo(Long.MAX_VALUE);
+        assertThat(field("f").getFloat(sample)).isEqualTo(1.5f);
+        assertThat(field("d").getDouble(sample)).isEqualTo(-0.25);
+        assertThat(sample.i).isEqualTo(Integer.MIN_VALUE);
+    }
+
+    @Test
+    void valuesWidenButDoNotNarrow() {
+        Sample sample = new Sample();
+        sample.i = 7;
+        sample.c = 'a';
+
+        assertThat(field("i").getLong(sample)).isEqualTo(7L);
+        assertThat(field("i").getDouble(sample)).isEqualTo(7.0);
+        assertThat(field("c").getInt(sample)).isEqualTo('a');
+        field("l").setInt(sample, 9);
+        assertThat(sample.l).isEqualTo(9L);
+
+        assertThatThrownBy(() -> field("l").getInt(sample)).isInstanceOf(WrongMethodTypeException.class);
+        assertThatThrownBy(() -> field("i").setLong(sample, 1L)).isInstanceOf(WrongMethodTypeException.class);
+        assertThatThrownBy(() -> field("flag").getInt(sample)).isInstanceOf(WrongMethodTypeException.class);
+    }
+
+    @Test
+    void invalidOwnersAreRejected() {
+        assertThatThrownBy(() -> field("i").getInt(new Other())).isInstanceOf(ClassCastException.class);
+        assertThatThrownBy(() -> field("i").getInt(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void staticFieldsIgnoreTheOwner() {
+        FieldDescriptor total = field("total");
+
+        total.setLong(null, 5L);
+        assertThat(total.getLong(new Sample())).isEqualTo(5L);
+        assertThat(total.getAndAddLong(null, 3L)).isEqualTo(5L);
+        assertThat(total.compareAndSetLong(null, 8L, 1L)).isTrue();
+        assertThat(Sample.total).isEqualTo(1L);
+    }
+
+    @Test
+    void atomicUpdatesFollowVarHandleSemantics() {
+        Sample sample = new Sample();
+        FieldDescriptor counter = field("counter");
+        FieldDescriptor name = field("name");
+        String first = new String("a");
+
+        assertThat(counter.isVolatile()).isTrue();
+        assertThat(counter.getAndAddInt(sample, 2)).isZero();
+        assertThat(counter.compareAndSetInt(sample, 1, 5)).isFalse();
+        assertThat(counter.compareAndSetInt(sample, 2, 5)).isTrue();
+        assertThat(counter.getInt(sample)).isEqualTo(5);
+
+        name.setRelease(sample, first);
+        assertThat(name.compareAndSet(sample, new String("a"), "b")).as("compared by identity").isFalse();
+        assertThat(name.compareAndSet(sample, first, "b")).isTrue();
+        assertThat(name.getAcquire(sample)).isEqualTo("b");
+        name.setVolatile(sample, "c");
+        assertThat(name.getVolatile(sample)).isEqualTo("c");
+        assertThat(field("i").compareAndSet(sample, 0, 4)).isTrue();
+        assertThat(field("i").getVolatile(sample)).isEqualTo(4);
+    }
+
+    @Test
+    void finalFieldsAreReadOnly() {
+        Sample sample = new Sample();
+        FieldDescriptor fixed = field("fixed");
+
+        assertThat(fixed.getInt(sample)).isEqualTo(42);
+        assertThat(fixed.getVolatile(sample)).isEqualTo(42);
+        assertThatThrownBy(() -> fixed.setInt(sample, 1)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> fixed.compareAndSetInt(sample, 42, 1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> fixed.getAndAddInt(sample, 1)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void privateFieldsResolveWithoutSettingThemAccessible() throws Exception {
+        VarHandle handle = FieldHandles.varHandle(Sample.class.getDeclaredField("name"));
+        Sample sample = new Sample();
+
+        handle.set(sample, "direct");
+
+        assertThat(sample.name).isEqualTo("direct");
+        assertThat(handle.coordinateTypes()).containsExactly(Sample.class);
+        assertThat(FieldHandles.varHandle(Sample.class.getDeclaredField("total")).coordinateTypes()).isEmpty();
+        assertThatThrownBy(() -> FieldHandles.varHandle(null)).isInstanceOf(NullPointerException.class);
+    }
+}
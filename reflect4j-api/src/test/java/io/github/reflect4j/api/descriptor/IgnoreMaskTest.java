@@ -0,0 +1,132 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.annotations.R4jAlias;
+import io.github.reflect4j.annotations.R4jIgnore;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IgnoreMaskTest {
+
+    static class Account {
+        String owner;
+
+        @R4jIgnore(reason = "Sensitive data")
+        String password;
+
+        @R4jAlias("secret")
+        @R4jIgnore
+        String token;
+
+        Account() {
+        }
+
+        @R4jIgnore
+        Account(String owner) {
+            this.owner = owner;
+        }
+
+        String owner() {
+            return owner;
+        }
+
+        @R4jIgnore
+        String password() {
+            return password;
+        }
+
+        void update(String owner) {
+            this.owner = owner;
+        }
+
+        @R4jIgnore
+        void update(Object owner) {
+            this.owner = String.valueOf(owner);
+        }
+    }
+
+    @R4jIgnore
+    static class Internal {
+        int state;
+
+        int state() {
+            return state;
+        }
+    }
+
+    static class Plain {
+        int value;
+    }
+
+    @Test
+    void bulkQueriesLeaveOutIgnoredMembers() {
+        TestClassDescriptor<Account> descriptor = new TestClassDescriptor<>(Account.class);
+
+        assertThat(descriptor.getFields()).extracting(FieldDescriptor::getName).containsExactly("owner");
+        assertThat(descriptor.getAllFields()).hasSize(3);
+        assertThat(descriptor.getMethods()).extracting(MethodDescriptor::getName)
+                .containsExactlyInAnyOrder("owner", "update");
+        assertThat(descriptor.getConstructors()).hasSize(1);
+        assertThat(descriptor.getAllConstructors()).hasSize(2);
+    }
+
+    @Test
+    void singleLookupsDoNotFindIgnoredMembers() {
+        TestClassDescriptor<Account> descriptor = new TestClassDescriptor<>(Account.class);
+
+        assertThat(descriptor.getField("owner").isPresent()).isTrue();
+        assertThat(descriptor.getField("password").isPresent()).isFalse();
+        assertThat(descriptor.getField("secret").isPresent()).isFalse();
+        assertThat(descriptor.getMethod("password", new Class<?>[0]).isPresent()).isFalse();
+        assertThat(descriptor.getMethod("password()").isPresent()).isFalse();
+        assertThat(descriptor.getMethod("update", String.class).isPresent()).isTrue();
+        assertThat(descriptor.getMethod("update", Object.class).isPresent()).isFalse();
+        assertThat(descriptor.getConstructor().isPresent()).isTrue();
+        assertThat(descriptor.getConstructor(String.class).isPresent()).isFalse();
+        assertThat(descriptor.getConstructor("(java.lang.String)").isPresent()).isFalse();
+    }
+
+    @Test
+    void ignoredClassesHideAllTheirMembers() {
+        TestClassDescriptor<Internal> descriptor = new TestClassDescriptor<>(Internal.class);
+
+        assertThat(descriptor.getFields()).isEmpty();
+        assertThat(descriptor.getField("state").isPresent()).isFalse();
+        assertThat(descriptor.getMethod("state", new Class<?>[0]).isPresent()).isFalse();
+        assertThat(descriptor.getAllFields()).hasSize(1);
+    }
+
+    @Test
+    void dispatchSitesChooseAmongIncludedOverloads() {
+        TestClassDescriptor<Account> descriptor = new TestClassDescriptor<>(Account.class);
+
+        assertThat(descriptor.newDispatchSite("update").getCandidates()).singleElement()
+                .extracting(method -> method.getParameterTypes().get(0)).isEqualTo(String.class);
+    }
+
+    @Test
+    void classesWithoutExclusionsShareTheEmptyMask() throws NoSuchFieldException {
+        IgnoreMask mask = IgnoreMask.of(Plain.class);
+
+        assertThat(mask.isEmpty()).isTrue();
+        assertThat(mask).isSameAs(IgnoreMask.of(int[].class));
+        assertThat(IgnoreMask.of(Account.class).isIgnored(Account.class.getDeclaredField("owner"))).isFalse();
+        assertThat(IgnoreMask.of(Internal.class).isTypeIgnored()).isTrue();
+    }
+
+    @Test
+    void exclusionsDoNotDependOnTheOrderOfMembers() throws ReflectiveOperationException {
+        TestClassDescriptor<Account> descriptor = new TestClassDescriptor<>(Account.class);
+        IgnoreMask mask = IgnoreMask.of(Account.class);
+
+        assertThat(mask.filter(descriptor.getAllFields().reversed())).extracting(FieldDescriptor::getName)
+                .containsExactly("owner");
+        assertThat(mask.filter(descriptor.getAllMethods().reversed())).extracting(MethodDescriptor::getName)
+                .containsExactlyInAnyOrder("owner", "update");
+        assertThat(mask.filter(descriptor.getAllConstructors().reversed())).singleElement()
+                .extracting(ConstructorDescriptor::getParameterCount).isEqualTo(0);
+        assertThat(mask.isIgnored(Account.class.getDeclaredField("password"))).isTrue();
+        assertThat(mask.isIgnored(Account.class.getDeclaredMethod("update", Object.class))).isTrue();
+        assertThat(mask.isIgnored(Account.class.getDeclaredMethod("update", String.class))).isFalse();
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.reflect4j.api.descriptor;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetaAnnotationIndexTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.ANNOTATION_TYPE)
+    @interface Indexed {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Indexed
+    @interface Component {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Component
+    @Invisible
+    @interface Endpoint {
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface Invisible {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Pong
+    @interface Ping {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Ping
+    @interface Pong {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Plain {
+    }
+
+    @Test
+    void metaAnnotationsAreFoundAtAnyDepth() {
+        assertThat(MetaAnnotationIndex.isMetaAnnotated(Endpoint.class, Component.class)).isTrue();
+        assertThat(MetaAnnotationIndex.isMetaAnnotated(Endpoint.class, Indexed.class)).isTrue();
+        assertThat(MetaAnnotationIndex.isMetaAnnotated(Component.class, Indexed.class)).isTrue();
+        assertThat(MetaAnnotationIndex.isMetaAnnotated(Indexed.class, Component.class)).isFalse();
+        assertThat(MetaAnnotationIndex.isMetaAnnotated(Endpoint.class, Plain.class)).isFalse();
+    }
+
+    @Test
+    void closuresAreListedBreadthFirst() {
+        assertThat(MetaAnnotationIndex.metaAnnotationTypes(Endpoint.class))
+                .containsExactly(Retention.class, Component.class, Documented.class, Target.class, Indexed.class);
+        assertThat(MetaAnnotationIndex.metaAnnotationTypes(Endpoint.class))
+                .isSameAs(MetaAnnotationIndex.metaAnnotationTypes(Endpoint.class));
+    }
+
+    @Test
+    void onlyRuntimeVisibleMetaAnnotationsTakePart() {
+        assertThat(MetaAnnotationIndex.isMetaAnnotated(Endpoint.class, Invisible.class)).isFalse();
+        assertThat(MetaAnnotationIndex.metaAnnotationTypes(Endpoint.class)).doesNotContain(Invisible.class);
+    }
+
+    @Test
+    void cyclesEndTheWalkAndIncludeTheirOrigin() {
+        assertThat(MetaAnnotationIndex.isMetaAnnotated(Ping.class, Pong.class)).isTrue();
+        assertThat(MetaAnnotationIndex.isMetaAnnotated(Ping.class, Ping.class)).isTrue();
+        assertThat(MetaAnnotationIndex.isMetaAnnotated(Retention.class, Retention.class)).isTrue();
+        assertThat(MetaAnnotationIndex.isMetaAnnotated(Plain.class, Plain.class)).isFalse();
+        assertThat(MetaAnnotationIndex.metaAnnotationTypes(Ping.class)).containsOnlyOnce(Ping.class, Pong.class);
+    }
+
+    @Test
+    void anAnnotationTypeIsOrMetaAnnotatesItself() {
+        assertThat(MetaAnnotationIndex.isOrMetaAnnotated(Plain.class, Plain.class)).isTrue();
+        assertThat(MetaAnnotationIndex.isOrMetaAnnotated(Endpoint.class, Indexed.class)).isTrue();
+        assertThat(MetaAnnotationIndex.isOrMetaAnnotated(Indexed.class, Endpoint.class)).isFalse();
+    }
+
+    @Test
+    void nullTypesAreRejected() {
+        assertThatThrownBy(() -> MetaAnnotationIndex.isMetaAnnotated(null, Indexed.class))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> MetaAnnotationIndex.isMetaAnnotated(Endpoint.class, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> MetaAnnotationIndex.metaAnnotationTypes(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.reflect4j.api.descriptor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecordDescriptorTest {
+
+    record Sample(int count, String name, double ratio, boolean flag, long total, char initial, float scale) {
+    }
+
+    record Range(int from, int to) {
+        Range {
+            if (from > to) {
+                throw new IllegalArgumentException("from > to");
+            }
+        }
+    }
+
+    record Empty() {
+    }
+
+    private static final Sample SAMPLE = new Sample(-3, "x", -0.5, true, Long.MIN_VALUE, 'q', Float.NaN);
+
+    @Test
+    void componentsAreListedInDeclarationOrder() {
+        RecordDescriptor<Sample> descriptor = RecordDescriptor.of(Sample.class);
+
+        assertThat(descriptor.getComponentNames())
+                .containsExactly("count", "name", "ratio", "flag", "total", "initial", "scale");
+        assertThat(descriptor.getComponentTypes().get(2)).isEqualTo(double.class);
+        assertThat(descriptor.getPrimitiveSlotCount()).isEqualTo(6);
+        assertThat(descriptor.getReferenceSlotCount()).isEqualTo(1);
+        assertThat(descriptor.slot(1)).isZero();
+        assertThat(descriptor.slot(2)).isEqualTo(1);
+        assertThat(RecordDescriptor.of(Sample.class)).isSameAs(descriptor);
+    }
+
+    @Test
+    void arraysRoundTrip() {
+        RecordDescriptor<Sample> descriptor = RecordDescriptor.of(Sample.class);
+
+        Object[] components = descriptor.deconstruct(SAMPLE);
+
+        assertThat(components).containsExactly(-3, "x", -0.5, true, Long.MIN_VALUE, 'q', Float.NaN);
+        assertThat(descriptor.reconstruct(components)).isEqualTo(SAMPLE);
+        assertThat(descriptor.get(SAMPLE, 4)).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void slotsRoundTripWithoutBoxing() {
+        RecordDescriptor<Sample> descriptor = RecordDescriptor.of(Sample.class);
+        long[] primitives = new long[descriptor.getPrimitiveSlotCount()];
+        Object[] references = new Object[descriptor.getReferenceSlotCount()];
+
+        descriptor.deconstruct(SAMPLE, primitives, references);
+
+        assertThat(primitives[descriptor.slot(0)]).isEqualTo(-3L);
+        assertThat(primitives[descriptor.slot(2)]).isEqualTo(Double.doubleToRawLongBits(-0.5));
+        assertThat(primitives[descriptor.slot(3)]).isEqualTo(1L);
+        assertThat(references[descriptor.slot(1)]).isEqualTo("x");
+        assertThat(descriptor.reconstruct(primitives, references)).isEqualTo(SAMPLE);
+    }
+
+    @Test
+    void primitiveComponentsAreWidenedLikeArguments() {
+        RecordDescriptor<Sample> descriptor = RecordDescriptor.of(Sample.class);
+
+        Sample sample = descriptor.reconstruct(new Object[]{(short) 1, null, 2, false, 3, 'a', 'b'});
+
+        assertThat(sample).isEqualTo(new Sample(1, null, 2.0, false, 3L, 'a', 'b'));
+    }
+
+    @Test
+    void invalidComponentsAreRejected() {
+        RecordDescriptor<Range> descriptor = RecordDescriptor.of(Range.class);
+
+        assertThatThrownBy(() -> descriptor.reconstruct(new Object[]{null, 2}))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Cannot convert null to int");
+        assertThatThrownBy(() -> descriptor.reconstruct(new Object[]{1L, 2}))
+                .isInstanceOf(ClassCastException.class)
+                .hasMessage("Cannot convert java.lang.Long to int");
+        assertThatThrownBy(() -> descriptor.reconstruct(new Object[]{1}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("wrong number of arguments: 1 expected: 2");
+        assertThatThrownBy(() -> descriptor.reconstruct(new Object[]{3, 2}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("from > to");
+    }
+
+    @Test
+    void emptyRecordsAndNonRecords() {
+        assertThat(RecordDescriptor.of(Empty.class).reconstruct(new Object[0])).isEqualTo(new Empty());
+        assertThatThrownBy(() -> RecordDescriptor.of(String.class)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.reflect4j.api.descriptor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignatureIndexOwnershipTest {
+
+    static class Sample {
+        int count;
+
+        Sample() {
+        }
+
+        Sample(int count) {
+            this.count = count;
+        }
+
+        String process(String value, int times) {
+            return value.repeat(times);
+        }
+    }
+
+    @Test
+    void indexIsKeptByItsDescriptor() {
+        TestClassDescriptor<Sample> descriptor = new TestClassDescriptor<>(Sample.class);
+
+        assertThat(descriptor.getSignatureIndex()).isSameAs(descriptor.getSignatureIndex());
+    }
+
+    @Test
+    void eachDescriptorResolvesToItsOwnMembers() {
+        TestClassDescriptor<Sample> first = new TestClassDescriptor<>(Sample.class);
+        TestClassDescriptor<Sample> second = new TestClassDescriptor<>(Sample.class);
+
+        MethodDescriptor firstMethod = first.getMethod("process(java.lang.String, int)");
+        MethodDescriptor secondMethod = second.getMethod("process(java.lang.String, int)");
+
+        assertThat(firstMethod.isPresent()).isTrue();
+        assertThat(firstMethod).isSameAs(first.getMethod("process", String.class, int.class));
+        assertThat(secondMethod).isSameAs(second.getMethod("process", String.class, int.class));
+        assertThat(secondMethod).isNotSameAs(firstMethod);
+        assertThat(second.getConstructor("(int)")).isSameAs(second.getConstructor(int.class));
+        assertThat(second.getSignatureIndex().field("count")).isSameAs(second.getField("count"));
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.reflect4j.api.descriptor;
+
+import io.github.reflect4j.api.invoke.FieldHandles;
+import io.github.reflect4j.api.invoke.InvocationEngine;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/// Minimal [AbstractClassDescriptor] for tests, whose member descriptors are proxies answering
+/// from the wrapped member.
+public final class TestClassDescriptor<T> extends AbstractClassDescriptor<T> {
+
+    /// Registry the descriptors of related classes (superclass, interfaces) are taken from.
+    static final DescriptorRegistry REGISTRY = DescriptorRegistry.create(TestClassDescriptor::new);
+
+    private static final FieldDescriptor EMPTY_FIELD = empty(FieldDescriptor.class);
+    private static final MethodDescriptor EMPTY_METHOD = empty(MethodDescriptor.class);
+    private static final ConstructorDescriptor<?> EMPTY_CONSTRUCTOR = empty(ConstructorDescriptor.class);
+    private static final AnnotationDescriptor<?> EMPTY_ANNOTATION = empty(AnnotationDescriptor.class);
+
+    public TestClassDescriptor(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    protected FieldDescriptor describe(Field field) {
+        return member(FieldDescriptor.class, field);
+    }
+
+    @Override
+    protected MethodDescriptor describe(Method method) {
+        return member(MethodDescriptor.class, method);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected ConstructorDescriptor<T> describe(Constructor<T> constructor) {
+        return member(ConstructorDescriptor.class, constructor);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <A extends Annotation> AnnotationDescriptor<A> describe(A annotation) {
+        return proxy(AnnotationDescriptor.class, (proxy, method, args) -> switch (method.getName()) {
+            case "unwrap" -> annotation;
+            case "getAnnotationType" -> annotation.annotationType();
+            case "getName" -> annotation.annotationType().getSimpleName();
+            case "getSignature" -> "@" + annotation.annotationType().getName();
+            default -> common(proxy, method, args);
+        });
+    }
+
+    @Override
+    protected ClassDescriptor<?> describe(Class<?> type) {
+        return REGISTRY.get(type);
+    }
+
+    @Override
+    protected FieldDescriptor emptyField() {
+        return EMPTY_FIELD;
+    }
+
+    @Override
+    protected MethodDescriptor emptyMethod() {
+        return EMPTY_METHOD;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected ConstructorDescriptor<T> emptyConstructor() {
+        return (ConstructorDescriptor<T>) EMPTY_CONSTRUCTOR;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <A extends Annotation> AnnotationDescriptor<A> emptyAnnotation() {
+        return (AnnotationDescriptor<A>) EMPTY_ANNOTATION;
+    }
+
+    @Override
+    protected ClassDescriptor<?> emptyClass() {
+        return proxy(ClassDescriptor.class, (proxy, method, args) -> switch (method.getName()) {
+            case "unwrap" -> null;
+            case "getInterfaces", "getFields", "getMethods", "getConstructors" -> List.of();
+            default -> common(proxy, method, args);
+        });
+    }
+
+    private static <D> D member(Class<D> kind, Member member) {
+        Object[] bound = new Object[1];
+        return proxy(kind, (proxy, method, args) -> switch (method.getName()) {
+            case "unwrap" -> member;
+            case "getName" -> member instanceof Constructor<?> ? member.getDeclaringClass().getSimpleName()
+                    : member.getName();
+            case "getSignature" -> signature(member);
+            case "getDeclaringClass" -> member.getDeclaringClass();
+            case "getModifiers" -> member.getModifiers();
+            case "getType" -> ((Field) member).getType();
+            case "getReturnType" -> ((Method) member).getReturnType();
+            case "getParameterTypes" -> List.of(((Executable) member).getParameterTypes());
+            case "getParameterCount" -> ((Executable) member).getParameterCount();
+            case "isBridge" -> ((Method) member).isBridge();
+            case "isSynthetic" -> ((Executable) member).isSynthetic();
+            case "isVarArgs" -> ((Executable) member).isVarArgs();
+            case "isStatic" -> Modifier.isStatic(member.getModifiers());
+            case "isFinal" -> Modifier.isFinal(member.getModifiers());
+            case "isVolatile" -> Modifier.isVolatile(member.getModifiers());
+            case "getInvocationEngine" -> InvocationEngine.getDefault();
+            case "getVarHandle" -> FieldHandles.varHandle((Field) member);
+            case "getInvoker", "getAccessor" -> {
+                synchronized (bound) {
+                    if (bound[0] == null) {
+                        bound[0] = member instanceof Method m ? InvocationEngine.getDefault().bind(m)
+                                : member instanceof Constructor<?> c ? InvocationEngine.getDefault().bind(c)
+                                : InvocationEngine.getDefault().bind((Field) member);
+                    }
+                    yield bound[0];
+                }
+            }
+            default -> common(proxy, method, args);
+        });
+    }
+
+    private static <D> D empty(Class<D> kind) {
+        return proxy(kind, (proxy, method, args) -> switch (method.getName()) {
+            case "unwrap" -> null;
+            case "isPresent" -> false;
+            default -> common(proxy, method, args);
+        });
+    }
+
+    private static Object common(Object proxy, Method method, Object[] args) throws Throwable {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "descriptor@" + Integer.toHexString(System.identityHashCode(proxy));
+            default -> {
+                if (method.isDefault()) {
+                    yield InvocationHandler.invokeDefault(proxy, method, args);
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        };
+    }
+
+    private static String signature(Member member) {
+        String owner = member.getDeclaringClass().getTypeName();
+        if (member instanceof Field field) {
+            return owner + "#" + field.getName() + ":" + field.getType().getTypeName();
+        }
+        String parameters = Arrays.stream(((Executable) member).getParameterTypes())
+                .map(Class::getTypeName).collect(Collectors.joining(", ", "(", ")"));
+        if (member instanceof Method method) {
+            return owner + "#" + method.getName() + parameters + ":" + method.getReturnType().getTypeName();
+        }
+        return owner + parameters;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <D> D proxy(Class<D> kind, InvocationHandler handler) {
+        return (D) Proxy.newProxyInstance(kind.getClassLoader(), new Class<?>[]{kind}, handler);
+    }
+}
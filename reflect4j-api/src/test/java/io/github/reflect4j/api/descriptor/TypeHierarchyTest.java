@@ -0,0 +1,100 @@
+package io.github.reflect4j.api.descriptor;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeHierarchyTest {
+
+    interface Named {
+    }
+
+    interface Labeled extends Named {
+    }
+
+    interface Sized {
+    }
+
+    static class Base implements Sized {
+        int size;
+
+        int size() {
+            return size;
+        }
+    }
+
+    static class Derived extends Base implements Labeled, Serializable {
+        String label;
+    }
+
+    private static List<Class<?>> classes(List<ClassDescriptor<?>> descriptors) {
+        return descriptors.stream().<Class<?>>map(ClassDescriptor::unwrap).toList();
+    }
+
+    @Test
+    void supertypesAreLinearizedClassesFirstAndInterfacesDepthFirst() {
+        TypeHierarchy hierarchy = new TestClassDescriptor<>(Derived.class).getTypeHierarchy();
+
+        assertThat(classes(hierarchy.getSuperclasses())).containsExactly(Derived.class, Base.class, Object.class);
+        assertThat(classes(hierarchy.getAllInterfaces()))
+                .containsExactly(Labeled.class, Named.class, Serializable.class, Sized.class);
+        assertThat(hierarchy.getSupertypes()).hasSize(7);
+    }
+
+    @Test
+    void subtypeChecksMatchClassAssignability() {
+        TypeHierarchy derived = new TestClassDescriptor<>(Derived.class).getTypeHierarchy();
+        TypeHierarchy labeled = new TestClassDescriptor<>(Labeled.class).getTypeHierarchy();
+
+        for (Class<?> type : List.of(Derived.class, Base.class, Object.class, Named.class, Sized.class,
+                Serializable.class, String.class, Runnable.class)) {
+            assertThat(derived.isSubtypeOf(type)).as(type.getName()).isEqualTo(type.isAssignableFrom(Derived.class));
+            assertThat(labeled.isSubtypeOf(type)).as(type.getName()).isEqualTo(type.isAssignableFrom(Labeled.class));
+        }
+        assertThat(classes(labeled.getSupertypes())).doesNotContain(Object.class);
+    }
+
+    @Test
+    void arraysAndPrimitivesDeferToTheirOwnRules() {
+        TypeHierarchy array = new TestClassDescriptor<>(Derived[].class).getTypeHierarchy();
+        TypeHierarchy primitive = new TestClassDescriptor<>(int.class).getTypeHierarchy();
+
+        assertThat(array.isSubtypeOf(Base[].class)).isTrue();
+        assertThat(array.isSubtypeOf(Object[].class)).isTrue();
+        assertThat(array.isSubtypeOf(String[].class)).isFalse();
+        assertThat(primitive.isSubtypeOf(int.class)).isTrue();
+        assertThat(primitive.isSubtypeOf(Object.class)).isFalse();
+    }
+
+    @Test
+    void inheritedMembersAreDeclaredOrInherited() {
+        TestClassDescriptor<Derived> derived = new TestClassDescriptor<>(Derived.class);
+        TypeHierarchy hierarchy = derived.getTypeHierarchy();
+
+        assertThat(hierarchy.getInheritedFields()).extracting(FieldDescriptor::getName).containsSubsequence("label", "size");
+        assertThat(hierarchy.getInheritedMethods()).extracting(MethodDescriptor::getName).contains("size");
+        assertThat(hierarchy.getInheritedMethods()).allMatch(hierarchy::declaresOrInherits);
+        assertThat(hierarchy.declaresOrInherits(new TestClassDescriptor<>(String.class).getField("value"))).isFalse();
+    }
+
+    @Test
+    void hierarchyIsKeptByItsDescriptor() {
+        TestClassDescriptor<Derived> descriptor = new TestClassDescriptor<>(Derived.class);
+
+        assertThat(descriptor.getTypeHierarchy()).isSameAs(descriptor.getTypeHierarchy());
+    }
+
+    @Test
+    void eachDescriptorListsItsOwnDescriptorAndMembers() {
+        TestClassDescriptor<Derived> first = new TestClassDescriptor<>(Derived.class);
+        TestClassDescriptor<Derived> second = new TestClassDescriptor<>(Derived.class);
+
+        assertThat(first.getTypeHierarchy().getSupertypes().get(0)).isSameAs(first);
+        assertThat(second.getTypeHierarchy().getSupertypes().get(0)).isSameAs(second);
+        assertThat(second.getTypeHierarchy().getInheritedFields().get(0)).isSameAs(second.getField("label"))
+                .isNotSameAs(first.getField("label"));
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.reflect4j.api.descriptor;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeIdsTest {
+
+    /// Template of the hidden classes defined by the tests.
+    static final class Probe {
+    }
+
+    @Test
+    void idsAreStablePerClassAndDistinctAcrossClasses() {
+        int id = TypeIds.id(String.class);
+
+        assertThat(TypeIds.id(String.class)).isEqualTo(id);
+        assertThat(TypeIds.id(Integer.class)).isNotEqualTo(id);
+        assertThat(TypeIds.bound()).isGreaterThan(Math.max(id, TypeIds.id(Integer.class)));
+    }
+
+    @Test
+    void bitsetsContainExactlyTheAddedClasses() {
+        long[] words = TypeIds.add(TypeIds.add(new long[0], String.class), Integer.class);
+
+        assertThat(TypeIds.contains(words, String.class)).isTrue();
+        assertThat(TypeIds.contains(words, Integer.class)).isTrue();
+        assertThat(TypeIds.contains(words, Long.class)).isFalse();
+    }
+
+    @Test
+    void idsOfUnloadedClassesAreReused() throws Exception {
+        byte[] bytes;
+        try (InputStream in = Probe.class.getResourceAsStream("TypeIdsTest$Probe.class")) {
+            bytes = in.readAllBytes();
+        }
+        int start = TypeIds.bound();
+        int classes = 2_000;
+        for (int i = 0; i < classes; i++) {
+            TypeIds.id(MethodHandles.lookup().defineHiddenClass(bytes, false).lookupClass());
+            if (i % 100 == 99) {
+                System.gc();
+            }
+        }
+
+        assertThat(TypeIds.bound() - start).isLessThan(classes);
+    }
+}
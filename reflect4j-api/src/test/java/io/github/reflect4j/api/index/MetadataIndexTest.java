@@ -0,0 +1,122 @@
+package io.github.reflect4j.api.index;
+
+import io.github.reflect4j.api.exception.ReflectionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetadataIndexTest {
+
+    private static final String HEADER = "reflect4j-index 1\n";
+
+    @TempDir
+    Path dir;
+
+    /// Writes an index into its own class path root and returns that root.
+    private Path root(String name, String content) throws IOException {
+        Path root = dir.resolve(name);
+        Path index = root.resolve(MetadataIndex.RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, content);
+        return root;
+    }
+
+    private static MetadataIndex load(Path... roots) throws IOException {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+        return MetadataIndex.load(new URLClassLoader(urls, null));
+    }
+
+    @Test
+    void entriesAreParsedIntoTypesAndMembers() throws IOException {
+        MetadataIndex index = load(root("a", HEADER + """
+                T com.example.Account
+                @ @com.example.Entity
+                F owner:Ljava/lang/String;
+                a 1 0\tholder\tkey\\twith tab
+                F password:Ljava/lang/String;
+                i Sensitive\\\\data
+                M reset()V
+                i\s
+                C <init>(I)V
+                @ @java.lang.Deprecated
+
+                T com.example.Plain
+                @ @java.lang.Deprecated
+                """));
+
+        IndexedType account = index.type("com.example.Account");
+
+        assertThat(index.isPresent()).isTrue();
+        assertThat(account.element().kind()).isEqualTo(IndexedElement.Kind.TYPE);
+        assertThat(account.element().hasAnnotation("@com.example.Entity")).isTrue();
+        assertThat(account.members()).extracting(IndexedElement::kind).containsExactly(IndexedElement.Kind.FIELD,
+                IndexedElement.Kind.FIELD, IndexedElement.Kind.METHOD, IndexedElement.Kind.CONSTRUCTOR);
+        assertThat(account.member("owner:Ljava/lang/String;").alias())
+                .isEqualTo(new IndexedElement.Alias(List.of("holder", "key\twith tab"), true, false));
+        assertThat(account.member("password:Ljava/lang/String;").ignoreReason()).isEqualTo("Sensitive\\data");
+        assertThat(account.member("reset()V").ignoreReason()).isEmpty();
+        assertThat(account.member("<init>(I)V").annotations()).containsExactly("@java.lang.Deprecated");
+        assertThat(account.member("missing()V")).isNull();
+        assertThat(index.typesAnnotatedWith("@java.lang.Deprecated")).extracting(IndexedType::name)
+                .containsExactly("com.example.Plain");
+    }
+
+    @Test
+    void indexesAreMergedAndTheFirstTypeWins() throws IOException {
+        Path first = root("first", HEADER + "T com.example.Shared\n@ @com.example.First\n");
+        Path second = root("second", HEADER + "T com.example.Shared\n@ @com.example.Second\nT com.example.Other\n");
+
+        MetadataIndex index = load(first, second);
+
+        assertThat(index.types()).extracting(IndexedType::name).containsExactly("com.example.Shared", "com.example.Other");
+        assertThat(index.type("com.example.Shared").element().annotations()).containsExactly("@com.example.First");
+        assertThat(index.typesAnnotatedWith("@com.example.Second")).isEmpty();
+    }
+
+    @Test
+    void indexesAreCachedPerClassLoader() throws IOException {
+        URLClassLoader loader = new URLClassLoader(new URL[]{root("a", HEADER).toUri().toURL()}, null);
+
+        assertThat(MetadataIndex.load(loader)).isSameAs(MetadataIndex.load(loader));
+        assertThat(MetadataIndex.load(loader).types()).isEmpty();
+        assertThat(MetadataIndex.load(loader).isPresent()).isTrue();
+    }
+
+    @Test
+    void classLoadersWithoutIndexesGetAnEmptyIndex() throws IOException {
+        MetadataIndex index = load(dir);
+
+        assertThat(index.isPresent()).isFalse();
+        assertThat(index.types()).isEmpty();
+        assertThat(index.type("com.example.Account")).isNull();
+    }
+
+    @Test
+    void malformedIndexesAreRejected() throws IOException {
+        Path unsupported = root("unsupported", "reflect4j-index 2\n");
+        Path orphan = root("orphan", HEADER + "F name:I\n");
+        Path unknown = root("unknown", HEADER + "T com.example.A\nx value\n");
+        Path flags = root("flags", HEADER + "T com.example.A\na 1\tname\n");
+
+        assertThatThrownBy(() -> load(unsupported)).isInstanceOf(ReflectionException.class)
+                .hasMessageContaining("Unsupported index format");
+        assertThatThrownBy(() -> load(orphan)).isInstanceOf(ReflectionException.class)
+                .hasMessageEndingWith("at line 2");
+        assertThatThrownBy(() -> load(unknown)).isInstanceOf(ReflectionException.class)
+                .hasMessageEndingWith("at line 3");
+        assertThatThrownBy(() -> load(flags)).isInstanceOf(ReflectionException.class)
+                .hasMessageEndingWith("at line 3");
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.reflect4j.api.invoke;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncInvocationsTest {
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().toList();
+    }
+
+    @Test
+    void resultsKeepInputOrderAndConcurrencyStaysBounded() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        List<Integer> results = AsyncInvocations.fanOut(range(200), i -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.yield();
+            inFlight.decrementAndGet();
+            return i * 2;
+        }, 4, AsyncInvocations.getDefaultExecutor()).join();
+
+        assertThat(results).isEqualTo(range(200).stream().map(i -> i * 2).toList());
+        assertThat(peak.get()).isBetween(1, 4);
+    }
+
+    @Test
+    void emptyInputsCompleteImmediately() {
+        assertThat(AsyncInvocations.fanOut(List.of(), i -> i, 1, Runnable::run).join()).isEmpty();
+        assertThatThrownBy(() -> AsyncInvocations.fanOut(List.of(1), i -> i, 0, Runnable::run))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void aThrowingCallFailsTheFanOutAndInterruptsTheOthers() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        CompletableFuture<List<Integer>> future = AsyncInvocations.fanOut(range(2), i -> {
+            if (i == 0) {
+                try {
+                    blocked.countDown();
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return i;
+            }
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new IllegalStateException("failed: " + i);
+        }, 2, AsyncInvocations.getDefaultExecutor());
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("failed: 1");
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void cancellingInterruptsTheCallsInFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<List<Integer>> future = AsyncInvocations.fanOut(range(10), i -> {
+            calls.incrementAndGet();
+            try {
+                started.countDown();
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return i;
+        }, 1, AsyncInvocations.getDefaultExecutor());
+        started.await();
+        future.cancel(true);
+
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void interruptsNeverLeakIntoTheExecutorsNextTask() throws Exception {
+        CountDownLatch inCall = new CountDownLatch(1);
+        CountDownLatch callMayReturn = new CountDownLatch(1);
+        CountDownLatch nextStarted = new CountDownLatch(1);
+        // widens the window between picking the thread to interrupt and interrupting it: the call
+        // may return, and the next task start, before the interrupt is delivered
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task) {
+            @Override
+            public void interrupt() {
+                callMayReturn.countDown();
+                try {
+                    nextStarted.await(500, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.interrupt();
+            }
+        });
+        try {
+            CompletableFuture<List<Integer>> future = AsyncInvocations.fanOut(range(1), i -> {
+                inCall.countDown();
+                try {
+                    callMayReturn.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return i;
+            }, 1, executor);
+            Future<Boolean> next = executor.submit(() -> {
+                nextStarted.countDown();
+                try {
+                    Thread.sleep(200);
+                    return false;
+                } catch (InterruptedException e) {
+                    return true;
+                }
+            });
+            inCall.await();
+            future.cancel(true);
+
+            assertThat(next.get()).as("next task interrupted").isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.reflect4j.api.invoke;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchesTest {
+
+    public static class Counter {
+        public int value;
+
+        public Counter(int value) {
+            this.value = value;
+        }
+
+        public int add(int delta) {
+            if (value < 0) {
+                throw new IllegalStateException("negative: " + value);
+            }
+            return value + delta;
+        }
+
+        public void overflow() {
+            throw new StackOverflowError("deep");
+        }
+    }
+
+    private static MethodInvoker invoker(String name, Class<?>... types) throws NoSuchMethodException {
+        return InvocationEngine.METHOD_HANDLE.bind(Counter.class.getMethod(name, types));
+    }
+
+    private static List<Counter> counters(int size) {
+        List<Counter> counters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            counters.add(new Counter(i % 10 == 3 ? -i : i));
+        }
+        return counters;
+    }
+
+    @Test
+    void invokeAllStoresResultsAndRecordsFailuresInOrder() throws Exception {
+        List<Counter> targets = new LinkedList<>(counters(25));
+        targets.set(5, null);
+        Object[] out = new Object[25];
+
+        BatchFailures failures = Batches.invokeAll(invoker("add", int.class), 1, targets, new Object[]{100}, out,
+                BatchMode.SEQUENTIAL);
+
+        assertThat(failures.indices()).containsExactly(3, 5, 13, 23);
+        assertThat(failures.failureAt(3)).isInstanceOf(IllegalStateException.class).hasMessage("negative: -3");
+        assertThat(failures.failureAt(5)).isInstanceOf(NullPointerException.class);
+        assertThat(failures.failureAt(4)).isNull();
+        assertThat(out[4]).isEqualTo(104);
+        assertThat(out[3]).isNull();
+    }
+
+    @Test
+    void successfulBatchesShareTheEmptyRecord() throws Exception {
+        BatchFailures failures = Batches.invokeAll(invoker("add", int.class), 1, List.of(new Counter(1)),
+                new Object[]{1}, null, BatchMode.SEQUENTIAL);
+
+        assertThat(failures).isSameAs(BatchFailures.none());
+        assertThat(failures.isEmpty()).isTrue();
+    }
+
+    @Test
+    void parallelBatchesMatchSequentialOnes() throws Exception {
+        int size = BatchMode.PARALLEL_THRESHOLD * 3 + 17;
+        List<Counter> targets = counters(size);
+        Object[] sequentialOut = new Object[size];
+        Object[] parallelOut = new Object[size];
+
+        BatchFailures sequential = Batches.invokeAll(invoker("add", int.class), 1, targets, new Object[]{1},
+                sequentialOut, BatchMode.SEQUENTIAL);
+        BatchFailures parallel = Batches.invokeAll(invoker("add", int.class), 1, targets, new Object[]{1},
+                parallelOut, BatchMode.PARALLEL);
+
+        assertThat(parallel.indices()).containsExactly(sequential.indices());
+        assertThat(parallelOut).containsExactly(sequentialOut);
+    }
+
+    @Test
+    void wrongArgumentCountsFailTheBatchOrTheRow() throws Exception {
+        MethodInvoker add = invoker("add", int.class);
+        Object[] out = new Object[2];
+
+        assertThatThrownBy(() -> Batches.invokeAll(add, 1, List.of(new Counter(1)), new Object[0], null,
+                BatchMode.SEQUENTIAL)).isInstanceOf(IllegalArgumentException.class);
+        BatchFailures failures = Batches.invokeEach(add, new Object[]{new Counter(1), new Counter(2)},
+                new Object[][]{{1, 2}, {3}}, out, BatchMode.SEQUENTIAL);
+
+        assertThat(failures.indices()).containsExactly(0);
+        assertThat(failures.failure(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(out[1]).isEqualTo(5);
+    }
+
+    @Test
+    void errorsAbortTheBatch() throws Exception {
+        MethodInvoker overflow = invoker("overflow");
+
+        assertThatThrownBy(() -> Batches.invokeAll(overflow, 0, counters(3), null, null, BatchMode.SEQUENTIAL))
+                .isInstanceOf(StackOverflowError.class).hasMessage("deep");
+        assertThatThrownBy(() -> Batches.invokeAll(overflow, 0, counters(BatchMode.PARALLEL_THRESHOLD), null, null,
+                BatchMode.PARALLEL)).isInstanceOf(StackOverflowError.class);
+    }
+
+    @Test
+    void getAllReadsEveryTarget() throws Exception {
+        FieldAccessor value = InvocationEngine.METHOD_HANDLE.bind(Counter.class.getField("value"));
+        Object[] out = new Object[3];
+
+        BatchFailures failures = Batches.getAll(value, new Object[]{new Counter(7), "other", new Counter(9)}, out,
+                BatchMode.SEQUENTIAL);
+
+        assertThat(out).containsExactly(7, null, 9);
+        assertThat(failures.indices()).containsExactly(1);
+        assertThat(failures.failure(0)).isInstanceOf(ClassCastException.class);
+        assertThatThrownBy(failures::rethrowFirst).isSameAs(failures.failure(0));
+    }
+}
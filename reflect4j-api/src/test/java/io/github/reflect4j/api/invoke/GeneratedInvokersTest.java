@@ -0,0 +1,200 @@
+package io.github.reflect4j.api.invoke;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeneratedInvokersTest {
+
+    public interface Greeter {
+        String greet(String name);
+    }
+
+    public static class Counter implements Greeter {
+        static final String PREFIX = "#";
+        static int created;
+
+        final int base;
+        int count;
+        String label;
+
+        public Counter() {
+            this(0);
+        }
+
+        Counter(int base) {
+            if (base < 0) {
+                throw new IllegalArgumentException("negative base");
+            }
+            this.base = base;
+            created++;
+        }
+
+        int add(int delta) {
+            count += delta;
+            return base + count;
+        }
+
+        private long scale(long factor, double bias) {
+            return (long) ((base + count) * factor + bias);
+        }
+
+        static String join(String a, char b, boolean c, Object d) {
+            return a + b + c + d;
+        }
+
+        void reset() {
+            count = 0;
+        }
+
+        @Override
+        public String greet(String name) {
+            return PREFIX + name;
+        }
+    }
+
+    private static final int CALLS = HiddenInvokers.INFLATION_THRESHOLD * 2 + 2;
+
+    private static Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Counter.class.getDeclaredMethod(name, parameterTypes);
+    }
+
+    @Test
+    void hiddenInvokersAreGeneratedForReachableMembers() throws Exception {
+        MethodInvoker invoker = HiddenInvokers.method(method("scale", long.class, double.class));
+        ConstructorInvoker constructor = HiddenInvokers.constructor(Counter.class.getDeclaredConstructor(int.class));
+        FieldAccessor field = HiddenInvokers.field(Counter.class.getDeclaredField("count"));
+
+        assertThat(invoker).isNotNull();
+        assertThat(invoker.getClass().isHidden()).isTrue();
+        assertThat(constructor).isNotNull();
+        assertThat(field).isNotNull();
+        assertThat(HiddenInvokers.field(Counter.class.getDeclaredField("base"))).isNull();
+        assertThat(HiddenInvokers.method(Object.class.getMethod("hashCode"))).isNull();
+    }
+
+    @Test
+    void malformedClassesAreReportedAndForeignOnesSkipped() throws IOException {
+        byte[] foreign;
+        try (InputStream in = Object.class.getResourceAsStream("Object.class")) {
+            foreign = in.readAllBytes();
+        }
+
+        assertThat(HiddenInvokers.define(Counter.class, foreign)).isNull();
+        assertThatThrownBy(() -> HiddenInvokers.define(Counter.class, new byte[]{(byte) 0xCA, (byte) 0xFE, 0, 0}))
+                .isInstanceOf(ClassFormatError.class);
+    }
+
+    @Test
+    void methodResultsDoNotChangeWhenTheInvokerInflates() throws Throwable {
+        MethodInvoker add = InvocationEngine.GENERATED.bind(method("add", int.class));
+        MethodInvoker scale = InvocationEngine.GENERATED.bind(method("scale", long.class, double.class));
+        MethodInvoker join = InvocationEngine.GENERATED.bind(method("join", String.class, char.class,
+                boolean.class, Object.class));
+        MethodInvoker reset = InvocationEngine.GENERATED.bind(method("reset"));
+        MethodInvoker greet = InvocationEngine.GENERATED.bind(Greeter.class.getMethod("greet", String.class));
+        Counter counter = new Counter(10);
+
+        for (int i = 1; i <= CALLS; i++) {
+            assertThat(reset.invoke0(counter)).isNull();
+            assertThat(add.invoke1(counter, i)).isEqualTo(10 + i);
+            assertThat(add.invoke(counter, new Object[]{1})).isEqualTo(11 + i);
+            assertThat(scale.invoke2(counter, 2L, 0.5)).isEqualTo((11L + i) * 2);
+            assertThat(join.invoke4(null, "a", 'b', true, i)).isEqualTo("abtrue" + i);
+            assertThat(greet.invoke1(counter, "x")).isEqualTo("#x");
+        }
+    }
+
+    @Test
+    void argumentsNeedingConversionStillWidenAfterInflation() throws Throwable {
+        MethodInvoker add = InvocationEngine.GENERATED.bind(method("add", int.class));
+        MethodInvoker scale = InvocationEngine.GENERATED.bind(method("scale", long.class, double.class));
+        Counter counter = new Counter();
+
+        for (int i = 0; i < CALLS; i++) {
+            counter.reset();
+            assertThat(add.invoke1(counter, (short) 2)).isEqualTo(2);
+            assertThat(add.invoke1(counter, 'a')).isEqualTo(2 + 'a');
+            assertThat(scale.invoke2(counter, 1, 1f)).isEqualTo(3L + 'a');
+            assertThat(add.invoke1(counter, 1)).isEqualTo(3 + 'a');
+        }
+    }
+
+    @Test
+    void invalidArgumentsFailTheSameWayAfterInflation() throws Throwable {
+        MethodInvoker add = InvocationEngine.GENERATED.bind(method("add", int.class));
+        Counter counter = new Counter();
+        for (int i = 0; i < CALLS; i++) {
+            add.invoke1(counter, i);
+        }
+
+        assertThatThrownBy(() -> add.invoke1(counter, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> add.invoke1(counter, 1L)).isInstanceOf(ClassCastException.class);
+        assertThatThrownBy(() -> add.invoke1(counter, "1")).isInstanceOf(ClassCastException.class);
+        assertThatThrownBy(() -> add.invoke(counter, new Object[0])).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void constructorsInflateAndRethrowTheirOwnExceptions() throws Throwable {
+        Constructor<Counter> constructor = Counter.class.getDeclaredConstructor(int.class);
+        ConstructorInvoker invoker = InvocationEngine.GENERATED.bind(constructor);
+        ConstructorInvoker noArgs = InvocationEngine.GENERATED.bind(Counter.class.getConstructor());
+        int created = Counter.created;
+
+        for (int i = 0; i < CALLS; i++) {
+            assertThat(((Counter) invoker.invoke1(i)).base).isEqualTo(i);
+            assertThat(((Counter) invoker.invoke(new Object[]{(byte) i})).base).isEqualTo(i);
+            assertThat(((Counter) noArgs.invoke0()).base).isZero();
+        }
+
+        assertThat(Counter.created - created).isEqualTo(CALLS * 3);
+        assertThatThrownBy(() -> invoker.invoke1(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("negative base");
+    }
+
+    @Test
+    void fieldsInflateForReadsAndWrites() throws Throwable {
+        FieldAccessor count = InvocationEngine.GENERATED.bind(Counter.class.getDeclaredField("count"));
+        FieldAccessor label = InvocationEngine.GENERATED.bind(Counter.class.getDeclaredField("label"));
+        FieldAccessor created = InvocationEngine.GENERATED.bind(Counter.class.getDeclaredField("created"));
+        Counter counter = new Counter();
+        int before = Counter.created;
+
+        for (int i = 0; i < CALLS; i++) {
+            count.set(counter, i);
+            assertThat(count.get(counter)).isEqualTo(i);
+            count.set(counter, (short) -i);
+            assertThat(counter.count).isEqualTo(-i);
+            label.set(counter, "l" + i);
+            assertThat(label.get(counter)).isEqualTo("l" + i);
+            assertThat(created.get(null)).isEqualTo(before);
+        }
+
+        label.set(counter, null);
+        assertThat(counter.label).isNull();
+        assertThatThrownBy(() -> count.set(counter, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> label.set(counter, 1)).isInstanceOf(ClassCastException.class);
+    }
+
+    @Test
+    void finalFieldsStayOnMethodHandles() throws Throwable {
+        Field base = Counter.class.getDeclaredField("base");
+        FieldAccessor accessor = InvocationEngine.GENERATED.bind(base);
+        FieldAccessor prefix = InvocationEngine.GENERATED.bind(Counter.class.getDeclaredField("PREFIX"));
+
+        assertThat(accessor).isInstanceOf(MethodHandleFieldAccessor.class);
+        assertThat(prefix).isInstanceOf(MethodHandleFieldAccessor.class);
+        for (int i = 0; i < CALLS; i++) {
+            assertThat(accessor.get(new Counter(i))).isEqualTo(i);
+            assertThat(prefix.get(null)).isEqualTo("#");
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.reflect4j.api.invoke;
+
+import io.github.reflect4j.api.descriptor.ConstructorDescriptor;
+import io.github.reflect4j.api.descriptor.TestClassDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstanceFactoriesTest {
+
+    public static class Point {
+        final int x;
+        final long y;
+
+        private Point() {
+            this(0, 0L);
+        }
+
+        Point(int x) {
+            this(x, 0L);
+        }
+
+        Point(int x, long y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        Point(String text) throws IOException {
+            if (text.isEmpty()) {
+                throw new IOException("empty");
+            }
+            this.x = Integer.parseInt(text);
+            this.y = 0L;
+        }
+    }
+
+    public abstract static class Shape {
+        public Shape() {
+        }
+    }
+
+    /// Functional interface whose method declares no checked exceptions.
+    public interface Parser {
+        Point parse(String text);
+    }
+
+    /// Functional interface whose method declares the checked exception of the constructor.
+    public interface CheckedParser {
+        Point parse(String text) throws IOException;
+    }
+
+    /// Functional interface returning a supertype of the constructed class.
+    public interface ObjectFactory {
+        Object create(int x, long y);
+    }
+
+    public interface NotFunctional {
+        Point a();
+
+        Point b(int x);
+    }
+
+    @Test
+    void constructorsBecomeFunctionalInterfaces() throws Exception {
+        Supplier<?> supplier = InstanceFactories.of(Point.class.getDeclaredConstructor(), Supplier.class);
+        IntFunction<?> intFunction = InstanceFactories.of(Point.class.getDeclaredConstructor(int.class),
+                IntFunction.class);
+        ObjectFactory factory = InstanceFactories.of(Point.class.getDeclaredConstructor(int.class, long.class),
+                ObjectFactory.class);
+
+        assertThat(((Point) supplier.get()).x).isZero();
+        assertThat(((Point) intFunction.apply(4)).x).isEqualTo(4);
+        assertThat(((Point) factory.create(1, 2L)).y).isEqualTo(2L);
+        assertThat(supplier.get()).isNotSameAs(supplier.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void boxedArgumentsAreUnboxedAndWrongTypesRejected() throws Exception {
+        Function<Object, Point> function = InstanceFactories.of(Point.class.getDeclaredConstructor(int.class),
+                Function.class);
+        BiFunction<Object, Object, Point> biFunction = InstanceFactories.of(
+                Point.class.getDeclaredConstructor(int.class, long.class), BiFunction.class);
+
+        assertThat(function.apply(7).x).isEqualTo(7);
+        assertThat(biFunction.apply(1, 3L).y).isEqualTo(3L);
+        assertThatThrownBy(() -> function.apply("7")).isInstanceOf(ClassCastException.class);
+        assertThatThrownBy(() -> function.apply(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void checkedExceptionsPropagateUnchanged() throws Exception {
+        Parser parser = InstanceFactories.of(Point.class.getDeclaredConstructor(String.class), Parser.class);
+
+        assertThat(parser.parse("12").x).isEqualTo(12);
+        assertThatThrownBy(() -> parser.parse("")).isInstanceOf(IOException.class).hasMessage("empty")
+                .isNotInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> parser.parse("x")).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void interfacesInvisibleToTheDeclaringClassFallBackToProxies() throws Throwable {
+        Class<?> parser = new IsolatingLoader(Parser.class).loadClass(Parser.class.getName());
+        Class<?> checkedParser = new IsolatingLoader(CheckedParser.class).loadClass(CheckedParser.class.getName());
+        Object unchecked = InstanceFactories.of(Point.class.getDeclaredConstructor(String.class), parser);
+        Object checked = InstanceFactories.of(Point.class.getDeclaredConstructor(String.class), checkedParser);
+
+        assertThat(((Point) parse(parser, unchecked, "12")).x).isEqualTo(12);
+        assertThatThrownBy(() -> parse(parser, unchecked, "")).isInstanceOf(UndeclaredThrowableException.class)
+                .cause().isInstanceOf(IOException.class).hasMessage("empty");
+        assertThatThrownBy(() -> parse(parser, unchecked, "x")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> parse(checkedParser, checked, "")).isInstanceOf(IOException.class)
+                .hasMessage("empty");
+    }
+
+    @Test
+    void factoriesDoNotKeepInterfacesOfChildLoaders() throws Exception {
+        WeakReference<ClassLoader> loader = factoryOfIsolatedParser();
+
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(loader.get()).isNull();
+    }
+
+    @Test
+    void factoriesAreCachedPerConstructorAndInterface() throws Exception {
+        Supplier<?> supplier = InstanceFactories.of(Point.class.getDeclaredConstructor(), Supplier.class);
+
+        assertThat(InstanceFactories.of(Point.class.getDeclaredConstructor(), Supplier.class)).isSameAs(supplier);
+        assertThat(InstanceFactories.of(Point.class.getDeclaredConstructor(int.class), Function.class))
+                .isNotSameAs(InstanceFactories.of(Point.class.getDeclaredConstructor(int.class), IntFunction.class));
+    }
+
+    @Test
+    void mismatchedInterfacesAreRejected() throws Exception {
+        assertThatThrownBy(() -> InstanceFactories.of(Point.class.getDeclaredConstructor(int.class), Supplier.class))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("takes 1 parameters");
+        assertThatThrownBy(() -> InstanceFactories.of(Point.class.getDeclaredConstructor(String.class),
+                IntFunction.class)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> InstanceFactories.of(Point.class.getDeclaredConstructor(), NotFunctional.class))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Not a functional interface");
+        assertThatThrownBy(() -> InstanceFactories.of(Point.class.getDeclaredConstructor(), Runnable.class))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("not assignable");
+        assertThatThrownBy(() -> InstanceFactories.of(Point.class.getDeclaredConstructor(), Object.class))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Not an interface");
+        assertThatThrownBy(() -> InstanceFactories.of(Shape.class.getConstructor(), Supplier.class))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("abstract");
+        assertThatThrownBy(() -> InstanceFactories.of(null, Supplier.class)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void descriptorsShareTheFactoriesOfTheirConstructor() {
+        TestClassDescriptor<Point> descriptor = new TestClassDescriptor<>(Point.class);
+        ConstructorDescriptor<Point> pair = descriptor.getConstructor(int.class, long.class);
+
+        BiFunction<Integer, Long, Point> factory = pair.asBiFunction();
+
+        assertThat(factory.apply(2, 5L).y).isEqualTo(5L);
+        assertThat(descriptor.getConstructor().asSupplier().get().x).isZero();
+        assertThat(descriptor.getConstructor(int.class).<Integer>asFunction().apply(9).x).isEqualTo(9);
+        assertThat(pair.<Integer, Long>asBiFunction()).isSameAs(factory);
+    }
+
+    /// Creates and uses a factory for an interface of a loader that nothing else refers to.
+    private static WeakReference<ClassLoader> factoryOfIsolatedParser() throws Exception {
+        IsolatingLoader loader = new IsolatingLoader(Parser.class);
+        Class<?> parser = loader.loadClass(Parser.class.getName());
+        Object factory = InstanceFactories.of(Point.class.getDeclaredConstructor(String.class), parser);
+
+        assertThat(InstanceFactories.of(Point.class.getDeclaredConstructor(String.class), parser)).isSameAs(factory);
+        assertThat(parser.isInstance(factory)).isTrue();
+        return new WeakReference<>(loader);
+    }
+
+    /// Calls the `parse` method of a factory whose interface the test cannot name.
+    private static Object parse(Class<?> type, Object factory, String text) throws Throwable {
+        Method parse = type.getMethod("parse", String.class);
+        try {
+            return parse.invoke(factory, text);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /// Defines its own copy of one class, which the classes of its parent cannot see.
+    private static final class IsolatingLoader extends ClassLoader {
+
+        private final String isolated;
+
+        IsolatingLoader(Class<?> isolated) {
+            super(InstanceFactoriesTest.class.getClassLoader());
+            this.isolated = isolated.getName();
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(isolated)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type != null) {
+                    return type;
+                }
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = in.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.reflect4j.api.invoke;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvocationEngineTest {
+
+    @Test
+    void propertyIsMatchedIgnoringCaseAndWhitespace() {
+        assertThat(InvocationEngine.fromProperty("REFLECTION")).isSameAs(InvocationEngine.REFLECTION);
+        assertThat(InvocationEngine.fromProperty("generated")).isSameAs(InvocationEngine.GENERATED);
+        assertThat(InvocationEngine.fromProperty(" Method_Handle ")).isSameAs(InvocationEngine.METHOD_HANDLE);
+    }
+
+    @Test
+    void missingPropertyFallsBackToMethodHandle() {
+        assertThat(InvocationEngine.fromProperty(null)).isSameAs(InvocationEngine.METHOD_HANDLE);
+        assertThat(InvocationEngine.fromProperty("  ")).isSameAs(InvocationEngine.METHOD_HANDLE);
+    }
+
+    @Test
+    void unknownPropertyFallsBackToMethodHandle() {
+        assertThat(InvocationEngine.fromProperty("lambda")).isSameAs(InvocationEngine.METHOD_HANDLE);
+    }
+}
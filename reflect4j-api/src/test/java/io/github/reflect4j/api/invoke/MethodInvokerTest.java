@@ -0,0 +1,62 @@
+package io.github.reflect4j.api.invoke;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MethodInvokerTest {
+
+    static int calls;
+
+    static void touch() {
+        calls++;
+    }
+
+    static void touch(Object a, Object b) {
+        calls++;
+    }
+
+    static long wide() {
+        return 1L;
+    }
+
+    static short narrow() {
+        return 7;
+    }
+
+    @ParameterizedTest
+    @EnumSource(InvocationEngine.class)
+    void primitiveReturnOfVoidMethodIsRejectedBeforeInvoking(InvocationEngine engine) throws Exception {
+        MethodInvoker invoker = engine.bind(MethodInvokerTest.class.getDeclaredMethod("touch"));
+        MethodInvoker binary = engine.bind(MethodInvokerTest.class.getDeclaredMethod("touch", Object.class, Object.class));
+        calls = 0;
+
+        assertThatThrownBy(() -> invoker.invokeInt(null))
+                .isInstanceOf(ClassCastException.class)
+                .hasMessage("Cannot convert void to int");
+        assertThatThrownBy(() -> invoker.invokeLong(null))
+                .isInstanceOf(ClassCastException.class)
+                .hasMessage("Cannot convert void to long");
+        assertThatThrownBy(() -> binary.invokeBoolean(null, 1, 2))
+                .isInstanceOf(ClassCastException.class)
+                .hasMessage("Cannot convert void to boolean");
+        assertThat(calls).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(InvocationEngine.class)
+    void primitiveReturnIsWidenedOrRejectedAlike(InvocationEngine engine) throws Throwable {
+        Method wide = MethodInvokerTest.class.getDeclaredMethod("wide");
+        Method narrow = MethodInvokerTest.class.getDeclaredMethod("narrow");
+
+        assertThat(engine.bind(narrow).invokeInt(null)).isEqualTo(7);
+        assertThat(engine.bind(narrow).invokeLong(null)).isEqualTo(7L);
+        assertThatThrownBy(() -> engine.bind(wide).invokeInt(null))
+                .isInstanceOf(ClassCastException.class)
+                .hasMessage("Cannot convert java.lang.Long to int");
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.reflect4j.api.invoke;
+
+import io.github.reflect4j.api.descriptor.ClassDescriptor;
+import io.github.reflect4j.api.descriptor.TestClassDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResultsTest {
+
+    public static class Target {
+        public int value;
+
+        public Target() {
+        }
+
+        public Target(boolean overflow) {
+            if (overflow) {
+                throw new StackOverflowError("deep");
+            }
+        }
+
+        public void run() {
+        }
+
+        public int twice(int value) {
+            return value * 2;
+        }
+
+        public void fail() throws IOException {
+            throw new IOException("disk");
+        }
+
+        public void overflow() {
+            throw new StackOverflowError("deep");
+        }
+    }
+
+    @Test
+    void successesWithoutValueAreTheSharedEmptyResult() {
+        assertThat(MethodInvocationResult.success(null)).isSameAs(MethodInvocationResult.empty());
+        assertThat(FieldAccessResult.success(null)).isSameAs(FieldAccessResult.empty());
+        assertThat(ConstructorInvocationResult.success(null)).isSameAs(MethodInvocationResult.empty());
+        assertThat(MethodInvocationResult.empty()).isSameAs(FieldAccessResult.empty());
+        assertThat(MethodInvocationResult.success("value")).isNotSameAs(MethodInvocationResult.success("value"));
+    }
+
+    @Test
+    void successesExposeTheirValue() {
+        MethodInvocationResult<String> result = MethodInvocationResult.success("value");
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getValue()).isEqualTo("value");
+        assertThat(result.getException()).isNull();
+        assertThat(result).isEqualTo(FieldAccessResult.success("value"))
+                .hasSameHashCodeAs(FieldAccessResult.success("value"));
+        assertThat(MethodInvocationResult.empty().isSuccess()).isTrue();
+        assertThat(MethodInvocationResult.empty().getValue()).isNull();
+    }
+
+    @Test
+    void failuresExposeTheirException() {
+        IllegalStateException exception = new IllegalStateException("broken");
+        ConstructorInvocationResult<Object> result = ConstructorInvocationResult.failure(exception);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getValue()).isNull();
+        assertThat(result.getException()).isSameAs(exception);
+        assertThat(result).hasToString("Failure[" + exception + "]");
+        assertThatThrownBy(() -> FieldAccessResult.failure(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void invocationTargetExceptionsAreUnwrappedWhenAsked() {
+        IOException cause = new IOException("disk");
+        InvocationTargetException wrapper = new InvocationTargetException(cause);
+
+        assertThat(MethodInvocationResult.failure(wrapper).getException()).isSameAs(cause);
+        InvocationTargetException empty = new InvocationTargetException(null);
+        assertThat(MethodInvocationResult.failure(empty).getException()).isSameAs(empty);
+    }
+
+    @Test
+    void descriptorsWrapExceptionsOfTheTarget() {
+        ClassDescriptor<Target> descriptor = new TestClassDescriptor<>(Target.class);
+        Target target = new Target();
+
+        assertThat(descriptor.getMethod("run", new Class<?>[0]).invoke(target))
+                .isSameAs(MethodInvocationResult.empty());
+        assertThat(descriptor.getMethod("twice", int.class).<Integer>invoke(target, 21).getValue()).isEqualTo(42);
+        assertThat(descriptor.getMethod("fail", new Class<?>[0]).invoke(target).getException())
+                .isInstanceOf(IOException.class).hasMessage("disk");
+        assertThat(descriptor.getField("value").set(target, 7)).isSameAs(FieldAccessResult.empty());
+        assertThat(target.value).isEqualTo(7);
+        assertThat(descriptor.getField("value").set(null, 7).getException()).isNotNull();
+        assertThat(descriptor.getConstructor().invoke().getValue()).isInstanceOf(Target.class);
+    }
+
+    @Test
+    void descriptorsLetErrorsPropagate() {
+        ClassDescriptor<Target> descriptor = new TestClassDescriptor<>(Target.class);
+
+        assertThatThrownBy(() -> descriptor.getMethod("overflow", new Class<?>[0]).invoke(new Target()))
+                .isInstanceOf(StackOverflowError.class).hasMessage("deep");
+        assertThatThrownBy(() -> descriptor.getConstructor(boolean.class).invoke(true))
+                .isInstanceOf(StackOverflowError.class).hasMessage("deep");
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.reflect4j.api.mapping;
+
+import io.github.reflect4j.annotations.R4jAlias;
+import io.github.reflect4j.annotations.R4jIgnore;
+import io.github.reflect4j.api.descriptor.DescriptorRegistry;
+import io.github.reflect4j.api.descriptor.TestClassDescriptor;
+import io.github.reflect4j.api.exception.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MapperTest {
+
+    public static class Source {
+        public int count = 3;
+        public Integer boxed = 7;
+        public Integer missing;
+        public short small = 5;
+        @R4jAlias("title")
+        public String label = "hello";
+        @R4jIgnore
+        public String secret = "hidden";
+        public List<String> tags = new ArrayList<>(List.of("b", "a", "b"));
+    }
+
+    public static class Target {
+        public long count;
+        public int boxed;
+        public int missing = -1;
+        public long small;
+        public String title;
+        public String secret;
+        public Set<String> tags;
+    }
+
+    public static class Node {
+        public String name;
+        public Node parent;
+        public List<Node> children = new ArrayList<>();
+
+        public Node() {
+        }
+
+        Node(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class NodeDto {
+        public String name;
+        public NodeDto parent;
+        public List<NodeDto> children;
+    }
+
+    public static class Holder {
+        public Object value = new Object();
+    }
+
+    public static class RejectingDto {
+        public RejectingDto() {
+            throw new IllegalStateException("rejected");
+        }
+    }
+
+    public static class RejectingHolder {
+        public RejectingDto value;
+    }
+
+    public static class ExplodingDto {
+        public ExplodingDto() {
+            throw new StackOverflowError("deep");
+        }
+    }
+
+    public static class HolderDto {
+        public ExplodingDto value;
+    }
+
+    private final Mapper mapper = Mapper.create(DescriptorRegistry.create(TestClassDescriptor::new));
+
+    @Test
+    void plansAreCompiledOncePerPairOfTypes() {
+        assertThat(mapper.plan(Source.class, Target.class)).isSameAs(mapper.plan(Source.class, Target.class));
+    }
+
+    @Test
+    void fieldsAreCopiedByNameAliasAndConversion() {
+        CopyPlan<Source, Target> plan = mapper.plan(Source.class, Target.class);
+
+        Target target = plan.map(new Source());
+
+        assertThat(plan.getMappedFields()).doesNotContain("secret");
+        assertThat(target.count).isEqualTo(3L);
+        assertThat(target.boxed).isEqualTo(7);
+        assertThat(target.missing).isEqualTo(-1);
+        assertThat(target.small).isEqualTo(5L);
+        assertThat(target.title).isEqualTo("hello");
+        assertThat(target.secret).isNull();
+        assertThat(target.tags).containsExactly("b", "a");
+    }
+
+    @Test
+    void nullSourcesMapToNull() {
+        assertThat(mapper.plan(Source.class, Target.class).map(null)).isNull();
+    }
+
+    @Test
+    void backReferencesAreMappedToTheSameCopy() {
+        Node root = new Node("root");
+        Node child = new Node("child");
+        child.parent = root;
+        root.children.add(child);
+        root.children.add(child);
+
+        NodeDto dto = mapper.plan(Node.class, NodeDto.class).map(root);
+
+        assertThat(dto.name).isEqualTo("root");
+        assertThat(dto.children).hasSize(2);
+        assertThat(dto.children.get(0)).isSameAs(dto.children.get(1));
+        assertThat(dto.children.get(0).name).isEqualTo("child");
+        assertThat(dto.children.get(0).parent).isSameAs(dto);
+    }
+
+    @Test
+    void selfReferencesAreMappedToTheCopyItself() {
+        Node node = new Node("self");
+        node.parent = node;
+
+        NodeDto dto = new NodeDto();
+        mapper.plan(Node.class, NodeDto.class).copy(node, dto);
+
+        assertThat(dto.parent).isSameAs(dto);
+    }
+
+    @Test
+    void exceptionsAreWrappedWithTheFailingField() {
+        assertThatThrownBy(() -> mapper.plan(Holder.class, RejectingHolder.class).map(new Holder()))
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining("RejectingHolder#value")
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void errorsPropagateUnwrapped() {
+        assertThatThrownBy(() -> mapper.plan(Holder.class, HolderDto.class).map(new Holder()))
+                .isInstanceOf(StackOverflowError.class)
+                .hasMessage("deep");
+    }
+}
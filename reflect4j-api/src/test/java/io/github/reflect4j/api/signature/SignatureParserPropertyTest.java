@@ -0,0 +1,273 @@
+package io.github.reflect4j.api.signature;
+
+import io.github.reflect4j.api.descriptor.ConstructorDescriptor;
+import io.github.reflect4j.api.descriptor.FieldDescriptor;
+import io.github.reflect4j.api.descriptor.MethodDescriptor;
+import io.github.reflect4j.api.exception.InvalidSignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+/// Property and fuzz tests of [SignatureParser] over the members of a set of JDK classes.
+///
+/// Every run uses fixed seeds, so failures are reproducible; the seed and input are part of
+/// every failure message. The members are described by proxies that answer the queries the
+/// parser makes straight from the reflected member.
+class SignatureParserPropertyTest {
+
+    private static final Class<?>[] CLASSES = {
+            String.class, StringBuilder.class, Math.class, Integer.class, ArrayList.class,
+            ConcurrentHashMap.class, Thread.class, Class.class, Character.class, Random.class
+    };
+
+    private static final String ALPHABET = "abcxyzABCLIJVZ<>init$_0123456789.,/;:#@()[] \t\"'\\";
+
+    private final SignatureParser parser = new SignatureParser();
+
+    @Test
+    void everyMethodSignatureMatchesItsMethod() {
+        for (MethodDescriptor method : methods()) {
+            String signature = method.getSignature();
+            String local = signature.substring(signature.indexOf('#') + 1);
+            String parameters = local.substring(0, local.lastIndexOf(')') + 1);
+            String jvm = method.getName() + MethodType.methodType(method.getReturnType(),
+                    method.getParameterTypes()).toMethodDescriptorString();
+
+            for (String form : List.of(signature, local, parameters, jvm)) {
+                assertThat(parser.parse(form).matches(method)).as(form).isTrue();
+                assertThat(parser.name()).as(form).isEqualTo(method.getName());
+                assertThat(parser.parameterCount()).as(form).isEqualTo(method.getParameterCount());
+            }
+            assertThat(parser.parse(jvm).isDescriptor()).as(jvm).isTrue();
+            assertThat(parser.parse(signature).owner()).isEqualTo(method.getDeclaringClass().getTypeName());
+        }
+    }
+
+    @Test
+    void everyConstructorAndFieldSignatureMatchesItsMember() {
+        for (Class<?> type : CLASSES) {
+            for (Constructor<?> declared : type.getDeclaredConstructors()) {
+                ConstructorDescriptor<?> constructor = describe(ConstructorDescriptor.class, declared);
+                String signature = constructor.getSignature();
+                String jvm = "<init>" + MethodType.methodType(void.class, constructor.getParameterTypes())
+                        .toMethodDescriptorString();
+                for (String form : List.of(signature, signature.substring(signature.indexOf('(')), jvm)) {
+                    assertThat(parser.parse(form).matches(constructor)).as(form).isTrue();
+                }
+            }
+            for (Field declared : type.getDeclaredFields()) {
+                FieldDescriptor field = describe(FieldDescriptor.class, declared);
+                String signature = field.getSignature();
+                String jvm = field.getName() + ":" + field.getType().descriptorString();
+                for (String form : List.of(signature, field.getName(), jvm)) {
+                    assertThat(parser.parse(form).matches(field)).as(form).isTrue();
+                }
+            }
+        }
+    }
+
+    @Test
+    void signatureMatchesNoOtherOverload() {
+        List<MethodDescriptor> methods = methods();
+        for (MethodDescriptor method : methods) {
+            parser.parse(method.getSignature());
+            for (MethodDescriptor other : methods) {
+                boolean same = other.getDeclaringClass() == method.getDeclaringClass()
+                        && other.getName().equals(method.getName())
+                        && other.getParameterTypes().equals(method.getParameterTypes())
+                        && other.getReturnType() == method.getReturnType();
+                assertThat(parser.matches(other)).as(method + " vs " + other).isEqualTo(same);
+            }
+        }
+    }
+
+    @Test
+    void whitespaceBetweenTokensIsIgnored() {
+        Random random = new Random(7);
+        for (MethodDescriptor method : methods()) {
+            String spaced = insertWhitespace(method.getSignature(), random);
+            assertThat(parser.parse(spaced).matches(method)).as(spaced).isTrue();
+        }
+    }
+
+    @Test
+    void mutatedSignaturesParseOrFailCleanly() {
+        List<String> seeds = new ArrayList<>();
+        for (MethodDescriptor method : methods()) {
+            seeds.add(method.getSignature());
+            seeds.add(method.getName() + MethodType.methodType(method.getReturnType(),
+                    method.getParameterTypes()).toMethodDescriptorString());
+        }
+        seeds.add("@java.lang.Deprecated(since = \"9\", forRemoval = true)");
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            String seed = seeds.get(random.nextInt(seeds.size()));
+            String input = mutate(seed, random);
+            checkTotal(input);
+        }
+    }
+
+    @Test
+    void randomInputParsesOrFailsCleanly() {
+        Random random = new Random(1234);
+        for (int i = 0; i < 50_000; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(24);
+            for (int j = 0; j < length; j++) {
+                input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            checkTotal(input.toString());
+        }
+    }
+
+    @Test
+    void failedParseLeavesParserClearAndReusable() {
+        assertThatThrownBy(() -> parser.parse("process(Ljava/lang/String I)V"))
+                .isInstanceOf(InvalidSignatureException.class);
+        assertThat(parser.hasParameters()).isFalse();
+        assertThat(parser.name()).isEmpty();
+        assertThat(parser.toString()).isEqualTo("SignatureParser[]");
+
+        assertThat(parser.tryParse("process(java.lang.String, int):void")).isTrue();
+        assertThat(parser.parameterCount()).isEqualTo(2);
+        assertThat(parser.parameterType(0)).isEqualTo("java.lang.String");
+        assertThat(parser.returnType()).isEqualTo("void");
+    }
+
+    @Test
+    void manyParametersGrowTheBuffer() {
+        StringBuilder signature = new StringBuilder("m(");
+        for (int i = 0; i < 100; i++) {
+            signature.append(i == 0 ? "" : ", ").append("int[][]");
+        }
+        parser.parse(signature.append(')'));
+        assertThat(parser.parameterCount()).isEqualTo(100);
+        assertThat(parser.parameterType(99)).isEqualTo("int");
+    }
+
+    /// Parsing must either succeed or throw [InvalidSignatureException], and [SignatureParser#tryParse]
+    /// must agree; accessors of a parsed signature must not throw.
+    private void checkTotal(String input) {
+        boolean parsed;
+        try {
+            parser.parse(input);
+            parsed = true;
+        } catch (InvalidSignatureException e) {
+            parsed = false;
+        } catch (RuntimeException e) {
+            throw new AssertionError("Unexpected " + e + " for input '" + input + "'", e);
+        }
+        if (parsed) {
+            try {
+                parser.owner();
+                parser.name();
+                parser.returnType();
+                for (int i = 0; i < parser.parameterCount(); i++) {
+                    parser.parameterType(i);
+                }
+                parser.toString();
+            } catch (RuntimeException e) {
+                fail("Accessor failed for input '" + input + "'", e);
+            }
+        }
+        assertThat(parser.tryParse(input)).as(input).isEqualTo(parsed);
+        parser.clear();
+    }
+
+    private static String mutate(String seed, Random random) {
+        StringBuilder s = new StringBuilder(seed);
+        int edits = 1 + random.nextInt(3);
+        for (int i = 0; i < edits; i++) {
+            int at = s.isEmpty() ? 0 : random.nextInt(s.length());
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            switch (random.nextInt(4)) {
+                case 0 -> s.insert(at, c);
+                case 1 -> {
+                    if (!s.isEmpty()) {
+                        s.deleteCharAt(at);
+                    }
+                }
+                case 2 -> {
+                    if (!s.isEmpty()) {
+                        s.setCharAt(at, c);
+                    }
+                }
+                default -> s.setLength(at);
+            }
+        }
+        return s.toString();
+    }
+
+    /// Inserts spaces and tabs next to the separators of a signature.
+    private static String insertWhitespace(String signature, Random random) {
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < signature.length(); i++) {
+            char c = signature.charAt(i);
+            boolean separator = "#(),:[]".indexOf(c) >= 0;
+            if (separator && random.nextBoolean()) {
+                s.append(random.nextBoolean() ? ' ' : '\t');
+            }
+            s.append(c);
+            if (separator && random.nextBoolean()) {
+                s.append(' ');
+            }
+        }
+        return s.toString();
+    }
+
+    private static List<MethodDescriptor> methods() {
+        List<MethodDescriptor> methods = new ArrayList<>();
+        for (Class<?> type : CLASSES) {
+            for (Method method : type.getDeclaredMethods()) {
+                methods.add(describe(MethodDescriptor.class, method));
+            }
+        }
+        return methods;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <D> D describe(Class<D> kind, Member member) {
+        return (D) Proxy.newProxyInstance(kind.getClassLoader(), new Class<?>[]{kind},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getName" -> member instanceof Constructor<?> ? member.getDeclaringClass().getSimpleName()
+                            : member.getName();
+                    case "getSignature" -> signature(member);
+                    case "getDeclaringClass" -> member.getDeclaringClass();
+                    case "getType" -> ((Field) member).getType();
+                    case "getReturnType" -> ((Method) member).getReturnType();
+                    case "getParameterTypes" -> List.of(((Executable) member).getParameterTypes());
+                    case "getParameterCount" -> ((Executable) member).getParameterCount();
+                    case "toString" -> member.toString();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static String signature(Member member) {
+        String owner = member.getDeclaringClass().getTypeName();
+        if (member instanceof Field field) {
+            return owner + "#" + field.getName() + ":" + field.getType().getTypeName();
+        }
+        String parameters = Arrays.stream(((Executable) member).getParameterTypes())
+                .map(Class::getTypeName).collect(Collectors.joining(", ", "(", ")"));
+        if (member instanceof Method method) {
+            return owner + "#" + method.getName() + parameters + ":" + method.getReturnType().getTypeName();
+        }
+        return owner + parameters;
+    }
+}
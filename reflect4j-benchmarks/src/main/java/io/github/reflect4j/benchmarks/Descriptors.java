@@ -0,0 +1,422 @@
+package io.github.reflect4j.benchmarks;
+
+import io.github.reflect4j.api.descriptor.AbstractAnnotationDescriptor;
+import io.github.reflect4j.api.descriptor.AbstractClassDescriptor;
+import io.github.reflect4j.api.descriptor.AnnotationDescriptor;
+import io.github.reflect4j.api.descriptor.ClassDescriptor;
+import io.github.reflect4j.api.descriptor.ConstructorDescriptor;
+import io.github.reflect4j.api.descriptor.FieldDescriptor;
+import io.github.reflect4j.api.descriptor.MethodDescriptor;
+import io.github.reflect4j.api.invoke.ConstructorInvoker;
+import io.github.reflect4j.api.invoke.FieldAccessor;
+import io.github.reflect4j.api.invoke.FieldHandles;
+import io.github.reflect4j.api.invoke.InvocationEngine;
+import io.github.reflect4j.api.invoke.Invocations;
+import io.github.reflect4j.api.invoke.MethodInvoker;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/// # Descriptors
+///
+/// Concrete descriptors the benchmarks run against.
+///
+/// Reflect4j itself ships only the skeletal [AbstractClassDescriptor], and the descriptors of
+/// the API tests are proxies whose dispatch would dominate a call of a few nanoseconds. These
+/// are plain final classes that bind their invoker once, so a benchmark measures Reflect4j's
+/// own code. Members answer no annotation queries, and the empty class and annotation
+/// descriptors are not available; none of the benchmarks needs them.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class Descriptors {
+
+    private Descriptors() {
+    }
+
+    /// Returns a new descriptor for the given class that binds its members with the default engine.
+    static <T> ClassDescriptor<T> of(Class<T> type) {
+        return new PlainClass<>(type);
+    }
+
+    /// Returns a new descriptor for the given method that binds it with the default engine.
+    static MethodDescriptor method(Method method) {
+        return new PlainMethod(method, InvocationEngine.getDefault());
+    }
+
+    /// Returns a new descriptor for the given field that binds it with the default engine.
+    static FieldDescriptor field(Field field) {
+        return new PlainField(field, InvocationEngine.getDefault());
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("not needed by the benchmarks");
+    }
+
+    private static final class PlainClass<T> extends AbstractClassDescriptor<T> {
+
+        private static final FieldDescriptor EMPTY_FIELD = new PlainField(null, InvocationEngine.getDefault());
+        private static final MethodDescriptor EMPTY_METHOD = new PlainMethod(null, InvocationEngine.getDefault());
+        private static final ConstructorDescriptor<?> EMPTY_CONSTRUCTOR =
+                new PlainConstructor<>(null, InvocationEngine.getDefault());
+
+        PlainClass(Class<T> type) {
+            super(type);
+        }
+
+        @Override
+        protected FieldDescriptor describe(Field field) {
+            return new PlainField(field, InvocationEngine.getDefault());
+        }
+
+        @Override
+        protected MethodDescriptor describe(Method method) {
+            return new PlainMethod(method, InvocationEngine.getDefault());
+        }
+
+        @Override
+        protected ConstructorDescriptor<T> describe(Constructor<T> constructor) {
+            return new PlainConstructor<>(constructor, InvocationEngine.getDefault());
+        }
+
+        @Override
+        protected <A extends Annotation> AnnotationDescriptor<A> describe(A annotation) {
+            return new PlainAnnotation<>(annotation);
+        }
+
+        @Override
+        protected ClassDescriptor<?> describe(Class<?> type) {
+            return new PlainClass<>(type);
+        }
+
+        @Override
+        protected FieldDescriptor emptyField() {
+            return EMPTY_FIELD;
+        }
+
+        @Override
+        protected MethodDescriptor emptyMethod() {
+            return EMPTY_METHOD;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected ConstructorDescriptor<T> emptyConstructor() {
+            return (ConstructorDescriptor<T>) EMPTY_CONSTRUCTOR;
+        }
+
+        @Override
+        protected <A extends Annotation> AnnotationDescriptor<A> emptyAnnotation() {
+            throw unsupported();
+        }
+
+        @Override
+        protected ClassDescriptor<?> emptyClass() {
+            throw unsupported();
+        }
+    }
+
+    /// State and queries shared by fields, methods and constructors; `member` is `null` when empty.
+    private abstract static class PlainMember<M extends Member & AnnotatedElement> {
+
+        final M member;
+        final InvocationEngine engine;
+
+        PlainMember(M member, InvocationEngine engine) {
+            this.member = member;
+            this.engine = engine;
+        }
+
+        public String getName() {
+            return member instanceof Constructor<?> ? member.getDeclaringClass().getSimpleName() : member.getName();
+        }
+
+        public String getSignature() {
+            String owner = member.getDeclaringClass().getTypeName();
+            if (member instanceof Field field) {
+                return owner + "#" + field.getName() + ":" + field.getType().getTypeName();
+            }
+            String parameters = Arrays.stream(((Executable) member).getParameterTypes())
+                    .map(Class::getTypeName).collect(Collectors.joining(", ", "(", ")"));
+            if (member instanceof Method method) {
+                return owner + "#" + method.getName() + parameters + ":" + method.getReturnType().getTypeName();
+            }
+            return owner + parameters;
+        }
+
+        public M unwrap() {
+            return member;
+        }
+
+        public Class<?> getDeclaringClass() {
+            return member.getDeclaringClass();
+        }
+
+        public int getModifiers() {
+            return member.getModifiers();
+        }
+
+        public <A extends Annotation> AnnotationDescriptor<A> getAnnotation(Class<A> type) {
+            throw unsupported();
+        }
+
+        public AnnotationDescriptor<?> getAnnotation(String signature) {
+            throw unsupported();
+        }
+
+        public <A extends Annotation> boolean hasAnnotation(Class<A> type) {
+            throw unsupported();
+        }
+
+        public boolean hasAnnotation(String signature) {
+            throw unsupported();
+        }
+
+        public List<? extends AnnotationDescriptor<?>> getAnnotations() {
+            throw unsupported();
+        }
+
+        public boolean isStatic() {
+            return Modifier.isStatic(member.getModifiers());
+        }
+
+        public boolean isFinal() {
+            return Modifier.isFinal(member.getModifiers());
+        }
+
+        public boolean isPublic() {
+            return Modifier.isPublic(member.getModifiers());
+        }
+
+        public boolean isProtected() {
+            return Modifier.isProtected(member.getModifiers());
+        }
+
+        public boolean isPrivate() {
+            return Modifier.isPrivate(member.getModifiers());
+        }
+
+        public boolean isPackagePrivate() {
+            return (member.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED | Modifier.PRIVATE)) == 0;
+        }
+
+        public InvocationEngine getInvocationEngine() {
+            return engine;
+        }
+    }
+
+    private static final class PlainMethod extends PlainMember<Method> implements MethodDescriptor {
+
+        private final List<Class<?>> parameterTypes;
+        private volatile MethodInvoker invoker;
+
+        PlainMethod(Method method, InvocationEngine engine) {
+            super(method, engine);
+            this.parameterTypes = method == null ? List.of() : List.of(method.getParameterTypes());
+        }
+
+        @Override
+        public Class<?> getReturnType() {
+            return member.getReturnType();
+        }
+
+        @Override
+        public List<Class<?>> getParameterTypes() {
+            return parameterTypes;
+        }
+
+        @Override
+        public int getParameterCount() {
+            return member.getParameterCount();
+        }
+
+        @Override
+        public boolean isVarArgs() {
+            return member.isVarArgs();
+        }
+
+        @Override
+        public boolean isAbstract() {
+            return Modifier.isAbstract(member.getModifiers());
+        }
+
+        @Override
+        public boolean isSynchronized() {
+            return Modifier.isSynchronized(member.getModifiers());
+        }
+
+        @Override
+        public boolean isNative() {
+            return Modifier.isNative(member.getModifiers());
+        }
+
+        @Override
+        public boolean isBridge() {
+            return member.isBridge();
+        }
+
+        @Override
+        public boolean isSynthetic() {
+            return member.isSynthetic();
+        }
+
+        @Override
+        public MethodDescriptor withInvocationEngine(InvocationEngine engine) {
+            return engine == this.engine ? this : new PlainMethod(member, engine);
+        }
+
+        @Override
+        public MethodInvoker getInvoker() {
+            MethodInvoker result = invoker;
+            if (result == null) {
+                invoker = result = engine.bind(member);
+            }
+            return result;
+        }
+    }
+
+    private static final class PlainConstructor<T> extends PlainMember<Constructor<T>>
+            implements ConstructorDescriptor<T> {
+
+        private final List<Class<?>> parameterTypes;
+        private volatile ConstructorInvoker invoker;
+
+        PlainConstructor(Constructor<T> constructor, InvocationEngine engine) {
+            super(constructor, engine);
+            this.parameterTypes = constructor == null ? List.of() : List.of(constructor.getParameterTypes());
+        }
+
+        @Override
+        public List<Class<?>> getParameterTypes() {
+            return parameterTypes;
+        }
+
+        @Override
+        public int getParameterCount() {
+            return member.getParameterCount();
+        }
+
+        @Override
+        public boolean isVarArgs() {
+            return member.isVarArgs();
+        }
+
+        @Override
+        public boolean isSynthetic() {
+            return member.isSynthetic();
+        }
+
+        @Override
+        public ConstructorDescriptor<T> withInvocationEngine(InvocationEngine engine) {
+            return engine == this.engine ? this : new PlainConstructor<>(member, engine);
+        }
+
+        @Override
+        public ConstructorInvoker getInvoker() {
+            ConstructorInvoker result = invoker;
+            if (result == null) {
+                invoker = result = engine.bind(member);
+            }
+            return result;
+        }
+    }
+
+    private static final class PlainField extends PlainMember<Field> implements FieldDescriptor {
+
+        private volatile FieldAccessor accessor;
+        private volatile VarHandle varHandle;
+
+        PlainField(Field field, InvocationEngine engine) {
+            super(field, engine);
+        }
+
+        @Override
+        public Class<?> getType() {
+            return member.getType();
+        }
+
+        @Override
+        public Object get(Object obj) {
+            try {
+                return getAccessor().get(obj);
+            } catch (Throwable e) {
+                throw Invocations.unchecked(e);
+            }
+        }
+
+        @Override
+        public VarHandle getVarHandle() {
+            VarHandle result = varHandle;
+            if (result == null) {
+                varHandle = result = FieldHandles.varHandle(member);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isVolatile() {
+            return Modifier.isVolatile(member.getModifiers());
+        }
+
+        @Override
+        public boolean isTransient() {
+            return Modifier.isTransient(member.getModifiers());
+        }
+
+        @Override
+        public FieldDescriptor withInvocationEngine(InvocationEngine engine) {
+            return engine == this.engine ? this : new PlainField(member, engine);
+        }
+
+        @Override
+        public FieldAccessor getAccessor() {
+            FieldAccessor result = accessor;
+            if (result == null) {
+                accessor = result = engine.bind(member);
+            }
+            return result;
+        }
+    }
+
+    private static final class PlainAnnotation<A extends Annotation> extends AbstractAnnotationDescriptor<A> {
+
+        PlainAnnotation(A annotation) {
+            super(annotation);
+        }
+
+        @Override
+        public AnnotationDescriptor<?> getMetaAnnotation(String signature) {
+            throw unsupported();
+        }
+
+        @Override
+        public <M extends Annotation> AnnotationDescriptor<M> getMetaAnnotation(Class<M> annotationType) {
+            throw unsupported();
+        }
+
+        @Override
+        public List<? extends AnnotationDescriptor<?>> getMetaAnnotations() {
+            throw unsupported();
+        }
+
+        @Override
+        public boolean hasMetaAnnotation(Class<? extends Annotation> annotationType) {
+            throw unsupported();
+        }
+
+        @Override
+        public boolean hasMetaAnnotation(String signature) {
+            throw unsupported();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.reflect4j.benchmarks;
+
+import io.github.reflect4j.api.descriptor.ClassDescriptor;
+import io.github.reflect4j.api.descriptor.MethodDescriptor;
+import io.github.reflect4j.api.invoke.MethodInvocationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/// # FixedArityInvokeBenchmark
+///
+/// Compares the entry points of [MethodDescriptor] for a method `int add(int, int)`: the
+/// varargs [MethodDescriptor#invoke(Object, Object...)] that wraps its result, the fixed-arity
+/// [MethodDescriptor#invoke2(Object, Object, Object)] and the primitive-return
+/// [MethodDescriptor#invokeInt(Object, Object, Object)], plus a `void` call through
+/// [MethodDescriptor#invokeVoid(Object, Object, Object)].
+///
+/// Run with `-prof gc`: once warmed up, `gc.alloc.rate.norm` should be the argument array, the
+/// boxed result and the result wrapper for [#invoke()], the boxed result alone for
+/// [#invoke2()], and zero for [#invokeInt()] and [#invokeVoid()]. The arguments are boxed once
+/// up front and the sum lies outside the [Integer] cache, so no boxing is hidden by it.
+///
+/// ```
+/// java -jar reflect4j-benchmarks/target/benchmarks.jar FixedArityInvokeBenchmark -prof gc
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FixedArityInvokeBenchmark {
+
+    /// Target of every call.
+    public static class Calculator {
+        private int total;
+
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        public void accumulate(int a, int b) {
+            total += a + b;
+        }
+    }
+
+    private final Calculator calculator = new Calculator();
+    private final Object a = 1_000;
+    private final Object b = 2_000;
+    private MethodDescriptor add;
+    private MethodDescriptor accumulate;
+
+    @Setup
+    public void setUp() {
+        ClassDescriptor<Calculator> descriptor = Descriptors.of(Calculator.class);
+        add = descriptor.getMethod("add", int.class, int.class);
+        accumulate = descriptor.getMethod("accumulate", int.class, int.class);
+    }
+
+    @Benchmark
+    public MethodInvocationResult<Integer> invoke() {
+        return add.invoke(calculator, a, b);
+    }
+
+    @Benchmark
+    public Integer invoke2() {
+        return add.invoke2(calculator, a, b);
+    }
+
+    @Benchmark
+    public int invokeInt() {
+        return add.invokeInt(calculator, a, b);
+    }
+
+    @Benchmark
+    public void invokeVoid() {
+        accumulate.invokeVoid(calculator, a, b);
+    }
+}
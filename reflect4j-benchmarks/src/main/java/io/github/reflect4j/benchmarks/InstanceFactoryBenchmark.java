@@ -0,0 +1,123 @@
+package io.github.reflect4j.benchmarks;
+
+import io.github.reflect4j.api.descriptor.ClassDescriptor;
+import io.github.reflect4j.api.descriptor.ConstructorDescriptor;
+import io.github.reflect4j.api.invoke.ConstructorInvocationResult;
+import io.github.reflect4j.api.invoke.ConstructorInvoker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/// # InstanceFactoryBenchmark
+///
+/// Compares ways of creating a plugin object: `new`, a `Plugin::new` lambda, the [Supplier] and
+/// [BiFunction] that
+/// [ConstructorDescriptor#asSupplier()] and [ConstructorDescriptor#asBiFunction()] spin through
+/// `LambdaMetafactory`, the fixed-arity [ConstructorInvoker#invoke0()] of the bound invoker, the
+/// wrapping [ConstructorDescriptor#invoke(Object...)], and [Constructor#newInstance(Object...)].
+///
+/// The factories are obtained once and kept in fields, as a caller would keep them. Calling a
+/// [Supplier] held in a field costs a type check over `new`, so [#supplier()] is compared with
+/// [#lambda()], which pays the same: the two should be within a few percent of each other. Run
+/// with `-prof gc`: every variant but [#invoke()] allocates the instance alone.
+///
+/// ```
+/// java -jar reflect4j-benchmarks/target/benchmarks.jar InstanceFactoryBenchmark -prof gc
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InstanceFactoryBenchmark {
+
+    /// The object every benchmark creates.
+    public static class Plugin {
+        private final String name;
+        private final int priority;
+
+        public Plugin() {
+            this("default", 0);
+        }
+
+        public Plugin(String name, int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+    }
+
+    private final String name = "plugin";
+    private final Integer priority = 7;
+    private final Supplier<Plugin> lambda = Plugin::new;
+    private Supplier<Plugin> supplier;
+    private BiFunction<String, Integer, Plugin> biFunction;
+    private ConstructorDescriptor<Plugin> descriptor;
+    private ConstructorInvoker invoker;
+    private Constructor<Plugin> constructor;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        ClassDescriptor<Plugin> type = Descriptors.of(Plugin.class);
+        descriptor = type.getConstructor();
+        supplier = descriptor.asSupplier();
+        biFunction = type.getConstructor(String.class, int.class).asBiFunction();
+        invoker = descriptor.getInvoker();
+        constructor = Plugin.class.getConstructor();
+    }
+
+    @Benchmark
+    public Plugin direct() {
+        return new Plugin();
+    }
+
+    @Benchmark
+    public Plugin lambda() {
+        return lambda.get();
+    }
+
+    @Benchmark
+    public Plugin supplier() {
+        return supplier.get();
+    }
+
+    @Benchmark
+    public Plugin directWithArguments() {
+        return new Plugin(name, priority);
+    }
+
+    @Benchmark
+    public Plugin biFunction() {
+        return biFunction.apply(name, priority);
+    }
+
+    @Benchmark
+    public Object invoke0() throws Throwable {
+        return invoker.invoke0();
+    }
+
+    @Benchmark
+    public ConstructorInvocationResult<Plugin> invoke() {
+        return descriptor.invoke();
+    }
+
+    @Benchmark
+    public Plugin newInstance() throws ReflectiveOperationException {
+        return constructor.newInstance();
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.reflect4j.benchmarks;
+
+import io.github.reflect4j.api.invoke.InvocationEngine;
+import io.github.reflect4j.api.invoke.MethodInvoker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/// # InvocationEngineBenchmark
+///
+/// Compares a call through each [InvocationEngine] with [Method#invoke(Object, Object...)] and
+/// with a direct call, for an instance method taking a reference and a primitive argument.
+///
+/// Every engine goes through the spread entry point [MethodInvoker#invoke(Object, Object[])] with
+/// a preallocated argument array, like [Method#invoke(Object, Object...)] does here, so the
+/// figures compare the dispatch alone. Once warmed up, [InvocationEngine#METHOD_HANDLE] and
+/// [InvocationEngine#GENERATED] should beat [Method#invoke(Object, Object...)]; most of what
+/// separates them from [#direct()] is boxing the `int` result.
+///
+/// ```
+/// java -jar reflect4j-benchmarks/target/benchmarks.jar InvocationEngineBenchmark
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InvocationEngineBenchmark {
+
+    /// Target of every call.
+    public static class Handler {
+        private int handled;
+
+        public int handle(String request, int weight) {
+            handled += weight;
+            return request.length() + handled;
+        }
+    }
+
+    /// Invoker bound by one engine; only [#engine(Bound)] is run once per engine.
+    @State(Scope.Benchmark)
+    public static class Bound {
+        @Param({"REFLECTION", "METHOD_HANDLE", "GENERATED"})
+        public InvocationEngine engine;
+
+        MethodInvoker invoker;
+
+        @Setup
+        public void setUp() throws NoSuchMethodException {
+            invoker = engine.bind(Handler.class.getMethod("handle", String.class, int.class));
+        }
+    }
+
+    private final Handler handler = new Handler();
+    private final Object[] args = {"request", 3};
+    private String request = "request";
+    private int weight = 3;
+    private Method method;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = Handler.class.getMethod("handle", String.class, int.class);
+    }
+
+    @Benchmark
+    public int direct() {
+        return handler.handle(request, weight);
+    }
+
+    @Benchmark
+    public Object methodInvoke() throws ReflectiveOperationException {
+        return method.invoke(handler, args);
+    }
+
+    @Benchmark
+    public Object engine(Bound bound) throws Throwable {
+        return bound.invoker.invoke(handler, args);
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.reflect4j.benchmarks;
+
+import io.github.reflect4j.api.descriptor.FieldDescriptor;
+import io.github.reflect4j.api.descriptor.MethodDescriptor;
+import io.github.reflect4j.api.invoke.FieldAccessResult;
+import io.github.reflect4j.api.invoke.MethodInvocationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/// # InvocationResultBenchmark
+///
+/// Measures what the result wrappers cost per call: a successful `void`
+/// [MethodDescriptor#invoke(Object, Object...)] and a successful [FieldDescriptor#set(Object, Object)],
+/// which both return the shared empty result, a value-returning invoke whose result is consumed
+/// on the spot, and an invoke of a method that throws.
+///
+/// Run with `-prof gc`: once warmed up, `gc.alloc.rate.norm` should be zero for [#invokeVoid()]
+/// and [#set()], and for [#invokeValue()] as long as the JIT scalar-replaces its result.
+/// [#invokeFailure()] allocates the failure result and no stack trace; the exception thrown by
+/// the target is created once, so it is not charged to the call.
+///
+/// ```
+/// java -jar reflect4j-benchmarks/target/benchmarks.jar InvocationResultBenchmark -prof gc
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InvocationResultBenchmark {
+
+    /// Target of every call.
+    public static class Counter {
+        private static final IllegalStateException FAILURE = new IllegalStateException("failure");
+
+        public int count;
+
+        public void increment() {
+            count++;
+        }
+
+        public int current() {
+            return count;
+        }
+
+        public void fail() {
+            throw FAILURE;
+        }
+    }
+
+    private final Counter counter = new Counter();
+    private final Object value = 1_000;
+    private MethodDescriptor increment;
+    private MethodDescriptor current;
+    private MethodDescriptor fail;
+    private FieldDescriptor count;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException, NoSuchFieldException {
+        increment = Descriptors.method(Counter.class.getMethod("increment"));
+        current = Descriptors.method(Counter.class.getMethod("current"));
+        fail = Descriptors.method(Counter.class.getMethod("fail"));
+        count = Descriptors.field(Counter.class.getField("count"));
+    }
+
+    @Benchmark
+    public MethodInvocationResult<Void> invokeVoid() {
+        return increment.invoke(counter);
+    }
+
+    @Benchmark
+    public FieldAccessResult<Object> set() {
+        return count.set(counter, value);
+    }
+
+    @Benchmark
+    public boolean invokeValue() {
+        MethodInvocationResult<Integer> result = current.invoke(counter);
+        return result.isSuccess() && result.getValue() >= 0;
+    }
+
+    @Benchmark
+    public Throwable invokeFailure() {
+        return fail.invoke(counter).getException();
+    }
+}
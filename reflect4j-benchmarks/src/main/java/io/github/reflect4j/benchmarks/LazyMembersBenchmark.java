@@ -0,0 +1,102 @@
+package io.github.reflect4j.benchmarks;
+
+import io.github.reflect4j.api.descriptor.FieldDescriptor;
+import io.github.reflect4j.api.descriptor.MethodDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/// # LazyMembersBenchmark
+///
+/// Measures what a new [io.github.reflect4j.api.descriptor.ClassDescriptor] costs for a large
+/// generated class: the first lookup of a single field or method, which probes the class
+/// without describing its other members, against describing every field or method up front.
+///
+/// The class is compiled at setup with the system Java compiler, so the benchmark needs a JDK.
+/// It declares `members` members, half of them fields `f0`, `f1`, ... and half no-arg methods
+/// `m0`, `m1`, .... Both variants share the JVM's own reflection cache of the class, so the
+/// difference is what Reflect4j materializes. Run with `-prof gc` for the bytes each variant
+/// allocates, which is what a descriptor retains on the heap at most: a few kilobytes for
+/// [#firstField()] and [#firstMethod()] whatever `members` is, against hundreds of kilobytes,
+/// growing with `members`, for [#allFields()] and [#allMethods()].
+///
+/// ```
+/// java -jar reflect4j-benchmarks/target/benchmarks.jar LazyMembersBenchmark -prof gc
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LazyMembersBenchmark {
+
+    private static final Class<?>[] NO_PARAMETERS = {};
+
+    @Param("5000")
+    public int members;
+
+    private Class<?> type;
+    private String field;
+    private String method;
+
+    @Setup
+    public void setUp() throws IOException, ClassNotFoundException {
+        Path dir = Files.createTempDirectory("reflect4j-benchmarks");
+        Path source = dir.resolve("Generated.java");
+        StringBuilder code = new StringBuilder("public class Generated {\n");
+        for (int i = 0; i < members / 2; i++) {
+            code.append("    public int f").append(i).append(";\n");
+            code.append("    public int m").append(i).append("() { return f").append(i).append("; }\n");
+        }
+        Files.writeString(source, code.append("}\n"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null || compiler.run(null, null, null, "-d", dir.toString(), source.toString()) != 0) {
+            throw new IllegalStateException("Cannot compile the generated class; run on a JDK");
+        }
+        type = new URLClassLoader(new URL[]{dir.toUri().toURL()}, null).loadClass("Generated");
+        field = "f" + (members / 2 - 1);
+        method = "m" + (members / 2 - 1);
+    }
+
+    @Benchmark
+    public FieldDescriptor firstField() {
+        return Descriptors.of(type).getField(field);
+    }
+
+    @Benchmark
+    public MethodDescriptor firstMethod() {
+        return Descriptors.of(type).getMethod(method, NO_PARAMETERS);
+    }
+
+    @Benchmark
+    public List<FieldDescriptor> allFields() {
+        return Descriptors.of(type).getAllFields();
+    }
+
+    @Benchmark
+    public List<MethodDescriptor> allMethods() {
+        return Descriptors.of(type).getAllMethods();
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.reflect4j.benchmarks;
+
+import io.github.reflect4j.api.descriptor.MethodDescriptor;
+import io.github.reflect4j.api.signature.SignatureParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/// # SignatureParserBenchmark
+///
+/// Measures parsing a method signature and matching it against a [MethodDescriptor], in both
+/// notations accepted by [SignatureParser], against a regular-expression parser that splits the
+/// parameter list into substrings.
+///
+/// Run with `-prof gc`: once warmed up, [#parseHuman()] and [#parseDescriptor()] allocate
+/// nothing, while [#regex()] allocates a matcher and a string per token.
+///
+/// ```
+/// java -jar reflect4j-benchmarks/target/benchmarks.jar SignatureParserBenchmark -prof gc
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SignatureParserBenchmark {
+
+    /// Declares the method the signatures denote.
+    public static class Service {
+        public int process(String request, int weight, long[] ids) {
+            return weight;
+        }
+    }
+
+    private static final Pattern SIGNATURE =
+            Pattern.compile("\\s*(?:([\\w.$]+)\\s*#)?\\s*(\\w+)\\s*\\(([^)]*)\\)\\s*(?::\\s*([\\w.$\\[\\]]+))?\\s*");
+
+    private final SignatureParser parser = new SignatureParser();
+    private String human = "io.github.reflect4j.benchmarks.SignatureParserBenchmark$Service"
+            + "#process(java.lang.String, int, long[]):int";
+    private String descriptor = "process(Ljava/lang/String;I[J)I";
+    private MethodDescriptor method;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = Descriptors.method(Service.class.getMethod("process", String.class, int.class, long[].class));
+    }
+
+    @Benchmark
+    public boolean parseHuman() {
+        return parser.parse(human).matches(method);
+    }
+
+    @Benchmark
+    public boolean parseDescriptor() {
+        return parser.parse(descriptor).matches(method);
+    }
+
+    @Benchmark
+    public boolean regex() {
+        Matcher matcher = SIGNATURE.matcher(human);
+        if (!matcher.matches() || !matcher.group(2).equals(method.getName())) {
+            return false;
+        }
+        String returnType = matcher.group(4);
+        if (returnType != null && !returnType.equals(method.getReturnType().getTypeName())) {
+            return false;
+        }
+        String[] parameters = matcher.group(3).split(",");
+        List<Class<?>> parameterTypes = method.getParameterTypes();
+        if (parameters.length != parameterTypes.size()) {
+            return false;
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            if (!parameters[i].trim().equals(parameterTypes.get(i).getTypeName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
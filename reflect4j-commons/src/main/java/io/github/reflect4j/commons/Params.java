@@ -1,7 +1,13 @@
 package io.github.reflect4j.commons;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
 
 /// # Params
 ///
@@ -16,6 +22,13 @@ import java.util.Objects;
 /// This class is typically used in conjunction with reflection utility methods
 /// to perform dynamic method or constructor lookups.
 ///
+/// As a lookup key, a `Params` hashes in constant time, since its hash is computed once, and can
+/// be read through [#get(int)], [#forEach(Consumer)] and [#matches(List)] without copying its
+/// types. Keys used over and over should be obtained from [#interned(Class...)] or [#intern()]:
+/// interned instances are canonical, so equal keys are the same object and compare by reference.
+/// The intern pool holds its instances weakly, so it never keeps a class or its class loader
+/// alive; an instance leaves the pool once it is no longer used.
+///
 /// @author Aliabbos Ashurov
 /// @since 1.0.0
 public final class Params {
@@ -23,13 +36,17 @@ public final class Params {
     private static final Class<?>[] EMPTY_TYPES = new Class<?>[0];
     private static final Params EMPTY = new Params(EMPTY_TYPES);
 
+    private static final Map<Params, WeakReference<Params>> POOL = Collections.synchronizedMap(new WeakHashMap<>());
+
     private final Class<?>[] types;
+    private final int hash;
 
     /// Private constructor to enforce factory method usage
     private Params(Class<?>... types) {
         this.types = (types == null || types.length == 0)
                 ? EMPTY_TYPES
                 : types.clone();
+        this.hash = Arrays.hashCode(this.types);
     }
 
     /// Returns a [Params] instance with one or more types
@@ -40,6 +57,16 @@ public final class Params {
         return new Params(types);
     }
 
+    /// Returns the canonical [Params] instance for the given types.
+    ///
+    /// Equal type lists always yield the same instance for as long as it is in use.
+    ///
+    /// @param types the parameter types
+    /// @return the interned [Params] instance encapsulating the given types
+    public static Params interned(Class<?>... types) {
+        return of(types).intern();
+    }
+
     /// Returns an empty parameter list (no arguments)
     ///
     /// @return a [Params] instance representing zero parameters
@@ -47,6 +74,27 @@ public final class Params {
         return EMPTY;
     }
 
+    /// Returns the canonical instance equal to this parameter list.
+    ///
+    /// If an equal instance is already in the intern pool, that instance is returned; otherwise
+    /// this instance is added to the pool and returned.
+    ///
+    /// @return the interned [Params] instance equal to this one
+    public Params intern() {
+        if (types.length == 0) {
+            return EMPTY;
+        }
+        synchronized (POOL) {
+            WeakReference<Params> ref = POOL.get(this);
+            Params canonical = ref == null ? null : ref.get();
+            if (canonical == null) {
+                POOL.put(this, new WeakReference<>(this));
+                canonical = this;
+            }
+            return canonical;
+        }
+    }
+
     /// Checks whether the given parameter type exists in this list.
     ///
     /// @param type the parameter type to check for, must not be `null`
@@ -62,8 +110,64 @@ public final class Params {
         return false;
     }
 
+    /// Returns the parameter type at the given position.
+    ///
+    /// @param index the position of the parameter
+    /// @return the parameter type
+    /// @throws IndexOutOfBoundsException if `index` is negative or not less than [#size()]
+    public Class<?> get(int index) {
+        Objects.checkIndex(index, types.length);
+        return types[index];
+    }
+
+    /// Passes each parameter type, in order, to the given action.
+    ///
+    /// @param action the action to perform, must not be `null`
+    /// @throws NullPointerException if `action` is `null`
+    public void forEach(Consumer<? super Class<?>> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        for (Class<?> type : types) {
+            action.accept(type);
+        }
+    }
+
+    /// Checks whether this parameter list holds exactly the given types, in order.
+    ///
+    /// Meant for matching against the parameter types of a member without copying either side.
+    ///
+    /// @param types the types to compare with, must not be `null`
+    /// @return `true` if both lists have the same types in the same order, otherwise `false`
+    /// @throws NullPointerException if `types` is `null`
+    public boolean matches(List<? extends Class<?>> types) {
+        Objects.requireNonNull(types, "types must not be null");
+        if (types.size() != this.types.length) {
+            return false;
+        }
+        for (int i = 0; i < this.types.length; i++) {
+            if (types.get(i) != this.types[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Checks whether this parameter list holds exactly the given types, in order.
+    ///
+    /// Array counterpart of [#matches(List)], for matching the parameter types of a lookup
+    /// without wrapping them in a new instance.
+    ///
+    /// @param types the types to compare with, must not be `null`
+    /// @return `true` if both lists have the same types in the same order, otherwise `false`
+    /// @throws NullPointerException if `types` is `null`
+    public boolean matches(Class<?>... types) {
+        Objects.requireNonNull(types, "types must not be null");
+        return Arrays.equals(this.types, types);
+    }
+
     /// Returns the array of parameter types for reflection usage
     ///
+    /// The array is a copy; use [#get(int)] or [#forEach(Consumer)] to read the types without copying.
+    ///
     /// @return an array of [Class] objects representing the parameter types
     public Class<?>[] getTypes() {
         return types.length == 0 ? EMPTY_TYPES : types.clone();
@@ -87,12 +191,12 @@ public final class Params {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Params other)) return false;
-        return Arrays.equals(types, other.types);
+        return hash == other.hash && Arrays.equals(types, other.types);
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(types);
+        return hash;
     }
 
     @Override
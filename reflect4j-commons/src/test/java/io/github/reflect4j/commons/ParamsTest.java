@@ -0,0 +1,68 @@
+package io.github.reflect4j.commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParamsTest {
+
+    @Test
+    void equalTypeListsAreEqualAndHashAlike() {
+        Params params = Params.of(String.class, int.class);
+
+        assertThat(params).isEqualTo(Params.of(String.class, int.class))
+                .hasSameHashCodeAs(Params.of(String.class, int.class));
+        assertThat(params).isNotEqualTo(Params.of(int.class, String.class));
+        assertThat(Params.of()).isEqualTo(Params.empty());
+    }
+
+    @Test
+    void internedInstancesAreCanonical() {
+        Params interned = Params.interned(String.class, long.class);
+
+        assertThat(Params.interned(String.class, long.class)).isSameAs(interned);
+        assertThat(Params.of(String.class, long.class).intern()).isSameAs(interned);
+        assertThat(Params.of().intern()).isSameAs(Params.empty());
+    }
+
+    @Test
+    void typesAreDefensivelyCopied() {
+        Class<?>[] types = {String.class, int.class};
+        Params params = Params.of(types);
+
+        types[0] = Object.class;
+        params.getTypes()[1] = long.class;
+
+        assertThat(params.get(0)).isEqualTo(String.class);
+        assertThat(params.get(1)).isEqualTo(int.class);
+        assertThatThrownBy(() -> params.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void typesAreReadInPlace() {
+        Params params = Params.of(String.class, int.class);
+        List<Class<?>> seen = new ArrayList<>();
+
+        params.forEach(seen::add);
+
+        assertThat(seen).containsExactly(String.class, int.class);
+        assertThat(params.size()).isEqualTo(2);
+        assertThat(params.contains(int.class)).isTrue();
+        assertThat(params.contains(long.class)).isFalse();
+    }
+
+    @Test
+    void matchesComparesTypesInOrder() {
+        Params params = Params.of(String.class, int.class);
+
+        assertThat(params.matches(List.of(String.class, int.class))).isTrue();
+        assertThat(params.matches(List.of(String.class, Integer.class))).isFalse();
+        assertThat(params.matches(String.class, int.class)).isTrue();
+        assertThat(params.matches(String.class)).isFalse();
+        assertThat(Params.empty().matches()).isTrue();
+    }
+}
@@ -0,0 +1,408 @@
+package io.github.reflect4j.processor;
+
+import io.github.reflect4j.annotations.R4jAccessors;
+import io.github.reflect4j.annotations.R4jIgnore;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/// # AccessorsProcessor
+///
+/// Annotation processor that generates the reflection-free accessor companion of every type
+/// annotated with [R4jAccessors].
+///
+/// The companion of `com.example.Order` is the package-private top-level class
+/// `com.example.Order$R4jAccessors`, implementing `io.github.reflect4j.api.invoke.GeneratedAccessors`.
+/// Its only constructor is private, so it can only be instantiated through a private lookup by the
+/// engines' binding path, never by other code in the package or elsewhere. It hands out one invoker
+/// class per member kind whose instances carry a member number; every call is a `switch` on that
+/// number followed by a plain Java call, field read or field write, so the JIT sees a direct call
+/// site per member. Lookups by signature are a `switch` on the signature string.
+///
+/// Receivers and arguments are converted with `io.github.reflect4j.api.invoke.Invocations` and
+/// [Class#cast(Object)], the conversions the method-handle engine applies as well, so results,
+/// exceptions and their messages match the engine the companion replaces; `void` methods reject
+/// primitive-return calls the same way. Members whose signature mentions a type the companion
+/// cannot see are left out, as are private members, final fields and members annotated with
+/// [R4jIgnore], or all members if the type itself is.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+@SupportedAnnotationTypes("io.github.reflect4j.annotations.R4jAccessors")
+public class AccessorsProcessor extends AbstractProcessor {
+
+    /// Suffix appended to the binary name of a type to form the name of its companion.
+    public static final String SUFFIX = "$R4jAccessors";
+
+    private static final String INVOKE = "io.github.reflect4j.api.invoke.";
+    private static final int MAX_FIXED_ARITY = 4;
+
+    /// Highest parameter count of the primitive-return variants such as `invokeInt`.
+    private static final int MAX_TYPED_ARITY = 2;
+
+    private TypeDescriptors descriptors;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.descriptors = new TypeDescriptors(processingEnv);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(R4jAccessors.class)) {
+            if (element instanceof TypeElement type) {
+                generate(type);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        if (!reachable(type)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "@R4jAccessors requires a top-level or member type that is not private", type);
+            return;
+        }
+        String binaryName = descriptors.binaryName(type);
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String simpleName = packageName.isEmpty() ? binaryName + SUFFIX
+                : binaryName.substring(packageName.length() + 1) + SUFFIX;
+
+        List<? extends Element> members = ignored(type) ? List.of() : type.getEnclosedElements();
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+            if (covered(method, packageName) && accessible(method.getReturnType(), packageName)) {
+                methods.add(method);
+            }
+        }
+        List<ExecutableElement> constructors = new ArrayList<>();
+        if (instantiable(type)) {
+            for (ExecutableElement constructor : ElementFilter.constructorsIn(members)) {
+                if (covered(constructor, packageName)) {
+                    constructors.add(constructor);
+                }
+            }
+        }
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(members)) {
+            if (field.getKind() == ElementKind.FIELD && !ignored(field) && !field.getModifiers().contains(Modifier.PRIVATE)
+                    && !field.getModifiers().contains(Modifier.FINAL) && accessible(field.asType(), packageName)) {
+                fields.add(field);
+            }
+        }
+
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        String owner = type.getQualifiedName().toString();
+        out.append("/// Reflection-free accessors of [").append(owner).append("], generated by Reflect4j.\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\", \"deprecation\", \"removal\"})\n")
+                .append("final class ").append(simpleName)
+                .append(" implements ").append(INVOKE).append("GeneratedAccessors {\n\n")
+                .append("    private ").append(simpleName).append("() {\n    }\n\n");
+        lookup(out, "MethodInvoker", "method", "signature", "Methods", signatures(methods));
+        lookup(out, "ConstructorInvoker", "constructor", "signature", "Constructors", signatures(constructors));
+        List<String> names = new ArrayList<>();
+        for (VariableElement field : fields) {
+            names.add(field.getSimpleName().toString());
+        }
+        lookup(out, "FieldAccessor", "field", "name", "Fields", names);
+        if (!methods.isEmpty()) {
+            methods(out, owner, methods);
+        }
+        if (!constructors.isEmpty()) {
+            constructors(out, owner, constructors);
+        }
+        if (!fields.isEmpty()) {
+            fields(out, owner, fields);
+        }
+        out.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName, type)
+                .openWriter()) {
+            writer.write(out.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write accessors of " + binaryName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /// Emits a lookup method that maps a signature to a new invoker carrying the member number.
+    private static void lookup(StringBuilder out, String invoker, String method, String parameter,
+                               String implementation, List<String> keys) {
+        out.append("    @Override\n    public ").append(INVOKE).append(invoker).append(' ').append(method)
+                .append("(String ").append(parameter).append(") {\n");
+        if (keys.isEmpty()) {
+            out.append("        return null;\n    }\n\n");
+            return;
+        }
+        out.append("        return switch (").append(parameter).append(") {\n");
+        for (int i = 0; i < keys.size(); i++) {
+            out.append("            case ").append(literal(keys.get(i))).append(" -> new ")
+                    .append(implementation).append('(').append(i).append(");\n");
+        }
+        out.append("            default -> null;\n        };\n    }\n\n");
+    }
+
+    private void methods(StringBuilder out, String owner, List<ExecutableElement> methods) {
+        out.append("    private static final class Methods implements ").append(INVOKE).append("MethodInvoker {\n\n");
+        invokerState(out, "Methods");
+        out.append("        @Override\n        public Object invoke(Object target, Object[] args) throws Throwable {\n")
+                .append("            switch (id) {\n");
+        for (int i = 0; i < methods.size(); i++) {
+            ExecutableElement method = methods.get(i);
+            int arity = method.getParameters().size();
+            out.append("                case ").append(i).append(" -> {\n")
+                    .append("                    ").append(INVOKE).append("Invocations.checkArity(args, ")
+                    .append(arity).append(");\n");
+            methodCall(out, owner, method, arguments(method, false));
+            out.append("                }\n");
+        }
+        out.append("                default -> throw new AssertionError(id);\n            }\n        }\n");
+        for (int arity = 0; arity <= MAX_FIXED_ARITY; arity++) {
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < methods.size(); i++) {
+                if (methods.get(i).getParameters().size() == arity) {
+                    ids.add(i);
+                }
+            }
+            if (ids.isEmpty()) {
+                continue;
+            }
+            out.append("\n        @Override\n        public Object invoke").append(arity).append("(Object target")
+                    .append(parameters(arity)).append(") throws Throwable {\n            switch (id) {\n");
+            for (int id : ids) {
+                out.append("                case ").append(id).append(" -> {\n");
+                methodCall(out, owner, methods.get(id), arguments(methods.get(id), true));
+                out.append("                }\n");
+            }
+            out.append("                default -> {\n                    return invoke(target, new Object[]{")
+                    .append(parameters(arity).replace(", Object ", ", ").substring(arity == 0 ? 0 : 2))
+                    .append("});\n                }\n            }\n        }\n");
+        }
+        for (int arity = 0; arity <= MAX_TYPED_ARITY; arity++) {
+            StringBuilder ids = new StringBuilder();
+            for (int i = 0; i < methods.size(); i++) {
+                ExecutableElement method = methods.get(i);
+                if (method.getParameters().size() == arity && method.getReturnType().getKind() == TypeKind.VOID) {
+                    ids.append(ids.isEmpty() ? "" : ", ").append(i);
+                }
+            }
+            if (!ids.isEmpty()) {
+                for (String result : List.of("int", "long", "boolean")) {
+                    voidResult(out, result, arity, ids);
+                }
+            }
+        }
+        out.append("    }\n\n");
+    }
+
+    /// Emits a primitive-return variant that rejects the `void` methods among the given ids
+    /// before invoking them, as the other engines do, and converts the result of all others.
+    private static void voidResult(StringBuilder out, String result, int arity, CharSequence ids) {
+        String name = Character.toUpperCase(result.charAt(0)) + result.substring(1);
+        out.append("\n        @Override\n        public ").append(result).append(" invoke").append(name)
+                .append("(Object target").append(parameters(arity)).append(") throws Throwable {\n")
+                .append("            switch (id) {\n                case ").append(ids).append(" -> throw ")
+                .append(INVOKE).append("Invocations.voidResult(").append(result).append(".class);\n")
+                .append("                default -> {\n                    return ").append(INVOKE)
+                .append("Invocations.to").append(name).append("(invoke").append(arity).append("(target")
+                .append(parameters(arity).replace(", Object ", ", ")).append("));\n")
+                .append("                }\n            }\n        }\n");
+    }
+
+    private void methodCall(StringBuilder out, String owner, ExecutableElement method, String arguments) {
+        String receiver = method.getModifiers().contains(Modifier.STATIC) ? owner : receiver(owner);
+        String call = receiver + "." + method.getSimpleName() + "(" + arguments + ")";
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            out.append("                    ").append(call).append(";\n")
+                    .append("                    return null;\n");
+        } else {
+            out.append("                    return ").append(call).append(";\n");
+        }
+    }
+
+    private void constructors(StringBuilder out, String owner, List<ExecutableElement> constructors) {
+        out.append("    private static final class Constructors implements ").append(INVOKE)
+                .append("ConstructorInvoker {\n\n");
+        invokerState(out, "Constructors");
+        out.append("        @Override\n        public Object invoke(Object[] args) throws Throwable {\n")
+                .append("            switch (id) {\n");
+        for (int i = 0; i < constructors.size(); i++) {
+            ExecutableElement constructor = constructors.get(i);
+            out.append("                case ").append(i).append(" -> {\n")
+                    .append("                    ").append(INVOKE).append("Invocations.checkArity(args, ")
+                    .append(constructor.getParameters().size()).append(");\n")
+                    .append("                    return new ").append(owner).append('(')
+                    .append(arguments(constructor, false)).append(");\n")
+                    .append("                }\n");
+        }
+        out.append("                default -> throw new AssertionError(id);\n            }\n        }\n    }\n\n");
+    }
+
+    private void fields(StringBuilder out, String owner, List<VariableElement> fields) {
+        out.append("    private static final class Fields implements ").append(INVOKE).append("FieldAccessor {\n\n");
+        invokerState(out, "Fields");
+        out.append("        @Override\n        public Object get(Object target) {\n            return switch (id) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            out.append("                case ").append(i).append(" -> ").append(fieldReference(owner, fields.get(i)))
+                    .append(";\n");
+        }
+        out.append("                default -> throw new AssertionError(id);\n            };\n        }\n\n")
+                .append("        @Override\n        public void set(Object target, Object value) {\n")
+                .append("            switch (id) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            out.append("                case ").append(i).append(" -> ").append(fieldReference(owner, field))
+                    .append(" = ").append(convert(field.asType(), "value")).append(";\n");
+        }
+        out.append("                default -> throw new AssertionError(id);\n            }\n        }\n    }\n\n");
+    }
+
+    private static void invokerState(StringBuilder out, String name) {
+        out.append("        private final int id;\n\n        ").append(name)
+                .append("(int id) {\n            this.id = id;\n        }\n\n");
+    }
+
+    private static String fieldReference(String owner, VariableElement field) {
+        String receiver = field.getModifiers().contains(Modifier.STATIC) ? owner : receiver(owner);
+        return receiver + "." + field.getSimpleName();
+    }
+
+    /// Returns an expression casting `target` to the owner, failing like a method handle on `null`.
+    private static String receiver(String owner) {
+        return INVOKE + "Invocations.receiver(" + owner + ".class, target)";
+    }
+
+    /// Returns the converted call arguments, read from `args[i]` or from the fixed-arity parameters `argI`.
+    private String arguments(ExecutableElement executable, boolean fixed) {
+        StringBuilder arguments = new StringBuilder();
+        List<? extends VariableElement> parameters = executable.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                arguments.append(", ");
+            }
+            arguments.append(convert(parameters.get(i).asType(), fixed ? "arg" + i : "args[" + i + "]"));
+        }
+        return arguments.toString();
+    }
+
+    /// Returns an expression converting an `Object` expression to the erasure of the given type.
+    private String convert(TypeMirror type, String expression) {
+        if (type.getKind().isPrimitive()) {
+            String name = type.getKind().name().toLowerCase();
+            return INVOKE + "Invocations.to" + Character.toUpperCase(name.charAt(0)) + name.substring(1)
+                    + "(" + expression + ")";
+        }
+        String name = descriptors.sourceName(type);
+        return name.equals("java.lang.Object") ? expression : name + ".class.cast(" + expression + ")";
+    }
+
+    private static String parameters(int arity) {
+        StringBuilder parameters = new StringBuilder();
+        for (int i = 0; i < arity; i++) {
+            parameters.append(", Object arg").append(i);
+        }
+        return parameters.toString();
+    }
+
+    private List<String> signatures(List<ExecutableElement> executables) {
+        List<String> signatures = new ArrayList<>();
+        for (ExecutableElement executable : executables) {
+            signatures.add(descriptors.methodSignature(executable));
+        }
+        return signatures;
+    }
+
+    private boolean covered(ExecutableElement executable, String packageName) {
+        if (executable.getModifiers().contains(Modifier.PRIVATE) || ignored(executable)) {
+            return false;
+        }
+        for (VariableElement parameter : executable.getParameters()) {
+            if (!accessible(parameter.asType(), packageName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean ignored(Element element) {
+        return element.getAnnotation(R4jIgnore.class) != null;
+    }
+
+    /// Returns whether the companion, declared in the given package, can name the erasure of a type.
+    private boolean accessible(TypeMirror type, String packageName) {
+        return switch (type.getKind()) {
+            case ARRAY -> accessible(((ArrayType) type).getComponentType(), packageName);
+            case DECLARED -> accessible((TypeElement) ((DeclaredType) type).asElement(), packageName);
+            case TYPEVAR, INTERSECTION -> accessible(processingEnv.getTypeUtils().erasure(type), packageName);
+            default -> true;
+        };
+    }
+
+    private boolean accessible(TypeElement type, String packageName) {
+        boolean samePackage = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName()
+                .contentEquals(packageName);
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            Set<Modifier> modifiers = e.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || (!samePackage && !modifiers.contains(Modifier.PUBLIC))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Returns whether the companion can name the annotated type: it and its enclosing types are
+    /// top-level or member types and not private.
+    private static boolean reachable(TypeElement type) {
+        for (Element e = type; !(e instanceof PackageElement); e = e.getEnclosingElement()) {
+            if (!(e instanceof TypeElement t) || t.getModifiers().contains(Modifier.PRIVATE)
+                    || (t.getNestingKind() != NestingKind.TOP_LEVEL && t.getNestingKind() != NestingKind.MEMBER)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Returns whether constructors of the type can be called with a plain `new` from the companion.
+    private static boolean instantiable(TypeElement type) {
+        return (type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.RECORD)
+                && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && (type.getNestingKind() == NestingKind.TOP_LEVEL || type.getModifiers().contains(Modifier.STATIC));
+    }
+
+    private static String literal(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
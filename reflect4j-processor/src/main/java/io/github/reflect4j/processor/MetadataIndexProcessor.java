@@ -0,0 +1,198 @@
+package io.github.reflect4j.processor;
+
+import io.github.reflect4j.annotations.R4jAlias;
+import io.github.reflect4j.annotations.R4jIgnore;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/// # MetadataIndexProcessor
+///
+/// Annotation processor that writes the Reflect4j metadata index to `META-INF/reflect4j/index`.
+///
+/// The index lists every type, field, method and constructor of the compiled sources that carries
+/// at least one annotation with `RUNTIME` retention, together with the signatures of those
+/// annotations, the aliases declared by [R4jAlias] and the reason given by [R4jIgnore]. A type is
+/// listed if it or any of its members is annotated. At runtime, the index is read by
+/// `io.github.reflect4j.api.index.MetadataIndex`, which merges the indexes of all JARs, so startup
+/// cost grows with the number of annotated elements instead of the size of the class path.
+///
+/// The processor claims no annotations and never interferes with other processors.
+///
+/// The index is a UTF-8 text file. The first line is `reflect4j-index 1`; every other line is a
+/// one-character tag, a space and a value, with `\`, tab, carriage return and line feed escaped
+/// as `\\`, `\t`, `\r` and `\n`:
+///
+///     - `T` starts a type, by binary name, e.g. `T com.example.Outer$Inner`
+///     - `F`, `M` and `C` start a field, method or constructor of the current type, by JVM
+///       signature, e.g. `F name:Ljava/lang/String;`, `M process(Ljava/lang/String;I)V`, `C <init>(I)V`
+///     - `@` adds an annotation to the current element, e.g. `@ @com.example.Entity`
+///     - `a` adds the aliases of the current element: the `primary` and `caseSensitive` flags as
+///       `0` or `1`, then the alias names, separated by tabs
+///     - `i` marks the current element as ignored, with the possibly empty reason
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+@SupportedAnnotationTypes("*")
+public class MetadataIndexProcessor extends AbstractProcessor {
+
+    /// Location of the index in the class output and on the class path.
+    public static final String INDEX_RESOURCE = "META-INF/reflect4j/index";
+
+    /// First line of every index.
+    static final String HEADER = "reflect4j-index 1";
+
+    private final Map<String, List<String>> types = new TreeMap<>();
+    private TypeDescriptors descriptors;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.descriptors = new TypeDescriptors(processingEnv);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            write();
+        } else {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                index(type);
+            }
+        }
+        return false;
+    }
+
+    private void index(TypeElement type) {
+        List<String> lines = new ArrayList<>();
+        element(lines, type);
+        for (Element member : type.getEnclosedElements()) {
+            switch (member.getKind()) {
+                case FIELD, ENUM_CONSTANT -> {
+                    VariableElement field = (VariableElement) member;
+                    member(lines, 'F', field, field.getSimpleName() + ":" + descriptors.descriptor(field.asType()));
+                }
+                case METHOD -> member(lines, 'M', member, descriptors.methodSignature((ExecutableElement) member));
+                case CONSTRUCTOR -> member(lines, 'C', member, descriptors.methodSignature((ExecutableElement) member));
+                default -> {
+                    if (member instanceof TypeElement nested) {
+                        index(nested);
+                    }
+                }
+            }
+        }
+        if (!lines.isEmpty()) {
+            types.put(descriptors.binaryName(type), lines);
+        }
+    }
+
+    private void member(List<String> lines, char kind, Element member, String signature) {
+        List<String> attributes = new ArrayList<>();
+        element(attributes, member);
+        if (!attributes.isEmpty()) {
+            lines.add(kind + " " + escape(signature));
+            lines.addAll(attributes);
+        }
+    }
+
+    /// Appends the attribute lines of an element: its runtime-visible annotations, aliases and ignore reason.
+    private void element(List<String> lines, Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            Retention retention = annotationType.getAnnotation(Retention.class);
+            if (retention != null && retention.value() == RetentionPolicy.RUNTIME) {
+                lines.add("@ @" + descriptors.binaryName(annotationType));
+            }
+        }
+        R4jAlias alias = element.getAnnotation(R4jAlias.class);
+        if (alias != null) {
+            StringBuilder line = new StringBuilder("a ")
+                    .append(alias.primary() ? '1' : '0').append(' ')
+                    .append(alias.caseSensitive() ? '1' : '0');
+            for (String name : alias.value()) {
+                line.append('\t').append(escape(name));
+            }
+            lines.add(line.toString());
+        }
+        R4jIgnore ignore = element.getAnnotation(R4jIgnore.class);
+        if (ignore != null) {
+            lines.add("i " + escape(ignore.reason()));
+        }
+    }
+
+    private void write() {
+        if (types.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(HEADER);
+                writer.write('\n');
+                for (Map.Entry<String, List<String>> type : types.entrySet()) {
+                    writer.write("T " + escape(type.getKey()));
+                    writer.write('\n');
+                    for (String line : type.getValue()) {
+                        writer.write(line);
+                        writer.write('\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write " + INDEX_RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+    static String escape(String value) {
+        StringBuilder sb = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '\\' -> "\\\\";
+                case '\t' -> "\\t";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                default -> null;
+            };
+            if (replacement != null && sb == null) {
+                sb = new StringBuilder(value.length() + 8).append(value, 0, i);
+            }
+            if (sb != null) {
+                if (replacement != null) {
+                    sb.append(replacement);
+                } else {
+                    sb.append(c);
+                }
+            }
+        }
+        return sb == null ? value : sb.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.reflect4j.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+
+/// # TypeDescriptors
+///
+/// Renders types and members of the compiled sources as the JVM names and descriptors
+/// Reflect4j uses at runtime, e.g. `com.example.Outer$Inner` and `process(Ljava/lang/String;I)V`.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class TypeDescriptors {
+
+    private final ProcessingEnvironment env;
+
+    TypeDescriptors(ProcessingEnvironment env) {
+        this.env = env;
+    }
+
+    /// Returns the binary name of a type, e.g. `com.example.Outer$Inner`.
+    String binaryName(TypeElement type) {
+        return env.getElementUtils().getBinaryName(type).toString();
+    }
+
+    /// Returns the name of a method or constructor followed by its JVM method descriptor.
+    String methodSignature(ExecutableElement method) {
+        StringBuilder signature = new StringBuilder()
+                .append(method.getKind() == ElementKind.CONSTRUCTOR ? "<init>" : method.getSimpleName())
+                .append('(');
+        for (VariableElement parameter : method.getParameters()) {
+            signature.append(descriptor(parameter.asType()));
+        }
+        return signature.append(')').append(descriptor(method.getReturnType())).toString();
+    }
+
+    /// Returns the JVM descriptor of the erasure of a type.
+    String descriptor(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "Z";
+            case BYTE -> "B";
+            case SHORT -> "S";
+            case INT -> "I";
+            case LONG -> "J";
+            case CHAR -> "C";
+            case FLOAT -> "F";
+            case DOUBLE -> "D";
+            case VOID -> "V";
+            case ARRAY -> "[" + descriptor(((ArrayType) type).getComponentType());
+            case DECLARED -> "L" + binaryName((TypeElement) ((DeclaredType) type).asElement()).replace('.', '/') + ";";
+            default -> descriptor(env.getTypeUtils().erasure(type));
+        };
+    }
+
+    /// Returns the source name of the erasure of a type, e.g. `java.util.List` or `int[]`.
+    String sourceName(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE, VOID -> type.getKind().name().toLowerCase();
+            case ARRAY -> sourceName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED -> ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            default -> sourceName(env.getTypeUtils().erasure(type));
+        };
+    }
+}
@@ -0,0 +1,271 @@
+package io.github.reflect4j.processor;
+
+import io.github.reflect4j.api.invoke.InvocationEngine;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Compiles the same fixture with and without [AccessorsProcessor] and checks that its generated
+/// companion behaves exactly like the method-handle engine: same results, same exception types,
+/// same messages.
+class AccessorsConformanceTest {
+
+    private static final String FIXTURE = """
+            package conformance;
+
+            import io.github.reflect4j.annotations.R4jAccessors;
+            import io.github.reflect4j.annotations.R4jIgnore;
+
+            @R4jAccessors
+            public class Fixture {
+
+                public int count;
+                public String label;
+                public static long total;
+                public char letter;
+                @R4jIgnore
+                public int hidden;
+
+                public Fixture() {
+                }
+
+                public Fixture(int count, String label) {
+                    this.count = count;
+                    this.label = label;
+                }
+
+                public int add(int a, int b) {
+                    return a + b + count;
+                }
+
+                public static double widen(long a, double b) {
+                    return a + b;
+                }
+
+                public String concat(String a, Object b) {
+                    return a + b;
+                }
+
+                public void touch() {
+                    count++;
+                }
+
+                public void touch(int by) {
+                    count += by;
+                }
+
+                public Integer boxed(boolean present) {
+                    return present ? 7 : null;
+                }
+
+                public short small() {
+                    return 3;
+                }
+
+                public long large() {
+                    return 1L << 40;
+                }
+
+                public boolean not(boolean value) {
+                    return !value;
+                }
+
+                public void fail() throws Exception {
+                    throw new java.io.IOException("checked");
+                }
+
+                @R4jIgnore
+                public int ignored() {
+                    return 1;
+                }
+            }
+            """;
+
+    /// A call against one of the two compilations of the fixture.
+    interface Call {
+        Object run(Class<?> fixture) throws Throwable;
+    }
+
+    private static Class<?> generated;
+    private static Class<?> plain;
+
+    @BeforeAll
+    static void compile(@TempDir Path dir) throws Exception {
+        generated = load(compile(dir.resolve("generated"), true));
+        plain = load(compile(dir.resolve("plain"), false));
+    }
+
+    private static Path compile(Path out, boolean process) throws Exception {
+        Files.createDirectories(out);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///conformance/Fixture.java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return FIXTURE;
+            }
+        };
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, null)) {
+            List<String> options = List.of("-d", out.toString(), "-cp", System.getProperty("java.class.path"),
+                    process ? "-proc:full" : "-proc:none");
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, null, options, null, List.of(source));
+            if (process) {
+                task.setProcessors(List.of(new AccessorsProcessor()));
+            }
+            assertThat(task.call()).isTrue();
+        }
+        return out;
+    }
+
+    private static Class<?> load(Path dir) throws Exception {
+        URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()},
+                AccessorsConformanceTest.class.getClassLoader());
+        return loader.loadClass("conformance.Fixture");
+    }
+
+    private static Object instance(Class<?> fixture) throws ReflectiveOperationException {
+        return fixture.getConstructor().newInstance();
+    }
+
+    private static Object invoke(Class<?> fixture, String name, Class<?>[] types, Object target, Object... args)
+            throws Throwable {
+        return InvocationEngine.METHOD_HANDLE.bind(fixture.getMethod(name, types)).invoke(target, args);
+    }
+
+    private static Class<?>[] types(Class<?>... types) {
+        return types;
+    }
+
+    static Stream<Arguments> calls() {
+        Class<?>[] ints = types(int.class, int.class);
+        return Stream.of(
+                Arguments.of("add", (Call) f -> invoke(f, "add", ints, instance(f), 1, 2)),
+                Arguments.of("add widening", (Call) f -> invoke(f, "add", ints, instance(f), (short) 1, 'a')),
+                Arguments.of("add null", (Call) f -> invoke(f, "add", ints, instance(f), 1, null)),
+                Arguments.of("add long", (Call) f -> invoke(f, "add", ints, instance(f), 1, 2L)),
+                Arguments.of("add string", (Call) f -> invoke(f, "add", ints, instance(f), "1", 2)),
+                Arguments.of("add too few", (Call) f -> invoke(f, "add", ints, instance(f), 1)),
+                Arguments.of("add too many", (Call) f -> invoke(f, "add", ints, instance(f), 1, 2, 3)),
+                Arguments.of("add null args", (Call) f -> invoke(f, "add", ints, instance(f), (Object[]) null)),
+                Arguments.of("add null receiver", (Call) f -> invoke(f, "add", ints, null, 1, 2)),
+                Arguments.of("add wrong receiver", (Call) f -> invoke(f, "add", ints, "receiver", 1, 2)),
+                Arguments.of("add fixed", (Call) f -> bind(f, "add", ints).invoke2(instance(f), 1, 2)),
+                Arguments.of("add fixed arity", (Call) f -> bind(f, "add", ints).invoke1(instance(f), 1)),
+                Arguments.of("add int", (Call) f -> bind(f, "add", ints).invokeInt(instance(f), 1, 2)),
+                Arguments.of("add int arity", (Call) f -> bind(f, "add", ints).invokeInt(instance(f), 1)),
+                Arguments.of("widen", (Call) f -> invoke(f, "widen", types(long.class, double.class), null, 1, 2.5f)),
+                Arguments.of("widen narrowing", (Call) f -> invoke(f, "widen", types(long.class, double.class), null, 1.0, 2.0)),
+                Arguments.of("concat", (Call) f -> invoke(f, "concat", types(String.class, Object.class), instance(f), "a", 1)),
+                Arguments.of("concat wrong type", (Call) f -> invoke(f, "concat", types(String.class, Object.class), instance(f), 1, "a")),
+                Arguments.of("concat null", (Call) f -> invoke(f, "concat", types(String.class, Object.class), instance(f), null, null)),
+                Arguments.of("touch", (Call) f -> invoke(f, "touch", types(), instance(f))),
+                Arguments.of("touch int", (Call) f -> bind(f, "touch", types()).invokeInt(instance(f))),
+                Arguments.of("touch long", (Call) f -> bind(f, "touch", types(int.class)).invokeLong(instance(f), 1)),
+                Arguments.of("touch boolean arity", (Call) f -> bind(f, "touch", types(int.class)).invokeBoolean(instance(f))),
+                Arguments.of("boxed int", (Call) f -> bind(f, "boxed", types(boolean.class)).invokeInt(instance(f), true)),
+                Arguments.of("boxed null int", (Call) f -> bind(f, "boxed", types(boolean.class)).invokeInt(instance(f), false)),
+                Arguments.of("boxed boolean", (Call) f -> bind(f, "boxed", types(boolean.class)).invokeBoolean(instance(f), true)),
+                Arguments.of("small long", (Call) f -> bind(f, "small", types()).invokeLong(instance(f))),
+                Arguments.of("large int", (Call) f -> bind(f, "large", types()).invokeInt(instance(f))),
+                Arguments.of("not", (Call) f -> bind(f, "not", types(boolean.class)).invokeBoolean(instance(f), false)),
+                Arguments.of("not null", (Call) f -> bind(f, "not", types(boolean.class)).invoke1(instance(f), null)),
+                Arguments.of("fail", (Call) f -> invoke(f, "fail", types(), instance(f))),
+                Arguments.of("new", (Call) f -> constructor(f).invoke(new Object[]{1, "x"})),
+                Arguments.of("new null", (Call) f -> constructor(f).invoke(new Object[]{null, "x"})),
+                Arguments.of("new wrong type", (Call) f -> constructor(f).invoke2(1, 2)),
+                Arguments.of("new arity", (Call) f -> constructor(f).invoke(new Object[]{1})),
+                Arguments.of("new null args", (Call) f -> constructor(f).invoke(null)),
+                Arguments.of("get", (Call) f -> field(f, "count").get(f.getConstructor(int.class, String.class).newInstance(4, "x"))),
+                Arguments.of("get null receiver", (Call) f -> field(f, "count").get(null)),
+                Arguments.of("get wrong receiver", (Call) f -> field(f, "label").get("receiver")),
+                Arguments.of("get static", (Call) f -> field(f, "total").get(null)),
+                Arguments.of("set", (Call) f -> set(f, "count", (byte) 5)),
+                Arguments.of("set null", (Call) f -> set(f, "count", null)),
+                Arguments.of("set long", (Call) f -> set(f, "count", 5L)),
+                Arguments.of("set char", (Call) f -> set(f, "letter", 5)),
+                Arguments.of("set string", (Call) f -> set(f, "label", 5)),
+                Arguments.of("set static", (Call) f -> {
+                    field(f, "total").set(null, 3);
+                    return field(f, "total").get(null);
+                }));
+    }
+
+    private static io.github.reflect4j.api.invoke.MethodInvoker bind(Class<?> fixture, String name, Class<?>[] types)
+            throws NoSuchMethodException {
+        return InvocationEngine.METHOD_HANDLE.bind(fixture.getMethod(name, types));
+    }
+
+    private static io.github.reflect4j.api.invoke.ConstructorInvoker constructor(Class<?> fixture)
+            throws NoSuchMethodException {
+        return InvocationEngine.METHOD_HANDLE.bind(fixture.getConstructor(int.class, String.class));
+    }
+
+    private static io.github.reflect4j.api.invoke.FieldAccessor field(Class<?> fixture, String name)
+            throws NoSuchFieldException {
+        return InvocationEngine.METHOD_HANDLE.bind(fixture.getField(name));
+    }
+
+    private static Object set(Class<?> fixture, String name, Object value) throws Throwable {
+        Object target = instance(fixture);
+        field(fixture, name).set(target, value);
+        return field(fixture, name).get(target);
+    }
+
+    private static String outcome(Call call, Class<?> fixture) {
+        try {
+            Object result = call.run(fixture);
+            return "returned " + (result != null && result.getClass() == fixture ? "instance" : String.valueOf(result));
+        } catch (Throwable e) {
+            return "threw " + e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("calls")
+    void companionMatchesMethodHandleEngine(String name, Call call) {
+        assertThat(outcome(call, generated)).isEqualTo(outcome(call, plain));
+    }
+
+    @Test
+    void companionIsUsedForCoveredMembers() throws Exception {
+        assertThat(bind(generated, "add", types(int.class, int.class)).getClass().getName())
+                .startsWith("conformance.Fixture$R4jAccessors");
+        assertThat(constructor(generated).getClass().getName()).startsWith("conformance.Fixture$R4jAccessors");
+        assertThat(field(generated, "count").getClass().getName()).startsWith("conformance.Fixture$R4jAccessors");
+    }
+
+    @Test
+    void companionSkipsIgnoredMembers() throws Exception {
+        assertThat(bind(generated, "ignored", types()).getClass().getName()).doesNotContain("$R4jAccessors");
+        assertThat(field(generated, "hidden").getClass().getName()).doesNotContain("$R4jAccessors");
+    }
+
+    @Test
+    void companionIsNotReachableFromOtherCode() throws Exception {
+        Class<?> companion = generated.getClassLoader().loadClass("conformance.Fixture" + AccessorsProcessor.SUFFIX);
+
+        assertThat(Modifier.isPublic(companion.getModifiers())).isFalse();
+        assertThat(companion.getDeclaredConstructors()).extracting(Constructor::getModifiers)
+                .allMatch(Modifier::isPrivate);
+    }
+}
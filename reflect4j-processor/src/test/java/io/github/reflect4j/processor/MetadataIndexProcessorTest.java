@@ -0,0 +1,165 @@
+package io.github.reflect4j.processor;
+
+import io.github.reflect4j.api.index.IndexedElement;
+import io.github.reflect4j.api.index.IndexedType;
+import io.github.reflect4j.api.index.MetadataIndex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Compiles a fixture with [MetadataIndexProcessor] and reads the written index back through
+/// [MetadataIndex].
+class MetadataIndexProcessorTest {
+
+    private static final String FIXTURE = """
+            package indexed;
+
+            import io.github.reflect4j.annotations.R4jAlias;
+            import io.github.reflect4j.annotations.R4jIgnore;
+            import java.lang.annotation.Retention;
+            import java.lang.annotation.RetentionPolicy;
+
+            @Entity
+            @Draft
+            public class Fixture {
+
+                @R4jAlias(value = {"title", "tab\\there"}, primary = true, caseSensitive = false)
+                public String name;
+
+                @R4jIgnore(reason = "Sensitive\\ndata")
+                private String password;
+
+                @Draft
+                public int draft;
+
+                public int plain;
+
+                @Deprecated
+                public Fixture(int plain) {
+                    this.plain = plain;
+                }
+
+                @R4jAlias("run")
+                public void process(String input, int[] counts) {
+                }
+
+                public static class Unannotated {
+                    public int value;
+                }
+
+                public static class Member {
+                    @Entity
+                    public long id;
+                }
+
+                public enum Mode {
+                    @Entity FAST, SLOW
+                }
+            }
+
+            @Retention(RetentionPolicy.RUNTIME)
+            @interface Entity {
+            }
+
+            @Retention(RetentionPolicy.CLASS)
+            @interface Draft {
+            }
+            """;
+
+    private static Path output;
+    private static MetadataIndex index;
+
+    @BeforeAll
+    static void compile(@TempDir Path dir) throws Exception {
+        output = dir;
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///indexed/Fixture.java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return FIXTURE;
+            }
+        };
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, null)) {
+            List<String> options = List.of("-d", dir.toString(), "-cp", System.getProperty("java.class.path"),
+                    "-proc:full");
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, null, options, null, List.of(source));
+            task.setProcessors(List.of(new MetadataIndexProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+        // no parent, so only the index written above is visible
+        index = MetadataIndex.load(new URLClassLoader(new URL[]{dir.toUri().toURL()}, null));
+    }
+
+    @Test
+    void theIndexIsWrittenToTheClassOutput() throws Exception {
+        List<String> lines = Files.readAllLines(output.resolve(MetadataIndexProcessor.INDEX_RESOURCE));
+
+        assertThat(lines.get(0)).isEqualTo(MetadataIndexProcessor.HEADER);
+        assertThat(lines).contains("T indexed.Fixture", "F name:Ljava/lang/String;", "a 1 0\ttitle\ttab\\there",
+                "i Sensitive\\ndata", "C <init>(I)V", "M process(Ljava/lang/String;[I)V");
+        assertThat(index.isPresent()).isTrue();
+    }
+
+    @Test
+    void onlyAnnotatedTypesAndMembersAreListed() {
+        // the annotation types are listed too, for their own @Retention
+        assertThat(index.types()).extracting(IndexedType::name).containsExactlyInAnyOrder("indexed.Draft",
+                "indexed.Entity", "indexed.Fixture", "indexed.Fixture$Member", "indexed.Fixture$Mode");
+        assertThat(index.type("indexed.Fixture$Unannotated")).isNull();
+        assertThat(index.type("indexed.Fixture").members()).extracting(IndexedElement::signature)
+                .containsExactly("name:Ljava/lang/String;", "password:Ljava/lang/String;", "<init>(I)V",
+                        "process(Ljava/lang/String;[I)V");
+    }
+
+    @Test
+    void onlyRuntimeAnnotationsAreRecorded() {
+        IndexedType fixture = index.type("indexed.Fixture");
+
+        assertThat(fixture.element().annotations()).containsExactly("@indexed.Entity");
+        assertThat(fixture.member("<init>(I)V").annotations()).containsExactly("@java.lang.Deprecated");
+        assertThat(fixture.member("draft:I")).isNull();
+        assertThat(index.type("indexed.Fixture$Member").member("id:J").hasAnnotation("@indexed.Entity")).isTrue();
+        assertThat(index.type("indexed.Fixture$Mode").member("FAST:Lindexed/Fixture$Mode;")).isNotNull();
+        assertThat(index.typesAnnotatedWith("@indexed.Entity")).containsExactly(fixture);
+    }
+
+    @Test
+    void aliasesAndIgnoreReasonsRoundTrip() {
+        IndexedType fixture = index.type("indexed.Fixture");
+
+        IndexedElement name = fixture.member("name:Ljava/lang/String;");
+        assertThat(name.kind()).isEqualTo(IndexedElement.Kind.FIELD);
+        assertThat(name.alias()).isEqualTo(new IndexedElement.Alias(List.of("title", "tab\there"), true, false));
+        assertThat(name.isIgnored()).isFalse();
+
+        IndexedElement password = fixture.member("password:Ljava/lang/String;");
+        assertThat(password.isIgnored()).isTrue();
+        assertThat(password.ignoreReason()).isEqualTo("Sensitive\ndata");
+        assertThat(password.alias()).isNull();
+
+        IndexedElement process = fixture.member("process(Ljava/lang/String;[I)V");
+        assertThat(process.kind()).isEqualTo(IndexedElement.Kind.METHOD);
+        assertThat(process.alias()).isEqualTo(new IndexedElement.Alias(List.of("run"), false, true));
+    }
+
+    @Test
+    void specialCharactersAreEscaped() {
+        assertThat(MetadataIndexProcessor.escape("plain")).isSameAs("plain");
+        assertThat(MetadataIndexProcessor.escape("a\\b\tc\rd\ne")).isEqualTo("a\\\\b\\tc\\rd\\ne");
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.reflect4j.scanner;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/// # ClassFileParser
+///
+/// Minimal class-file reader that extracts names, member signatures and
+/// `RuntimeVisibleAnnotations` without loading the class.
+///
+/// Only the constant pool offsets are indexed up front; `CONSTANT_Utf8` entries are decoded on
+/// demand, so a class file costs one pass over its bytes plus the strings actually emitted.
+/// Every other attribute, including `Code`, is skipped by length.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class ClassFileParser {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_MODULE = 0x8000;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final ByteBuffer bytes;
+    private final UnaryOperator<String> interner;
+    private int[] offsets;
+    private int pos;
+
+    private ClassFileParser(ByteBuffer bytes, UnaryOperator<String> interner) {
+        this.bytes = bytes;
+        this.interner = interner;
+    }
+
+    /// Parses the class file in the remaining bytes of the buffer.
+    ///
+    /// @param bytes    the class file, from position to limit; read with absolute gets only
+    /// @param interner deduplicates strings that recur across classes, such as annotation signatures
+    ///
+    /// @return the scanned class, or `null` for `module-info` and malformed class files
+    static ScannedClass parse(ByteBuffer bytes, UnaryOperator<String> interner) {
+        try {
+            return new ClassFileParser(bytes, interner).parse();
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private ScannedClass parse() {
+        pos = bytes.position();
+        if (u4() != MAGIC) {
+            return null;
+        }
+        pos += 4;
+        readConstantPool();
+        int access = u2();
+        if ((access & ACC_MODULE) != 0) {
+            return null;
+        }
+        String name = className(u2());
+        int superIndex = u2();
+        String superName = superIndex == 0 ? null : interner.apply(className(superIndex));
+        int interfaceCount = u2();
+        List<String> interfaces = new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaces.add(interner.apply(className(u2())));
+        }
+        List<ScannedMember> fields = members(false);
+        List<ScannedMember> methods = members(true);
+        List<String> annotations = attributes();
+        return new ScannedClass(name, access, superName, List.copyOf(interfaces), annotations, fields, methods);
+    }
+
+    private void readConstantPool() {
+        int count = u2();
+        offsets = new int[count];
+        for (int i = 1; i < count; i++) {
+            offsets[i] = pos;
+            int tag = u1();
+            switch (tag) {
+                case 1 -> {
+                    int length = u2();
+                    pos += length;
+                }
+                case 7, 8, 16, 19, 20 -> pos += 2;
+                case 15 -> pos += 3;
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> pos += 4;
+                case 5, 6 -> {
+                    pos += 8;
+                    i++;
+                }
+                default -> throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+            }
+        }
+    }
+
+    private List<ScannedMember> members(boolean methods) {
+        int count = u2();
+        if (count == 0) {
+            return List.of();
+        }
+        List<ScannedMember> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int access = u2();
+            String name = utf8(u2(), false);
+            String descriptor = utf8(u2(), false);
+            List<String> annotations = attributes();
+            members.add(new ScannedMember(methods ? name + descriptor : name + ':' + descriptor, access, annotations));
+        }
+        return List.copyOf(members);
+    }
+
+    /// Reads an attribute table, returning the signatures of its runtime-visible annotations.
+    private List<String> attributes() {
+        int count = u2();
+        List<String> annotations = List.of();
+        for (int i = 0; i < count; i++) {
+            int nameIndex = u2();
+            int length = u4();
+            int end = pos + length;
+            if (length < 0 || end > bytes.limit()) {
+                throw new IllegalArgumentException("Truncated attribute");
+            }
+            if (utf8Equals(nameIndex, RUNTIME_VISIBLE_ANNOTATIONS)) {
+                annotations = annotations();
+            }
+            pos = end;
+        }
+        return annotations;
+    }
+
+    private List<String> annotations() {
+        int count = u2();
+        List<String> annotations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            annotations.add(interner.apply(annotationSignature(u2())));
+            skipElementValuePairs();
+        }
+        return List.copyOf(annotations);
+    }
+
+    private void skipElementValuePairs() {
+        int pairs = u2();
+        for (int i = 0; i < pairs; i++) {
+            pos += 2;
+            skipElementValue();
+        }
+    }
+
+    private void skipElementValue() {
+        int tag = u1();
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> pos += 2;
+            case 'e' -> pos += 4;
+            case '@' -> {
+                pos += 2;
+                skipElementValuePairs();
+            }
+            case '[' -> {
+                int count = u2();
+                for (int i = 0; i < count; i++) {
+                    skipElementValue();
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown element value tag " + tag);
+        }
+    }
+
+    /// Returns the binary name of a `CONSTANT_Class` entry, e.g. `com.example.Outer$Inner`.
+    private String className(int classIndex) {
+        return utf8(u2(offset(classIndex, 7) + 1), true);
+    }
+
+    /// Turns a field descriptor such as `Lcom/example/MyAnnotation;` into `@com.example.MyAnnotation`.
+    private String annotationSignature(int utf8Index) {
+        int offset = offset(utf8Index, 1);
+        int length = u2(offset + 1);
+        if (length < 3) {
+            throw new IllegalArgumentException("Invalid annotation type descriptor");
+        }
+        return '@' + decode(offset + 4, length - 2, true);
+    }
+
+    private String utf8(int index, boolean binaryName) {
+        int offset = offset(index, 1);
+        return decode(offset + 3, u2(offset + 1), binaryName);
+    }
+
+    private boolean utf8Equals(int index, String ascii) {
+        int offset = offset(index, 1);
+        int length = u2(offset + 1);
+        if (length != ascii.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes.get(offset + 3 + i) != ascii.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Decodes modified UTF-8, optionally translating `/` to `.`.
+    private String decode(int from, int length, boolean binaryName) {
+        char[] chars = new char[length];
+        int count = 0;
+        int end = from + length;
+        for (int i = from; i < end; ) {
+            int b = bytes.get(i++) & 0xFF;
+            char c;
+            if (b < 0x80) {
+                c = (char) b;
+            } else if ((b & 0xE0) == 0xC0) {
+                c = (char) (((b & 0x1F) << 6) | (bytes.get(i++) & 0x3F));
+            } else {
+                c = (char) (((b & 0x0F) << 12) | ((bytes.get(i++) & 0x3F) << 6) | (bytes.get(i++) & 0x3F));
+            }
+            chars[count++] = binaryName && c == '/' ? '.' : c;
+        }
+        return new String(chars, 0, count);
+    }
+
+    private int offset(int index, int tag) {
+        int offset = offsets[index];
+        if (offset == 0 || u1(offset) != tag) {
+            throw new IllegalArgumentException("Constant pool entry " + index + " is not of tag " + tag);
+        }
+        return offset;
+    }
+
+    private int u1() {
+        return bytes.get(pos++) & 0xFF;
+    }
+
+    private int u1(int at) {
+        return bytes.get(at) & 0xFF;
+    }
+
+    private int u2() {
+        int value = bytes.getShort(pos) & 0xFFFF;
+        pos += 2;
+        return value;
+    }
+
+    private int u2(int at) {
+        return bytes.getShort(at) & 0xFFFF;
+    }
+
+    private int u4() {
+        int value = bytes.getInt(pos);
+        pos += 4;
+        return value;
+    }
+}
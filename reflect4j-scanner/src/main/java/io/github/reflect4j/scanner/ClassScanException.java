@@ -0,0 +1,29 @@
+package io.github.reflect4j.scanner;
+
+import io.github.reflect4j.api.exception.ReflectionException;
+
+import java.io.Serial;
+
+/// # ClassScanException
+///
+/// Exception thrown when a directory or archive on the scanned class path cannot be read.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public class ClassScanException extends ReflectionException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public ClassScanException(String message) {
+        super(message);
+    }
+
+    public ClassScanException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public ClassScanException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,228 @@
+package io.github.reflect4j.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/// # ClassScanner
+///
+/// Scans directories and JARs for classes by reading their class files directly, without
+/// loading, linking or initializing any of them.
+///
+/// Only the constant pool and the `RuntimeVisibleAnnotations` attributes of classes, fields and
+/// methods are parsed, producing lightweight [ScannedClass] records. JARs are memory-mapped and
+/// read through their central directory. A scan runs in two parallel phases on a [ForkJoinPool]:
+/// first every root is listed (directories walked, central directories indexed), then the class
+/// files of all roots, split into chunks of a few hundred, are parsed as one flat set of tasks, so
+/// a single large JAR or directory keeps the whole pool busy. Real descriptors are created only
+/// when asked for, with [ScannedClass#describe].
+///
+/// Roots that do not exist are ignored, as they commonly appear on class paths; unreadable
+/// roots fail the scan with a [ClassScanException]. Malformed class files are skipped.
+///
+/// **Example:**
+/// ```java
+/// ScanResult result = ClassScanner.create().scanClasspath();
+///
+/// for (ScannedClass type : result.classesAnnotatedWith("@com.example.Endpoint")) {
+///     ClassDescriptor<?> descriptor = type.describe(registry, loader);
+/// }
+///```
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class ClassScanner {
+
+    /// Number of archive entries parsed by one task; large archives are split into several tasks.
+    private static final int ARCHIVE_CHUNK = 512;
+
+    /// Number of class files of a directory parsed by one task.
+    private static final int DIRECTORY_CHUNK = 256;
+
+    private final ForkJoinPool pool;
+
+    private ClassScanner(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "pool must not be null");
+    }
+
+    /// Creates a scanner running on the common [ForkJoinPool].
+    ///
+    /// @return a new scanner; never `null`
+    public static ClassScanner create() {
+        return new ClassScanner(ForkJoinPool.commonPool());
+    }
+
+    /// Creates a scanner running on the given pool.
+    ///
+    /// @param pool the pool to scan on; must not be `null`
+    ///
+    /// @return a new scanner; never `null`
+    /// @throws NullPointerException if the pool is `null`
+    public static ClassScanner create(ForkJoinPool pool) {
+        return new ClassScanner(pool);
+    }
+
+    /// Scans the entries of the `java.class.path` system property.
+    ///
+    /// @return the scan result; never `null`
+    /// @throws ClassScanException if a class path entry cannot be read
+    public ScanResult scanClasspath() {
+        String classpath = System.getProperty("java.class.path", "");
+        List<Path> roots = new ArrayList<>();
+        for (String entry : classpath.split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                roots.add(Path.of(entry));
+            }
+        }
+        return scan(roots);
+    }
+
+    /// Scans the given directories and JARs.
+    ///
+    /// If several roots contain a class of the same name, the first root in iteration order wins,
+    /// as on a class path.
+    ///
+    /// @param roots the class path roots; must not be `null`
+    ///
+    /// @return the scan result; never `null`
+    /// @throws NullPointerException if the roots or any root is `null`
+    /// @throws ClassScanException   if a root cannot be read
+    public ScanResult scan(Collection<Path> roots) {
+        List<Path> paths = List.copyOf(Objects.requireNonNull(roots, "roots must not be null"));
+        ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+        UnaryOperator<String> interner = s -> {
+            String existing = strings.putIfAbsent(s, s);
+            return existing != null ? existing : s;
+        };
+        List<Callable<List<Callable<List<ScannedClass>>>>> plans = new ArrayList<>(paths.size());
+        for (Path root : paths) {
+            plans.add(guarded(root, () -> plan(root, interner)));
+        }
+        List<Callable<List<ScannedClass>>> tasks = new ArrayList<>();
+        for (List<Callable<List<ScannedClass>>> plan : invokeAll(plans)) {
+            tasks.addAll(plan);
+        }
+        List<ScannedClass> classes = new ArrayList<>();
+        for (List<ScannedClass> chunk : invokeAll(tasks)) {
+            classes.addAll(chunk);
+        }
+        return new ScanResult(classes);
+    }
+
+    /// Runs the tasks on the pool, all at once, and returns their results in task order.
+    private <V> List<V> invokeAll(List<Callable<V>> tasks) {
+        List<V> results = new ArrayList<>(tasks.size());
+        for (Future<V> future : pool.invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                // ForkJoinTask rethrows a copy wrapping the original to record the joining
+                // thread's stack; report the original, which names the failed root
+                if (cause instanceof ClassScanException && cause.getCause() instanceof ClassScanException original) {
+                    cause = original;
+                }
+                if (cause instanceof RuntimeException r) {
+                    throw r;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new ClassScanException(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ClassScanException("Scan interrupted", e);
+            }
+        }
+        return results;
+    }
+
+    /// Splits a root into independent tasks: one per chunk of class files of a directory or of
+    /// entries of an archive, or a single task for an archive that must be read with [ZipScanner#fallback].
+    private static List<Callable<List<ScannedClass>>> plan(Path root, UnaryOperator<String> interner)
+            throws IOException {
+        if (Files.isDirectory(root)) {
+            return planDirectory(root, interner);
+        }
+        if (Files.isRegularFile(root)) {
+            return planArchive(root, interner);
+        }
+        return List.of();
+    }
+
+    private static List<Callable<List<ScannedClass>>> planDirectory(Path root, UnaryOperator<String> interner)
+            throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(path -> path.getFileName().toString().endsWith(".class")
+                            && !root.relativize(path).startsWith("META-INF"))
+                    .toList();
+        }
+        List<Callable<List<ScannedClass>>> tasks = new ArrayList<>();
+        for (int from = 0; from < files.size(); from += DIRECTORY_CHUNK) {
+            List<Path> chunk = files.subList(from, Math.min(from + DIRECTORY_CHUNK, files.size()));
+            tasks.add(guarded(root, () -> {
+                List<ScannedClass> classes = new ArrayList<>(chunk.size());
+                for (Path file : chunk) {
+                    add(classes, ClassFileParser.parse(ByteBuffer.wrap(Files.readAllBytes(file)), interner));
+                }
+                return classes;
+            }));
+        }
+        return tasks;
+    }
+
+    private static List<Callable<List<ScannedClass>>> planArchive(Path root, UnaryOperator<String> interner)
+            throws IOException {
+        ZipScanner archive = ZipScanner.open(root);
+        if (archive == null) {
+            return List.of(guarded(root, () -> {
+                List<ScannedClass> classes = new ArrayList<>();
+                ZipScanner.fallback(root, bytes -> add(classes, ClassFileParser.parse(bytes, interner)));
+                return classes;
+            }));
+        }
+        List<Callable<List<ScannedClass>>> tasks = new ArrayList<>();
+        for (int from = 0; from < archive.size(); from += ARCHIVE_CHUNK) {
+            int start = from;
+            int end = Math.min(from + ARCHIVE_CHUNK, archive.size());
+            tasks.add(guarded(root, () -> {
+                List<ScannedClass> classes = new ArrayList<>(end - start);
+                archive.read(start, end, bytes -> add(classes, ClassFileParser.parse(bytes, interner)));
+                return classes;
+            }));
+        }
+        return tasks;
+    }
+
+    /// Wraps a task so that I/O failures surface as a [ClassScanException] naming the root.
+    private static <V> Callable<V> guarded(Path root, Callable<V> task) {
+        return () -> {
+            try {
+                return task.call();
+            } catch (IOException | UncheckedIOException e) {
+                throw new ClassScanException("Cannot scan " + root, e);
+            }
+        };
+    }
+
+    private static void add(List<ScannedClass> classes, ScannedClass scanned) {
+        if (scanned != null) {
+            classes.add(scanned);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.reflect4j.scanner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/// # ScanResult
+///
+/// Immutable result of a [ClassScanner] run, with indexes by class name and by annotation.
+///
+/// The annotation index is built on the first annotation query.
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public final class ScanResult {
+
+    private final List<ScannedClass> classes;
+    private final Map<String, ScannedClass> byName;
+    private volatile Map<String, List<ScannedClass>> byAnnotation;
+
+    ScanResult(List<ScannedClass> scanned) {
+        Map<String, ScannedClass> names = new LinkedHashMap<>(scanned.size() * 2);
+        for (ScannedClass type : scanned) {
+            names.putIfAbsent(type.name(), type);
+        }
+        this.byName = names;
+        this.classes = List.copyOf(names.values());
+    }
+
+    /// Returns all scanned classes; a class found in several roots appears once.
+    ///
+    /// @return an immutable list of classes; never `null`
+    public List<ScannedClass> classes() {
+        return classes;
+    }
+
+    /// Returns the number of scanned classes.
+    ///
+    /// @return the class count
+    public int size() {
+        return classes.size();
+    }
+
+    /// Returns the class with the given binary name.
+    ///
+    /// @param name the binary name, e.g. `com.example.Outer$Inner`; must not be `null`
+    ///
+    /// @return the scanned class, or `null` if not found
+    /// @throws NullPointerException if the name is `null`
+    public ScannedClass find(String name) {
+        return byName.get(Objects.requireNonNull(name, "name must not be null"));
+    }
+
+    /// Returns the classes directly annotated with the given annotation.
+    ///
+    /// @param signature the annotation signature with `@` prefix, e.g. `@com.example.Endpoint`; must not be `null`
+    ///
+    /// @return an immutable, possibly empty list of classes; never `null`
+    /// @throws NullPointerException if the signature is `null`
+    public List<ScannedClass> classesAnnotatedWith(String signature) {
+        Objects.requireNonNull(signature, "signature must not be null");
+        Map<String, List<ScannedClass>> index = byAnnotation;
+        if (index == null) {
+            Map<String, List<ScannedClass>> m = new HashMap<>();
+            for (ScannedClass type : classes) {
+                for (String annotation : type.annotations()) {
+                    m.computeIfAbsent(annotation, k -> new ArrayList<>()).add(type);
+                }
+            }
+            m.replaceAll((annotation, list) -> List.copyOf(list));
+            byAnnotation = index = m;
+        }
+        return index.getOrDefault(signature, List.of());
+    }
+}
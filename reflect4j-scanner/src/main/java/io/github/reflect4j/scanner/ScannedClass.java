@@ -0,0 +1,63 @@
+package io.github.reflect4j.scanner;
+
+import io.github.reflect4j.api.descriptor.ClassDescriptor;
+import io.github.reflect4j.api.descriptor.DescriptorRegistry;
+import io.github.reflect4j.api.exception.ClassNotFoundRuntimeException;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Objects;
+
+/// # ScannedClass
+///
+/// A class read from a class file by [ClassScanner], without loading it.
+///
+/// Names are binary names as returned by [Class#getName()], e.g. `com.example.Outer$Inner`.
+/// A real [ClassDescriptor] is only created on demand, through [#describe(DescriptorRegistry, ClassLoader)].
+///
+/// @param name        the binary name of the class; never `null`
+/// @param access      the access flags from the class file
+/// @param superName   the binary name of the superclass, or `null` for `java.lang.Object`
+/// @param interfaces  the binary names of the directly implemented interfaces
+/// @param annotations the signatures of the runtime-visible annotations, e.g. `@com.example.MyAnnotation`
+/// @param fields      the declared fields
+/// @param methods     the declared methods and constructors
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public record ScannedClass(String name, int access, String superName, List<String> interfaces,
+                           List<String> annotations, List<ScannedMember> fields, List<ScannedMember> methods) {
+
+    /// Returns whether the class carries a runtime-visible annotation with the given signature.
+    ///
+    /// @param signature the annotation signature with `@` prefix; must not be `null`
+    ///
+    /// @return `true` if the annotation is present
+    public boolean hasAnnotation(String signature) {
+        return annotations.contains(signature);
+    }
+
+    /// Returns whether the class file describes an interface, including annotation types.
+    ///
+    /// @return `true` if an interface
+    public boolean isInterface() {
+        return Modifier.isInterface(access);
+    }
+
+    /// Loads the class, without initializing it, and returns its canonical descriptor.
+    ///
+    /// @param registry the registry providing the descriptor; must not be `null`
+    /// @param loader   the class loader to load the class with; `null` for the bootstrap loader
+    ///
+    /// @return the class descriptor; never `null`
+    /// @throws NullPointerException          if the registry is `null`
+    /// @throws ClassNotFoundRuntimeException if the class cannot be loaded by the given loader
+    public ClassDescriptor<?> describe(DescriptorRegistry registry, ClassLoader loader) {
+        Objects.requireNonNull(registry, "registry must not be null");
+        try {
+            return registry.get(Class.forName(name, false, loader));
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new ClassNotFoundRuntimeException(name, e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.reflect4j.scanner;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/// # ScannedMember
+///
+/// A field or method read from a class file by [ClassScanner], without loading its class.
+///
+/// The signature is local to the declaring class and uses JVM descriptors, e.g.
+/// `process(Ljava/lang/String;I)V` for a method and `name:Ljava/lang/String;` for a field,
+/// which is one of the notations accepted by [io.github.reflect4j.api.signature.SignatureParser].
+///
+/// @param signature   the member signature; never `null`
+/// @param access      the access flags from the class file
+/// @param annotations the signatures of the runtime-visible annotations, e.g. `@com.example.MyAnnotation`
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+public record ScannedMember(String signature, int access, List<String> annotations) {
+
+    /// Returns the member name, the part of the signature before `(` or `:`.
+    ///
+    /// @return the member name; never `null`
+    public String name() {
+        int end = 0;
+        while (end < signature.length() && signature.charAt(end) != '(' && signature.charAt(end) != ':') {
+            end++;
+        }
+        return signature.substring(0, end);
+    }
+
+    /// Returns whether the member carries a runtime-visible annotation with the given signature.
+    ///
+    /// @param signature the annotation signature with `@` prefix; must not be `null`
+    ///
+    /// @return `true` if the annotation is present
+    public boolean hasAnnotation(String signature) {
+        return annotations.contains(signature);
+    }
+
+    /// Returns whether the member is `static`.
+    ///
+    /// @return `true` if static
+    public boolean isStatic() {
+        return Modifier.isStatic(access);
+    }
+}
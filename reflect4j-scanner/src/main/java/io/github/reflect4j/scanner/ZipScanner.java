@@ -0,0 +1,234 @@
+package io.github.reflect4j.scanner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Enumeration;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+/// # ZipScanner
+///
+/// Reads the class files of a JAR by memory-mapping it and walking its central directory,
+/// instead of streaming through local headers or opening a [ZipFile].
+///
+/// The central directory is indexed once; the class entries can then be read in independent
+/// ranges, so large archives are split across threads. Stored entries are handed out as slices
+/// of the mapping without copying; deflated entries are inflated straight from the mapping.
+/// Entries under `META-INF/`, including multi-release versions, are skipped. ZIP64 archives and
+/// archives larger than 2 GiB must be read with [#fallback] instead. Every offset and size taken
+/// from the archive is checked against the mapping, so truncated or corrupt archives fail with a
+/// [ZipException] rather than an [IndexOutOfBoundsException].
+///
+/// @author Aliabbos Ashurov
+/// @since 1.0.0
+final class ZipScanner {
+
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int END_SIZE = 22;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    /// Ints per indexed entry: local header offset, method, compressed size and size.
+    private static final int STRIDE = 4;
+
+    private final ByteBuffer map;
+    private final int[] index;
+    private final int count;
+
+    private ZipScanner(ByteBuffer map, int[] index, int count) {
+        this.map = map;
+        this.index = index;
+        this.count = count;
+    }
+
+    /// Indexes the class entries of the archive, or returns `null` if it must be read with [#fallback].
+    static ZipScanner open(Path archive) throws IOException {
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return null;
+            }
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            map.order(ByteOrder.LITTLE_ENDIAN);
+            int end = findEnd(map);
+            if (end < 0) {
+                throw new ZipException("Not a zip archive: " + archive);
+            }
+            int entries = u2(map, end + 10);
+            long directory = u4(map, end + 16);
+            if (entries == 0xFFFF || directory == 0xFFFFFFFFL) {
+                return null;
+            }
+            return readCentralDirectory(map, (int) directory, entries);
+        }
+    }
+
+    private static ZipScanner readCentralDirectory(ByteBuffer map, int p, int entries) throws ZipException {
+        int[] index = new int[entries * STRIDE];
+        int count = 0;
+        for (int i = 0; i < entries; i++) {
+            if (p < 0 || p > map.limit() - CENTRAL_HEADER_SIZE) {
+                throw new ZipException("Truncated central directory at " + p);
+            }
+            if (map.getInt(p) != CENTRAL_HEADER) {
+                throw new ZipException("Invalid central directory header at " + p);
+            }
+            int method = u2(map, p + 10);
+            long compressedSize = u4(map, p + 20);
+            long size = u4(map, p + 24);
+            int nameLength = u2(map, p + 28);
+            int extraLength = u2(map, p + 30);
+            int commentLength = u2(map, p + 32);
+            long local = u4(map, p + 42);
+            if (nameLength > map.limit() - p - CENTRAL_HEADER_SIZE) {
+                throw new ZipException("Truncated central directory at " + p);
+            }
+            if (isClassEntry(map, p + CENTRAL_HEADER_SIZE, nameLength)) {
+                if (compressedSize == 0xFFFFFFFFL || size == 0xFFFFFFFFL || local == 0xFFFFFFFFL) {
+                    return null;
+                }
+                int at = count++ * STRIDE;
+                index[at] = (int) local;
+                index[at + 1] = method;
+                index[at + 2] = (int) compressedSize;
+                index[at + 3] = (int) size;
+            }
+            p += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return new ZipScanner(map, index, count);
+    }
+
+    /// Returns the number of class entries.
+    int size() {
+        return count;
+    }
+
+    /// Passes the class entries in `[from, to)` to the sink, as big-endian buffers positioned at `0`.
+    ///
+    /// Safe to call concurrently for disjoint or overlapping ranges; each call uses its own [Inflater].
+    void read(int from, int to, Consumer<ByteBuffer> sink) throws ZipException {
+        Inflater inflater = new Inflater(true);
+        try {
+            for (int i = from; i < to; i++) {
+                int at = i * STRIDE;
+                ByteBuffer entry = entry(map, index[at], index[at + 1], index[at + 2], index[at + 3], inflater);
+                if (entry != null) {
+                    sink.accept(entry);
+                }
+            }
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static ByteBuffer entry(ByteBuffer map, int local, int method, int compressedSize, int size,
+                                    Inflater inflater) throws ZipException {
+        if (local < 0 || local > map.limit() - LOCAL_HEADER_SIZE) {
+            throw new ZipException("Invalid local header offset " + Integer.toUnsignedString(local));
+        }
+        if (map.getInt(local) != LOCAL_HEADER) {
+            throw new ZipException("Invalid local header at " + local);
+        }
+        long data = (long) local + LOCAL_HEADER_SIZE + u2(map, local + 26) + u2(map, local + 28);
+        if (compressedSize < 0 || size < 0 || data + compressedSize > map.limit()) {
+            throw new ZipException("Truncated entry at " + local);
+        }
+        return inflate(map, (int) data, method, compressedSize, size, inflater);
+    }
+
+    private static ByteBuffer inflate(ByteBuffer map, int data, int method, int compressedSize, int size,
+                                      Inflater inflater) {
+        if (method == STORED) {
+            return map.slice(data, compressedSize).order(ByteOrder.BIG_ENDIAN);
+        }
+        if (method != DEFLATED) {
+            return null;
+        }
+        byte[] out = new byte[size];
+        inflater.reset();
+        inflater.setInput(map.slice(data, compressedSize));
+        try {
+            int n = 0;
+            while (n < size && !inflater.finished()) {
+                int read = inflater.inflate(out, n, size - n);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    return null;
+                }
+                n += read;
+            }
+        } catch (DataFormatException e) {
+            return null;
+        }
+        return ByteBuffer.wrap(out);
+    }
+
+    private static boolean isClassEntry(ByteBuffer map, int name, int length) {
+        return length > 6
+                && !startsWith(map, name, length, "META-INF/")
+                && endsWith(map, name, length, ".class");
+    }
+
+    private static boolean startsWith(ByteBuffer map, int name, int length, String prefix) {
+        if (length < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (map.get(name + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean endsWith(ByteBuffer map, int name, int length, String suffix) {
+        return startsWith(map, name + length - suffix.length(), suffix.length(), suffix);
+    }
+
+    /// Finds the end of central directory record, which is followed by a comment of up to 64 KiB.
+    private static int findEnd(ByteBuffer map) {
+        int limit = Math.max(0, map.limit() - END_SIZE - 0xFFFF);
+        for (int p = map.limit() - END_SIZE; p >= limit; p--) {
+            if (map.getInt(p) == END_OF_CENTRAL_DIRECTORY) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    /// Passes every class file of the archive to the sink, reading it with [ZipFile].
+    static void fallback(Path archive, Consumer<ByteBuffer> sink) throws IOException {
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (name.endsWith(".class") && !name.startsWith("META-INF/")) {
+                    try (var in = zip.getInputStream(entry)) {
+                        sink.accept(ByteBuffer.wrap(in.readAllBytes()));
+                    }
+                }
+            }
+        }
+    }
+
+    private static int u2(ByteBuffer map, int at) {
+        return map.getShort(at) & 0xFFFF;
+    }
+
+    private static long u4(ByteBuffer map, int at) {
+        return map.getInt(at) & 0xFFFFFFFFL;
+    }
+}
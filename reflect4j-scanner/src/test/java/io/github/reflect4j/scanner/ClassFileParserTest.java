@@ -0,0 +1,120 @@
+package io.github.reflect4j.scanner;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassFileParserTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+    }
+
+    @Marker
+    static class Fixture implements Serializable {
+
+        @Marker
+        int count;
+
+        String name;
+
+        @Marker
+        void run(int times, String label) {
+        }
+    }
+
+    /// Offset of the tag of the first constant pool entry: magic, minor, major and count.
+    private static final int FIRST_TAG = 10;
+
+    static byte[] bytes(Class<?> type) throws IOException {
+        String resource = type.getName().substring(type.getPackageName().length() + 1) + ".class";
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static ScannedClass parse(byte[] bytes) {
+        return ClassFileParser.parse(ByteBuffer.wrap(bytes), UnaryOperator.identity());
+    }
+
+    @Test
+    void readsNamesMembersAndAnnotations() throws IOException {
+        ScannedClass scanned = parse(bytes(Fixture.class));
+
+        assertThat(scanned).isNotNull();
+        assertThat(scanned.name()).isEqualTo(Fixture.class.getName());
+        assertThat(scanned.superName()).isEqualTo(Object.class.getName());
+        assertThat(scanned.interfaces()).containsExactly(Serializable.class.getName());
+        assertThat(scanned.hasAnnotation("@" + Marker.class.getName())).isTrue();
+        assertThat(scanned.fields()).extracting(ScannedMember::name).containsExactly("count", "name");
+        assertThat(scanned.fields().get(0).hasAnnotation("@" + Marker.class.getName())).isTrue();
+        assertThat(scanned.fields().get(1).annotations()).isEmpty();
+        assertThat(scanned.methods()).extracting(ScannedMember::name).contains("run");
+    }
+
+    @Test
+    void honoursBufferPosition() throws IOException {
+        byte[] bytes = bytes(Fixture.class);
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 7).position(7).put(bytes).position(7);
+
+        assertThat(ClassFileParser.parse(buffer, UnaryOperator.identity()).name()).isEqualTo(Fixture.class.getName());
+    }
+
+    @Test
+    void rejectsWrongMagic() throws IOException {
+        byte[] bytes = bytes(Fixture.class);
+        bytes[0] = 0;
+
+        assertThat(parse(bytes)).isNull();
+    }
+
+    @Test
+    void rejectsUnknownConstantPoolTag() throws IOException {
+        byte[] bytes = bytes(Fixture.class);
+        bytes[FIRST_TAG] = 99;
+
+        assertThat(parse(bytes)).isNull();
+    }
+
+    @Test
+    void rejectsOversizedConstantPoolCount() throws IOException {
+        byte[] bytes = bytes(Fixture.class);
+        bytes[8] = (byte) 0xFF;
+        bytes[9] = (byte) 0xFF;
+
+        assertThat(parse(bytes)).isNull();
+    }
+
+    @Test
+    void rejectsEveryTruncation() throws IOException {
+        byte[] bytes = bytes(Fixture.class);
+
+        for (int length = 0; length < bytes.length; length++) {
+            assertThat(parse(Arrays.copyOf(bytes, length))).as("length %d", length).isNull();
+        }
+    }
+
+    @Test
+    void survivesRandomCorruption() throws IOException {
+        byte[] original = bytes(Fixture.class);
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            byte[] bytes = original.clone();
+            for (int flips = 1 + random.nextInt(4); flips > 0; flips--) {
+                bytes[random.nextInt(bytes.length)] = (byte) random.nextInt();
+            }
+            parse(bytes);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.reflect4j.scanner;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClassScannerTest {
+
+    @TempDir
+    Path dir;
+
+    private Path directory(Class<?>... types) throws IOException {
+        Path root = Files.createDirectories(dir.resolve("classes"));
+        for (Class<?> type : types) {
+            Path file = root.resolve(ZipScannerTest.entryName(type));
+            Files.createDirectories(file.getParent());
+            Files.write(file, ClassFileParserTest.bytes(type));
+        }
+        return root;
+    }
+
+    @Test
+    void scansDirectoriesAndArchives() throws IOException {
+        Path classes = directory(ClassFileParserTest.Fixture.class);
+        Path jar = ZipScannerTest.jar(dir.resolve("lib.jar"), ZipEntry.DEFLATED);
+
+        ScanResult result = ClassScanner.create().scan(List.of(classes, jar, dir.resolve("missing")));
+
+        assertThat(result.classes()).extracting(ScannedClass::name).containsExactly(
+                ClassFileParserTest.Fixture.class.getName(),
+                ZipScannerTest.First.class.getName(),
+                ZipScannerTest.Second.class.getName());
+    }
+
+    @Test
+    void firstRootWins() throws IOException {
+        Path stored = ZipScannerTest.jar(dir.resolve("stored.jar"), ZipEntry.STORED);
+        Path deflated = ZipScannerTest.jar(dir.resolve("deflated.jar"), ZipEntry.DEFLATED);
+
+        ScanResult result = ClassScanner.create().scan(List.of(stored, deflated));
+
+        assertThat(result.size()).isEqualTo(2);
+    }
+
+    @Test
+    void splitsLargeRootsIntoChunks() throws IOException {
+        Path jar = dir.resolve("large.jar");
+        List<String> expected = new ArrayList<>();
+        byte[] bytes = ClassFileParserTest.bytes(ZipScannerTest.First.class);
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+            for (int i = 0; i < 1_500; i++) {
+                ZipScannerTest.put(out, "p/C" + i + ".class", bytes, ZipEntry.DEFLATED);
+            }
+            ZipScannerTest.put(out, ZipScannerTest.entryName(ZipScannerTest.Second.class),
+                    ClassFileParserTest.bytes(ZipScannerTest.Second.class), ZipEntry.DEFLATED);
+        }
+        expected.add(ZipScannerTest.First.class.getName());
+        expected.add(ZipScannerTest.Second.class.getName());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ScanResult result = ClassScanner.create(pool).scan(List.of(jar));
+
+            assertThat(result.classes()).extracting(ScannedClass::name).containsExactlyElementsOf(expected);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void readsZip64ArchivesThroughTheFallback() throws IOException {
+        Path jar = dir.resolve("zip64.jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+            ZipScannerTest.put(out, ZipScannerTest.entryName(ZipScannerTest.First.class),
+                    ClassFileParserTest.bytes(ZipScannerTest.First.class), ZipEntry.DEFLATED);
+            for (int i = 0; i < 0xFFFF; i++) {
+                ZipScannerTest.put(out, "r/" + i, new byte[0], ZipEntry.STORED);
+            }
+        }
+
+        ScanResult result = ClassScanner.create().scan(List.of(jar));
+
+        assertThat(result.classes()).extracting(ScannedClass::name)
+                .containsExactly(ZipScannerTest.First.class.getName());
+    }
+
+    @Test
+    void wrapsCorruptArchives() throws IOException {
+        Path jar = Files.write(dir.resolve("corrupt.jar"), "not a zip".getBytes());
+
+        assertThatThrownBy(() -> ClassScanner.create().scan(List.of(jar)))
+                .isInstanceOf(ClassScanException.class)
+                .hasMessage("Cannot scan " + jar);
+    }
+
+    @Test
+    void skipsMalformedClassFiles() throws IOException {
+        Path classes = directory(ZipScannerTest.First.class);
+        Files.write(classes.resolve("Broken.class"), new byte[] {(byte) 0xCA, (byte) 0xFE});
+
+        ScanResult result = ClassScanner.create().scan(List.of(classes));
+
+        assertThat(result.classes()).extracting(ScannedClass::name)
+                .containsExactly(ZipScannerTest.First.class.getName());
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.reflect4j.scanner;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ZipScannerTest {
+
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+
+    static class First {
+    }
+
+    static class Second {
+        int value;
+    }
+
+    @TempDir
+    Path dir;
+
+    /// Writes a JAR holding the two fixture classes, a resource and a multi-release copy under `META-INF/`.
+    static Path jar(Path file, int method) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(file))) {
+            put(out, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n".getBytes(), method);
+            put(out, entryName(First.class), ClassFileParserTest.bytes(First.class), method);
+            put(out, "readme.txt", "not a class".getBytes(), method);
+            put(out, entryName(Second.class), ClassFileParserTest.bytes(Second.class), method);
+            put(out, "META-INF/versions/21/" + entryName(Second.class), ClassFileParserTest.bytes(Second.class), method);
+        }
+        return file;
+    }
+
+    static String entryName(Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+
+    static void put(ZipOutputStream out, String name, byte[] bytes, int method) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(method);
+        if (method == ZipEntry.STORED) {
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            entry.setSize(bytes.length);
+            entry.setCompressedSize(bytes.length);
+            entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(bytes);
+        out.closeEntry();
+    }
+
+    private static List<String> read(ZipScanner archive) throws ZipException {
+        List<String> names = new ArrayList<>();
+        archive.read(0, archive.size(), bytes -> names.add(ClassFileParser.parse(bytes, UnaryOperator.identity()).name()));
+        return names;
+    }
+
+    /// Patches a little-endian int at the given offset of the file.
+    private static void patch(Path file, int offset, int value) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(offset, value);
+        Files.write(file, bytes);
+    }
+
+    private static int find(Path file, int signature) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        for (int p = 0; p <= bytes.limit() - 4; p++) {
+            if (bytes.getInt(p) == signature) {
+                return p;
+            }
+        }
+        throw new AssertionError("Signature not found");
+    }
+
+    /// Returns the offset of the central directory header of the named entry.
+    private static int central(Path file, String name) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        for (int p = find(file, CENTRAL_HEADER); bytes.getInt(p) == CENTRAL_HEADER; ) {
+            int nameLength = bytes.getShort(p + 28) & 0xFFFF;
+            if (new String(bytes.array(), p + 46, nameLength).equals(name)) {
+                return p;
+            }
+            p += 46 + nameLength + (bytes.getShort(p + 30) & 0xFFFF) + (bytes.getShort(p + 32) & 0xFFFF);
+        }
+        throw new AssertionError("Entry not found: " + name);
+    }
+
+    @Test
+    void readsStoredEntries() throws IOException {
+        ZipScanner archive = ZipScanner.open(jar(dir.resolve("stored.jar"), ZipEntry.STORED));
+
+        assertThat(archive.size()).isEqualTo(2);
+        assertThat(read(archive)).containsExactly(First.class.getName(), Second.class.getName());
+    }
+
+    @Test
+    void readsDeflatedEntries() throws IOException {
+        ZipScanner archive = ZipScanner.open(jar(dir.resolve("deflated.jar"), ZipEntry.DEFLATED));
+
+        assertThat(archive.size()).isEqualTo(2);
+        assertThat(read(archive)).containsExactly(First.class.getName(), Second.class.getName());
+    }
+
+    @Test
+    void readsRangesIndependently() throws IOException {
+        ZipScanner archive = ZipScanner.open(jar(dir.resolve("ranges.jar"), ZipEntry.DEFLATED));
+        List<String> names = new ArrayList<>();
+
+        archive.read(1, 2, bytes -> names.add(ClassFileParser.parse(bytes, UnaryOperator.identity()).name()));
+
+        assertThat(names).containsExactly(Second.class.getName());
+    }
+
+    @Test
+    void leavesZip64ArchivesToTheFallback() throws IOException {
+        Path file = dir.resolve("zip64.jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(file))) {
+            put(out, entryName(First.class), ClassFileParserTest.bytes(First.class), ZipEntry.DEFLATED);
+            for (int i = 0; i < 0xFFFF; i++) {
+                put(out, "r/" + i, new byte[0], ZipEntry.STORED);
+            }
+        }
+
+        assertThat(ZipScanner.open(file)).isNull();
+
+        List<String> names = new ArrayList<>();
+        ZipScanner.fallback(file, bytes -> names.add(ClassFileParser.parse(bytes, UnaryOperator.identity()).name()));
+        assertThat(names).containsExactly(First.class.getName());
+    }
+
+    @Test
+    void rejectsNonArchives() throws IOException {
+        Path file = Files.write(dir.resolve("plain.jar"), "not a zip".getBytes());
+
+        assertThatThrownBy(() -> ZipScanner.open(file)).isInstanceOf(ZipException.class);
+    }
+
+    @Test
+    void rejectsTruncatedCentralDirectory() throws IOException {
+        Path file = jar(dir.resolve("truncated.jar"), ZipEntry.STORED);
+        byte[] bytes = Files.readAllBytes(file);
+        int end = find(file, END_OF_CENTRAL_DIRECTORY);
+        int cut = central(file, "META-INF/versions/21/" + entryName(Second.class)) + 20;
+        ByteBuffer truncated = ByteBuffer.allocate(cut + bytes.length - end);
+        truncated.put(bytes, 0, cut).put(bytes, end, bytes.length - end);
+        Files.write(file, truncated.array());
+
+        assertThatThrownBy(() -> ZipScanner.open(file))
+                .isInstanceOf(ZipException.class)
+                .hasMessageStartingWith("Truncated central directory");
+    }
+
+    @Test
+    void rejectsCentralDirectoryOffsetPastTheEnd() throws IOException {
+        Path file = jar(dir.resolve("offset.jar"), ZipEntry.STORED);
+        patch(file, find(file, END_OF_CENTRAL_DIRECTORY) + 16, (int) Files.size(file) - 10);
+
+        assertThatThrownBy(() -> ZipScanner.open(file)).isInstanceOf(ZipException.class);
+    }
+
+    @Test
+    void rejectsEntriesRunningPastTheEnd() throws IOException {
+        Path file = jar(dir.resolve("entry.jar"), ZipEntry.STORED);
+        patch(file, central(file, entryName(Second.class)) + 20, 0x7FFF_0000);
+        ZipScanner archive = ZipScanner.open(file);
+
+        assertThatThrownBy(() -> read(archive))
+                .isInstanceOf(ZipException.class)
+                .hasMessageStartingWith("Truncated entry");
+    }
+
+    @Test
+    void rejectsLocalHeaderOffsetsPastTheEnd() throws IOException {
+        Path file = jar(dir.resolve("local.jar"), ZipEntry.DEFLATED);
+        patch(file, central(file, entryName(First.class)) + 42, (int) Files.size(file));
+        ZipScanner archive = ZipScanner.open(file);
+
+        assertThatThrownBy(() -> read(archive)).isInstanceOf(ZipException.class);
+    }
+
+    @Test
+    void rejectsOversizedEntries() throws IOException {
+        Path file = jar(dir.resolve("size.jar"), ZipEntry.DEFLATED);
+        patch(file, central(file, entryName(First.class)) + 24, 0x8000_0000);
+        ZipScanner archive = ZipScanner.open(file);
+
+        assertThatThrownBy(() -> read(archive)).isInstanceOf(ZipException.class);
+    }
+}